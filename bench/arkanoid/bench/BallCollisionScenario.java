@@ -0,0 +1,85 @@
+package arkanoid.bench;
+
+import arkanoid.game.GameEnvironment;
+import arkanoid.sprites.Ball;
+import arkanoid.sprites.BallSystem;
+import arkanoid.util.Velocity;
+
+import java.awt.Color;
+import java.util.Random;
+
+/**
+ * Class Name: BallCollisionScenario.
+ * <p>
+ * This scenario measures BallSystem.timePassed with balls that bounce off each other (or don't, for comparison), in a
+ * world like BallSystemScenario's, so the cost of the ball-ball phase can be told apart.
+ *
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.0
+ * @since 18 October 2026
+ */
+public class BallCollisionScenario extends Scenario {
+    public static final int BALL_SIZE = MoveOneStepScenario.BALL_SIZE;
+    public static final int BLOCKS = 100;
+
+    private int ballsNum;
+    private boolean collide;
+    private BallSystem balls;
+
+    /**
+     * Constructor.
+     *
+     * @param balls       the number of balls
+     * @param withBounces whether the balls bounce off each other or not
+     */
+    public BallCollisionScenario(int balls, boolean withBounces) {
+        super("movement.ballCollisions");
+        this.ballsNum = balls;
+        this.collide = withBounces;
+        this.param("balls", balls).param("collide", withBounces);
+    }
+
+    /**
+     * setUp: build the world and put the balls below the blocks, with random directions.
+     */
+    public void setUp() {
+        Random rand = new Random(Worlds.SEED);
+        GameEnvironment environment = Worlds.environment(Worlds.tiledBlocks(BLOCKS));
+        double top = Worlds.BLOCKS_BOTTOM + BALL_SIZE;
+        double bottom = Worlds.HEIGHT - BALL_SIZE;
+        this.balls = new BallSystem(environment, false);
+        this.balls.setPool(null);
+        this.balls.setBallCollisions(this.collide);
+
+        for (int i = 0; i < this.ballsNum; i++) {
+            double x = Worlds.BORDER + BALL_SIZE + rand.nextDouble() * (Worlds.WIDTH - 2 * (Worlds.BORDER + BALL_SIZE));
+            double y = top + rand.nextDouble() * (bottom - top);
+            this.balls.add(x, y, BALL_SIZE, Color.WHITE,
+                    Velocity.fromAngleAndSpeed(rand.nextInt(Ball.MAX_ANGLE), Ball.MAX_SPEED * 2));
+        }
+    }
+
+    /**
+     * run: move every ball one step.
+     *
+     * @return a value computed from the balls' velocities
+     */
+    public long run() {
+        this.balls.timePassed();
+
+        long sum = 0;
+        for (int i = 0; i < this.balls.size(); i++) {
+            sum += (long) this.balls.getDX(i);
+        }
+        return sum;
+    }
+
+    /**
+     * operations: get the number of operations a single call to run performs.
+     *
+     * @return the number of balls
+     */
+    public int operations() {
+        return this.ballsNum;
+    }
+}
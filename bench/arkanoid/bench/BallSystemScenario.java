@@ -0,0 +1,87 @@
+package arkanoid.bench;
+
+import arkanoid.game.GameEnvironment;
+import arkanoid.sprites.Ball;
+import arkanoid.sprites.BallSystem;
+import arkanoid.util.Velocity;
+
+import java.awt.Color;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Class Name: BallSystemScenario.
+ * <p>
+ * This scenario measures BallSystem.timePassed with the same world and balls as MoveOneStepScenario, so the two can
+ * be compared directly. In parallel, the balls search for their contacts on all the cores of the common pool.
+ *
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.1
+ * @since 18 October 2026
+ */
+public class BallSystemScenario extends Scenario {
+    public static final int BALL_SIZE = MoveOneStepScenario.BALL_SIZE;
+
+    private int blocks;
+    private int ballsNum;
+    private boolean parallel;
+    private BallSystem balls;
+
+    /**
+     * Constructor.
+     *
+     * @param blocksNum  the number of blocks in the world
+     * @param ballsNum   the number of balls
+     * @param inParallel whether the balls search for their contacts in parallel or not
+     */
+    public BallSystemScenario(int blocksNum, int ballsNum, boolean inParallel) {
+        super("movement.ballSystem");
+        this.blocks = blocksNum;
+        this.ballsNum = ballsNum;
+        this.parallel = inParallel;
+        this.param("blocks", blocksNum).param("balls", ballsNum).param("parallel", inParallel);
+    }
+
+    /**
+     * setUp: build the world and put the balls below the blocks, with random directions.
+     */
+    public void setUp() {
+        Random rand = new Random(Worlds.SEED);
+        GameEnvironment environment = Worlds.environment(Worlds.tiledBlocks(this.blocks));
+        double top = Worlds.BLOCKS_BOTTOM + BALL_SIZE;
+        double bottom = Worlds.HEIGHT - BALL_SIZE;
+        this.balls = new BallSystem(environment, false);
+        this.balls.setPool(this.parallel ? ForkJoinPool.commonPool() : null);
+
+        for (int i = 0; i < this.ballsNum; i++) {
+            double x = Worlds.BORDER + BALL_SIZE + rand.nextDouble() * (Worlds.WIDTH - 2 * (Worlds.BORDER + BALL_SIZE));
+            double y = top + rand.nextDouble() * (bottom - top);
+            this.balls.add(x, y, BALL_SIZE, Color.WHITE,
+                    Velocity.fromAngleAndSpeed(rand.nextInt(Ball.MAX_ANGLE), Ball.MAX_SPEED * 2));
+        }
+    }
+
+    /**
+     * run: move every ball one step.
+     *
+     * @return a value computed from the balls' positions
+     */
+    public long run() {
+        this.balls.timePassed();
+
+        long sum = 0;
+        for (int i = 0; i < this.balls.size(); i++) {
+            sum += (long) this.balls.getX(i);
+        }
+        return sum;
+    }
+
+    /**
+     * operations: get the number of operations a single call to run performs.
+     *
+     * @return the number of balls
+     */
+    public int operations() {
+        return this.ballsNum;
+    }
+}
@@ -0,0 +1,291 @@
+package arkanoid.bench;
+
+import arkanoid.game.collision.CollisionBackend;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Class Name: BenchmarkRunner.
+ * <p>
+ * This class runs the benchmarks of the game's hot paths (geometry, collision, movement, parsing and rendering) and
+ * writes one JSON object per scenario and line, so the results can be tracked from commit to commit.
+ * Each scenario is warmed up first, and then measured in several timed iterations; the score is the mean time per
+ * operation in nanoseconds.
+ * <p>
+ * Usage: BenchmarkRunner [-w warmupMs] [-m iterationMs] [-i iterations] [-f filter] [-d definitionsDir]
+ * [-c commit] [-o outputFile]
+ *
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.5
+ * @since 18 October 2026
+ */
+public class BenchmarkRunner {
+    public static final int[] BLOCK_COUNTS = {10, 100, 10000};
+    public static final int[] BALL_COUNTS = {1, 100, 10000};
+    public static final int[] CANDIDATE_COUNTS = {4, 16, 64, 512};
+    public static final long DEFAULT_WARMUP_MS = 1000;
+    public static final long DEFAULT_ITERATION_MS = 500;
+    public static final int DEFAULT_ITERATIONS = 5;
+    public static final String DEFAULT_DEFINITIONS = "resources/definitions";
+    public static final String LEVEL_FILE_SUFFIX = "level_definitions.txt";
+
+    private long warmupMs = DEFAULT_WARMUP_MS;
+    private long iterationMs = DEFAULT_ITERATION_MS;
+    private int iterations = DEFAULT_ITERATIONS;
+    private String filter = "";
+    private String definitions = DEFAULT_DEFINITIONS;
+    private String commit = "unknown";
+    private String output;
+    // keeps the results of the runs alive, so the JIT can't throw the work away
+    private long sink;
+
+    /**
+     * main: run the benchmarks.
+     *
+     * @param args the command-line options
+     */
+    public static void main(String[] args) {
+        BenchmarkRunner runner = new BenchmarkRunner();
+        runner.parseArgs(args);
+
+        try {
+            runner.runAll();
+        } catch (IOException e) {
+            System.err.println(e.getMessage());
+            System.exit(-1);
+        }
+    }
+
+    /**
+     * parseArgs: read the command-line options.
+     *
+     * @param args the command-line options
+     */
+    private void parseArgs(String[] args) {
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "-w":
+                    this.warmupMs = Long.parseLong(value);
+                    break;
+                case "-m":
+                    this.iterationMs = Long.parseLong(value);
+                    break;
+                case "-i":
+                    this.iterations = Integer.parseInt(value);
+                    break;
+                case "-f":
+                    this.filter = value;
+                    break;
+                case "-d":
+                    this.definitions = value;
+                    break;
+                case "-c":
+                    this.commit = value;
+                    break;
+                case "-o":
+                    this.output = value;
+                    break;
+                default:
+                    throw new RuntimeException("Unknown option: " + args[i]);
+            }
+        }
+    }
+
+    /**
+     * scenarios: build the list of all the scenarios.
+     *
+     * @return the list of scenarios
+     * @throws IOException if the level files can't be listed
+     */
+    private List<Scenario> scenarios() throws IOException {
+        List<Scenario> scenarios = new ArrayList<>();
+        List<Path> levelFiles = this.levelFiles();
+
+        scenarios.add(new LineIntersectionScenario());
+        for (int blocks : BLOCK_COUNTS) {
+            for (CollisionBackend backend : CollisionBackend.values()) {
+                scenarios.add(new ClosestCollisionScenario(blocks, backend));
+            }
+        }
+        for (int candidates : CANDIDATE_COUNTS) {
+            scenarios.add(new NarrowPhaseScenario(candidates, false));
+            scenarios.add(new NarrowPhaseScenario(candidates, true));
+            scenarios.add(new FixedNarrowPhaseScenario(candidates));
+        }
+        for (int blocks : BLOCK_COUNTS) {
+            scenarios.add(new BlockRemovalScenario(blocks));
+        }
+        for (int blocks : BLOCK_COUNTS) {
+            for (int balls : BALL_COUNTS) {
+                scenarios.add(new MoveOneStepScenario(blocks, balls));
+                scenarios.add(new BallSystemScenario(blocks, balls, false));
+                scenarios.add(new BallSystemScenario(blocks, balls, true));
+            }
+        }
+        for (int blocks : BLOCK_COUNTS) {
+            for (int balls : BALL_COUNTS) {
+                scenarios.add(new DanceScenario(blocks, balls));
+            }
+        }
+        for (int balls : BALL_COUNTS) {
+            scenarios.add(new BallCollisionScenario(balls, false));
+            scenarios.add(new BallCollisionScenario(balls, true));
+        }
+        for (Path file : levelFiles) {
+            scenarios.add(new LevelParsingScenario(file));
+        }
+        for (int blocks : BLOCK_COUNTS) {
+            scenarios.add(new BlockDrawScenario(blocks));
+        }
+        for (Path file : levelFiles) {
+            scenarios.add(new BlockDrawScenario(file));
+        }
+        for (Path file : levelFiles) {
+            scenarios.add(new FrameRenderScenario(file, false));
+            scenarios.add(new FrameRenderScenario(file, true));
+        }
+
+        return scenarios;
+    }
+
+    /**
+     * levelFiles: list the level files in the definitions directory.
+     *
+     * @return the level files, sorted by name
+     * @throws IOException if the directory can't be listed
+     */
+    private List<Path> levelFiles() throws IOException {
+        try (Stream<Path> files = Files.list(Paths.get(this.definitions))) {
+            return files.filter(p -> p.getFileName().toString().endsWith(LEVEL_FILE_SUFFIX))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * runAll: run all the scenarios that match the filter and write their results.
+     *
+     * @throws IOException if the output file can't be written
+     */
+    private void runAll() throws IOException {
+        PrintWriter out;
+        if (this.output == null) {
+            out = new PrintWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8), true);
+        } else {
+            out = new PrintWriter(new OutputStreamWriter(new FileOutputStream(new File(this.output), true),
+                    StandardCharsets.UTF_8), true);
+        }
+
+        for (Scenario scenario : this.scenarios()) {
+            if (!scenario.getName().contains(this.filter)) {
+                continue;
+            }
+
+            scenario.setUp();
+            double[] scores = this.measure(scenario);
+            out.println(this.toJson(scenario, scores));
+        }
+
+        out.flush();
+        if (this.output != null) {
+            out.close();
+        }
+    }
+
+    /**
+     * measure: warm a scenario up and then measure it.
+     *
+     * @param scenario the scenario
+     * @return the time per operation (in nanoseconds) of every measured iteration
+     */
+    private double[] measure(Scenario scenario) {
+        // warm up, so that the measured code is already compiled
+        this.iterate(scenario, this.warmupMs);
+
+        double[] scores = new double[this.iterations];
+        for (int i = 0; i < this.iterations; i++) {
+            scores[i] = this.iterate(scenario, this.iterationMs);
+        }
+        return scores;
+    }
+
+    /**
+     * iterate: run a scenario over and over again for (at least) a given time.
+     *
+     * @param scenario the scenario
+     * @param millis   the time to run
+     * @return the time per operation, in nanoseconds
+     */
+    private double iterate(Scenario scenario, long millis) {
+        long budget = millis * 1000000L;
+        long operations = 0;
+        long start = System.nanoTime();
+        long elapsed;
+
+        do {
+            this.sink += scenario.run();
+            operations += scenario.operations();
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < budget);
+
+        return (double) elapsed / Math.max(1, operations);
+    }
+
+    /**
+     * toJson: describe a scenario's results as a single-line JSON object.
+     *
+     * @param scenario the scenario
+     * @param scores   the time per operation of every measured iteration
+     * @return the JSON line
+     */
+    private String toJson(Scenario scenario, double[] scores) {
+        double mean = Arrays.stream(scores).average().orElse(0);
+        double variance = 0;
+        for (double score : scores) {
+            variance += (score - mean) * (score - mean);
+        }
+        double stddev = scores.length > 1 ? Math.sqrt(variance / (scores.length - 1)) : 0;
+
+        StringBuilder params = new StringBuilder();
+        for (Map.Entry<String, String> param : scenario.getParams().entrySet()) {
+            if (params.length() > 0) {
+                params.append(',');
+            }
+            params.append(quote(param.getKey())).append(':').append(quote(param.getValue()));
+        }
+
+        return "{\"benchmark\":" + quote(scenario.getName())
+                + ",\"params\":{" + params + "}"
+                + ",\"mode\":\"avgt\",\"unit\":\"ns/op\""
+                + ",\"score\":" + String.format("%.3f", mean)
+                + ",\"stddev\":" + String.format("%.3f", stddev)
+                + ",\"iterations\":" + scores.length
+                + ",\"commit\":" + quote(this.commit)
+                + ",\"sink\":" + (this.sink & 1) + "}";
+    }
+
+    /**
+     * quote: quote a string as a JSON string.
+     *
+     * @param s the string
+     * @return the quoted string
+     */
+    private static String quote(String s) {
+        return "\"" + s.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+}
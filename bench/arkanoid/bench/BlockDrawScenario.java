@@ -0,0 +1,97 @@
+package arkanoid.bench;
+
+import arkanoid.game.levels.LevelInformation;
+import arkanoid.game.levels.LevelSpecificationReader;
+import arkanoid.game.render.ImageSurface;
+import arkanoid.sprites.Block;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Class Name: BlockDrawScenario.
+ * <p>
+ * This scenario measures Block.drawOn on an off-screen surface, either for a given number of tiled colored blocks or
+ * for all the blocks (colors and images) of the levels in a level file.
+ *
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.0
+ * @since 18 October 2026
+ */
+public class BlockDrawScenario extends Scenario {
+
+    private int count;
+    private Path file;
+    private List<Block> blocks;
+    private ImageSurface surface;
+
+    /**
+     * Constructor #1.
+     *
+     * @param blocksNum the number of tiled blocks to draw
+     */
+    public BlockDrawScenario(int blocksNum) {
+        super("rendering.blockDraw");
+        this.count = blocksNum;
+        this.param("blocks", blocksNum);
+    }
+
+    /**
+     * Constructor #2.
+     *
+     * @param levelFile a level file whose blocks are drawn
+     */
+    public BlockDrawScenario(Path levelFile) {
+        super("rendering.levelBlocksDraw");
+        this.file = levelFile;
+        this.param("level", levelFile.getFileName());
+    }
+
+    /**
+     * setUp: create the blocks and the surface.
+     */
+    public void setUp() {
+        this.surface = new ImageSurface(Worlds.WIDTH, Worlds.HEIGHT);
+
+        if (this.file == null) {
+            this.blocks = Worlds.tiledBlocks(this.count);
+            return;
+        }
+
+        this.blocks = new ArrayList<>();
+        try {
+            String text = new String(Files.readAllBytes(this.file), StandardCharsets.UTF_8);
+            for (LevelInformation level : new LevelSpecificationReader().fromReader(new StringReader(text))) {
+                this.blocks.addAll(level.blocks());
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Can't read level file " + this.file + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * run: draw all the blocks.
+     *
+     * @return a pixel of the surface
+     */
+    public long run() {
+        for (Block block : this.blocks) {
+            block.drawOn(this.surface);
+        }
+        return this.surface.getImage().getRGB(Worlds.WIDTH / 2, Worlds.HEIGHT / 4);
+    }
+
+    /**
+     * operations: get the number of operations a single call to run performs.
+     *
+     * @return the number of blocks
+     */
+    public int operations() {
+        return this.blocks.size();
+    }
+}
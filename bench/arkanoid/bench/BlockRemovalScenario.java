@@ -0,0 +1,76 @@
+package arkanoid.bench;
+
+import arkanoid.game.GameEnvironment;
+import arkanoid.game.SpriteCollection;
+import arkanoid.sprites.Block;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Class Name: BlockRemovalScenario.
+ * <p>
+ * This scenario measures clearing a level: a given number of blocks is added to a game environment and a sprite
+ * collection, and then removed from them one by one in a random order, like the block remover does.
+ *
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.0
+ * @since 18 October 2026
+ */
+public class BlockRemovalScenario extends Scenario {
+
+    private int blocks;
+    private List<Block> tiles;
+    private List<Block> removalOrder;
+
+    /**
+     * Constructor.
+     *
+     * @param blocksNum the number of blocks in the world
+     */
+    public BlockRemovalScenario(int blocksNum) {
+        super("world.removeBlocks");
+        this.blocks = blocksNum;
+        this.param("blocks", blocksNum);
+    }
+
+    /**
+     * setUp: build the blocks and the random order of their removal.
+     */
+    public void setUp() {
+        this.tiles = Worlds.tiledBlocks(this.blocks);
+        this.removalOrder = new ArrayList<>(this.tiles);
+        Collections.shuffle(this.removalOrder, new Random(Worlds.SEED));
+    }
+
+    /**
+     * run: build the world and remove all of its blocks.
+     *
+     * @return the number of sprites left
+     */
+    public long run() {
+        GameEnvironment environment = Worlds.environment(this.tiles);
+        SpriteCollection sprites = new SpriteCollection();
+        for (Block block : this.tiles) {
+            sprites.addSprite(block);
+        }
+
+        for (Block block : this.removalOrder) {
+            sprites.removeSprite(block);
+            environment.removeCollidable(block);
+        }
+
+        return sprites.getSprites().size() + environment.getCollidables().size();
+    }
+
+    /**
+     * operations: get the number of operations a single call to run performs.
+     *
+     * @return the number of blocks
+     */
+    public int operations() {
+        return this.blocks;
+    }
+}
@@ -0,0 +1,89 @@
+package arkanoid.bench;
+
+import arkanoid.game.GameEnvironment;
+import arkanoid.game.collision.CollisionBackend;
+import arkanoid.geometry.SegmentHit;
+import arkanoid.sprites.Ball;
+
+import java.util.Random;
+
+/**
+ * Class Name: ClosestCollisionScenario.
+ * <p>
+ * This scenario measures GameEnvironment.getClosestCollision with a given number of blocks, over random trajectories
+ * as long as a single step of a ball, with a given collision backend.
+ *
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.1
+ * @since 18 October 2026
+ */
+public class ClosestCollisionScenario extends Scenario {
+    public static final int TRAJECTORIES = 1024;
+
+    private int blocks;
+    private CollisionBackend backend;
+    private GameEnvironment environment;
+    private double[] trajectories;
+    private SegmentHit hit;
+
+    /**
+     * Constructor.
+     *
+     * @param blocksNum the number of blocks in the world
+     * @param index     the index that holds the collidables
+     */
+    public ClosestCollisionScenario(int blocksNum, CollisionBackend index) {
+        super("collision.closestCollision");
+        this.blocks = blocksNum;
+        this.backend = index;
+        this.param("blocks", blocksNum);
+        this.param("backend", index.name().toLowerCase());
+    }
+
+    /**
+     * setUp: build the world and the random trajectories.
+     */
+    public void setUp() {
+        Random rand = new Random(Worlds.SEED);
+        this.environment = Worlds.environment(Worlds.tiledBlocks(this.blocks), this.backend);
+        this.trajectories = new double[TRAJECTORIES * 4];
+        this.hit = new SegmentHit();
+        double step = Ball.MAX_SPEED * 2;
+
+        for (int i = 0; i < TRAJECTORIES; i++) {
+            double x = Worlds.BORDER + rand.nextDouble() * (Worlds.WIDTH - 2 * Worlds.BORDER);
+            double y = 2 * Worlds.BORDER + rand.nextDouble() * (Worlds.HEIGHT - 2 * Worlds.BORDER);
+            double angle = rand.nextDouble() * 2 * Math.PI;
+            this.trajectories[i * 4] = x;
+            this.trajectories[i * 4 + 1] = y;
+            this.trajectories[i * 4 + 2] = x + step * Math.cos(angle);
+            this.trajectories[i * 4 + 3] = y + step * Math.sin(angle);
+        }
+    }
+
+    /**
+     * run: query the closest collision of all the trajectories.
+     *
+     * @return the number of trajectories that collide
+     */
+    public long run() {
+        long found = 0;
+        double[] t = this.trajectories;
+        for (int i = 0; i < TRAJECTORIES; i++) {
+            if (this.environment.getClosestCollision(t[i * 4], t[i * 4 + 1], t[i * 4 + 2], t[i * 4 + 3],
+                    this.hit) != null) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * operations: get the number of operations a single call to run performs.
+     *
+     * @return the number of trajectories
+     */
+    public int operations() {
+        return TRAJECTORIES;
+    }
+}
@@ -0,0 +1,104 @@
+package arkanoid.bench;
+
+import arkanoid.game.GameEnvironment;
+import arkanoid.sprites.Ball;
+import arkanoid.sprites.BallSystem;
+import arkanoid.sprites.Block;
+import arkanoid.util.RandomSource;
+import arkanoid.util.Velocity;
+
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Class Name: DanceScenario.
+ * <p>
+ * This scenario measures a whole tick of the dance mode: every block makes its dance step, and then the balls of a
+ * BallSystem move through the moving blocks (which the environment keeps in its dynamic AABB tree).
+ *
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.1
+ * @since 18 October 2026
+ */
+public class DanceScenario extends Scenario {
+    public static final int BALL_SIZE = MoveOneStepScenario.BALL_SIZE;
+    // nothing removes the blocks in this scenario, so their lives only have to keep them removable
+    public static final int LIVES = 1;
+
+    private int blocksNum;
+    private int ballsNum;
+    private List<Block> blocks;
+    private BallSystem balls;
+
+    /**
+     * Constructor.
+     *
+     * @param blocksNum the number of blocks in the world
+     * @param ballsNum  the number of balls
+     */
+    public DanceScenario(int blocksNum, int ballsNum) {
+        super("movement.dance");
+        this.blocksNum = blocksNum;
+        this.ballsNum = ballsNum;
+        this.param("blocks", blocksNum).param("balls", ballsNum);
+    }
+
+    /**
+     * setUp: build the world, make its blocks dance, and put the balls below them, with random directions.
+     */
+    public void setUp() {
+        Random rand = new Random(Worlds.SEED);
+        RandomSource dance = new RandomSource(Worlds.SEED);
+        // the tiled blocks are unremovable, and those don't dance, so put removable blocks in their place
+        this.blocks = new ArrayList<>();
+        for (Block tile : Worlds.tiledBlocks(this.blocksNum)) {
+            // the block copies the tile's rectangle, so dancing doesn't move the tile
+            Block block = new Block(tile.getCollisionRectangle(), LIVES);
+            block.setRandom(dance);
+            this.blocks.add(block);
+        }
+
+        GameEnvironment environment = Worlds.environment(this.blocks);
+        environment.letsDance();
+
+        double top = Worlds.BLOCKS_BOTTOM + BALL_SIZE;
+        double bottom = Worlds.HEIGHT - BALL_SIZE;
+        this.balls = new BallSystem(environment, false);
+
+        for (int i = 0; i < this.ballsNum; i++) {
+            double x = Worlds.BORDER + BALL_SIZE + rand.nextDouble() * (Worlds.WIDTH - 2 * (Worlds.BORDER + BALL_SIZE));
+            double y = top + rand.nextDouble() * (bottom - top);
+            this.balls.add(x, y, BALL_SIZE, Color.WHITE,
+                    Velocity.fromAngleAndSpeed(rand.nextInt(Ball.MAX_ANGLE), Ball.MAX_SPEED * 2));
+        }
+    }
+
+    /**
+     * run: make the blocks dance a step, and move every ball one step.
+     *
+     * @return a value computed from the balls' positions
+     */
+    public long run() {
+        for (int i = 0; i < this.blocks.size(); i++) {
+            this.blocks.get(i).timePassed();
+        }
+        this.balls.timePassed();
+
+        long sum = 0;
+        for (int i = 0; i < this.balls.size(); i++) {
+            sum += (long) this.balls.getX(i);
+        }
+        return sum;
+    }
+
+    /**
+     * operations: get the number of operations a single call to run performs.
+     *
+     * @return the number of balls
+     */
+    public int operations() {
+        return this.ballsNum;
+    }
+}
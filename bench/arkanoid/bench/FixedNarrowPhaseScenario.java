@@ -0,0 +1,114 @@
+package arkanoid.bench;
+
+import arkanoid.geometry.Fixed;
+import arkanoid.geometry.FixedHit;
+import arkanoid.geometry.FixedKernel;
+import arkanoid.geometry.Rectangle;
+import arkanoid.sprites.Block;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Class Name: FixedNarrowPhaseScenario.
+ * <p>
+ * This scenario measures the fixed-point narrow phase (FixedKernel.segmentRectHit) with the same rectangles and
+ * trajectories as NarrowPhaseScenario, rounded to fixed-point numbers, so the two can be compared directly.
+ *
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.0
+ * @since 18 October 2026
+ */
+public class FixedNarrowPhaseScenario extends Scenario {
+    public static final int TRAJECTORIES = NarrowPhaseScenario.TRAJECTORIES;
+    public static final int MAX_LENGTH = NarrowPhaseScenario.MAX_LENGTH;
+
+    private int candidates;
+    private int[] rects;
+    private int[] trajectories;
+    private FixedHit hit;
+    private FixedHit closest;
+
+    /**
+     * Constructor.
+     *
+     * @param candidatesNum the number of candidate rectangles
+     */
+    public FixedNarrowPhaseScenario(int candidatesNum) {
+        super("collision.narrowPhaseFixed");
+        this.candidates = candidatesNum;
+        this.param("candidates", candidatesNum);
+    }
+
+    /**
+     * setUp: take the rectangles of a tiled world, and create the random trajectories.
+     */
+    public void setUp() {
+        Random rand = new Random(Worlds.SEED);
+        List<Block> blocks = Worlds.tiledBlocks(this.candidates);
+        this.rects = new int[4 * this.candidates];
+        this.trajectories = new int[4 * TRAJECTORIES];
+        this.hit = new FixedHit();
+        this.closest = new FixedHit();
+
+        for (int i = 0; i < this.candidates; i++) {
+            Rectangle rect = blocks.get(i).getCollisionRectangle();
+            double x = rect.getUpperLeft().getX();
+            double y = rect.getUpperLeft().getY();
+            this.rects[4 * i] = Fixed.fromDouble(x);
+            this.rects[4 * i + 1] = Fixed.fromDouble(y);
+            this.rects[4 * i + 2] = Fixed.fromDouble(x + rect.getWidth());
+            this.rects[4 * i + 3] = Fixed.fromDouble(y + rect.getHeight());
+        }
+
+        // the same random numbers as NarrowPhaseScenario's, so the trajectories are the same
+        for (int i = 0; i < TRAJECTORIES; i++) {
+            double x = rand.nextDouble() * Worlds.WIDTH;
+            double y = rand.nextDouble() * Worlds.BLOCKS_BOTTOM;
+            this.trajectories[4 * i] = Fixed.fromDouble(x);
+            this.trajectories[4 * i + 1] = Fixed.fromDouble(y);
+            this.trajectories[4 * i + 2] = Fixed.fromDouble(x + (rand.nextDouble() - 0.5) * MAX_LENGTH);
+            this.trajectories[4 * i + 3] = Fixed.fromDouble(y + (rand.nextDouble() - 0.5) * MAX_LENGTH);
+        }
+    }
+
+    /**
+     * run: find the closest hit of every trajectory.
+     *
+     * @return a value computed from the closest hits
+     */
+    public long run() {
+        long sum = 0;
+
+        for (int j = 0; j < TRAJECTORIES; j++) {
+            int x0 = this.trajectories[4 * j];
+            int y0 = this.trajectories[4 * j + 1];
+            int x1 = this.trajectories[4 * j + 2];
+            int y1 = this.trajectories[4 * j + 3];
+            int closestIndex = -1;
+            this.closest.clear();
+
+            for (int i = 0; i < this.candidates; i++) {
+                if (FixedKernel.segmentRectHit(x0, y0, x1, y1, this.rects[4 * i], this.rects[4 * i + 1],
+                        this.rects[4 * i + 2], this.rects[4 * i + 3], this.hit)
+                        && (closestIndex < 0 || this.hit.isBefore(this.closest))) {
+                    closestIndex = i;
+                    this.closest.copyFrom(this.hit);
+                }
+            }
+
+            sum += closestIndex;
+        }
+
+        return sum;
+    }
+
+    /**
+     * operations: get the number of operations a single call to run performs.
+     *
+     * @return the number of trajectory-rectangle tests
+     */
+    public int operations() {
+        return TRAJECTORIES * this.candidates;
+    }
+}
@@ -0,0 +1,105 @@
+package arkanoid.bench;
+
+import arkanoid.game.levels.LevelInformation;
+import arkanoid.game.levels.LevelSpecificationReader;
+import arkanoid.game.render.DamageRenderer;
+import arkanoid.game.render.ImageSurface;
+import arkanoid.game.simulation.ScriptedInput;
+import arkanoid.game.simulation.Simulation;
+import arkanoid.util.Counter;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Class Name: FrameRenderScenario.
+ * <p>
+ * This scenario measures a whole frame of the first level in a level file: a tick of the world and drawing it on an
+ * off-screen surface, either by redrawing all the sprites or by repainting only the damaged regions of a back buffer.
+ *
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.1
+ * @since 18 October 2026
+ */
+public class FrameRenderScenario extends Scenario {
+    public static final int LIVES = 7;
+
+    private Path file;
+    private boolean damage;
+    private LevelInformation level;
+    private Simulation simulation;
+    private DamageRenderer renderer;
+    private ImageSurface surface;
+
+    /**
+     * Constructor.
+     *
+     * @param levelFile  a level file whose first level is played
+     * @param withDamage whether only the damaged regions are repainted or not
+     */
+    public FrameRenderScenario(Path levelFile, boolean withDamage) {
+        super("rendering.frame");
+        this.file = levelFile;
+        this.damage = withDamage;
+        this.param("level", levelFile.getFileName()).param("damage", withDamage);
+    }
+
+    /**
+     * setUp: read the level and start playing it.
+     */
+    public void setUp() {
+        try {
+            String text = new String(Files.readAllBytes(this.file), StandardCharsets.UTF_8);
+            this.level = new LevelSpecificationReader().fromReader(new StringReader(text)).get(0);
+        } catch (IOException e) {
+            throw new RuntimeException("Can't read level file " + this.file + ": " + e.getMessage());
+        }
+
+        this.surface = new ImageSurface(Worlds.WIDTH, Worlds.HEIGHT);
+        this.restart();
+    }
+
+    /**
+     * restart: start the level from the beginning.
+     */
+    private void restart() {
+        this.simulation = new Simulation(this.level, new ScriptedInput(), new Counter(LIVES), new Counter(),
+                new Counter());
+        this.simulation.setSeed(Worlds.SEED);
+        this.simulation.initialize();
+        this.simulation.createBallsOnTopOfPaddle();
+        this.renderer = new DamageRenderer(this.simulation.getSprites(), Worlds.WIDTH, Worlds.HEIGHT);
+    }
+
+    /**
+     * run: advance the world by one tick and draw it.
+     *
+     * @return a pixel of the surface
+     */
+    public long run() {
+        if (this.simulation.isTurnOver()) {
+            this.restart();
+        }
+        this.simulation.tick();
+
+        if (this.damage) {
+            this.renderer.render(this.surface, 1);
+        } else {
+            this.simulation.getSprites().drawAllOn(this.surface, 1);
+        }
+
+        return this.surface.getImage().getRGB(Worlds.WIDTH / 2, Worlds.HEIGHT / 2);
+    }
+
+    /**
+     * operations: get the number of operations a single call to run performs.
+     *
+     * @return 1 (a single frame)
+     */
+    public int operations() {
+        return 1;
+    }
+}
@@ -0,0 +1,72 @@
+package arkanoid.bench;
+
+import arkanoid.game.levels.LevelInformation;
+import arkanoid.game.levels.LevelSpecificationReader;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Class Name: LevelParsingScenario.
+ * <p>
+ * This scenario measures LevelSpecificationReader.fromReader over a level file. The file is read into memory once,
+ * so only the parsing (including the block definitions it refers to) is measured.
+ *
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.0
+ * @since 18 October 2026
+ */
+public class LevelParsingScenario extends Scenario {
+
+    private Path file;
+    private String text;
+
+    /**
+     * Constructor.
+     *
+     * @param levelFile the level file
+     */
+    public LevelParsingScenario(Path levelFile) {
+        super("parsing.levelSpecification");
+        this.file = levelFile;
+        this.param("level", levelFile.getFileName());
+    }
+
+    /**
+     * setUp: read the level file into memory.
+     */
+    public void setUp() {
+        try {
+            this.text = new String(Files.readAllBytes(this.file), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new RuntimeException("Can't read level file " + this.file + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * run: parse the level file.
+     *
+     * @return the number of blocks in all the parsed levels
+     */
+    public long run() {
+        List<LevelInformation> levels = new LevelSpecificationReader().fromReader(new StringReader(this.text));
+        long blocks = 0;
+        for (LevelInformation level : levels) {
+            blocks += level.blocks().size();
+        }
+        return blocks;
+    }
+
+    /**
+     * operations: get the number of operations a single call to run performs.
+     *
+     * @return 1, a single parse of the file
+     */
+    public int operations() {
+        return 1;
+    }
+}
@@ -0,0 +1,79 @@
+package arkanoid.bench;
+
+import arkanoid.geometry.Line;
+import arkanoid.geometry.Point;
+
+import java.util.Random;
+
+/**
+ * Class Name: LineIntersectionScenario.
+ * <p>
+ * This scenario measures Line.intersectionWith over random pairs of lines on the screen.
+ *
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.0
+ * @since 18 October 2026
+ */
+public class LineIntersectionScenario extends Scenario {
+    public static final int PAIRS = 1024;
+
+    private Line[] first;
+    private Line[] second;
+
+    /**
+     * Constructor.
+     */
+    public LineIntersectionScenario() {
+        super("geometry.lineIntersection");
+        this.param("pairs", PAIRS);
+    }
+
+    /**
+     * setUp: create the random lines.
+     */
+    public void setUp() {
+        Random rand = new Random(Worlds.SEED);
+        this.first = new Line[PAIRS];
+        this.second = new Line[PAIRS];
+
+        for (int i = 0; i < PAIRS; i++) {
+            this.first[i] = randomLine(rand);
+            this.second[i] = randomLine(rand);
+        }
+    }
+
+    /**
+     * randomLine: create a random line on the screen.
+     *
+     * @param rand the random-number generator
+     * @return a random line
+     */
+    private static Line randomLine(Random rand) {
+        return new Line(new Point(rand.nextInt(Worlds.WIDTH), rand.nextInt(Worlds.HEIGHT)),
+                new Point(rand.nextInt(Worlds.WIDTH), rand.nextInt(Worlds.HEIGHT)));
+    }
+
+    /**
+     * run: intersect all the pairs.
+     *
+     * @return the number of pairs that intersect
+     */
+    public long run() {
+        long found = 0;
+        for (int i = 0; i < PAIRS; i++) {
+            if (this.first[i].intersectionWith(this.second[i]) != null) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * operations: get the number of operations a single call to run performs.
+     *
+     * @return the number of pairs
+     */
+    public int operations() {
+        return PAIRS;
+    }
+}
@@ -0,0 +1,79 @@
+package arkanoid.bench;
+
+import arkanoid.game.GameEnvironment;
+import arkanoid.geometry.Point;
+import arkanoid.sprites.Ball;
+import arkanoid.util.Velocity;
+
+import java.awt.Color;
+import java.util.Random;
+
+/**
+ * Class Name: MoveOneStepScenario.
+ * <p>
+ * This scenario measures Ball.moveOneStep with a given number of balls moving in a world with a given number of
+ * blocks. The blocks are never removed, so the world stays the same all along.
+ *
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.0
+ * @since 18 October 2026
+ */
+public class MoveOneStepScenario extends Scenario {
+    public static final int BALL_SIZE = 5;
+
+    private int blocks;
+    private Ball[] balls;
+
+    /**
+     * Constructor.
+     *
+     * @param blocksNum the number of blocks in the world
+     * @param ballsNum  the number of balls
+     */
+    public MoveOneStepScenario(int blocksNum, int ballsNum) {
+        super("movement.moveOneStep");
+        this.blocks = blocksNum;
+        this.balls = new Ball[ballsNum];
+        this.param("blocks", blocksNum).param("balls", ballsNum);
+    }
+
+    /**
+     * setUp: build the world and put the balls below the blocks, with random directions.
+     */
+    public void setUp() {
+        Random rand = new Random(Worlds.SEED);
+        GameEnvironment environment = Worlds.environment(Worlds.tiledBlocks(this.blocks));
+        double top = Worlds.BLOCKS_BOTTOM + BALL_SIZE;
+        double bottom = Worlds.HEIGHT - BALL_SIZE;
+
+        for (int i = 0; i < this.balls.length; i++) {
+            double x = Worlds.BORDER + BALL_SIZE + rand.nextDouble() * (Worlds.WIDTH - 2 * (Worlds.BORDER + BALL_SIZE));
+            double y = top + rand.nextDouble() * (bottom - top);
+            this.balls[i] = new Ball(new Point(x, y), BALL_SIZE, Color.WHITE, environment, false);
+            this.balls[i].setVelocity(Velocity.fromAngleAndSpeed(rand.nextInt(Ball.MAX_ANGLE), Ball.MAX_SPEED * 2));
+        }
+    }
+
+    /**
+     * run: move every ball one step.
+     *
+     * @return a value computed from the balls' positions
+     */
+    public long run() {
+        long sum = 0;
+        for (Ball ball : this.balls) {
+            ball.moveOneStep();
+            sum += (long) ball.getX();
+        }
+        return sum;
+    }
+
+    /**
+     * operations: get the number of operations a single call to run performs.
+     *
+     * @return the number of balls
+     */
+    public int operations() {
+        return this.balls.length;
+    }
+}
@@ -0,0 +1,121 @@
+package arkanoid.bench;
+
+import arkanoid.geometry.GeometryKernel;
+import arkanoid.geometry.RectBatch;
+import arkanoid.geometry.Rectangle;
+import arkanoid.sprites.Block;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Class Name: NarrowPhaseScenario.
+ * <p>
+ * This scenario measures the narrow phase alone: random trajectories are tested against a set of candidate
+ * rectangles, either one rectangle at a time (GeometryKernel.segmentRectHit) or all of them at once
+ * (GeometryKernel.segmentRectHits), packing the rectangles into the batch first, as the game environment does.
+ *
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.0
+ * @since 18 October 2026
+ */
+public class NarrowPhaseScenario extends Scenario {
+    public static final int TRAJECTORIES = 256;
+    public static final int MAX_LENGTH = 200;
+
+    private int candidates;
+    private boolean batched;
+    private double[] rects;
+    private double[] trajectories;
+    private RectBatch batch;
+
+    /**
+     * Constructor.
+     *
+     * @param candidatesNum the number of candidate rectangles
+     * @param isBatched     whether the rectangles are tested in a batch or one at a time
+     */
+    public NarrowPhaseScenario(int candidatesNum, boolean isBatched) {
+        super("collision.narrowPhase");
+        this.candidates = candidatesNum;
+        this.batched = isBatched;
+        this.param("candidates", candidatesNum).param("batched", isBatched);
+    }
+
+    /**
+     * setUp: take the rectangles of a tiled world, and create the random trajectories.
+     */
+    public void setUp() {
+        Random rand = new Random(Worlds.SEED);
+        List<Block> blocks = Worlds.tiledBlocks(this.candidates);
+        this.rects = new double[4 * this.candidates];
+        this.trajectories = new double[4 * TRAJECTORIES];
+        this.batch = new RectBatch();
+
+        for (int i = 0; i < this.candidates; i++) {
+            Rectangle rect = blocks.get(i).getCollisionRectangle();
+            this.rects[4 * i] = rect.getUpperLeft().getX();
+            this.rects[4 * i + 1] = rect.getUpperLeft().getY();
+            this.rects[4 * i + 2] = rect.getWidth();
+            this.rects[4 * i + 3] = rect.getHeight();
+        }
+
+        for (int i = 0; i < TRAJECTORIES; i++) {
+            double x = rand.nextDouble() * Worlds.WIDTH;
+            double y = rand.nextDouble() * Worlds.BLOCKS_BOTTOM;
+            this.trajectories[4 * i] = x;
+            this.trajectories[4 * i + 1] = y;
+            this.trajectories[4 * i + 2] = x + (rand.nextDouble() - 0.5) * MAX_LENGTH;
+            this.trajectories[4 * i + 3] = y + (rand.nextDouble() - 0.5) * MAX_LENGTH;
+        }
+    }
+
+    /**
+     * run: find the closest hit of every trajectory.
+     *
+     * @return a value computed from the closest hits
+     */
+    public long run() {
+        long sum = 0;
+
+        for (int j = 0; j < TRAJECTORIES; j++) {
+            double x0 = this.trajectories[4 * j];
+            double y0 = this.trajectories[4 * j + 1];
+            double x1 = this.trajectories[4 * j + 2];
+            double y1 = this.trajectories[4 * j + 3];
+            int closest = -1;
+            double closestT = GeometryKernel.NO_HIT;
+
+            if (this.batched) {
+                this.batch.clear();
+                for (int i = 0; i < this.candidates; i++) {
+                    this.batch.add(this.rects[4 * i], this.rects[4 * i + 1], this.rects[4 * i + 2],
+                            this.rects[4 * i + 3]);
+                }
+                GeometryKernel.segmentRectHits(x0, y0, x1, y1, this.batch);
+            }
+
+            for (int i = 0; i < this.candidates; i++) {
+                double t = this.batched ? this.batch.getHit(i) : GeometryKernel.segmentRectHit(x0, y0, x1, y1,
+                        this.rects[4 * i], this.rects[4 * i + 1], this.rects[4 * i + 2], this.rects[4 * i + 3]);
+                if (t != GeometryKernel.NO_HIT && (closest < 0 || t < closestT)) {
+                    closest = i;
+                    closestT = t;
+                }
+            }
+
+            sum += closest;
+        }
+
+        return sum;
+    }
+
+    /**
+     * operations: get the number of operations a single call to run performs.
+     *
+     * @return the number of trajectory-rectangle tests
+     */
+    public int operations() {
+        return TRAJECTORIES * this.candidates;
+    }
+}
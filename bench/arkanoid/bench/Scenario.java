@@ -0,0 +1,80 @@
+package arkanoid.bench;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Class Name: Scenario.
+ * <p>
+ * Scenario class represents a single benchmark with fixed parameters, e.g. "collision query with 100 blocks".
+ * The runner calls setUp once, and then calls run over and over again while it measures the time.
+ *
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.0
+ * @since 18 October 2026
+ */
+public abstract class Scenario {
+
+    private String name;
+    private Map<String, String> params;
+
+    /**
+     * Constructor.
+     *
+     * @param benchName the benchmark's name
+     */
+    public Scenario(String benchName) {
+        this.name = benchName;
+        this.params = new LinkedHashMap<>();
+    }
+
+    /**
+     * param: add a parameter to the scenario's description.
+     *
+     * @param key   the parameter's name
+     * @param value the parameter's value
+     * @return this scenario, so that calls can be chained
+     */
+    public Scenario param(String key, Object value) {
+        this.params.put(key, String.valueOf(value));
+        return this;
+    }
+
+    /**
+     * getName: get the benchmark's name.
+     *
+     * @return the benchmark's name
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * getParams: get the scenario's parameters.
+     *
+     * @return the scenario's parameters
+     */
+    public Map<String, String> getParams() {
+        return this.params;
+    }
+
+    /**
+     * setUp: build everything the scenario needs, before it's measured.
+     */
+    public abstract void setUp();
+
+    /**
+     * run: run one batch of the measured operation.
+     * The returned value must depend on the work done, so that the JIT can't throw the work away.
+     *
+     * @return a value computed from the work done
+     */
+    public abstract long run();
+
+    /**
+     * operations: get the number of operations a single call to run performs.
+     *
+     * @return the number of operations per run
+     */
+    public abstract int operations();
+}
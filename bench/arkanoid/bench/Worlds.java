@@ -0,0 +1,91 @@
+package arkanoid.bench;
+
+import arkanoid.game.GameEnvironment;
+import arkanoid.game.collision.CollisionBackend;
+import arkanoid.game.simulation.Simulation;
+import arkanoid.geometry.Point;
+import arkanoid.sprites.Block;
+
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Class Name: Worlds.
+ * <p>
+ * This class builds synthetic worlds for the benchmarks: a field of blocks tiled over the upper part of the screen,
+ * surrounded by the usual borders.
+ *
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.1
+ * @since 18 October 2026
+ */
+public class Worlds {
+    public static final int WIDTH = Simulation.WORLD_WIDTH;
+    public static final int HEIGHT = Simulation.WORLD_HEIGHT;
+    public static final int BORDER = Simulation.BORDER_THICKNESS;
+    // the blocks are tiled between the top border and this line; the balls move below it
+    public static final int BLOCKS_BOTTOM = 300;
+    public static final long SEED = 319384657L;
+
+    /**
+     * tiledBlocks: tile a number of blocks over the upper part of the screen.
+     *
+     * @param count the number of blocks
+     * @return the blocks
+     */
+    public static List<Block> tiledBlocks(int count) {
+        double areaWidth = WIDTH - 2 * BORDER;
+        double areaHeight = BLOCKS_BOTTOM - 2 * BORDER;
+
+        // keep the blocks' proportions close to the area's proportions
+        int cols = (int) Math.ceil(Math.sqrt(count * areaWidth / areaHeight));
+        int rows = (int) Math.ceil((double) count / cols);
+        double width = areaWidth / cols;
+        double height = areaHeight / rows;
+
+        List<Block> blocks = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Point upperLeft = new Point(BORDER + (i % cols) * width, 2 * BORDER + (i / cols) * height);
+            Block block = new Block(upperLeft, width, height, Color.BLUE);
+            block.setStroke(Color.BLACK);
+            blocks.add(block);
+        }
+
+        return blocks;
+    }
+
+    /**
+     * environment: build a game environment with the borders and the given blocks, indexed by the game's default
+     * backend.
+     *
+     * @param blocks the blocks
+     * @return the game environment
+     */
+    public static GameEnvironment environment(List<Block> blocks) {
+        return environment(blocks, CollisionBackend.fromSystemProperty());
+    }
+
+    /**
+     * environment: build a game environment with the borders and the given blocks.
+     *
+     * @param blocks  the blocks
+     * @param backend the index that holds the collidables
+     * @return the game environment
+     */
+    public static GameEnvironment environment(List<Block> blocks, CollisionBackend backend) {
+        GameEnvironment environment = new GameEnvironment(backend.create(blocks, WIDTH, HEIGHT));
+
+        environment.addCollidable(new Block(new Point(0, BORDER), WIDTH, BORDER, Color.GRAY));
+        environment.addCollidable(new Block(new Point(0, 2 * BORDER), BORDER, HEIGHT - 2 * BORDER, Color.GRAY));
+        environment.addCollidable(new Block(new Point(WIDTH - BORDER, 2 * BORDER), BORDER, HEIGHT - 2 * BORDER,
+                Color.GRAY));
+        environment.addCollidable(new Block(new Point(0, HEIGHT), WIDTH, BORDER, Color.GRAY));
+
+        for (Block block : blocks) {
+            environment.addCollidable(block);
+        }
+
+        return environment;
+    }
+}
@@ -12,6 +12,7 @@ import arkanoid.game.levels.LevelSet;
 import arkanoid.game.levels.LevelSetsReader;
 import arkanoid.game.levels.LevelSpecificationReader;
 import arkanoid.game.levels.LevelInformation;
+import arkanoid.game.replay.ReplayRecorder;
 import arkanoid.util.Counter;
 import biuoop.GUI;
 import biuoop.KeyboardSensor;
@@ -26,7 +27,7 @@ import java.util.List;
  * This class runs the Arkanoid game.
  *
  * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
- * @version 1.0.2
+ * @version 1.0.3
  * @since 19 June 2019
  */
 public class Ass7Game {
@@ -53,6 +54,8 @@ public class Ass7Game {
         HighScoresTable hs = HighScoresTable.loadFromFile(new File(HIGH_SCORES_FILE));
         // set game flow
         GameFlow gameFlow = new GameFlow(ar, keyboard, new Counter(LIVES), hs);
+        // record the games, if asked to (see ReplayRecorder)
+        gameFlow.setRecorder(ReplayRecorder.fromSystemProperty());
 
         // add the main menu and its choices
         MenuAnimation menu = new MenuAnimation<String>(keyboard);
@@ -79,7 +82,7 @@ public class Ass7Game {
                             List<LevelInformation> levels;
                             levels = LevelSpecificationReader.getReader(PATH + levelSet.getPath());
                             // run levels
-                            gameFlow.runLevels(levels);
+                            gameFlow.runLevels(levels, PATH + levelSet.getPath());
                             return null;
                         }
                     });
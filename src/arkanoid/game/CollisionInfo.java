@@ -8,9 +8,11 @@ import arkanoid.sprites.Collidable;
  * <p>
  * CollisionInfo class represents an information block that hold the information of a collision.
  * This class can update and return its fields.
+ * It can also serve as a reusable holder (see set and clear), which keeps a single collision point of its own and
+ * moves it from one collision to another, so the queries that fill it don't create any garbage.
  *
  * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
- * @version 1.0.2
+ * @version 1.0.3
  * @since 11 May 2019
  */
 public class CollisionInfo {
@@ -23,7 +25,14 @@ public class CollisionInfo {
     private boolean isEdgeHit;
 
     /**
-     * Constructor.
+     * Constructor #1: an empty holder, as if no collision occurs.
+     */
+    public CollisionInfo() {
+        this(null, null, DEFAULT_NO_DISTANCE, DEFAULT_IS_EDGE_HIT);
+    }
+
+    /**
+     * Constructor #2.
      *
      * @param collisionPoint    the collision point
      * @param collisionObject   the collidable object that had the collision
@@ -38,6 +47,36 @@ public class CollisionInfo {
         this.isEdgeHit = isEdgeHit;
     }
 
+    /**
+     * set: update all the collision's information, and move the holder's own collision point to the collision.
+     *
+     * @param x        the X value of the collision point
+     * @param y        the Y value of the collision point
+     * @param c        the collidable object involved in the collision
+     * @param distance the distance from the center of the hitting object and the collidable object
+     * @param isEdge   whether or not the collision point is on an edge
+     */
+    public void set(double x, double y, Collidable c, double distance, boolean isEdge) {
+        if (this.collisionPoint == null) {
+            this.collisionPoint = new Point(x, y);
+        } else {
+            this.collisionPoint.set(x, y);
+        }
+        this.collisionObject = c;
+        this.collisionDistance = distance;
+        this.isEdgeHit = isEdge;
+    }
+
+    /**
+     * clear: reset the information, as if no collision occurs (the holder keeps its collision point for later, so
+     * it's the collision object that tells whether a collision occurs).
+     */
+    public void clear() {
+        this.collisionObject = null;
+        this.collisionDistance = DEFAULT_NO_DISTANCE;
+        this.isEdgeHit = DEFAULT_IS_EDGE_HIT;
+    }
+
     /**
      * collisionPoint: get the point at which the collision occurs.
      *
@@ -1,12 +1,27 @@
 package arkanoid.game;
 
+import arkanoid.game.collision.CollisionIndex;
+import arkanoid.game.collision.CollisionMode;
+import arkanoid.game.collision.DynamicAabbTree;
+import arkanoid.game.collision.UniformGrid;
+import arkanoid.game.metrics.Metrics;
+import arkanoid.geometry.Fixed;
+import arkanoid.geometry.FixedHit;
+import arkanoid.geometry.FixedKernel;
+import arkanoid.geometry.GeometryKernel;
 import arkanoid.geometry.Line;
-import arkanoid.geometry.Point;
+import arkanoid.geometry.RectBatch;
 import arkanoid.geometry.Rectangle;
+import arkanoid.geometry.SegmentHit;
+import arkanoid.sprites.Ball;
 import arkanoid.sprites.Collidable;
+import arkanoid.util.Counter;
+import arkanoid.util.SwapRemoveList;
 import biuoop.DrawSurface;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Map;
 
 /**
  * Class Name: GameEnvironment.
@@ -14,20 +29,106 @@ import java.util.ArrayList;
  * GameEnvironment class represents a game's environment that holds all the important information about the game, such
  * as the ball, the collidable parts, etc.
  * This class can add collidables to the game, calculate the next collision of the ball and so on.
+ * Adding, finding and removing a collidable take O(1), since the collidables are kept in no particular order (the
+ * ties between collisions are broken by the order in which the collidables were added).
+ * Every collidable picks its own index by whether it moves (see Collidable.isMoving): the ones that stay in place are
+ * kept in the static index, and the ones that move (e.g. the paddle, or the blocks when they dance) in a dynamic AABB
+ * tree, which is refitted once per tick (see refitMoving) instead of being rebuilt. The moving collidables count
+ * their moves on a counter of the environment, so a refit is skipped when none of them moved (see refitIfMoved).
+ * The narrow phase of a trajectory tests its candidates in batches (see GeometryKernel.segmentRectHits), unless
+ * SCALAR_PROPERTY is set - then they're tested one at a time, with exactly the same results.
  *
  * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
- * @version 1.0.2
+ * @version 1.0.14
  * @since 11 May 2019
  */
 public class GameEnvironment {
+    // test the candidates of a trajectory one at a time, e.g. -Darkanoid.collision.scalar=true
+    public static final String SCALAR_PROPERTY = "arkanoid.collision.scalar";
+    // fewer candidates than this aren't worth packing into a batch (see the collision.narrowPhase benchmark)
+    public static final int MIN_BATCH_SIZE = 8;
+
+    // a scratch list of candidates per thread, so that queries don't allocate a new list every time
+    private static final ThreadLocal<List<Collidable>> CANDIDATES = ThreadLocal.withInitial(ArrayList::new);
+    // a scratch hit per thread, for the queries that report their result in a CollisionInfo
+    private static final ThreadLocal<SegmentHit> HITS = ThreadLocal.withInitial(SegmentHit::new);
+    // a scratch batch of the candidates' rectangles per thread, for the batched narrow phase
+    private static final ThreadLocal<RectBatch> BATCHES = ThreadLocal.withInitial(RectBatch::new);
+    // a scratch fixed-point hit per thread, for the candidate that's being tested
+    private static final ThreadLocal<FixedHit> FIXED_HITS = ThreadLocal.withInitial(FixedHit::new);
+
     // the list of collidable objects
-    private List<Collidable> collidables;
+    private SwapRemoveList<Collidable> collidables;
+    // the broad-phase index of the collidables that stay in place
+    private CollisionIndex index;
+    // the collidables that may move between frames, e.g. the paddle (they are not kept in the index)
+    private SwapRemoveList<Collidable> movingCollidables;
+    // the broad-phase index of the moving collidables
+    private DynamicAabbTree movingTree;
+    // the order in which the collidables were added, which breaks ties between collisions of equal distance
+    private Map<Collidable, Long> insertionOrder;
+    private long insertions;
+    // how the balls detect their collisions
+    private CollisionMode collisionMode;
+    // whether the candidates of a trajectory are tested in batches or one at a time
+    private boolean isBatched;
+    // counts the moves of the collidables, and the count at the last refit
+    private Counter moves;
+    private int refittedMoves;
 
     /**
-     * Constructor.
+     * Constructor #1.
      */
     public GameEnvironment() {
-        this.collidables = new ArrayList<>();
+        this(new UniformGrid(Ball.WINDOW_WIDTH, Ball.WINDOW_HEIGHT, UniformGrid.DEFAULT_CELL_WIDTH,
+                UniformGrid.DEFAULT_CELL_HEIGHT));
+    }
+
+    /**
+     * Constructor #2.
+     *
+     * @param index the broad-phase index that holds the collidables
+     */
+    public GameEnvironment(CollisionIndex index) {
+        this.collidables = new SwapRemoveList<>();
+        this.index = index;
+        this.movingCollidables = new SwapRemoveList<>();
+        this.movingTree = new DynamicAabbTree();
+        this.insertionOrder = new IdentityHashMap<>();
+        this.insertions = 0;
+        this.collisionMode = CollisionMode.fromSystemProperty();
+        this.isBatched = !Boolean.getBoolean(SCALAR_PROPERTY);
+        this.moves = new Counter();
+        // nothing was refitted yet
+        this.refittedMoves = -1;
+    }
+
+    /**
+     * getCollisionMode: get how the balls detect their collisions.
+     *
+     * @return the collision mode
+     */
+    public CollisionMode getCollisionMode() {
+        return this.collisionMode;
+    }
+
+    /**
+     * setCollisionMode: set how the balls detect their collisions.
+     *
+     * @param mode the collision mode
+     */
+    public void setCollisionMode(CollisionMode mode) {
+        this.collisionMode = mode;
+    }
+
+    /**
+     * setBatched: set whether the candidates of a trajectory are tested in batches or one at a time (the results are
+     * the same either way).
+     *
+     * @param batched true to test them in batches; false to test them one at a time
+     */
+    public void setBatched(boolean batched) {
+        this.isBatched = batched;
     }
 
     /**
@@ -37,15 +138,78 @@ public class GameEnvironment {
      */
     public void addCollidable(Collidable c) {
         this.collidables.add(c);
+        this.insertionOrder.put(c, this.insertions++);
+        c.setMoveCounter(this.moves);
+
+        if (c.isMoving()) {
+            this.movingCollidables.add(c);
+            this.movingTree.insert(c);
+        } else {
+            this.index.insert(c);
+        }
     }
 
     /**
      * removeCollidable: remove a collidable object from the game environment.
      *
-     * @param c the new collidable to be added
+     * @param c the collidable to be removed
      */
     public void removeCollidable(Collidable c) {
         this.collidables.remove(c);
+        this.insertionOrder.remove(c);
+        c.setMoveCounter(null);
+
+        if (this.movingCollidables.remove(c)) {
+            this.movingTree.remove(c);
+        } else {
+            this.index.remove(c);
+        }
+    }
+
+    /**
+     * letsDance: make all the collidables dance (or stop dancing), and move the ones that start or stop moving
+     * out of or into the index.
+     */
+    public void letsDance() {
+        for (Collidable c : this.collidables) {
+            c.letsDance();
+            boolean isIndexed = !this.movingCollidables.contains(c);
+
+            if (c.isMoving() && isIndexed) {
+                // it's going to move, so track it in the tree instead of the index
+                this.index.remove(c);
+                this.movingCollidables.add(c);
+                this.movingTree.insert(c);
+            } else if (!c.isMoving() && !isIndexed) {
+                // it stopped moving, so index it where it is now
+                this.movingCollidables.remove(c);
+                this.movingTree.remove(c);
+                this.index.insert(c);
+            }
+        }
+    }
+
+    /**
+     * refitMoving: bring the tree of the moving collidables up to date with where they are now. It should be called
+     * after they move and before the balls look for their collisions (i.e. once per tick, since the collidables move
+     * before the balls do). A collidable that stayed inside its fat box costs a single check.
+     */
+    public void refitMoving() {
+        for (int i = 0; i < this.movingCollidables.size(); i++) {
+            this.movingTree.update(this.movingCollidables.get(i));
+        }
+        this.refittedMoves = this.moves.getValue();
+    }
+
+    /**
+     * refitIfMoved: refit the tree of the moving collidables (see refitMoving), unless none of them moved since the
+     * last refit. A ball that moves on its own calls it before every step, so the tree is refitted once per tick and
+     * not once per ball.
+     */
+    public void refitIfMoved() {
+        if (this.moves.getValue() != this.refittedMoves) {
+            this.refitMoving();
+        }
     }
 
     /**
@@ -58,51 +222,240 @@ public class GameEnvironment {
      * @return the information about the collision
      */
     public CollisionInfo getClosestCollision(Line trajectory) {
-        // a flag that indicates that a collision was found
-        boolean flag = false;
+        return this.getClosestCollision(trajectory, new CollisionInfo());
+    }
 
-        // set initial values for collision info
-        CollisionInfo colInfo = new CollisionInfo(null, null,
-                CollisionInfo.DEFAULT_NO_DISTANCE, CollisionInfo.DEFAULT_IS_EDGE_HIT);
+    /**
+     * getClosestCollision: Assume an object is moving from line.start() to line.end().
+     * Fill a holder with the information about the closest collision that is going to occur, without creating any
+     * objects on the way.
+     *
+     * @param trajectory the line that goes from the center of the ball to the next point it potentially can land on
+     *                   in the next move
+     * @param out        the holder to fill (it's cleared if there's no collision)
+     * @return the holder
+     */
+    public CollisionInfo getClosestCollision(Line trajectory, CollisionInfo out) {
+        SegmentHit hit = HITS.get();
+        Collidable c = this.getClosestCollision(trajectory.start().getX(), trajectory.start().getY(),
+                trajectory.end().getX(), trajectory.end().getY(), hit);
 
-        // iterate through all collidable objects to find out which the ball will collide with
-        for (Collidable c : collidables) {
+        if (c == null) {
+            out.clear();
+        } else {
+            out.set(hit.getX(), hit.getY(), c, hit.getT() * trajectory.length(), hit.isEdgeHit());
+        }
 
-            Rectangle rect = c.getCollisionRectangle();
-            // get the point of intersection (i.e. collision)
-            Point intersection = trajectory.closestIntersectionToStartOfLine(rect);
-            boolean isEdgeHit = rect.isEdgeHit(trajectory);
+        return out;
+    }
+
+    /**
+     * getClosestCollision: Assume an object is moving from (x0, y0) to (x1, y1).
+     * Find the closest collision that is going to occur, without creating any objects on the way.
+     * This method doesn't change the environment, so it can be called by several threads at once, as long as each
+     * one passes its own result holder.
+     *
+     * @param x0  the X value of the trajectory's start point
+     * @param y0  the Y value of the trajectory's start point
+     * @param x1  the X value of the trajectory's end point
+     * @param y1  the Y value of the trajectory's end point
+     * @param out the holder to fill with the closest collision's information (it's cleared if there's none)
+     * @return the collidable object involved in the closest collision; null if there's no collision
+     */
+    public Collidable getClosestCollision(double x0, double y0, double x1, double y1, SegmentHit out) {
+        Collidable closest = null;
+        double closestT = GeometryKernel.NO_HIT;
+
+        // get only the collidables that the trajectory passes near
+        List<Collidable> candidates = CANDIDATES.get();
+        candidates.clear();
+        this.movingTree.query(x0, y0, x1, y1, candidates);
+        this.index.query(x0, y0, x1, y1, candidates);
+
+        // test all the candidates at once, if there are enough of them
+        RectBatch batch = null;
+        if (this.isBatched && candidates.size() >= MIN_BATCH_SIZE) {
+            batch = BATCHES.get();
+            batch.clear();
+            for (int i = 0; i < candidates.size(); i++) {
+                Rectangle rect = candidates.get(i).getCollisionRectangle();
+                batch.add(rect.getUpperLeft().getX(), rect.getUpperLeft().getY(), rect.getWidth(), rect.getHeight());
+            }
+            GeometryKernel.segmentRectHits(x0, y0, x1, y1, batch);
+        }
+
+        // iterate through the candidates to find out which the ball will collide with
+        for (int i = 0; i < candidates.size(); i++) {
+            Collidable c = candidates.get(i);
+            double t;
+
+            // find where the trajectory hits the rectangle (if at all)
+            if (batch != null) {
+                t = batch.getHit(i);
+            } else {
+                Rectangle rect = c.getCollisionRectangle();
+                t = GeometryKernel.segmentRectHit(x0, y0, x1, y1, rect.getUpperLeft().getX(),
+                        rect.getUpperLeft().getY(), rect.getWidth(), rect.getHeight());
+            }
 
             // if there's no collision then move on to check the next collidable object
-            if (intersection == null) {
+            if (t == GeometryKernel.NO_HIT) {
+                continue;
+            }
+
+            // check if we found a closer collision (on a tie, the collidable that was added first wins)
+            if (closest == null || t < closestT || (t == closestT && this.isAddedBefore(c, closest))) {
+                closest = c;
+                closestT = t;
+            }
+        }
+
+        Metrics.countQuery(candidates.size(), closest != null);
+        // don't keep references to the collidables after the query
+        candidates.clear();
+
+        if (closest == null) {
+            out.clear();
+        } else {
+            // calculate the collision point and sides only for the closest collision
+            Rectangle rect = closest.getCollisionRectangle();
+            GeometryKernel.fillHit(x0, y0, x1, y1, closestT, rect.getUpperLeft().getX(), rect.getUpperLeft().getY(),
+                    rect.getWidth(), rect.getHeight(), out);
+        }
+
+        return closest;
+    }
+
+    /**
+     * getClosestCollision: Assume a circle is moving from (x0, y0) to (x1, y1).
+     * Find the first collidable that the circle is going to touch, without creating any objects on the way.
+     * The holder is filled with the contact point on the collidable and the normal of its surface there.
+     * Like the trajectory query, it can be called by several threads at once, as long as each one passes its own
+     * result holder.
+     *
+     * @param x0     the X value of the circle's start point
+     * @param y0     the Y value of the circle's start point
+     * @param x1     the X value of the circle's end point
+     * @param y1     the Y value of the circle's end point
+     * @param radius the circle's radius
+     * @param out    the holder to fill with the closest collision's information (it's cleared if there's none)
+     * @return the collidable object involved in the closest collision; null if there's no collision
+     */
+    public Collidable getClosestCollision(double x0, double y0, double x1, double y1, double radius,
+                                          SegmentHit out) {
+        Collidable closest = null;
+        double closestT = GeometryKernel.NO_HIT;
+        double closestX = 0, closestY = 0, closestW = 0, closestH = 0;
+
+        // get only the collidables that the circle sweeps near
+        List<Collidable> candidates = CANDIDATES.get();
+        candidates.clear();
+        this.movingTree.query(x0, y0, x1, y1, radius, candidates);
+        this.index.query(x0, y0, x1, y1, radius, candidates);
+
+        for (int i = 0; i < candidates.size(); i++) {
+            Collidable c = candidates.get(i);
+            Rectangle rect = c.getCollisionRectangle();
+            double rectX = rect.getUpperLeft().getX();
+            double rectY = rect.getUpperLeft().getY();
+
+            // find when the circle touches the rectangle (if at all)
+            double t = GeometryKernel.sweptCircleRectHit(x0, y0, x1, y1, radius, rectX, rectY, rect.getWidth(),
+                    rect.getHeight());
+
+            if (t == GeometryKernel.NO_HIT) {
                 continue;
             }
 
-            // calculate the distance from the trajectory's start point to the intersection
-            double distance = intersection.distance(trajectory.start());
-
-            // check if we found a closer collision
-            if (colInfo.collisionDistance() == CollisionInfo.DEFAULT_NO_DISTANCE
-                    || distance < colInfo.collisionDistance()) {
-                // update the collision point, shape and distance
-                colInfo.setCollisionPoint(intersection);
-                colInfo.setCollisionObject(c);
-                colInfo.setCollisionDistance(distance);
-                colInfo.setIsEdgeHit(isEdgeHit);
-
-                // if another collidable collides with the ball (i.e. 2 or more collidables has the same distance from
-                // the ball), it obviously means that the ball hits the edge of two or more collidable
-                if (flag) {
-                    // for some reason it doesn't work when colliding within a terrace ...
-                    // colInfo.setIsEdgeHit(true);
-                    flag = true;
-                } else {
-                    flag = true;
-                }
+            // check if we found a closer collision (on a tie, the collidable that was added first wins)
+            if (closest == null || t < closestT || (t == closestT && this.isAddedBefore(c, closest))) {
+                closest = c;
+                closestT = t;
+                closestX = rectX;
+                closestY = rectY;
+                closestW = rect.getWidth();
+                closestH = rect.getHeight();
             }
         }
 
-        return colInfo;
+        Metrics.countQuery(candidates.size(), closest != null);
+        // don't keep references to the collidables after the query
+        candidates.clear();
+
+        if (closest == null) {
+            out.clear();
+        } else {
+            // calculate the contact point, sides and normal only for the closest collision
+            GeometryKernel.fillSweptHit(x0, y0, x1, y1, closestT, closestX, closestY, closestW, closestH, out);
+        }
+
+        return closest;
+    }
+
+    /**
+     * getClosestCollisionFixed: Assume an object is moving from (x0, y0) to (x1, y1), given as 16.16 fixed-point
+     * numbers (see Fixed). Find the closest collision that is going to occur with integer arithmetic only, so the
+     * result is the same on every platform (the collidables' rectangles are rounded to fixed-point numbers as well).
+     * Like the other queries, it can be called by several threads at once, as long as each one passes its own
+     * result holder.
+     *
+     * @param x0  the X value of the trajectory's start point
+     * @param y0  the Y value of the trajectory's start point
+     * @param x1  the X value of the trajectory's end point
+     * @param y1  the Y value of the trajectory's end point
+     * @param out the holder to fill with the closest collision's information (it's cleared if there's none)
+     * @return the collidable object involved in the closest collision; null if there's no collision
+     */
+    public Collidable getClosestCollisionFixed(int x0, int y0, int x1, int y1, FixedHit out) {
+        Collidable closest = null;
+        FixedHit hit = FIXED_HITS.get();
+        out.clear();
+
+        // get only the collidables that the trajectory passes near (the broad phase is conservative anyway)
+        List<Collidable> candidates = CANDIDATES.get();
+        candidates.clear();
+        double startX = Fixed.toDouble(x0);
+        double startY = Fixed.toDouble(y0);
+        double endX = Fixed.toDouble(x1);
+        double endY = Fixed.toDouble(y1);
+        this.movingTree.query(startX, startY, endX, endY, candidates);
+        this.index.query(startX, startY, endX, endY, candidates);
+
+        for (int i = 0; i < candidates.size(); i++) {
+            Collidable c = candidates.get(i);
+            Rectangle rect = c.getCollisionRectangle();
+            double rectX = rect.getUpperLeft().getX();
+            double rectY = rect.getUpperLeft().getY();
+
+            // find where the trajectory hits the rectangle (if at all)
+            if (!FixedKernel.segmentRectHit(x0, y0, x1, y1, Fixed.fromDouble(rectX), Fixed.fromDouble(rectY),
+                    Fixed.fromDouble(rectX + rect.getWidth()), Fixed.fromDouble(rectY + rect.getHeight()), hit)) {
+                continue;
+            }
+
+            // check if we found a closer collision (on a tie, the collidable that was added first wins)
+            if (closest == null || hit.isBefore(out) || (hit.isAt(out) && this.isAddedBefore(c, closest))) {
+                closest = c;
+                out.copyFrom(hit);
+            }
+        }
+
+        Metrics.countQuery(candidates.size(), closest != null);
+        // don't keep references to the collidables after the query
+        candidates.clear();
+
+        return closest;
+    }
+
+    /**
+     * isAddedBefore: tell whether a collidable was added to the environment before another one.
+     *
+     * @param c1 the first collidable
+     * @param c2 the second collidable
+     * @return true if c1 was added before c2; false otherwise
+     */
+    private boolean isAddedBefore(Collidable c1, Collidable c2) {
+        return this.insertionOrder.get(c1) < this.insertionOrder.get(c2);
     }
 
     /**
@@ -142,4 +495,4 @@ public class GameEnvironment {
         }
     }
 
-}
\ No newline at end of file
+}
@@ -6,9 +6,14 @@ import arkanoid.game.animation.GameLevel;
 import arkanoid.game.animation.HighScoresAnimation;
 import arkanoid.game.animation.KeyPressStoppableAnimation;
 import arkanoid.game.animation.EndScreen;
+import arkanoid.game.collision.CollisionMode;
 import arkanoid.game.highscores.HighScoresTable;
 import arkanoid.game.highscores.ScoreInfo;
 import arkanoid.game.levels.LevelInformation;
+import arkanoid.game.replay.ReplayRecorder;
+import arkanoid.game.simulation.InputSource;
+import arkanoid.game.simulation.KeyboardInput;
+import arkanoid.sprites.BallSystem;
 import arkanoid.util.Counter;
 import biuoop.DialogManager;
 import biuoop.KeyboardSensor;
@@ -20,9 +25,10 @@ import java.util.List;
  * Class Name: GameFlow.
  * <p>
  * This class represents level the game flow, i.e. moving from one level to the next one.
+ * With a replay recorder, every game is recorded, so it can be played again (see ReplayPlayer).
  *
  * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
- * @version 1.0.0
+ * @version 1.0.2
  * @since 25 May 2019
  */
 public class GameFlow {
@@ -35,6 +41,7 @@ public class GameFlow {
     private Counter score;
     private Counter lives;
     private HighScoresTable highscore;
+    private ReplayRecorder recorder;
 
     /**
      * Constructor.
@@ -50,6 +57,16 @@ public class GameFlow {
         this.lives = lives;
         this.score = new Counter();
         this.highscore = hs;
+        this.recorder = null;
+    }
+
+    /**
+     * setRecorder: set the recorder of the games.
+     *
+     * @param replayRecorder the recorder, or null to stop recording
+     */
+    public void setRecorder(ReplayRecorder replayRecorder) {
+        this.recorder = replayRecorder;
     }
 
     /**
@@ -58,18 +75,46 @@ public class GameFlow {
      * @param levels the list of level to run
      */
     public void runLevels(List<LevelInformation> levels) {
+        this.runLevels(levels, null);
+    }
+
+    /**
+     * runLevels: runs a game, level after level, and record it if there's a recorder.
+     *
+     * @param levels     the list of level to run
+     * @param levelsFile the levels file the levels were read from (needed for recording)
+     */
+    public void runLevels(List<LevelInformation> levels, String levelsFile) {
+        boolean isRecording = this.recorder != null && levelsFile != null;
+        InputSource input = new KeyboardInput(this.keyboardSensor);
+
+        if (isRecording) {
+            this.recorder.begin(levelsFile, this.lives.getValue(), CollisionMode.fromSystemProperty(),
+                    Boolean.getBoolean(BallSystem.COLLISIONS_PROPERTY));
+            input = this.recorder.record(input);
+        }
 
-        for (LevelInformation levelInfo : levels) {
+        for (int i = 0; i < levels.size(); i++) {
+            LevelInformation levelInfo = levels.get(i);
 
             Counter blocks = new Counter();
-            GameLevel level = new GameLevel(levelInfo, this.keyboardSensor, this.animationRunner, this.lives,
+            GameLevel level = new GameLevel(levelInfo, input, this.keyboardSensor, this.animationRunner, this.lives,
                     this.score, blocks);
+            if (isRecording) {
+                level.getSimulation().setSeed(this.recorder.levelSeed(i));
+            }
             level.initialize();
 
             // play the same level over and over again as long as the player still has lives left
             while (this.lives.getValue() > 0) {
+                long ticksBefore = level.getSimulation().getTicks();
                 level.playOneTurn();
 
+                if (isRecording) {
+                    this.recorder.endTurn(level.getSimulation().getTicks() - ticksBefore, this.score.getValue(),
+                            blocks.getValue());
+                }
+
                 // if no blocks are left - move to the next level
                 if (blocks.getValue() == 0) {
                     // if all blocks are dead by now, add 100 to the score
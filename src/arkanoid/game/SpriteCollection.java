@@ -1,8 +1,12 @@
 package arkanoid.game;
 
+import arkanoid.game.metrics.Metrics;
+import arkanoid.game.render.DamageTracker;
+import arkanoid.sprites.Damageable;
+import arkanoid.sprites.InterpolatedSprite;
 import arkanoid.sprites.Sprite;
+import arkanoid.util.TombstoneList;
 import java.util.List;
-import java.util.ArrayList;
 import biuoop.DrawSurface;
 
 /**
@@ -11,20 +15,37 @@ import biuoop.DrawSurface;
  * SpriteCollection class represents a collection of sprite objects
  * This class can tell all the sprite objects to draw themselves on the screen, it can notify them that time has
  * passed so they should do something, it can add more sprites, etc.
+ * Removing a sprite takes O(1) and leaves a hole in its place, so sprites can be removed (e.g. by hit listeners)
+ * while time passes; the holes are squeezed out once it has passed, so the drawing order is kept.
  *
  * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
- * @version 1.0.2
+ * @version 1.0.7
  * @since 11 May 2019
  */
 public class SpriteCollection {
 
-    private List<Sprite> spritesList;
+    private TombstoneList<Sprite> spritesList;
+    // whether the sprites are being notified that time has passed (the holes can't be squeezed out in the middle)
+    private boolean isNotifying;
+    // the tracker that is told where removed sprites were drawn (null if nothing tracks the damage)
+    private DamageTracker damage;
 
     /**
      * Constructor.
      */
     public SpriteCollection() {
-        this.spritesList = new ArrayList<>();
+        this.spritesList = new TombstoneList<>();
+        this.isNotifying = false;
+        this.damage = null;
+    }
+
+    /**
+     * setDamageTracker: set the tracker that is told where removed sprites were drawn.
+     *
+     * @param tracker the tracker of the damaged regions, or null
+     */
+    public void setDamageTracker(DamageTracker tracker) {
+        this.damage = tracker;
     }
 
     /**
@@ -42,16 +63,46 @@ public class SpriteCollection {
      * @param s a sprite to remove
      */
     public void removeSprite(Sprite s) {
-        this.spritesList.remove(s);
+        if (this.spritesList.remove(s) && this.damage != null) {
+            // what it covered must be repainted
+            if (s instanceof Damageable) {
+                ((Damageable) s).reportRemoval(this.damage);
+            } else {
+                this.damage.addAll();
+            }
+        }
     }
 
     /**
      * notifyAllTimePassed: call timePassed() on all sprites in the sprites list.
      */
     public void notifyAllTimePassed() {
-        for (int i = 0; i < this.spritesList.size(); i++) {
-            this.spritesList.get(i).timePassed();
+        long start = Metrics.start();
+        this.isNotifying = true;
+
+        // sprites that are added on the way are notified too, and the removed ones leave holes behind
+        for (int i = 0; i < this.spritesList.slotsNum(); i++) {
+            Sprite sp = this.spritesList.get(i);
+            if (sp != null) {
+                sp.timePassed();
+            }
         }
+
+        this.isNotifying = false;
+        this.spritesList.compact();
+        Metrics.recordTimePassed(start);
+    }
+
+    /**
+     * getSprites: get the sprites, in their drawing order.
+     *
+     * @return the sprites list
+     */
+    public List<Sprite> getSprites() {
+        if (this.isNotifying) {
+            throw new RuntimeException("The sprites can't be listed while time passes.");
+        }
+        return this.spritesList.asList();
     }
 
     /**
@@ -61,9 +112,34 @@ public class SpriteCollection {
      * @param surface the surface to draw on
      */
     public void drawAllOn(DrawSurface surface) {
-        for (Sprite sp : this.spritesList) {
+        long start = Metrics.start();
+
+        for (Sprite sp : this.getSprites()) {
             sp.drawOn(surface);
         }
+
+        Metrics.recordDraw(start);
+    }
+
+    /**
+     * drawAllOn: draw all the sprites on the screen, with the moving ones in between their previous and current
+     * positions.
+     *
+     * @param surface the surface to draw on
+     * @param alpha   0 draws the moving sprites at their previous positions, 1 at their current positions
+     */
+    public void drawAllOn(DrawSurface surface, double alpha) {
+        long start = Metrics.start();
+
+        for (Sprite sp : this.getSprites()) {
+            if (sp instanceof InterpolatedSprite) {
+                ((InterpolatedSprite) sp).drawOn(surface, alpha);
+            } else {
+                sp.drawOn(surface);
+            }
+        }
+
+        Metrics.recordDraw(start);
     }
 
 }
\ No newline at end of file
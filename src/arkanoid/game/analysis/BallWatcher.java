@@ -0,0 +1,221 @@
+package arkanoid.game.analysis;
+
+import arkanoid.game.simulation.Simulation;
+import arkanoid.listeners.BatchHitListener;
+import arkanoid.listeners.HitEventBus;
+import arkanoid.listeners.HitType;
+import arkanoid.sprites.BallSystem;
+
+import java.util.Arrays;
+
+/**
+ * Class Name: BallWatcher.
+ * <p>
+ * BallWatcher class follows every ball of a simulation, tick by tick, and counts how the balls spend their time: how
+ * many blocks they hit, how many times they came back to the paddle, and for how many ticks they were looping - i.e.
+ * flew for longer than a loop limit without hitting a block.
+ * A looping ball is ping-ponging if it came back to the paddle since its last block hit (e.g. it bounces between the
+ * paddle and a gap in the blocks), and stuck if it didn't (e.g. it's trapped between the walls and a terrace of
+ * blocks).
+ * <p>
+ * The block hits come from the world's hit event bus, and the rest is read from the ball system after every tick (see
+ * afterTick). The watcher keeps its own state per slot, and sweeps out the removed balls the same way the ball system
+ * does, so its slots always match the system's.
+ *
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.0
+ * @since 18 October 2026
+ */
+public class BallWatcher implements BatchHitListener {
+    public static final int DEFAULT_CAPACITY = 16;
+
+    private Simulation world;
+    private BallSystem balls;
+    private int loopTicks;
+    // the state of every slot: the ticks since its last block hit, its returns to the paddle since then, and its last
+    // delta y
+    private int[] idleTicks;
+    private int[] paddleReturns;
+    private double[] lastDY;
+    // the slots whose balls were removed by the last tick, which the ball system sweeps out on the next one
+    private boolean[] isGone;
+    private boolean isSweepPending;
+    private int known;
+    // the totals
+    private long served;
+    private long blockHits;
+    private long paddleHits;
+    private long ballTicks;
+    private long stuckTicks;
+    private long pingPongTicks;
+
+    /**
+     * Constructor.
+     *
+     * @param simulation the world to watch
+     * @param loopLimit  the number of ticks without a block hit after which a ball is looping
+     */
+    public BallWatcher(Simulation simulation, int loopLimit) {
+        this.world = simulation;
+        this.balls = simulation.getBalls();
+        this.loopTicks = loopLimit;
+        this.idleTicks = new int[DEFAULT_CAPACITY];
+        this.paddleReturns = new int[DEFAULT_CAPACITY];
+        this.lastDY = new double[DEFAULT_CAPACITY];
+        this.isGone = new boolean[DEFAULT_CAPACITY];
+        this.isSweepPending = false;
+        this.known = 0;
+        simulation.getEvents().addBatchListener(this);
+    }
+
+    /**
+     * hitEvents: count the block hits of a tick, and restart the loop of the balls that hit them.
+     *
+     * @param events the bus, holding the batch of the hit events
+     */
+    public void hitEvents(HitEventBus events) {
+        this.sync();
+
+        for (int i = 0; i < events.batchSize(); i++) {
+            if (events.getType(i) != HitType.BLOCK_HIT) {
+                continue;
+            }
+
+            this.blockHits++;
+            int slot = this.balls.slotOf(events.getHitter(i));
+            if (slot != BallSystem.NO_BALL && slot < this.known) {
+                this.idleTicks[slot] = 0;
+                this.paddleReturns[slot] = 0;
+            }
+        }
+    }
+
+    /**
+     * afterTick: count the tick of every ball that is still in play. It must be called after every tick.
+     */
+    public void afterTick() {
+        this.sync();
+        double paddleTop = this.world.getPaddle().getCollisionRectangle().getUpperLeft().getY();
+
+        for (int i = 0; i < this.known; i++) {
+            this.isGone[i] = this.balls.isRemoved(i);
+            if (this.isGone[i]) {
+                continue;
+            }
+
+            // the ball turned up near the paddle, so it bounced off it
+            double dy = this.balls.getDY(i);
+            if (this.lastDY[i] > 0 && dy < 0
+                    && this.balls.getY(i) >= paddleTop - this.balls.getRadius(i) - this.lastDY[i]) {
+                this.paddleHits++;
+                this.paddleReturns[i]++;
+            }
+            this.lastDY[i] = dy;
+
+            this.ballTicks++;
+            this.idleTicks[i]++;
+            if (this.idleTicks[i] > this.loopTicks) {
+                if (this.paddleReturns[i] > 0) {
+                    this.pingPongTicks++;
+                } else {
+                    this.stuckTicks++;
+                }
+            }
+        }
+
+        this.isSweepPending = true;
+    }
+
+    /**
+     * sync: catch up with the ball system: sweep out the balls that were removed by the last tick (if the system
+     * already did), then start following the balls that were added since.
+     */
+    private void sync() {
+        if (this.isSweepPending) {
+            this.isSweepPending = false;
+
+            int kept = 0;
+            for (int i = 0; i < this.known; i++) {
+                if (this.isGone[i]) {
+                    continue;
+                }
+                this.idleTicks[kept] = this.idleTicks[i];
+                this.paddleReturns[kept] = this.paddleReturns[i];
+                this.lastDY[kept] = this.lastDY[i];
+                kept++;
+            }
+            this.known = kept;
+        }
+
+        int slots = this.balls.slotsNum();
+        if (slots > this.idleTicks.length) {
+            int capacity = Math.max(slots, this.idleTicks.length * 2);
+            this.idleTicks = Arrays.copyOf(this.idleTicks, capacity);
+            this.paddleReturns = Arrays.copyOf(this.paddleReturns, capacity);
+            this.lastDY = Arrays.copyOf(this.lastDY, capacity);
+            this.isGone = Arrays.copyOf(this.isGone, capacity);
+        }
+
+        for (; this.known < slots; this.known++) {
+            this.idleTicks[this.known] = 0;
+            this.paddleReturns[this.known] = 0;
+            this.lastDY[this.known] = this.balls.getDY(this.known);
+            this.isGone[this.known] = false;
+            this.served++;
+        }
+    }
+
+    /**
+     * getServed: get the number of balls that were put in play.
+     *
+     * @return the number of balls
+     */
+    public long getServed() {
+        return this.served;
+    }
+
+    /**
+     * getBlockHits: get the number of block hits.
+     *
+     * @return the number of block hits
+     */
+    public long getBlockHits() {
+        return this.blockHits;
+    }
+
+    /**
+     * getPaddleHits: get the number of times a ball bounced off the paddle.
+     *
+     * @return the number of paddle hits
+     */
+    public long getPaddleHits() {
+        return this.paddleHits;
+    }
+
+    /**
+     * getBallTicks: get the number of ticks of all the balls (a tick with two balls in play counts twice).
+     *
+     * @return the number of ball ticks
+     */
+    public long getBallTicks() {
+        return this.ballTicks;
+    }
+
+    /**
+     * getStuckTicks: get the number of ball ticks in which a ball was looping without returning to the paddle.
+     *
+     * @return the number of stuck ball ticks
+     */
+    public long getStuckTicks() {
+        return this.stuckTicks;
+    }
+
+    /**
+     * getPingPongTicks: get the number of ball ticks in which a ball was looping between the paddle and the blocks.
+     *
+     * @return the number of ping-pong ball ticks
+     */
+    public long getPingPongTicks() {
+        return this.pingPongTicks;
+    }
+}
@@ -0,0 +1,291 @@
+package arkanoid.game.analysis;
+
+import arkanoid.Ass7Game;
+import arkanoid.game.GameFlow;
+import arkanoid.game.animation.GameLevel;
+import arkanoid.game.bots.Bots;
+import arkanoid.game.bots.GameResult;
+import arkanoid.game.bots.TournamentRunner;
+import arkanoid.game.levels.CompiledLevelReader;
+import arkanoid.game.levels.LevelInformation;
+import arkanoid.game.levels.LevelSet;
+import arkanoid.game.levels.LevelSpecificationReader;
+import arkanoid.game.simulation.PaddleController;
+import arkanoid.game.simulation.ScriptedInput;
+import arkanoid.game.simulation.Simulation;
+import arkanoid.util.Counter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * Class Name: LevelAnalyzer.
+ * <p>
+ * This class tells level designers how hard their levels are: it plays every level of a level set many times without
+ * a GUI, on all the cores, with a randomised model of a player (RandomBot, by default), and reports per level the
+ * clear rate and the expected time to clear it, how many blocks a ball hits on average before it's lost, and the part
+ * of the balls' time they spend stuck or ping-ponging without hitting a block (see LevelReport).
+ * It's meant to run on every change of a levels file (e.g. -f definitions/my_level.txt), so by default it plays short
+ * games: a level that isn't cleared within the ticks limit counts as not cleared.
+ * Game number i of every level is seeded with seed + i, so an analysis gives the same report every time.
+ * <p>
+ * Usage: LevelAnalyzer [-s levelSetsFile] [-k setKey] [-f levelsFile] [-b bot] [-n games] [-t threads] [-l lives]
+ * [-m maxTicks] [-loop loopSeconds] [-seed seed] [-o outputFile]
+ *
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.0
+ * @since 18 October 2026
+ */
+public class LevelAnalyzer {
+    public static final int DEFAULT_GAMES = 200;
+    public static final int DEFAULT_LIVES = Ass7Game.LIVES;
+    // two minutes of play
+    public static final long DEFAULT_MAX_TICKS = 2L * 60 * GameLevel.FRAMES_PER_SECOND;
+    // a ball that hits no block for five seconds is looping
+    public static final int DEFAULT_LOOP_SECONDS = 5;
+    public static final long DEFAULT_SEED = 1;
+    public static final double NANOS_PER_SECOND = 1000000000.0;
+
+    private String levelSetsFile = Ass7Game.LEVEL_SETS;
+    private String setKey = null;
+    private String levelsFile = null;
+    private String bot = Bots.RANDOM;
+    private int games = DEFAULT_GAMES;
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private int lives = DEFAULT_LIVES;
+    private long maxTicks = DEFAULT_MAX_TICKS;
+    private int loopTicks = DEFAULT_LOOP_SECONDS * GameLevel.FRAMES_PER_SECOND;
+    private long seed = DEFAULT_SEED;
+    private String output = null;
+
+    /**
+     * main: analyze the levels.
+     *
+     * @param args the command-line options
+     */
+    public static void main(String[] args) {
+        LevelAnalyzer analyzer = new LevelAnalyzer();
+        analyzer.parseArgs(args);
+
+        try {
+            analyzer.run();
+        } catch (IOException | InterruptedException | ExecutionException | RuntimeException e) {
+            System.err.println("The analysis failed: " + e);
+            System.exit(-1);
+        }
+    }
+
+    /**
+     * parseArgs: read the command-line options.
+     *
+     * @param args the command-line options
+     */
+    private void parseArgs(String[] args) {
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "-s":
+                    this.levelSetsFile = value;
+                    break;
+                case "-k":
+                    this.setKey = value;
+                    break;
+                case "-f":
+                    this.levelsFile = value;
+                    break;
+                case "-b":
+                    this.bot = value;
+                    break;
+                case "-n":
+                    this.games = Integer.parseInt(value);
+                    break;
+                case "-t":
+                    this.threads = Integer.parseInt(value);
+                    break;
+                case "-l":
+                    this.lives = Integer.parseInt(value);
+                    break;
+                case "-m":
+                    this.maxTicks = Long.parseLong(value);
+                    break;
+                case "-loop":
+                    this.loopTicks = (int) (Double.parseDouble(value) * GameLevel.FRAMES_PER_SECOND);
+                    break;
+                case "-seed":
+                    this.seed = Long.parseLong(value);
+                    break;
+                case "-o":
+                    this.output = value;
+                    break;
+                default:
+                    usage();
+            }
+        }
+
+        if (args.length % 2 != 0 || this.games <= 0 || this.threads <= 0 || this.lives <= 0 || this.maxTicks <= 0
+                || this.loopTicks <= 0) {
+            usage();
+        }
+
+        // fail on an unknown bot before anything is played
+        Bots.factory(this.bot);
+    }
+
+    /**
+     * usage: print the usage and exit.
+     */
+    private static void usage() {
+        System.err.println("Usage: LevelAnalyzer [-s levelSetsFile] [-k setKey] [-f levelsFile] [-b bot] [-n games]"
+                + " [-t threads] [-l lives] [-m maxTicks] [-loop loopSeconds] [-seed seed] [-o outputFile]");
+        System.err.println("Bots: " + Bots.names());
+        System.exit(-1);
+    }
+
+    /**
+     * run: play all the games and report the levels.
+     *
+     * @throws IOException          if the output file can't be written
+     * @throws InterruptedException if the analysis was interrupted
+     * @throws ExecutionException   if a game failed
+     */
+    private void run() throws IOException, InterruptedException, ExecutionException {
+        List<LevelSet> sets = TournamentRunner.levelSets(this.levelSetsFile, this.setKey, this.levelsFile);
+        Supplier<PaddleController> player = Bots.factory(this.bot);
+        ExecutorService pool = Executors.newFixedThreadPool(this.threads);
+        List<LevelReport> reports = new ArrayList<>();
+        List<List<Future<?>>> results = new ArrayList<>();
+        long start = System.nanoTime();
+
+        try {
+            // queue all the games at once, so the cores never wait for a level to end
+            for (LevelSet set : sets) {
+                for (LevelInformation level : LevelSpecificationReader.getReader(set.getPath())) {
+                    LevelReport report = new LevelReport(set.getName(), level.levelName(), this.games);
+                    reports.add(report);
+                    results.add(this.submitGames(pool, TournamentRunner.compile(level), player, report));
+                }
+            }
+
+            System.out.printf("%d levels x %d games of %s on %d threads (lives %d, max %d ticks, seed %d)%n",
+                    reports.size(), this.games, this.bot, this.threads, this.lives, this.maxTicks, this.seed);
+
+            long ballTicks = 0;
+            for (int i = 0; i < reports.size(); i++) {
+                for (Future<?> result : results.get(i)) {
+                    result.get();
+                }
+                ballTicks += reports.get(i).getBallTicks();
+                System.out.println(reports.get(i).toText());
+            }
+
+            double seconds = (System.nanoTime() - start) / NANOS_PER_SECOND;
+            int played = reports.size() * this.games;
+            System.out.printf("%d games (%d ball ticks) in %.1f s - %.0f games/min%n", played, ballTicks, seconds,
+                    played / seconds * 60);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        if (this.output != null) {
+            this.write(reports);
+        }
+    }
+
+    /**
+     * submitGames: queue the games of a level.
+     *
+     * @param pool     the threads that play the games
+     * @param compiled the compiled level
+     * @param player   creates the player of every game
+     * @param report   the level's report, which every game is added to
+     * @return the games' futures, in the order of their seeds
+     */
+    private List<Future<?>> submitGames(ExecutorService pool, byte[] compiled, Supplier<PaddleController> player,
+                                        LevelReport report) {
+        List<Future<?>> futures = new ArrayList<>(this.games);
+
+        for (int i = 0; i < this.games; i++) {
+            long gameSeed = this.seed + i;
+            futures.add(pool.submit(() -> this.play(compiled, player.get(), gameSeed, report)));
+        }
+
+        return futures;
+    }
+
+    /**
+     * play: play a single game of a level, the same way GameFlow plays a level, and add it to the level's report.
+     *
+     * @param compiled   the compiled level
+     * @param controller the player that drives the paddle
+     * @param gameSeed   the seed of the world
+     * @param report     the level's report
+     */
+    private void play(byte[] compiled, PaddleController controller, long gameSeed, LevelReport report) {
+        LevelInformation level = CompiledLevelReader.decode(ByteBuffer.wrap(compiled)).get(0);
+        Counter livesLeft = new Counter(this.lives);
+        Counter score = new Counter();
+        Counter blocks = new Counter();
+
+        // nobody presses a key, the player drives the paddle
+        Simulation simulation = new Simulation(level, new ScriptedInput(), livesLeft, score, blocks);
+        simulation.setController(controller);
+        simulation.setSeed(gameSeed);
+        // the games already run on all the cores, so every game moves its balls on its own thread
+        simulation.getBalls().setPool(null);
+        simulation.initialize();
+        BallWatcher watcher = new BallWatcher(simulation, this.loopTicks);
+        GameResult result = null;
+
+        while (result == null) {
+            // play a turn, and watch the balls after every tick
+            simulation.createBallsOnTopOfPaddle();
+            while (!simulation.isTurnOver() && simulation.getTicks() < this.maxTicks) {
+                simulation.tick();
+                watcher.afterTick();
+            }
+
+            if (blocks.getValue() == 0) {
+                // the level is cleared
+                score.increase(GameFlow.LEVEL_COMPLETE_SCORE);
+                result = new GameResult(true, false, score.getValue(), simulation.getTicks());
+            } else if (simulation.getTicks() >= this.maxTicks) {
+                result = new GameResult(false, true, score.getValue(), simulation.getTicks());
+            } else {
+                // all the balls fell, so a life is lost
+                livesLeft.decrease(1);
+                if (livesLeft.getValue() == 0) {
+                    result = new GameResult(false, false, score.getValue(), simulation.getTicks());
+                }
+            }
+        }
+
+        report.add(result, watcher, level.numberOfBlocksToRemove(), blocks.getValue());
+    }
+
+    /**
+     * write: append the reports to the output file, one JSON object per level and line.
+     *
+     * @param reports the reports
+     * @throws IOException if the file can't be written
+     */
+    private void write(List<LevelReport> reports) throws IOException {
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(Paths.get(this.output), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND))) {
+            for (LevelReport report : reports) {
+                out.println(report.toJson());
+            }
+        }
+    }
+}
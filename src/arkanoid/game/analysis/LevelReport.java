@@ -0,0 +1,230 @@
+package arkanoid.game.analysis;
+
+import arkanoid.game.animation.GameLevel;
+import arkanoid.game.bots.GameResult;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Class Name: LevelReport.
+ * <p>
+ * LevelReport class sums up the simulated games of a single level: how often and how fast the level is cleared, how
+ * much of it is cleared in the games that aren't, how many blocks a ball hits on average before it's lost, and the
+ * part of the balls' time that they spend looping - stuck among the blocks or ping-ponging with the paddle (see
+ * BallWatcher).
+ * Games of the same level may be added from several threads at once. Every total is an integer, so the report is the
+ * same whatever order the games end in.
+ *
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.0
+ * @since 18 October 2026
+ */
+public class LevelReport {
+    public static final double MEDIAN = 50;
+    public static final double HIGH = 90;
+
+    private String levelSet;
+    private String level;
+    private int games;
+    private int wins;
+    private int timeouts;
+    // the ticks of the won games
+    private long[] clearTicks;
+    private long blocks;
+    private long blocksCleared;
+    private long served;
+    private long blockHits;
+    private long paddleHits;
+    private long ballTicks;
+    private long stuckTicks;
+    private long pingPongTicks;
+
+    /**
+     * Constructor.
+     *
+     * @param setName   the level set's name
+     * @param levelName the level's name
+     * @param capacity  the number of games that are expected
+     */
+    public LevelReport(String setName, String levelName, int capacity) {
+        this.levelSet = setName;
+        this.level = levelName;
+        this.clearTicks = new long[capacity];
+    }
+
+    /**
+     * add: count a game.
+     *
+     * @param result     the game's outcome
+     * @param watcher    the watcher of the game's balls
+     * @param blocksNum  the number of blocks to remove in the level
+     * @param blocksLeft the number of blocks that were left at the end of the game
+     */
+    public synchronized void add(GameResult result, BallWatcher watcher, int blocksNum, int blocksLeft) {
+        this.games++;
+        if (result.isWon()) {
+            if (this.wins == this.clearTicks.length) {
+                this.clearTicks = Arrays.copyOf(this.clearTicks, this.wins * 2 + 1);
+            }
+            this.clearTicks[this.wins++] = result.getTicks();
+        } else if (result.isTimedOut()) {
+            this.timeouts++;
+        }
+
+        this.blocks += blocksNum;
+        this.blocksCleared += blocksNum - blocksLeft;
+        this.served += watcher.getServed();
+        this.blockHits += watcher.getBlockHits();
+        this.paddleHits += watcher.getPaddleHits();
+        this.ballTicks += watcher.getBallTicks();
+        this.stuckTicks += watcher.getStuckTicks();
+        this.pingPongTicks += watcher.getPingPongTicks();
+    }
+
+    /**
+     * getBallTicks: get the number of ticks of all the balls of all the games.
+     *
+     * @return the number of ball ticks
+     */
+    public synchronized long getBallTicks() {
+        return this.ballTicks;
+    }
+
+    /**
+     * toText: describe the games as a line of text.
+     *
+     * @return the line of text
+     */
+    public synchronized String toText() {
+        long[] sorted = this.sortedClearTicks();
+
+        return format("%-26s %5d games  clear %5.1f%% (%4.1f%% of blocks)  clear time mean/p50/p90 %s/%s/%s s  "
+                        + "hits/ball %6.1f  stuck %5.1f%%  ping-pong %5.1f%%", this.level, this.games,
+                part(this.wins, this.games) * 100, part(this.blocksCleared, this.blocks) * 100,
+                this.meanClearSeconds(sorted), seconds(sorted, MEDIAN), seconds(sorted, HIGH),
+                part(this.blockHits, this.served), part(this.stuckTicks, this.ballTicks) * 100,
+                part(this.pingPongTicks, this.ballTicks) * 100);
+    }
+
+    /**
+     * toJson: describe the games as a single-line JSON object (the times are in seconds of play).
+     *
+     * @return the JSON line
+     */
+    public synchronized String toJson() {
+        long[] sorted = this.sortedClearTicks();
+        String mean = this.meanClearSeconds(sorted);
+
+        return format("{\"levelSet\":%s,\"level\":%s,\"games\":%d,\"wins\":%d,\"clearRate\":%.4f,\"timeouts\":%d,"
+                        + "\"blocksClearedPart\":%.4f,\"clearSeconds\":{\"mean\":%s,\"p50\":%s,\"p90\":%s},"
+                        + "\"ballsServed\":%d,\"hitsPerBall\":%.2f,\"paddleHitsPerBall\":%.2f,"
+                        + "\"stuckPart\":%.4f,\"pingPongPart\":%.4f}",
+                quote(this.levelSet), quote(this.level), this.games, this.wins, part(this.wins, this.games),
+                this.timeouts, part(this.blocksCleared, this.blocks), mean.equals("-") ? "null" : mean,
+                jsonSeconds(sorted, MEDIAN), jsonSeconds(sorted, HIGH), this.served,
+                part(this.blockHits, this.served), part(this.paddleHits, this.served),
+                part(this.stuckTicks, this.ballTicks), part(this.pingPongTicks, this.ballTicks));
+    }
+
+    /**
+     * sortedClearTicks: get the ticks of the won games, sorted.
+     *
+     * @return the sorted ticks
+     */
+    private long[] sortedClearTicks() {
+        long[] sorted = Arrays.copyOf(this.clearTicks, this.wins);
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    /**
+     * meanClearSeconds: get the mean time it took to clear the level, in seconds of play.
+     *
+     * @param sorted the sorted ticks of the won games
+     * @return the mean seconds as text; "-" if no game was won
+     */
+    private String meanClearSeconds(long[] sorted) {
+        if (sorted.length == 0) {
+            return "-";
+        }
+
+        long total = 0;
+        for (long ticks : sorted) {
+            total += ticks;
+        }
+        return format("%.1f", (double) total / sorted.length / GameLevel.FRAMES_PER_SECOND);
+    }
+
+    /**
+     * part: divide two totals.
+     *
+     * @param some  the part's total
+     * @param whole the whole's total
+     * @return the part, or 0 if the whole is empty
+     */
+    private static double part(long some, long whole) {
+        return (whole == 0) ? 0 : (double) some / whole;
+    }
+
+    /**
+     * seconds: get a percentile of sorted ticks, in seconds of play.
+     *
+     * @param sorted  the sorted ticks
+     * @param percent the percentile, from 0 to 100
+     * @return the seconds at the percentile as text; "-" if there are no ticks
+     */
+    private static String seconds(long[] sorted, double percent) {
+        if (sorted.length == 0) {
+            return "-";
+        }
+        return format("%.1f", (double) sorted[rank(sorted.length, percent)] / GameLevel.FRAMES_PER_SECOND);
+    }
+
+    /**
+     * jsonSeconds: get a percentile of sorted ticks, in seconds of play, as a JSON value.
+     *
+     * @param sorted  the sorted ticks
+     * @param percent the percentile, from 0 to 100
+     * @return the seconds at the percentile; null if there are no ticks
+     */
+    private static String jsonSeconds(long[] sorted, double percent) {
+        if (sorted.length == 0) {
+            return "null";
+        }
+        return format("%.2f", (double) sorted[rank(sorted.length, percent)] / GameLevel.FRAMES_PER_SECOND);
+    }
+
+    /**
+     * rank: get the index of a percentile in a sorted array (by the nearest rank).
+     *
+     * @param length  the array's length
+     * @param percent the percentile, from 0 to 100
+     * @return the index
+     */
+    private static int rank(int length, double percent) {
+        int index = (int) Math.ceil(percent / 100 * length) - 1;
+        return Math.max(0, Math.min(length - 1, index));
+    }
+
+    /**
+     * format: format numbers the same way on every machine (e.g. with a decimal point, never a comma).
+     *
+     * @param pattern the format pattern
+     * @param args    the arguments
+     * @return the formatted string
+     */
+    private static String format(String pattern, Object... args) {
+        return String.format(Locale.ROOT, pattern, args);
+    }
+
+    /**
+     * quote: quote a string as a JSON string.
+     *
+     * @param s the string
+     * @return the quoted string
+     */
+    private static String quote(String s) {
+        return "\"" + s.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+}
@@ -1,5 +1,6 @@
 package arkanoid.game.animation;
 
+import arkanoid.game.metrics.Metrics;
 import biuoop.DrawSurface;
 import biuoop.GUI;
 import biuoop.Sleeper;
@@ -7,15 +8,25 @@ import biuoop.Sleeper;
 /**
  * Class: AnimationRunner.
  * This class runs animations.
+ * Every frame's update and render phases are timed (see Metrics), and the metrics overlay is drawn on top of it.
  *
  * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
- * @version 1.0.0
+ * @version 1.0.2
  * @since 24 May 2019
  */
 public class AnimationRunner {
+    public static final long NANOS_PER_SECOND = 1000000000L;
+    public static final long NANOS_PER_MILLI = 1000000L;
+    // the maximum number of logic steps in a single frame; beyond that, the game slows down instead of freezing
+    public static final int MAX_STEPS_PER_FRAME = 5;
+    // how long before a frame's deadline the runner stops sleeping and starts spinning (sleep is coarse)
+    public static final long SPIN_NANOS = 2 * NANOS_PER_MILLI;
+
     private GUI gui;
     private Sleeper sleeper;
     private int framesPerSecond;
+    // counts the calls to run, so a running loop knows that another animation (e.g. pause) ran in the middle of it
+    private long runs;
 
     /**
      * Constructor.
@@ -27,6 +38,7 @@ public class AnimationRunner {
         this.gui = animationGui;
         this.sleeper = animationSleeper;
         this.framesPerSecond = GameLevel.FRAMES_PER_SECOND;
+        this.runs = 0;
     }
 
     /**
@@ -35,22 +47,132 @@ public class AnimationRunner {
      * @param animation the animation (game)
      */
     public void run(Animation animation) {
-        int millisecondsPerFrame = 1000 / this.framesPerSecond;
+        this.runs++;
+        // the frames are counted by the animation that shows them, until it stops
+        String previousScreen = Metrics.setScreen(animation.getClass().getSimpleName());
+
+        if (animation instanceof FixedStepAnimation) {
+            this.runFixedStep((FixedStepAnimation) animation);
+        } else {
+            this.runFrames(animation);
+        }
+
+        Metrics.setScreen(previousScreen);
+    }
+
+    /**
+     * runFrames: runs the loop of an animation that does everything in its frames.
+     *
+     * @param animation the animation
+     */
+    private void runFrames(Animation animation) {
+        long nanosPerFrame = NANOS_PER_SECOND / this.framesPerSecond;
+        long deadline = System.nanoTime();
 
         while (!animation.shouldStop()) {
-            long startTime = System.currentTimeMillis();
+            long start = Metrics.start();
             DrawSurface d = this.gui.getDrawSurface();
 
-            // show one frame
+            // show one frame (it's all counted as rendering, since the frame can't be split)
             animation.doOneFrame(d);
-
+            Metrics.drawOverlay(d);
             this.gui.show(d);
-            long usedTime = System.currentTimeMillis() - startTime;
-            long milliSecondLeftToSleep = millisecondsPerFrame - usedTime;
-            if (milliSecondLeftToSleep > 0) {
-                this.sleeper.sleepFor(milliSecondLeftToSleep);
+            Metrics.recordRender(start);
+            Metrics.endFrame();
+
+            // wait for the frame's deadline (deadlines are absolute, so oversleeping doesn't add up)
+            deadline = this.nextDeadline(deadline, nanosPerFrame);
+            this.sleepUntil(deadline);
+        }
+    }
+
+    /**
+     * runFixedStep: runs the loop of an animation with fixed time steps.
+     * The time that passed since the last frame is accumulated, and the animation is stepped once for every full
+     * time step in it; whatever is left over is used to draw the animation in between two steps.
+     *
+     * @param animation the animation
+     */
+    private void runFixedStep(FixedStepAnimation animation) {
+        long nanosPerStep = NANOS_PER_SECOND / this.framesPerSecond;
+        long runsBefore = this.runs;
+        long previous = System.nanoTime();
+        long deadline = previous;
+        long accumulator = 0;
+
+        while (!animation.shouldStop()) {
+            long now = System.nanoTime();
+            // don't try to catch up with more than a few steps (e.g. after the window was dragged)
+            accumulator += Math.min(now - previous, MAX_STEPS_PER_FRAME * nanosPerStep);
+            previous = now;
+
+            // advance the logic in fixed steps
+            long start = Metrics.start();
+            while (accumulator >= nanosPerStep && !animation.shouldStop()) {
+                animation.step();
+                accumulator -= nanosPerStep;
+
+                // another animation ran in the middle of the step (e.g. pause), so start counting time all over
+                if (this.runs != runsBefore) {
+                    runsBefore = this.runs;
+                    start = Metrics.start();
+                    previous = System.nanoTime();
+                    deadline = previous;
+                    accumulator = 0;
+                    break;
+                }
             }
 
+            Metrics.recordUpdate(start);
+
+            // show one frame, in between the last two steps
+            start = Metrics.start();
+            DrawSurface d = this.gui.getDrawSurface();
+            animation.render(d, (double) accumulator / nanosPerStep);
+            Metrics.drawOverlay(d);
+            this.gui.show(d);
+            Metrics.recordRender(start);
+            Metrics.endFrame();
+
+            // wait for the frame's deadline
+            deadline = this.nextDeadline(deadline, nanosPerStep);
+            this.sleepUntil(deadline);
+        }
+    }
+
+    /**
+     * nextDeadline: calculate the deadline of the next frame.
+     * If the loop fell more than a frame behind, the deadlines start over from now instead of rushing frames.
+     *
+     * @param deadline      the deadline of the current frame
+     * @param nanosPerFrame the length of a frame
+     * @return the deadline of the next frame
+     */
+    private long nextDeadline(long deadline, long nanosPerFrame) {
+        long next = deadline + nanosPerFrame;
+        long now = System.nanoTime();
+
+        if (now - next > nanosPerFrame) {
+            return now;
+        }
+        return next;
+    }
+
+    /**
+     * sleepUntil: wait until a deadline: sleep for most of the time and spin for the rest, since sleeping can't be
+     * precise.
+     *
+     * @param deadline the deadline (in System.nanoTime terms)
+     */
+    private void sleepUntil(long deadline) {
+        long left = deadline - System.nanoTime();
+
+        if (left > SPIN_NANOS) {
+            this.sleeper.sleepFor((left - SPIN_NANOS) / NANOS_PER_MILLI);
+        }
+
+        while (deadline - System.nanoTime() > 0) {
+            Thread.yield();
         }
     }
 
@@ -1,10 +1,8 @@
 package arkanoid.game.animation;
 
-import arkanoid.geometry.Point;
-import arkanoid.sprites.Block;
+import arkanoid.sprites.Background;
 import arkanoid.util.Counter;
 import biuoop.DrawSurface;
-import java.awt.Color;
 
 /**
  * Class Name: EndScreen.
@@ -18,11 +16,13 @@ import java.awt.Color;
 public class EndScreen implements Animation {
     public static final int WINDOW_WIDTH = GameLevel.WINDOW_WIDTH;
     public static final int WINDOW_HEIGHT = GameLevel.WINDOW_HEIGHT;
+    public static final String BACKGROUND_IMAGE = "background_images/xp.jpg";
     public static final String WINNER_TEXT = "You Win! Your score is ";
     public static final String LOSER_TEXT = "Game Over. Your score is ";
     public static final String WTF_TEXT = "Did you even play? Your score is ";
     public static final int TEXT_SIZE = 32;
 
+    private Background background;
     private Counter lives;
     private Counter score;
     private boolean stop;
@@ -35,6 +35,7 @@ public class EndScreen implements Animation {
      */
     public EndScreen(Counter lives, Counter score) {
         this.stop = false;
+        this.background = Background.fromImage(BACKGROUND_IMAGE);
         this.lives = lives;
         this.score = score;
     }
@@ -45,9 +46,7 @@ public class EndScreen implements Animation {
      * @param d the surface to draw on
      */
     public void doOneFrame(DrawSurface d) {
-        Block bg = new Block(new Point(0, 0), WINDOW_WIDTH, WINDOW_HEIGHT, Color.MAGENTA);
-        bg.addFill(new arkanoid.sprites.Fill.Image("background_images/xp.jpg"));
-        bg.drawOn(d);
+        this.background.drawOn(d);
 
         int xPos = d.getWidth() / 2 - 200;
         String text = WINNER_TEXT;
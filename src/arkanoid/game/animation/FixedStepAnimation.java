@@ -0,0 +1,30 @@
+package arkanoid.game.animation;
+
+import biuoop.DrawSurface;
+
+/**
+ * Interface Name: FixedStepAnimation
+ * <p>
+ * This interface represents animations whose logic advances in fixed time steps, independently of how often they are
+ * drawn. The animation runner may call step several times between two renders (to catch up after a slow frame), and
+ * render draws the animation in between the last two steps.
+ *
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.0
+ * @since 18 October 2026
+ */
+public interface FixedStepAnimation extends Animation {
+
+    /**
+     * step: advance the animation's logic by one fixed time step.
+     */
+    void step();
+
+    /**
+     * render: draw the animation.
+     *
+     * @param surface the surface to draw on
+     * @param alpha   how far (from 0 to 1) the drawn state is from the state before the last step to the current one
+     */
+    void render(DrawSurface surface, double alpha);
+}
@@ -1,7 +1,6 @@
 package arkanoid.game.animation;
 
-import arkanoid.geometry.Point;
-import arkanoid.sprites.Block;
+import arkanoid.sprites.Background;
 import biuoop.DrawSurface;
 import arkanoid.game.highscores.HighScoresTable;
 import arkanoid.game.highscores.ScoreInfo;
@@ -20,7 +19,9 @@ import java.awt.Color;
 public class HighScoresAnimation implements Animation {
     public static final int WINDOW_WIDTH = GameLevel.WINDOW_WIDTH;
     public static final int WINDOW_HEIGHT = GameLevel.WINDOW_HEIGHT;
+    public static final String BACKGROUND_IMAGE = "background_images/xp.jpg";
 
+    private Background background;
     private boolean stop;
     private HighScoresTable highscores;
 
@@ -32,6 +33,7 @@ public class HighScoresAnimation implements Animation {
     public HighScoresAnimation(HighScoresTable scores) {
         this.highscores = scores;
         this.stop = false;
+        this.background = Background.fromImage(BACKGROUND_IMAGE);
     }
 
     /**
@@ -40,9 +42,7 @@ public class HighScoresAnimation implements Animation {
      * @param d the surface to draw on
      */
     public void doOneFrame(DrawSurface d) {
-        Block bg = new Block(new Point(0, 0), WINDOW_WIDTH, WINDOW_HEIGHT, Color.MAGENTA);
-        bg.addFill(new arkanoid.sprites.Fill.Image("background_images/xp.jpg"));
-        bg.drawOn(d);
+        this.background.drawOn(d);
 
         int i = 0, diff = 50;
 
@@ -1,7 +1,6 @@
 package arkanoid.game.animation;
 
-import arkanoid.geometry.Point;
-import arkanoid.sprites.Block;
+import arkanoid.sprites.Background;
 import biuoop.DrawSurface;
 
 import java.awt.Color;
@@ -18,10 +17,12 @@ import java.awt.Color;
 public class PauseScreen implements Animation {
     public static final int WINDOW_WIDTH = GameLevel.WINDOW_WIDTH;
     public static final int WINDOW_HEIGHT = GameLevel.WINDOW_HEIGHT;
+    public static final String BACKGROUND_IMAGE = "background_images/xp.jpg";
     public static final String TEXT = "Game paused. Press space to resume.";
     public static final int TEXT_X_POS = 125;
     public static final int TEXT_SIZE = 32;
 
+    private Background background;
     private boolean stop;
 
     /**
@@ -29,6 +30,7 @@ public class PauseScreen implements Animation {
      */
     public PauseScreen() {
         this.stop = false;
+        this.background = Background.fromImage(BACKGROUND_IMAGE);
     }
 
     /**
@@ -37,9 +39,7 @@ public class PauseScreen implements Animation {
      * @param d the surface to draw on
      */
     public void doOneFrame(DrawSurface d) {
-        Block bg = new Block(new Point(0, 0), WINDOW_WIDTH, WINDOW_HEIGHT, Color.MAGENTA);
-        bg.addFill(new arkanoid.sprites.Fill.Image("background_images/xp.jpg"));
-        bg.drawOn(d);
+        this.background.drawOn(d);
 
         d.setColor(Color.BLUE);
         d.drawText(TEXT_X_POS, d.getHeight() / 2, TEXT, TEXT_SIZE);
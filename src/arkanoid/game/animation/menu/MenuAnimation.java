@@ -1,8 +1,7 @@
 package arkanoid.game.animation.menu;
 
 import arkanoid.game.animation.GameLevel;
-import arkanoid.geometry.Point;
-import arkanoid.sprites.Block;
+import arkanoid.sprites.Background;
 import biuoop.DrawSurface;
 import biuoop.KeyboardSensor;
 
@@ -23,7 +22,9 @@ import java.util.List;
 public class MenuAnimation<T> implements Menu<T> {
     public static final int WINDOW_WIDTH = GameLevel.WINDOW_WIDTH;
     public static final int WINDOW_HEIGHT = GameLevel.WINDOW_HEIGHT;
+    public static final String BACKGROUND_IMAGE = "background_images/xp.jpg";
 
+    private Background background;
     private KeyboardSensor sensor;
     private boolean stop;
     private T status;
@@ -38,6 +39,7 @@ public class MenuAnimation<T> implements Menu<T> {
         this.choices = new ArrayList<>();
         this.sensor = sensor;
         this.stop = false;
+        this.background = Background.fromImage(BACKGROUND_IMAGE);
     }
 
     @Override
@@ -52,9 +54,7 @@ public class MenuAnimation<T> implements Menu<T> {
 
     @Override
     public void doOneFrame(DrawSurface surface) {
-        Block bg = new Block(new Point(0, 0), WINDOW_WIDTH, WINDOW_HEIGHT, Color.MAGENTA);
-        bg.addFill(new arkanoid.sprites.Fill.Image("background_images/xp.jpg"));
-        bg.drawOn(surface);
+        this.background.drawOn(surface);
 
         int i = 0, diff = 50;
 
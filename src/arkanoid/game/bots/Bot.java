@@ -0,0 +1,55 @@
+package arkanoid.game.bots;
+
+import arkanoid.game.simulation.PaddleController;
+import arkanoid.game.simulation.PaddleMove;
+import arkanoid.game.simulation.Simulation;
+import arkanoid.sprites.Paddle;
+
+/**
+ * Class Name: Bot.
+ * <p>
+ * Bot class is the base of the AI players: every tick, a bot picks the X value it wants the paddle's center to be at,
+ * and the paddle is steered toward it, at most one step per tick (like a player who holds an arrow key).
+ * The paddle stays in place when it's closer to the target than half a step, so it doesn't shake around it.
+ * Bots only read the world, so they play the same way every time the world does.
+ *
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.0
+ * @since 18 October 2026
+ */
+public abstract class Bot implements PaddleController {
+
+    /**
+     * nextMove: steer the paddle toward the bot's target.
+     *
+     * @param world  the world the paddle is in
+     * @param paddle the paddle
+     * @return the paddle's move
+     */
+    public PaddleMove nextMove(Simulation world, Paddle paddle) {
+        if (world == null) {
+            return PaddleMove.STAY;
+        }
+
+        double width = paddle.getCollisionRectangle().getWidth();
+        double centerX = paddle.getCollisionRectangle().getUpperLeft().getX() + width / 2;
+        double distance = this.targetX(world, paddle) - centerX;
+        double deadZone = paddle.getSpeed() / 2.0;
+
+        if (distance > deadZone) {
+            return PaddleMove.RIGHT;
+        } else if (distance < -deadZone) {
+            return PaddleMove.LEFT;
+        }
+        return PaddleMove.STAY;
+    }
+
+    /**
+     * targetX: pick the X value the paddle's center should be at.
+     *
+     * @param world  the world the paddle is in
+     * @param paddle the paddle
+     * @return the X value of the target
+     */
+    protected abstract double targetX(Simulation world, Paddle paddle);
+}
@@ -0,0 +1,116 @@
+package arkanoid.game.bots;
+
+import arkanoid.game.simulation.PaddleController;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Class Name: Bots.
+ * <p>
+ * This class is the registry of the AI players by name, e.g. for the tournament's command line.
+ * A bot may keep a state from one tick to another, so the registry keeps a factory per name and creates a new bot for
+ * every game. More bots can be plugged in with register.
+ * It also knows which bots have randomness of their own, i.e. play another game with every seed of the same world.
+ *
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.2
+ * @since 18 October 2026
+ */
+public class Bots {
+    public static final String IDLE = "idle";
+    public static final String TRACKING = "tracking";
+    public static final String PREDICTING = "predicting";
+    public static final String RANDOM = "random";
+
+    private static final Map<String, Supplier<PaddleController>> FACTORIES = new LinkedHashMap<>();
+    private static final Set<String> RANDOM_BOTS = new HashSet<>();
+
+    static {
+        register(IDLE, IdleBot::new);
+        register(TRACKING, TrackingBot::new);
+        register(PREDICTING, PredictingBot::new);
+        register(RANDOM, RandomBot::new, true);
+    }
+
+    /**
+     * Constructor: it's a static registry, so it has no instances.
+     */
+    private Bots() {
+    }
+
+    /**
+     * register: add a bot to the registry (or replace the bot of the same name).
+     *
+     * @param name    the bot's name
+     * @param factory creates a new bot for every game
+     */
+    public static void register(String name, Supplier<PaddleController> factory) {
+        register(name, factory, false);
+    }
+
+    /**
+     * register: add a bot to the registry (or replace the bot of the same name).
+     *
+     * @param name     the bot's name
+     * @param factory  creates a new bot for every game
+     * @param isRandom whether the bot has randomness of its own (drawn from the world's seed)
+     */
+    public static synchronized void register(String name, Supplier<PaddleController> factory, boolean isRandom) {
+        FACTORIES.put(name, factory);
+        if (isRandom) {
+            RANDOM_BOTS.add(name);
+        } else {
+            RANDOM_BOTS.remove(name);
+        }
+    }
+
+    /**
+     * isRandom: tell whether a bot has randomness of its own.
+     *
+     * @param name the bot's name
+     * @return true if the bot plays another game with every seed of the same world; false otherwise
+     */
+    public static synchronized boolean isRandom(String name) {
+        return RANDOM_BOTS.contains(name);
+    }
+
+    /**
+     * factory: get the factory of a bot.
+     *
+     * @param name the bot's name
+     * @return the bot's factory
+     */
+    public static synchronized Supplier<PaddleController> factory(String name) {
+        Supplier<PaddleController> factory = FACTORIES.get(name);
+
+        if (factory == null) {
+            throw new RuntimeException("Unknown bot: " + name + " (the bots are " + names() + ")");
+        }
+        return factory;
+    }
+
+    /**
+     * create: create a new bot.
+     *
+     * @param name the bot's name
+     * @return the new bot
+     */
+    public static PaddleController create(String name) {
+        return factory(name).get();
+    }
+
+    /**
+     * names: get the names of all the bots, in the order they were registered.
+     *
+     * @return the names of the bots
+     */
+    public static synchronized List<String> names() {
+        return new ArrayList<>(FACTORIES.keySet());
+    }
+}
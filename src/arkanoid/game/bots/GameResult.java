@@ -0,0 +1,69 @@
+package arkanoid.game.bots;
+
+/**
+ * Class Name: GameResult.
+ * <p>
+ * GameResult class holds the outcome of a single game of a tournament: whether the level was cleared, the score and
+ * how many ticks the game took.
+ *
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.0
+ * @since 18 October 2026
+ */
+public class GameResult {
+    private boolean isWon;
+    private boolean isTimedOut;
+    private int score;
+    private long ticks;
+
+    /**
+     * Constructor.
+     *
+     * @param won      whether the level was cleared
+     * @param timedOut whether the game was stopped at the ticks limit (with lives left)
+     * @param points   the final score
+     * @param played   the number of ticks the game took
+     */
+    public GameResult(boolean won, boolean timedOut, int points, long played) {
+        this.isWon = won;
+        this.isTimedOut = timedOut;
+        this.score = points;
+        this.ticks = played;
+    }
+
+    /**
+     * isWon: tell whether the level was cleared.
+     *
+     * @return true if the level was cleared; false otherwise
+     */
+    public boolean isWon() {
+        return this.isWon;
+    }
+
+    /**
+     * isTimedOut: tell whether the game was stopped at the ticks limit, before it was won or lost.
+     *
+     * @return true if the game timed out; false otherwise
+     */
+    public boolean isTimedOut() {
+        return this.isTimedOut;
+    }
+
+    /**
+     * getScore: get the final score.
+     *
+     * @return the final score
+     */
+    public int getScore() {
+        return this.score;
+    }
+
+    /**
+     * getTicks: get the number of ticks the game took.
+     *
+     * @return the number of ticks
+     */
+    public long getTicks() {
+        return this.ticks;
+    }
+}
@@ -0,0 +1,30 @@
+package arkanoid.game.bots;
+
+import arkanoid.game.simulation.PaddleController;
+import arkanoid.game.simulation.PaddleMove;
+import arkanoid.game.simulation.Simulation;
+import arkanoid.sprites.Paddle;
+
+/**
+ * Class Name: IdleBot.
+ * <p>
+ * IdleBot class is a player that never moves the paddle - the baseline of a level's difficulty: whatever it clears,
+ * the level clears on its own.
+ *
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.0
+ * @since 18 October 2026
+ */
+public class IdleBot implements PaddleController {
+
+    /**
+     * nextMove: leave the paddle where it is.
+     *
+     * @param world  the world the paddle is in
+     * @param paddle the paddle
+     * @return always STAY
+     */
+    public PaddleMove nextMove(Simulation world, Paddle paddle) {
+        return PaddleMove.STAY;
+    }
+}
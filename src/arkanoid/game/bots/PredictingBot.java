@@ -0,0 +1,122 @@
+package arkanoid.game.bots;
+
+import arkanoid.game.simulation.Simulation;
+import arkanoid.sprites.BallSystem;
+import arkanoid.sprites.Paddle;
+
+/**
+ * Class Name: PredictingBot.
+ * <p>
+ * PredictingBot class is a strong player: it finds the falling ball that reaches the paddle's height first, predicts
+ * where it gets there (with its bounces off the side walls, but not off blocks), and waits for it there.
+ * It catches the ball off the paddle's center, on the side that sends it back toward the middle of the screen, so the
+ * ball doesn't bounce straight up and down forever.
+ *
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.1
+ * @since 18 October 2026
+ */
+public class PredictingBot extends Bot {
+    // how far from the paddle's center the ball is caught, as a part of the paddle's width
+    public static final double AIM_OFFSET = 0.3;
+
+    // the last prediction
+    private double landingX = Simulation.WORLD_WIDTH / 2.0;
+    private double landingTicks = Double.POSITIVE_INFINITY;
+
+    /**
+     * targetX: pick the X value the paddle's center should be at to catch the next falling ball.
+     *
+     * @param world  the world the paddle is in
+     * @param paddle the paddle
+     * @return the X value of the target
+     */
+    protected double targetX(Simulation world, Paddle paddle) {
+        // with no falling ball, wait in the middle
+        if (!this.predict(world, paddle)) {
+            return Simulation.WORLD_WIDTH / 2.0;
+        }
+
+        // send the ball back toward the middle
+        double side = (this.landingX < Simulation.WORLD_WIDTH / 2.0) ? -1 : 1;
+        return this.landingX + side * paddle.getCollisionRectangle().getWidth() * AIM_OFFSET;
+    }
+
+    /**
+     * predict: find the falling ball that reaches the paddle's height first, and where and when it gets there (see
+     * getLandingX and getLandingTicks).
+     *
+     * @param world  the world the paddle is in
+     * @param paddle the paddle
+     * @return true if a ball is falling toward the paddle; false otherwise
+     */
+    protected boolean predict(Simulation world, Paddle paddle) {
+        BallSystem balls = world.getBalls();
+        double paddleY = paddle.getCollisionRectangle().getUpperLeft().getY();
+        this.landingTicks = Double.POSITIVE_INFINITY;
+
+        for (int i = 0; i < balls.slotsNum(); i++) {
+            double dy = balls.getDY(i);
+            if (balls.isRemoved(i) || dy <= 0) {
+                continue;
+            }
+
+            int radius = balls.getRadius(i);
+            double ticks = (paddleY - radius - balls.getY(i)) / dy;
+            // the ball is already below the paddle's top
+            if (ticks < 0 || ticks >= this.landingTicks) {
+                continue;
+            }
+
+            this.landingTicks = ticks;
+            this.landingX = fold(balls.getX(i) + balls.getDX(i) * ticks, Simulation.BORDER_THICKNESS + radius,
+                    Simulation.WORLD_WIDTH - Simulation.BORDER_THICKNESS - radius);
+        }
+
+        return this.landingTicks != Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * getLandingX: get the X value at which the last predicted ball reaches the paddle's height.
+     *
+     * @return the landing X value
+     */
+    protected double getLandingX() {
+        return this.landingX;
+    }
+
+    /**
+     * getLandingTicks: get the number of ticks until the last predicted ball reaches the paddle's height.
+     *
+     * @return the number of ticks, or infinity if no ball is falling toward the paddle
+     */
+    protected double getLandingTicks() {
+        return this.landingTicks;
+    }
+
+    /**
+     * fold: fold an X value that went past the walls back between them, as the ball bounces off them.
+     *
+     * @param x    the X value as if there were no walls
+     * @param minX the lowest X value between the walls
+     * @param maxX the highest X value between the walls
+     * @return the X value between the walls
+     */
+    private static double fold(double x, double minX, double maxX) {
+        double span = maxX - minX;
+        if (span <= 0) {
+            return minX;
+        }
+
+        // the ball goes back and forth between the walls, so its path repeats every two spans
+        double offset = (x - minX) % (2 * span);
+        if (offset < 0) {
+            offset += 2 * span;
+        }
+        if (offset > span) {
+            offset = 2 * span - offset;
+        }
+
+        return minX + offset;
+    }
+}
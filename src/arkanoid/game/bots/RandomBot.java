@@ -0,0 +1,79 @@
+package arkanoid.game.bots;
+
+import arkanoid.game.simulation.PaddleMove;
+import arkanoid.game.simulation.Simulation;
+import arkanoid.sprites.Paddle;
+import arkanoid.util.RandomSource;
+
+/**
+ * Class Name: RandomBot.
+ * <p>
+ * RandomBot class is a model of a human player, for Monte-Carlo analysis of the levels: it predicts where the next
+ * falling ball lands like PredictingBot does, but every time a new ball starts falling toward it, it reacts only after
+ * a random delay, and catches the ball at a random place along the paddle - so it sometimes misses the ball, and sends
+ * it back at all sorts of angles.
+ * Its randomness is split off the world's random source the first time it moves, so a seeded world (and its bot) plays
+ * the same way every time.
+ *
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.0
+ * @since 18 October 2026
+ */
+public class RandomBot extends PredictingBot {
+    // the longest delay before the bot reacts to a falling ball (a fifth of a second)
+    public static final int MAX_REACTION_TICKS = 12;
+    // how far from the paddle's center the ball may be caught, as a part of the paddle's width on each side
+    public static final double AIM_SPREAD = 0.45;
+
+    private RandomSource random = null;
+    // the number of ticks the bot still waits before it reacts
+    private int reaction = 0;
+    // where the current ball is caught, as a part of the paddle's width from its center
+    private double aim = 0;
+    private double target = Simulation.WORLD_WIDTH / 2.0;
+    private double lastLandingTicks = Double.POSITIVE_INFINITY;
+
+    /**
+     * nextMove: steer the paddle toward the bot's target.
+     *
+     * @param world  the world the paddle is in
+     * @param paddle the paddle
+     * @return the paddle's move
+     */
+    @Override
+    public PaddleMove nextMove(Simulation world, Paddle paddle) {
+        if (world != null && this.random == null) {
+            this.random = world.getRandom().split();
+        }
+        return super.nextMove(world, paddle);
+    }
+
+    /**
+     * targetX: pick the X value the paddle's center should be at: the current ball's landing point, off the paddle's
+     * center by the current aim, once the reaction delay is over.
+     *
+     * @param world  the world the paddle is in
+     * @param paddle the paddle
+     * @return the X value of the target
+     */
+    @Override
+    protected double targetX(Simulation world, Paddle paddle) {
+        boolean isFalling = this.predict(world, paddle);
+        double landingTicks = this.getLandingTicks();
+
+        // a ball started falling (or another ball is now the first to land), so react to it anew
+        if (isFalling && !(landingTicks < this.lastLandingTicks)) {
+            this.reaction = this.random.nextInt(MAX_REACTION_TICKS + 1);
+            this.aim = (2 * this.random.nextDouble() - 1) * AIM_SPREAD;
+        }
+        this.lastLandingTicks = landingTicks;
+
+        if (this.reaction > 0) {
+            this.reaction--;
+        } else if (isFalling) {
+            this.target = this.getLandingX() - this.aim * paddle.getCollisionRectangle().getWidth();
+        }
+
+        return this.target;
+    }
+}
@@ -0,0 +1,363 @@
+package arkanoid.game.bots;
+
+import arkanoid.Ass7Game;
+import arkanoid.game.GameFlow;
+import arkanoid.game.animation.GameLevel;
+import arkanoid.game.levels.CompiledLevelReader;
+import arkanoid.game.levels.LevelCompiler;
+import arkanoid.game.levels.LevelInformation;
+import arkanoid.game.levels.LevelSet;
+import arkanoid.game.levels.LevelSetsReader;
+import arkanoid.game.levels.LevelSpecificationReader;
+import arkanoid.game.simulation.PaddleController;
+import arkanoid.game.simulation.ScriptedInput;
+import arkanoid.game.simulation.Simulation;
+import arkanoid.util.Counter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * Class Name: TournamentRunner.
+ * <p>
+ * This class plays every level of a level set with a number of bots, many games each, without a GUI and on all the
+ * cores, and reports for every level and bot the win rate, the distribution of the scores and the time it took to
+ * clear the level - e.g. to tune the levels' difficulty.
+ * Every game plays a single level from scratch, with its own lives, until the level is cleared, the lives are over or
+ * the ticks limit is reached. Game number i is seeded with seed + i for every bot, so the bots are compared on the
+ * same worlds, and a tournament gives the same results every time.
+ * Most bots only read the world, and a level plays the same way with every seed unless the blocks dance, so every
+ * served ball is turned by a random angle of up to the serve jitter, drawn from the game's seed (see
+ * Simulation.setServeJitter) - that's what makes the games differ from each other. With no jitter (-j 0), a bot that
+ * has no randomness of its own plays the same game every time, so it plays a single game per level.
+ * The levels are compiled into memory once (see LevelCompiler), and every game decodes its own copy of its level.
+ * <p>
+ * Usage: TournamentRunner [-s levelSetsFile] [-k setKey] [-f levelsFile] [-b bot,bot,...] [-n gamesPerBot]
+ * [-t threads] [-l lives] [-m maxTicks] [-seed seed] [-j serveJitter] [-o outputFile]
+ *
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.2
+ * @since 18 October 2026
+ */
+public class TournamentRunner {
+    public static final int DEFAULT_GAMES = 100;
+    public static final int DEFAULT_LIVES = Ass7Game.LIVES;
+    // five minutes of play
+    public static final long DEFAULT_MAX_TICKS = 5L * 60 * GameLevel.FRAMES_PER_SECOND;
+    public static final long DEFAULT_SEED = 1;
+    public static final String DEFAULT_BOTS = Bots.TRACKING + "," + Bots.PREDICTING;
+    // the largest random turn of a served ball, in degrees
+    public static final double DEFAULT_SERVE_JITTER = 5;
+    public static final double NANOS_PER_SECOND = 1000000000.0;
+
+    private String levelSetsFile = Ass7Game.LEVEL_SETS;
+    private String setKey = null;
+    private String levelsFile = null;
+    private List<String> bots = Arrays.asList(DEFAULT_BOTS.split(","));
+    private int games = DEFAULT_GAMES;
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private int lives = DEFAULT_LIVES;
+    private long maxTicks = DEFAULT_MAX_TICKS;
+    private long seed = DEFAULT_SEED;
+    private double serveJitter = DEFAULT_SERVE_JITTER;
+    private String output = null;
+
+    /**
+     * main: run a tournament.
+     *
+     * @param args the command-line options
+     */
+    public static void main(String[] args) {
+        TournamentRunner runner = new TournamentRunner();
+        runner.parseArgs(args);
+
+        try {
+            runner.run();
+        } catch (IOException | InterruptedException | ExecutionException | RuntimeException e) {
+            System.err.println("The tournament failed: " + e);
+            System.exit(-1);
+        }
+    }
+
+    /**
+     * parseArgs: read the command-line options.
+     *
+     * @param args the command-line options
+     */
+    private void parseArgs(String[] args) {
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "-s":
+                    this.levelSetsFile = value;
+                    break;
+                case "-k":
+                    this.setKey = value;
+                    break;
+                case "-f":
+                    this.levelsFile = value;
+                    break;
+                case "-b":
+                    this.bots = Arrays.asList(value.split(","));
+                    break;
+                case "-n":
+                    this.games = Integer.parseInt(value);
+                    break;
+                case "-t":
+                    this.threads = Integer.parseInt(value);
+                    break;
+                case "-l":
+                    this.lives = Integer.parseInt(value);
+                    break;
+                case "-m":
+                    this.maxTicks = Long.parseLong(value);
+                    break;
+                case "-seed":
+                    this.seed = Long.parseLong(value);
+                    break;
+                case "-j":
+                    this.serveJitter = Double.parseDouble(value);
+                    break;
+                case "-o":
+                    this.output = value;
+                    break;
+                default:
+                    usage();
+            }
+        }
+
+        if (args.length % 2 != 0 || this.games <= 0 || this.threads <= 0 || this.lives <= 0 || this.maxTicks <= 0
+                || this.serveJitter < 0) {
+            usage();
+        }
+
+        // fail on an unknown bot before anything is played
+        for (String bot : this.bots) {
+            Bots.factory(bot);
+        }
+    }
+
+    /**
+     * usage: print the usage and exit.
+     */
+    private static void usage() {
+        System.err.println("Usage: TournamentRunner [-s levelSetsFile] [-k setKey] [-f levelsFile] [-b bot,bot,...]"
+                + " [-n gamesPerBot] [-t threads] [-l lives] [-m maxTicks] [-seed seed] [-j serveJitter]"
+                + " [-o outputFile]");
+        System.err.println("Bots: " + Bots.names());
+        System.exit(-1);
+    }
+
+    /**
+     * run: play all the games and report their results.
+     *
+     * @throws IOException          if the output file can't be written
+     * @throws InterruptedException if the tournament was interrupted
+     * @throws ExecutionException   if a game failed
+     */
+    private void run() throws IOException, InterruptedException, ExecutionException {
+        List<LevelSet> sets = levelSets(this.levelSetsFile, this.setKey, this.levelsFile);
+        ExecutorService pool = Executors.newFixedThreadPool(this.threads);
+        List<TournamentStats> stats = new ArrayList<>();
+        List<List<Future<GameResult>>> results = new ArrayList<>();
+        long start = System.nanoTime();
+
+        try {
+            // queue all the games at once, so the cores never wait for a level to end
+            for (LevelSet set : sets) {
+                for (LevelInformation level : LevelSpecificationReader.getReader(set.getPath())) {
+                    byte[] compiled = compile(level);
+
+                    for (String bot : this.bots) {
+                        int gamesNum = this.gamesOf(bot);
+                        stats.add(new TournamentStats(set.getName(), level.levelName(), bot, gamesNum));
+                        results.add(this.submitGames(pool, compiled, Bots.factory(bot), gamesNum));
+                    }
+                }
+            }
+
+            System.out.printf("%d levels x %d bots x %d games on %d threads (lives %d, max %d ticks, seed %d, "
+                    + "serve jitter %.1f)%n", stats.size() / this.bots.size(), this.bots.size(), this.games,
+                    this.threads, this.lives, this.maxTicks, this.seed, this.serveJitter);
+            if (this.serveJitter == 0) {
+                System.out.println("No serve jitter: the bots without randomness of their own play a single game"
+                        + " per level.");
+            }
+
+            long totalTicks = 0;
+            int played = 0;
+            for (int i = 0; i < stats.size(); i++) {
+                for (Future<GameResult> result : results.get(i)) {
+                    stats.get(i).add(result.get());
+                }
+                totalTicks += stats.get(i).getTicks();
+                played += stats.get(i).getGames();
+                System.out.println(stats.get(i).toText());
+            }
+
+            double seconds = (System.nanoTime() - start) / NANOS_PER_SECOND;
+            System.out.printf("%d games (%d ticks) in %.1f s - %.0f games/min, %.0f ticks/s%n", played, totalTicks,
+                    seconds, played / seconds * 60, totalTicks / seconds);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        if (this.output != null) {
+            this.write(stats);
+        }
+    }
+
+    /**
+     * levelSets: get the level sets to play: a single levels file, or the level sets of a file (all of them, or only
+     * the one with a given key).
+     *
+     * @param setsFile   the level sets file
+     * @param key        the key of the level set, or null for all of them
+     * @param levelsPath a single levels file to play instead of the level sets, or null
+     * @return the level sets
+     */
+    public static List<LevelSet> levelSets(String setsFile, String key, String levelsPath) {
+        // a single levels file
+        if (levelsPath != null) {
+            return Collections.singletonList(new LevelSet("", levelsPath, levelsPath));
+        }
+
+        List<LevelSet> sets = new ArrayList<>();
+        for (LevelSet set : LevelSetsReader.getReader(setsFile)) {
+            if (key == null || key.equals(set.getKey())) {
+                sets.add(set);
+            }
+        }
+
+        if (sets.isEmpty()) {
+            throw new RuntimeException("No level set with the key " + key + " in " + setsFile);
+        }
+        return sets;
+    }
+
+    /**
+     * gamesOf: get the number of games a bot plays on every level. Without a serve jitter, a bot that has no
+     * randomness of its own would play the same game with every seed, so it plays a single one.
+     *
+     * @param bot the bot's name
+     * @return the number of games
+     */
+    private int gamesOf(String bot) {
+        return (this.serveJitter == 0 && !Bots.isRandom(bot)) ? 1 : this.games;
+    }
+
+    /**
+     * submitGames: queue the games of a bot on a level.
+     *
+     * @param pool     the threads that play the games
+     * @param compiled the compiled level
+     * @param bot      creates the bot of every game
+     * @param gamesNum the number of games
+     * @return the games' future results, in the order of their seeds
+     */
+    private List<Future<GameResult>> submitGames(ExecutorService pool, byte[] compiled,
+                                                 Supplier<PaddleController> bot, int gamesNum) {
+        List<Future<GameResult>> futures = new ArrayList<>(gamesNum);
+
+        for (int i = 0; i < gamesNum; i++) {
+            long gameSeed = this.seed + i;
+            futures.add(pool.submit(() -> play(compiled, bot.get(), this.lives, this.maxTicks, gameSeed,
+                    this.serveJitter)));
+        }
+
+        return futures;
+    }
+
+    /**
+     * play: play a single game of a level, the same way GameFlow plays a level.
+     *
+     * @param compiled   the compiled level
+     * @param controller the bot that drives the paddle
+     * @param livesNum   the number of lives
+     * @param ticksLimit the maximum number of ticks to play
+     * @param gameSeed   the seed of the world
+     * @param jitter     the largest random turn of a served ball, in degrees (see Simulation.setServeJitter)
+     * @return the game's outcome
+     */
+    public static GameResult play(byte[] compiled, PaddleController controller, int livesNum, long ticksLimit,
+                                  long gameSeed, double jitter) {
+        LevelInformation level = CompiledLevelReader.decode(ByteBuffer.wrap(compiled)).get(0);
+        Counter livesLeft = new Counter(livesNum);
+        Counter score = new Counter();
+        Counter blocks = new Counter();
+
+        // nobody presses a key, the bot drives the paddle
+        Simulation simulation = new Simulation(level, new ScriptedInput(), livesLeft, score, blocks);
+        simulation.setController(controller);
+        simulation.setSeed(gameSeed);
+        simulation.setServeJitter(jitter);
+        // the games already run on all the cores, so every game moves its balls on its own thread
+        simulation.getBalls().setPool(null);
+        simulation.initialize();
+
+        while (livesLeft.getValue() > 0 && simulation.getTicks() < ticksLimit) {
+            simulation.playOneTurn(ticksLimit - simulation.getTicks());
+
+            // if no blocks are left, the level is cleared
+            if (blocks.getValue() == 0) {
+                score.increase(GameFlow.LEVEL_COMPLETE_SCORE);
+                return new GameResult(true, false, score.getValue(), simulation.getTicks());
+            }
+
+            // all the balls fell, so a life is lost
+            if (simulation.isTurnOver()) {
+                livesLeft.decrease(1);
+            }
+        }
+
+        return new GameResult(false, livesLeft.getValue() > 0, score.getValue(), simulation.getTicks());
+    }
+
+    /**
+     * compile: compile a level into memory, so every game can decode a fresh copy of it quickly.
+     *
+     * @param level the level
+     * @return the compiled level
+     * @throws IOException if the level can't be compiled
+     */
+    public static byte[] compile(LevelInformation level) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            LevelCompiler.compile(Collections.singletonList(level), out);
+        }
+
+        return bytes.toByteArray();
+    }
+
+    /**
+     * write: append the results to the output file, one JSON object per level, bot and line.
+     *
+     * @param stats the results
+     * @throws IOException if the file can't be written
+     */
+    private void write(List<TournamentStats> stats) throws IOException {
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(Paths.get(this.output), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND))) {
+            for (TournamentStats stat : stats) {
+                out.println(stat.toJson());
+            }
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package arkanoid.game.bots;
+
+import arkanoid.game.animation.GameLevel;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Class Name: TournamentStats.
+ * <p>
+ * TournamentStats class sums up the games of a single bot on a single level: the win rate, the distribution of the
+ * scores, and how long the won games took to clear the level (in seconds of play, at GameLevel.FRAMES_PER_SECOND).
+ *
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.0
+ * @since 18 October 2026
+ */
+public class TournamentStats {
+    public static final double LOW = 10;
+    public static final double MEDIAN = 50;
+    public static final double HIGH = 90;
+
+    private String levelSet;
+    private String level;
+    private String bot;
+    private int games;
+    private int wins;
+    private int timeouts;
+    private long ticks;
+    private int[] scores;
+    // the ticks of the won games
+    private long[] clearTicks;
+
+    /**
+     * Constructor.
+     *
+     * @param setName   the level set's name
+     * @param levelName the level's name
+     * @param botName   the bot's name
+     * @param capacity  the number of games that are expected
+     */
+    public TournamentStats(String setName, String levelName, String botName, int capacity) {
+        this.levelSet = setName;
+        this.level = levelName;
+        this.bot = botName;
+        this.games = 0;
+        this.wins = 0;
+        this.timeouts = 0;
+        this.ticks = 0;
+        this.scores = new int[capacity];
+        this.clearTicks = new long[capacity];
+    }
+
+    /**
+     * add: count a game.
+     *
+     * @param result the game's outcome
+     */
+    public void add(GameResult result) {
+        if (this.games == this.scores.length) {
+            this.scores = Arrays.copyOf(this.scores, this.games * 2 + 1);
+            this.clearTicks = Arrays.copyOf(this.clearTicks, this.games * 2 + 1);
+        }
+
+        this.scores[this.games++] = result.getScore();
+        this.ticks += result.getTicks();
+
+        if (result.isWon()) {
+            this.clearTicks[this.wins++] = result.getTicks();
+        } else if (result.isTimedOut()) {
+            this.timeouts++;
+        }
+    }
+
+    /**
+     * getGames: get the number of games.
+     *
+     * @return the number of games
+     */
+    public int getGames() {
+        return this.games;
+    }
+
+    /**
+     * getTicks: get the number of ticks of all the games.
+     *
+     * @return the number of ticks
+     */
+    public long getTicks() {
+        return this.ticks;
+    }
+
+    /**
+     * getWinRate: get the part of the games that cleared the level.
+     *
+     * @return the win rate, from 0 to 1
+     */
+    public double getWinRate() {
+        return (this.games == 0) ? 0 : (double) this.wins / this.games;
+    }
+
+    /**
+     * toText: describe the games as a line of text.
+     *
+     * @return the line of text
+     */
+    public String toText() {
+        int[] sortedScores = this.sortedScores();
+        long[] sortedClears = this.sortedClearTicks();
+
+        return format("%-26s %-11s %6d games  win %5.1f%%  timeouts %4d  score p10/p50/p90 %d/%d/%d  "
+                        + "clear p50/p90 %s/%s s", this.level, this.bot, this.games, this.getWinRate() * 100,
+                this.timeouts, percentile(sortedScores, LOW), percentile(sortedScores, MEDIAN),
+                percentile(sortedScores, HIGH), seconds(sortedClears, MEDIAN), seconds(sortedClears, HIGH));
+    }
+
+    /**
+     * toJson: describe the games as a single-line JSON object.
+     *
+     * @return the JSON line
+     */
+    public String toJson() {
+        int[] sortedScores = this.sortedScores();
+        long[] sortedClears = this.sortedClearTicks();
+        double meanScore = 0;
+        double meanClear = 0;
+
+        for (int score : sortedScores) {
+            meanScore += score;
+        }
+        for (long clear : sortedClears) {
+            meanClear += clear;
+        }
+
+        return format("{\"levelSet\":%s,\"level\":%s,\"bot\":%s,\"games\":%d,\"wins\":%d,\"winRate\":%.4f,"
+                        + "\"timeouts\":%d,\"score\":{\"mean\":%.1f,\"min\":%d,\"p10\":%d,\"p50\":%d,\"p90\":%d,"
+                        + "\"max\":%d},\"clearSeconds\":{\"count\":%d,\"mean\":%.2f,\"p50\":%s,\"p90\":%s}}",
+                quote(this.levelSet), quote(this.level), quote(this.bot), this.games, this.wins, this.getWinRate(),
+                this.timeouts, (this.games == 0) ? 0 : meanScore / this.games,
+                percentile(sortedScores, 0), percentile(sortedScores, LOW), percentile(sortedScores, MEDIAN),
+                percentile(sortedScores, HIGH), percentile(sortedScores, 100), this.wins,
+                (this.wins == 0) ? 0 : meanClear / this.wins / GameLevel.FRAMES_PER_SECOND,
+                jsonSeconds(sortedClears, MEDIAN), jsonSeconds(sortedClears, HIGH));
+    }
+
+    /**
+     * sortedScores: get the scores of the games, sorted.
+     *
+     * @return the sorted scores
+     */
+    private int[] sortedScores() {
+        int[] sorted = Arrays.copyOf(this.scores, this.games);
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    /**
+     * sortedClearTicks: get the ticks of the won games, sorted.
+     *
+     * @return the sorted ticks
+     */
+    private long[] sortedClearTicks() {
+        long[] sorted = Arrays.copyOf(this.clearTicks, this.wins);
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    /**
+     * percentile: get a percentile of sorted scores (by the nearest rank).
+     *
+     * @param sorted  the sorted scores
+     * @param percent the percentile, from 0 to 100
+     * @return the score at the percentile; 0 if there are no scores
+     */
+    private static int percentile(int[] sorted, double percent) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[rank(sorted.length, percent)];
+    }
+
+    /**
+     * seconds: get a percentile of sorted ticks, in seconds of play.
+     *
+     * @param sorted  the sorted ticks
+     * @param percent the percentile, from 0 to 100
+     * @return the seconds at the percentile as text; "-" if there are no ticks
+     */
+    private static String seconds(long[] sorted, double percent) {
+        if (sorted.length == 0) {
+            return "-";
+        }
+        return format("%.1f", (double) sorted[rank(sorted.length, percent)] / GameLevel.FRAMES_PER_SECOND);
+    }
+
+    /**
+     * jsonSeconds: get a percentile of sorted ticks, in seconds of play, as a JSON value.
+     *
+     * @param sorted  the sorted ticks
+     * @param percent the percentile, from 0 to 100
+     * @return the seconds at the percentile; null if there are no ticks
+     */
+    private static String jsonSeconds(long[] sorted, double percent) {
+        if (sorted.length == 0) {
+            return "null";
+        }
+        return format("%.2f", (double) sorted[rank(sorted.length, percent)] / GameLevel.FRAMES_PER_SECOND);
+    }
+
+    /**
+     * rank: get the index of a percentile in a sorted array (by the nearest rank).
+     *
+     * @param length  the array's length
+     * @param percent the percentile, from 0 to 100
+     * @return the index
+     */
+    private static int rank(int length, double percent) {
+        int index = (int) Math.ceil(percent / 100 * length) - 1;
+        return Math.max(0, Math.min(length - 1, index));
+    }
+
+    /**
+     * format: format numbers the same way on every machine (e.g. with a decimal point, never a comma).
+     *
+     * @param pattern the format pattern
+     * @param args    the arguments
+     * @return the formatted string
+     */
+    private static String format(String pattern, Object... args) {
+        return String.format(Locale.ROOT, pattern, args);
+    }
+
+    /**
+     * quote: quote a string as a JSON string.
+     *
+     * @param s the string
+     * @return the quoted string
+     */
+    private static String quote(String s) {
+        return "\"" + s.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+}
@@ -0,0 +1,42 @@
+package arkanoid.game.bots;
+
+import arkanoid.game.simulation.Simulation;
+import arkanoid.sprites.BallSystem;
+import arkanoid.sprites.Paddle;
+
+/**
+ * Class Name: TrackingBot.
+ * <p>
+ * TrackingBot class is a simple player that keeps the paddle right under the lowest ball, the way a beginner chases
+ * the ball. It doesn't look ahead, so it misses fast balls and balls that bounce off the walls near the paddle.
+ *
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.0
+ * @since 18 October 2026
+ */
+public class TrackingBot extends Bot {
+
+    /**
+     * targetX: pick the X value of the lowest ball.
+     *
+     * @param world  the world the paddle is in
+     * @param paddle the paddle
+     * @return the X value of the target
+     */
+    protected double targetX(Simulation world, Paddle paddle) {
+        BallSystem balls = world.getBalls();
+        // stay where the paddle is if there are no balls
+        double target = paddle.getCollisionRectangle().getUpperLeft().getX()
+                + paddle.getCollisionRectangle().getWidth() / 2;
+        double lowestY = Double.NEGATIVE_INFINITY;
+
+        for (int i = 0; i < balls.slotsNum(); i++) {
+            if (!balls.isRemoved(i) && balls.getY(i) > lowestY) {
+                lowestY = balls.getY(i);
+                target = balls.getX(i);
+            }
+        }
+
+        return target;
+    }
+}
@@ -0,0 +1,202 @@
+package arkanoid.game.collision;
+
+import java.util.Arrays;
+
+/**
+ * Class Name: BallCollider.
+ * <p>
+ * This class makes balls bounce off each other. Balls are hashed into a grid of cells as wide as the largest ball, so
+ * two balls can only touch if they're in the same cell or in neighboring ones, and every ball is tested only against
+ * the balls of the 3x3 cells around it - which takes linear time, however many balls there are.
+ * The hash is rebuilt on every call by a counting sort into arrays that are kept between the calls, so it allocates
+ * nothing once the arrays are big enough.
+ * <p>
+ * Two touching balls that are getting closer swap the parts of their velocities along the line between their centers
+ * (an elastic bounce of equal masses), so they keep their total speed and move apart over the next ticks. Their
+ * positions aren't touched, so a bounce never pushes a ball into a block.
+ * The pairs are resolved in the order of the balls' slots, so the result is the same every time.
+ *
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.0
+ * @since 18 October 2026
+ */
+public class BallCollider {
+    public static final int DEFAULT_CAPACITY = 16;
+    // large primes that spread the cells over the hash table
+    public static final int HASH_X = 73856093;
+    public static final int HASH_Y = 19349663;
+
+    // the cell of every slot
+    private int[] cellX;
+    private int[] cellY;
+    // the slots sorted by their buckets, and where every bucket starts in the order (and ends where the next starts)
+    private int[] order;
+    private int[] bucketStart;
+    private int[] cursor;
+    private int mask;
+
+    /**
+     * Constructor.
+     */
+    public BallCollider() {
+        this.cellX = new int[DEFAULT_CAPACITY];
+        this.cellY = new int[DEFAULT_CAPACITY];
+        this.order = new int[DEFAULT_CAPACITY];
+        this.bucketStart = new int[DEFAULT_CAPACITY + 1];
+        this.cursor = new int[DEFAULT_CAPACITY];
+        this.mask = DEFAULT_CAPACITY - 1;
+    }
+
+    /**
+     * resolve: bounce all the touching balls off each other. The balls are given as parallel arrays, by slot.
+     *
+     * @param x       the X values of the balls' centers
+     * @param y       the Y values of the balls' centers
+     * @param dx      the balls' delta x (changed by the bounces)
+     * @param dy      the balls' delta y (changed by the bounces)
+     * @param radii   the balls' radii
+     * @param removed whether each slot's ball was removed (removed balls are skipped)
+     * @param count   the number of slots
+     * @return the number of bounces
+     */
+    public int resolve(double[] x, double[] y, double[] dx, double[] dy, int[] radii, boolean[] removed, int count) {
+        int live = 0;
+        int maxRadius = 0;
+        for (int i = 0; i < count; i++) {
+            if (!removed[i]) {
+                live++;
+                maxRadius = Math.max(maxRadius, radii[i]);
+            }
+        }
+
+        if (live < 2) {
+            return 0;
+        }
+
+        double cellSize = Math.max(1, 2 * maxRadius);
+        this.hash(x, y, removed, count, live, cellSize);
+
+        int bounces = 0;
+        for (int i = 0; i < count; i++) {
+            if (removed[i]) {
+                continue;
+            }
+
+            // the balls of the 3x3 cells around the ball (every pair is tested once, from its lower slot)
+            for (int row = this.cellY[i] - 1; row <= this.cellY[i] + 1; row++) {
+                for (int col = this.cellX[i] - 1; col <= this.cellX[i] + 1; col++) {
+                    int bucket = bucketOf(col, row) & this.mask;
+
+                    for (int k = this.bucketStart[bucket]; k < this.bucketStart[bucket + 1]; k++) {
+                        int j = this.order[k];
+                        // other cells may share the bucket
+                        if (j > i && this.cellX[j] == col && this.cellY[j] == row
+                                && bounce(i, j, x, y, dx, dy, radii)) {
+                            bounces++;
+                        }
+                    }
+                }
+            }
+        }
+
+        return bounces;
+    }
+
+    /**
+     * hash: find the cell of every ball, and sort the balls by their buckets.
+     *
+     * @param x        the X values of the balls' centers
+     * @param y        the Y values of the balls' centers
+     * @param removed  whether each slot's ball was removed
+     * @param count    the number of slots
+     * @param live     the number of balls that weren't removed
+     * @param cellSize the size of a cell
+     */
+    private void hash(double[] x, double[] y, boolean[] removed, int count, int live, double cellSize) {
+        // at least twice as many buckets as balls, so most buckets hold a single cell
+        int buckets = Integer.highestOneBit(Math.max(DEFAULT_CAPACITY, live * 2) - 1) << 1;
+        if (count > this.cellX.length) {
+            int capacity = Math.max(count, this.cellX.length * 2);
+            this.cellX = Arrays.copyOf(this.cellX, capacity);
+            this.cellY = Arrays.copyOf(this.cellY, capacity);
+            this.order = Arrays.copyOf(this.order, capacity);
+        }
+        if (buckets > this.cursor.length) {
+            this.cursor = new int[buckets];
+            this.bucketStart = new int[buckets + 1];
+        }
+        this.mask = buckets - 1;
+
+        // count the balls of every bucket
+        Arrays.fill(this.bucketStart, 0, buckets + 1, 0);
+        for (int i = 0; i < count; i++) {
+            if (removed[i]) {
+                continue;
+            }
+            this.cellX[i] = (int) Math.floor(x[i] / cellSize);
+            this.cellY[i] = (int) Math.floor(y[i] / cellSize);
+            this.bucketStart[(bucketOf(this.cellX[i], this.cellY[i]) & this.mask) + 1]++;
+        }
+
+        // turn the counts into starts, and place the balls in the order of their slots
+        for (int b = 1; b <= buckets; b++) {
+            this.bucketStart[b] += this.bucketStart[b - 1];
+        }
+        System.arraycopy(this.bucketStart, 0, this.cursor, 0, buckets);
+        for (int i = 0; i < count; i++) {
+            if (!removed[i]) {
+                this.order[this.cursor[bucketOf(this.cellX[i], this.cellY[i]) & this.mask]++] = i;
+            }
+        }
+    }
+
+    /**
+     * bucketOf: hash a cell.
+     *
+     * @param col the cell's column
+     * @param row the cell's row
+     * @return the cell's hash (to be masked by the table's size)
+     */
+    private static int bucketOf(int col, int row) {
+        return (col * HASH_X) ^ (row * HASH_Y);
+    }
+
+    /**
+     * bounce: bounce two balls off each other, if they touch and are getting closer.
+     *
+     * @param i     the first ball's slot
+     * @param j     the second ball's slot
+     * @param x     the X values of the balls' centers
+     * @param y     the Y values of the balls' centers
+     * @param dx    the balls' delta x
+     * @param dy    the balls' delta y
+     * @param radii the balls' radii
+     * @return true if they bounced; false otherwise
+     */
+    private static boolean bounce(int i, int j, double[] x, double[] y, double[] dx, double[] dy, int[] radii) {
+        double distX = x[j] - x[i];
+        double distY = y[j] - y[i];
+        double distanceSquared = distX * distX + distY * distY;
+        double touching = radii[i] + radii[j];
+
+        // they don't touch, or are at the very same point (so there's no line between them)
+        if (distanceSquared >= touching * touching || distanceSquared == 0) {
+            return false;
+        }
+
+        double distance = Math.sqrt(distanceSquared);
+        double normalX = distX / distance;
+        double normalY = distY / distance;
+        // the speed at which they get closer, along the line between them
+        double approach = (dx[j] - dx[i]) * normalX + (dy[j] - dy[i]) * normalY;
+        if (approach >= 0) {
+            return false;
+        }
+
+        dx[i] += approach * normalX;
+        dy[i] += approach * normalY;
+        dx[j] -= approach * normalX;
+        dy[j] -= approach * normalY;
+        return true;
+    }
+}
@@ -0,0 +1,63 @@
+package arkanoid.game.collision;
+
+import arkanoid.sprites.Block;
+
+import java.util.List;
+
+/**
+ * Enum Name: CollisionBackend.
+ * <p>
+ * This enum represents the broad-phase indexes that a level's collidables can be kept in.
+ * GRID buckets the collidables into a uniform grid of cells as big as the level's average block (see UniformGrid).
+ * TILES keeps the blocks of a level that is laid out on a grid in a compact map of cells (see TileMap); a level that
+ * isn't laid out on a grid falls back to GRID.
+ *
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.0
+ * @since 18 October 2026
+ */
+public enum CollisionBackend {
+    GRID,
+    TILES;
+
+    // the system property that selects the backend, e.g. -Darkanoid.collision.backend=grid
+    public static final String PROPERTY = "arkanoid.collision.backend";
+
+    /**
+     * fromSystemProperty: get the backend selected by the system property, or TILES if none was selected.
+     *
+     * @return the selected backend
+     */
+    public static CollisionBackend fromSystemProperty() {
+        String backend = System.getProperty(PROPERTY);
+
+        if (backend == null || backend.trim().isEmpty()) {
+            return TILES;
+        }
+
+        try {
+            return valueOf(backend.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Unknown collision backend: " + backend);
+        }
+    }
+
+    /**
+     * create: create an index for a level.
+     *
+     * @param blocks the blocks of the level
+     * @param width  the width of the world
+     * @param height the height of the world
+     * @return the index
+     */
+    public CollisionIndex create(List<Block> blocks, double width, double height) {
+        if (this == TILES) {
+            TileMap tiles = TileMap.fromBlocks(blocks);
+            if (tiles != null) {
+                return tiles;
+            }
+        }
+
+        return UniformGrid.bucketedByBlocks(blocks, width, height);
+    }
+}
@@ -0,0 +1,63 @@
+package arkanoid.game.collision;
+
+import arkanoid.sprites.Collidable;
+
+import java.util.List;
+
+/**
+ * Interface Name: CollisionIndex.
+ * <p>
+ * This interface represents a broad-phase spatial index of collidables. Given a trajectory, it returns the
+ * collidables that may be hit along it, so the exact (narrow-phase) test runs only on a handful of candidates.
+ *
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.1
+ * @since 18 October 2026
+ */
+public interface CollisionIndex {
+    /**
+     * insert: add a collidable to the index, according to its current collision rectangle.
+     *
+     * @param c the collidable to add
+     */
+    void insert(Collidable c);
+
+    /**
+     * remove: remove a collidable from the index.
+     *
+     * @param c the collidable to remove
+     */
+    void remove(Collidable c);
+
+    /**
+     * update: re-index a collidable whose collision rectangle has changed.
+     *
+     * @param c the collidable to update
+     */
+    void update(Collidable c);
+
+    /**
+     * query: collect the collidables that may be hit by a trajectory going from (x0, y0) to (x1, y1).
+     * Each candidate is added to the output list only once.
+     *
+     * @param x0  the X value of the trajectory's start point
+     * @param y0  the Y value of the trajectory's start point
+     * @param x1  the X value of the trajectory's end point
+     * @param y1  the Y value of the trajectory's end point
+     * @param out the list to which the candidates are added
+     */
+    void query(double x0, double y0, double x1, double y1, List<Collidable> out);
+
+    /**
+     * query: collect the collidables that may be hit by a circle that moves from (x0, y0) to (x1, y1).
+     * Each candidate is added to the output list only once.
+     *
+     * @param x0     the X value of the circle's start point
+     * @param y0     the Y value of the circle's start point
+     * @param x1     the X value of the circle's end point
+     * @param y1     the Y value of the circle's end point
+     * @param radius the circle's radius
+     * @param out    the list to which the candidates are added
+     */
+    void query(double x0, double y0, double x1, double y1, double radius, List<Collidable> out);
+}
@@ -0,0 +1,43 @@
+package arkanoid.game.collision;
+
+/**
+ * Enum Name: CollisionMode.
+ * <p>
+ * This enum represents the ways a ball's collisions can be detected.
+ * POINT moves the ball's center as a point and resolves only the first hit of every step (the classic behavior).
+ * SWEPT sweeps the ball's whole circle along its step and resolves several hits within the same step, so fast balls
+ * don't pass through thin blocks or stick to them.
+ * FIXED moves the ball's center like POINT, but on 16.16 fixed-point numbers with integer arithmetic only (see
+ * Fixed), so a game - e.g. a replay, or a lockstep session - plays bit for bit the same on every platform.
+ *
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.1
+ * @since 18 October 2026
+ */
+public enum CollisionMode {
+    POINT,
+    SWEPT,
+    FIXED;
+
+    // the system property that selects the default mode, e.g. -Darkanoid.collision=swept
+    public static final String PROPERTY = "arkanoid.collision";
+
+    /**
+     * fromSystemProperty: get the mode selected by the system property, or POINT if none was selected.
+     *
+     * @return the selected mode
+     */
+    public static CollisionMode fromSystemProperty() {
+        String mode = System.getProperty(PROPERTY);
+
+        if (mode == null || mode.trim().isEmpty()) {
+            return POINT;
+        }
+
+        try {
+            return valueOf(mode.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Unknown collision mode: " + mode);
+        }
+    }
+}
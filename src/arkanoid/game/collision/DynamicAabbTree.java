@@ -0,0 +1,562 @@
+package arkanoid.game.collision;
+
+import arkanoid.geometry.Rectangle;
+import arkanoid.sprites.Collidable;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Class Name: DynamicAabbTree.
+ * <p>
+ * This class is a broad-phase collision index for collidables that move (e.g. the paddle, or the blocks when they
+ * dance): a bounding-volume hierarchy whose leaves hold "fat" boxes - the collidables' rectangles grown by a margin,
+ * and stretched ahead in the direction they've been moving. As long as a collidable stays inside its fat box, updating
+ * it costs a single containment check, and only a collidable that escaped its box is taken out of the tree and put back
+ * in (so the tree is refitted incrementally, and never rebuilt). The tree is kept balanced by rotations, like an AVL
+ * tree, and a new leaf is put next to the sibling that grows the perimeters of the boxes the least.
+ * A query walks down only the boxes its trajectory passes through, so it costs about log(n) boxes plus its candidates.
+ * The nodes live in parallel arrays, so the tree creates no objects once it has grown to its size, and a query
+ * doesn't change the tree, so several threads can query it at once.
+ *
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.0
+ * @since 18 October 2026
+ */
+public class DynamicAabbTree implements CollisionIndex {
+    // how much (in pixels) a fat box is grown on each side
+    public static final double FAT_MARGIN = 8;
+    // how far ahead (in multiples of the last move) a fat box is stretched in the direction of the move
+    public static final double DISPLACEMENT_MULTIPLIER = 2;
+    // how much the boxes are grown by a query, so that a trajectory that only touches a rectangle still finds it
+    public static final double PRECISION = 0.0001;
+    public static final int NULL_NODE = -1;
+    public static final int DEFAULT_CAPACITY = 16;
+
+    // the boxes of the nodes: the fat boxes of the leaves, and the union of the children's boxes of the others
+    private double[] minX;
+    private double[] minY;
+    private double[] maxX;
+    private double[] maxY;
+    private int[] parent;
+    // the children of every node (a leaf has no children)
+    private int[] left;
+    private int[] right;
+    // the height of every node's subtree (a leaf's is 0)
+    private int[] height;
+    // the collidable of every leaf (null for the other nodes and the free ones)
+    private Collidable[] items;
+    // the upper-left corner of every leaf's rectangle when its fat box was made, to tell where it's heading
+    private double[] fittedX;
+    private double[] fittedY;
+    private int nodesNum;
+    private int[] freeNodes;
+    private int freeNum;
+    private int root;
+    // the leaf of every collidable
+    private Map<Collidable, Integer> leaves;
+
+    /**
+     * Constructor.
+     */
+    public DynamicAabbTree() {
+        this.minX = new double[DEFAULT_CAPACITY];
+        this.minY = new double[DEFAULT_CAPACITY];
+        this.maxX = new double[DEFAULT_CAPACITY];
+        this.maxY = new double[DEFAULT_CAPACITY];
+        this.parent = new int[DEFAULT_CAPACITY];
+        this.left = new int[DEFAULT_CAPACITY];
+        this.right = new int[DEFAULT_CAPACITY];
+        this.height = new int[DEFAULT_CAPACITY];
+        this.items = new Collidable[DEFAULT_CAPACITY];
+        this.fittedX = new double[DEFAULT_CAPACITY];
+        this.fittedY = new double[DEFAULT_CAPACITY];
+        this.nodesNum = 0;
+        this.freeNodes = new int[DEFAULT_CAPACITY];
+        this.freeNum = 0;
+        this.root = NULL_NODE;
+        this.leaves = new IdentityHashMap<>();
+    }
+
+    /**
+     * size: get the number of collidables in the tree.
+     *
+     * @return the number of collidables
+     */
+    public int size() {
+        return this.leaves.size();
+    }
+
+    /**
+     * getHeight: get the height of the tree (0 if it's empty or has a single leaf).
+     *
+     * @return the height of the tree
+     */
+    public int getHeight() {
+        return (this.root == NULL_NODE) ? 0 : this.height[this.root];
+    }
+
+    @Override
+    public void insert(Collidable c) {
+        if (this.leaves.containsKey(c)) {
+            return;
+        }
+
+        Rectangle rect = c.getCollisionRectangle();
+        int leaf = this.newNode();
+        this.items[leaf] = c;
+        this.fit(leaf, rect, 0, 0);
+        this.insertLeaf(leaf);
+        this.leaves.put(c, leaf);
+    }
+
+    @Override
+    public void remove(Collidable c) {
+        Integer leaf = this.leaves.remove(c);
+
+        // the collidable isn't in the tree
+        if (leaf == null) {
+            return;
+        }
+
+        this.removeLeaf(leaf);
+        this.items[leaf] = null;
+        this.freeNode(leaf);
+    }
+
+    /**
+     * update: refit a collidable whose collision rectangle may have moved. It costs a containment check as long as
+     * the rectangle stays inside its fat box; otherwise the leaf gets a new fat box (stretched in the direction of
+     * the move) and is put back in the tree.
+     *
+     * @param c the collidable to update
+     */
+    @Override
+    public void update(Collidable c) {
+        Integer node = this.leaves.get(c);
+
+        if (node == null) {
+            this.insert(c);
+            return;
+        }
+
+        int leaf = node;
+        Rectangle rect = c.getCollisionRectangle();
+        double x = rect.getUpperLeft().getX();
+        double y = rect.getUpperLeft().getY();
+
+        // it's still inside its fat box, so the tree stays as it is
+        if (x >= this.minX[leaf] && y >= this.minY[leaf] && x + rect.getWidth() <= this.maxX[leaf]
+                && y + rect.getHeight() <= this.maxY[leaf]) {
+            return;
+        }
+
+        this.removeLeaf(leaf);
+        this.fit(leaf, rect, x - this.fittedX[leaf], y - this.fittedY[leaf]);
+        this.insertLeaf(leaf);
+    }
+
+    @Override
+    public void query(double x0, double y0, double x1, double y1, List<Collidable> out) {
+        if (this.root != NULL_NODE) {
+            this.query(this.root, x0, y0, x1 - x0, y1 - y0, PRECISION, out);
+        }
+    }
+
+    @Override
+    public void query(double x0, double y0, double x1, double y1, double radius, List<Collidable> out) {
+        // a circle touches a rectangle only if its center passes through the rectangle grown by the radius
+        if (this.root != NULL_NODE) {
+            this.query(this.root, x0, y0, x1 - x0, y1 - y0, radius + PRECISION, out);
+        }
+    }
+
+    /**
+     * query: collect the leaves under a node whose boxes (grown by a padding) a segment passes through.
+     *
+     * @param node    the node
+     * @param x0      the X value of the segment's start point
+     * @param y0      the Y value of the segment's start point
+     * @param dx      the segment's length along the X axis
+     * @param dy      the segment's length along the Y axis
+     * @param padding how much to grow the boxes on each side
+     * @param out     the list to which the collidables are added
+     */
+    private void query(int node, double x0, double y0, double dx, double dy, double padding, List<Collidable> out) {
+        if (!crosses(x0, y0, dx, dy, this.minX[node] - padding, this.minY[node] - padding,
+                this.maxX[node] + padding, this.maxY[node] + padding)) {
+            return;
+        }
+
+        if (this.isLeaf(node)) {
+            out.add(this.items[node]);
+            return;
+        }
+
+        this.query(this.left[node], x0, y0, dx, dy, padding, out);
+        this.query(this.right[node], x0, y0, dx, dy, padding, out);
+    }
+
+    /**
+     * crosses: tell whether a segment passes through a box (or touches it), by clipping it against the box's slabs.
+     *
+     * @param x0    the X value of the segment's start point
+     * @param y0    the Y value of the segment's start point
+     * @param dx    the segment's length along the X axis
+     * @param dy    the segment's length along the Y axis
+     * @param boxX0 the box's smallest X value
+     * @param boxY0 the box's smallest Y value
+     * @param boxX1 the box's largest X value
+     * @param boxY1 the box's largest Y value
+     * @return true if the segment passes through the box; false otherwise
+     */
+    private static boolean crosses(double x0, double y0, double dx, double dy, double boxX0, double boxY0,
+                                   double boxX1, double boxY1) {
+        double tMin = 0;
+        double tMax = 1;
+
+        if (dx == 0) {
+            if (x0 < boxX0 || x0 > boxX1) {
+                return false;
+            }
+        } else {
+            double t1 = (boxX0 - x0) / dx;
+            double t2 = (boxX1 - x0) / dx;
+            tMin = Math.max(tMin, Math.min(t1, t2));
+            tMax = Math.min(tMax, Math.max(t1, t2));
+            if (tMin > tMax) {
+                return false;
+            }
+        }
+
+        if (dy == 0) {
+            return y0 >= boxY0 && y0 <= boxY1;
+        }
+
+        double t1 = (boxY0 - y0) / dy;
+        double t2 = (boxY1 - y0) / dy;
+        return Math.max(tMin, Math.min(t1, t2)) <= Math.min(tMax, Math.max(t1, t2));
+    }
+
+    /**
+     * fit: make a leaf's fat box around a rectangle, stretched ahead in the direction of the rectangle's last move.
+     *
+     * @param leaf   the leaf
+     * @param rect   the rectangle
+     * @param moveX  the rectangle's move along the X axis since the leaf's last fit
+     * @param moveY  the rectangle's move along the Y axis since the leaf's last fit
+     */
+    private void fit(int leaf, Rectangle rect, double moveX, double moveY) {
+        double x = rect.getUpperLeft().getX();
+        double y = rect.getUpperLeft().getY();
+        double aheadX = DISPLACEMENT_MULTIPLIER * moveX;
+        double aheadY = DISPLACEMENT_MULTIPLIER * moveY;
+
+        this.minX[leaf] = x - FAT_MARGIN + Math.min(0, aheadX);
+        this.minY[leaf] = y - FAT_MARGIN + Math.min(0, aheadY);
+        this.maxX[leaf] = x + rect.getWidth() + FAT_MARGIN + Math.max(0, aheadX);
+        this.maxY[leaf] = y + rect.getHeight() + FAT_MARGIN + Math.max(0, aheadY);
+        this.fittedX[leaf] = x;
+        this.fittedY[leaf] = y;
+    }
+
+    /**
+     * insertLeaf: hang a leaf in the tree, next to the sibling that grows the perimeters of the boxes the least,
+     * and rebalance the tree on the way back up.
+     *
+     * @param leaf the leaf
+     */
+    private void insertLeaf(int leaf) {
+        if (this.root == NULL_NODE) {
+            this.root = leaf;
+            this.parent[leaf] = NULL_NODE;
+            return;
+        }
+
+        // walk down to the best sibling
+        int index = this.root;
+        while (!this.isLeaf(index)) {
+            int child1 = this.left[index];
+            int child2 = this.right[index];
+            double perimeter = this.perimeter(index);
+            double combined = this.unionPerimeter(index, leaf);
+
+            // the cost of making a new parent for this node and the leaf
+            double cost = 2 * combined;
+            // the least cost of pushing the leaf further down (every node on the way grows too)
+            double inheritance = 2 * (combined - perimeter);
+            double cost1 = this.descendCost(child1, leaf) + inheritance;
+            double cost2 = this.descendCost(child2, leaf) + inheritance;
+
+            if (cost < cost1 && cost < cost2) {
+                break;
+            }
+
+            index = (cost1 < cost2) ? child1 : child2;
+        }
+
+        // make a new parent for the sibling and the leaf
+        int sibling = index;
+        int oldParent = this.parent[sibling];
+        int newParent = this.newNode();
+        this.parent[newParent] = oldParent;
+        this.items[newParent] = null;
+        this.setUnion(newParent, sibling, leaf);
+        this.height[newParent] = this.height[sibling] + 1;
+
+        if (oldParent == NULL_NODE) {
+            this.root = newParent;
+        } else if (this.left[oldParent] == sibling) {
+            this.left[oldParent] = newParent;
+        } else {
+            this.right[oldParent] = newParent;
+        }
+
+        this.left[newParent] = sibling;
+        this.right[newParent] = leaf;
+        this.parent[sibling] = newParent;
+        this.parent[leaf] = newParent;
+
+        this.refitUp(this.parent[leaf]);
+    }
+
+    /**
+     * removeLeaf: take a leaf out of the tree (its parent goes away, and its sibling takes the parent's place),
+     * and rebalance the tree on the way back up. The leaf itself isn't freed.
+     *
+     * @param leaf the leaf
+     */
+    private void removeLeaf(int leaf) {
+        if (leaf == this.root) {
+            this.root = NULL_NODE;
+            return;
+        }
+
+        int oldParent = this.parent[leaf];
+        int grandParent = this.parent[oldParent];
+        int sibling = (this.left[oldParent] == leaf) ? this.right[oldParent] : this.left[oldParent];
+
+        if (grandParent == NULL_NODE) {
+            this.root = sibling;
+            this.parent[sibling] = NULL_NODE;
+        } else {
+            if (this.left[grandParent] == oldParent) {
+                this.left[grandParent] = sibling;
+            } else {
+                this.right[grandParent] = sibling;
+            }
+            this.parent[sibling] = grandParent;
+            this.refitUp(grandParent);
+        }
+
+        this.freeNode(oldParent);
+    }
+
+    /**
+     * refitUp: walk up from a node to the root, rebalance every node on the way, and refit its box and height.
+     *
+     * @param node the first node
+     */
+    private void refitUp(int node) {
+        int index = node;
+
+        while (index != NULL_NODE) {
+            index = this.balance(index);
+
+            int child1 = this.left[index];
+            int child2 = this.right[index];
+            this.height[index] = 1 + Math.max(this.height[child1], this.height[child2]);
+            this.setUnion(index, child1, child2);
+
+            index = this.parent[index];
+        }
+    }
+
+    /**
+     * balance: if one of a node's subtrees is higher than the other by more than 1, rotate the higher child up.
+     *
+     * @param a the node
+     * @return the node that took the node's place (the node itself if no rotation was needed)
+     */
+    private int balance(int a) {
+        if (this.isLeaf(a) || this.height[a] < 2) {
+            return a;
+        }
+
+        int b = this.left[a];
+        int c = this.right[a];
+        int difference = this.height[c] - this.height[b];
+
+        if (difference > 1) {
+            this.rotateUp(a, c, b, false);
+            return c;
+        }
+
+        if (difference < -1) {
+            this.rotateUp(a, b, c, true);
+            return b;
+        }
+
+        return a;
+    }
+
+    /**
+     * rotateUp: put a node's higher child in its place. The child keeps its own higher child, and the node takes
+     * the other one, next to the node's lower child.
+     *
+     * @param a        the node
+     * @param up       the node's higher child
+     * @param other    the node's lower child
+     * @param isUpLeft whether the higher child is the node's left child
+     */
+    private void rotateUp(int a, int up, int other, boolean isUpLeft) {
+        int f = this.left[up];
+        int g = this.right[up];
+
+        // the higher child takes the node's place
+        this.left[up] = a;
+        this.parent[up] = this.parent[a];
+        this.parent[a] = up;
+
+        if (this.parent[up] == NULL_NODE) {
+            this.root = up;
+        } else if (this.left[this.parent[up]] == a) {
+            this.left[this.parent[up]] = up;
+        } else {
+            this.right[this.parent[up]] = up;
+        }
+
+        // the higher of the grandchildren stays with the child, and the other one goes to the node
+        int kept = (this.height[f] > this.height[g]) ? f : g;
+        int given = (kept == f) ? g : f;
+        this.right[up] = kept;
+
+        if (isUpLeft) {
+            this.left[a] = given;
+        } else {
+            this.right[a] = given;
+        }
+        this.parent[given] = a;
+
+        this.setUnion(a, other, given);
+        this.setUnion(up, a, kept);
+        this.height[a] = 1 + Math.max(this.height[other], this.height[given]);
+        this.height[up] = 1 + Math.max(this.height[a], this.height[kept]);
+    }
+
+    /**
+     * descendCost: get how much the boxes would grow if a leaf is pushed down into a child's subtree.
+     *
+     * @param child the child
+     * @param leaf  the leaf
+     * @return the cost
+     */
+    private double descendCost(int child, int leaf) {
+        double combined = this.unionPerimeter(child, leaf);
+        return this.isLeaf(child) ? combined : combined - this.perimeter(child);
+    }
+
+    /**
+     * perimeter: get the perimeter of a node's box.
+     *
+     * @param node the node
+     * @return the perimeter
+     */
+    private double perimeter(int node) {
+        return 2 * ((this.maxX[node] - this.minX[node]) + (this.maxY[node] - this.minY[node]));
+    }
+
+    /**
+     * unionPerimeter: get the perimeter of the box that holds the boxes of two nodes.
+     *
+     * @param node1 the first node
+     * @param node2 the second node
+     * @return the perimeter
+     */
+    private double unionPerimeter(int node1, int node2) {
+        double width = Math.max(this.maxX[node1], this.maxX[node2]) - Math.min(this.minX[node1], this.minX[node2]);
+        double height = Math.max(this.maxY[node1], this.maxY[node2]) - Math.min(this.minY[node1], this.minY[node2]);
+        return 2 * (width + height);
+    }
+
+    /**
+     * setUnion: set a node's box to the box that holds the boxes of two other nodes.
+     *
+     * @param node  the node
+     * @param node1 the first node
+     * @param node2 the second node
+     */
+    private void setUnion(int node, int node1, int node2) {
+        this.minX[node] = Math.min(this.minX[node1], this.minX[node2]);
+        this.minY[node] = Math.min(this.minY[node1], this.minY[node2]);
+        this.maxX[node] = Math.max(this.maxX[node1], this.maxX[node2]);
+        this.maxY[node] = Math.max(this.maxY[node1], this.maxY[node2]);
+    }
+
+    /**
+     * isLeaf: tell whether a node is a leaf.
+     *
+     * @param node the node
+     * @return true if it's a leaf; false otherwise
+     */
+    private boolean isLeaf(int node) {
+        return this.left[node] == NULL_NODE;
+    }
+
+    /**
+     * newNode: get a node for a new leaf or parent: a free one, or the next one.
+     *
+     * @return the node
+     */
+    private int newNode() {
+        int node;
+
+        if (this.freeNum > 0) {
+            node = this.freeNodes[--this.freeNum];
+        } else {
+            if (this.nodesNum == this.parent.length) {
+                this.grow(this.nodesNum * 2);
+            }
+            node = this.nodesNum++;
+        }
+
+        this.parent[node] = NULL_NODE;
+        this.left[node] = NULL_NODE;
+        this.right[node] = NULL_NODE;
+        this.height[node] = 0;
+        return node;
+    }
+
+    /**
+     * freeNode: give back a node, to be used again by the next new node.
+     *
+     * @param node the node
+     */
+    private void freeNode(int node) {
+        if (this.freeNum == this.freeNodes.length) {
+            this.freeNodes = Arrays.copyOf(this.freeNodes, this.freeNum * 2);
+        }
+        this.freeNodes[this.freeNum++] = node;
+    }
+
+    /**
+     * grow: make room for more nodes.
+     *
+     * @param capacity the new number of nodes
+     */
+    private void grow(int capacity) {
+        this.minX = Arrays.copyOf(this.minX, capacity);
+        this.minY = Arrays.copyOf(this.minY, capacity);
+        this.maxX = Arrays.copyOf(this.maxX, capacity);
+        this.maxY = Arrays.copyOf(this.maxY, capacity);
+        this.parent = Arrays.copyOf(this.parent, capacity);
+        this.left = Arrays.copyOf(this.left, capacity);
+        this.right = Arrays.copyOf(this.right, capacity);
+        this.height = Arrays.copyOf(this.height, capacity);
+        this.items = Arrays.copyOf(this.items, capacity);
+        this.fittedX = Arrays.copyOf(this.fittedX, capacity);
+        this.fittedY = Arrays.copyOf(this.fittedY, capacity);
+    }
+}
@@ -0,0 +1,70 @@
+package arkanoid.game.collision;
+
+import java.util.Arrays;
+
+/**
+ * Class Name: QueryStamps.
+ * <p>
+ * This class removes the duplicates of a single query: every query gets a new epoch, and an id is stamped with it
+ * the first time the query meets it, so checking for a duplicate costs one array access instead of a search of the
+ * output list. Several balls may query the same index at once, so every thread has stamps of its own.
+ *
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.0
+ * @since 18 October 2026
+ */
+final class QueryStamps {
+    public static final int DEFAULT_CAPACITY = 64;
+
+    private static final ThreadLocal<QueryStamps> CURRENT = ThreadLocal.withInitial(QueryStamps::new);
+
+    // the epoch of the last query that met every id
+    private int[] stamps;
+    private int epoch;
+
+    /**
+     * Constructor.
+     */
+    private QueryStamps() {
+        this.stamps = new int[DEFAULT_CAPACITY];
+        this.epoch = 0;
+    }
+
+    /**
+     * begin: start a new query on the current thread.
+     *
+     * @param capacity the number of ids the query may meet (0 to capacity - 1)
+     * @return the current thread's stamps, cleared for the query
+     */
+    static QueryStamps begin(int capacity) {
+        QueryStamps current = CURRENT.get();
+
+        if (capacity > current.stamps.length) {
+            current.stamps = Arrays.copyOf(current.stamps, Math.max(capacity, current.stamps.length * 2));
+        }
+
+        // when the epoch wraps around, the old stamps might look new, so they're cleared
+        current.epoch++;
+        if (current.epoch == 0) {
+            Arrays.fill(current.stamps, 0);
+            current.epoch = 1;
+        }
+
+        return current;
+    }
+
+    /**
+     * mark: stamp an id with the current query's epoch.
+     *
+     * @param id the id
+     * @return true if the query meets the id for the first time; false otherwise
+     */
+    boolean mark(int id) {
+        if (this.stamps[id] == this.epoch) {
+            return false;
+        }
+
+        this.stamps[id] = this.epoch;
+        return true;
+    }
+}
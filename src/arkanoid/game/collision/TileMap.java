@@ -0,0 +1,479 @@
+package arkanoid.game.collision;
+
+import arkanoid.geometry.Rectangle;
+import arkanoid.sprites.Block;
+import arkanoid.sprites.Collidable;
+import arkanoid.util.SwapRemoveList;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Class Name: TileMap.
+ * <p>
+ * This class is a broad-phase collision index for levels whose blocks are laid out on a grid (as the blocks plan of a
+ * levels file lays them out: rows of a fixed height, and symbols of fixed widths). The grid's cells are as big as the
+ * largest cell that all the blocks' positions and sizes are multiples of, and every cell holds the id of the block
+ * that covers it in a single int array - so a block costs a few ints, and a query costs as much as the number of
+ * cells the trajectory crosses.
+ * Everything that doesn't sit on the grid (e.g. the borders, or a block that overlaps another one) is kept in a small
+ * side list, which is checked by bounding boxes on every query.
+ * A query finds the tiles it has already met by stamping their ids, without searching its output.
+ * A cell is closed, like a rectangle: a trajectory that only touches a block's edge or corner finds the block too.
+ *
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.1
+ * @since 18 October 2026
+ */
+public class TileMap implements CollisionIndex {
+    // how far (in pixels) a value may be from the grid and still be on it
+    public static final double PRECISION = 0.0001;
+    // a level whose grid would have more cells than this per block isn't laid out on a grid
+    public static final int MAX_CELLS_PER_BLOCK = 64;
+    public static final int NO_TILE = -1;
+    public static final int OFF_GRID = Integer.MIN_VALUE;
+    public static final int DEFAULT_CAPACITY = 64;
+
+    private double originX;
+    private double originY;
+    private double cellWidth;
+    private double cellHeight;
+    private int columns;
+    private int rows;
+    // the id of the tile that covers every cell, or NO_TILE
+    private int[] cells;
+    // the collidable of every tile id (null if the id is free)
+    private Collidable[] tiles;
+    // the cells every tile covers, 4 values each: {minColumn, minRow, maxColumn, maxRow} (the max ones exclusive)
+    private int[] spans;
+    private int tilesNum;
+    // the ids of the removed tiles, which are given to the next tiles
+    private int[] freeIds;
+    private int freeNum;
+    // the collidables that aren't on the grid
+    private SwapRemoveList<Collidable> loose;
+
+    /**
+     * Constructor.
+     *
+     * @param x       the X value of the grid's upper-left point
+     * @param y       the Y value of the grid's upper-left point
+     * @param width   the width of each cell
+     * @param height  the height of each cell
+     * @param cols    the number of columns
+     * @param rowsNum the number of rows
+     */
+    public TileMap(double x, double y, double width, double height, int cols, int rowsNum) {
+        this.originX = x;
+        this.originY = y;
+        this.cellWidth = width;
+        this.cellHeight = height;
+        this.columns = cols;
+        this.rows = rowsNum;
+        this.cells = new int[cols * rowsNum];
+        Arrays.fill(this.cells, NO_TILE);
+        this.tiles = new Collidable[DEFAULT_CAPACITY];
+        this.spans = new int[DEFAULT_CAPACITY * 4];
+        this.tilesNum = 0;
+        this.freeIds = new int[DEFAULT_CAPACITY];
+        this.freeNum = 0;
+        this.loose = new SwapRemoveList<>();
+    }
+
+    /**
+     * fromBlocks: create a tile map whose grid fits the blocks of a level.
+     *
+     * @param blocks the blocks of the level
+     * @return the tile map, or null if the blocks aren't laid out on a grid
+     */
+    public static TileMap fromBlocks(List<Block> blocks) {
+        if (blocks.isEmpty()) {
+            return null;
+        }
+
+        double minX = Double.POSITIVE_INFINITY, minY = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY;
+        for (Block block : blocks) {
+            Rectangle rect = block.getCollisionRectangle();
+            minX = Math.min(minX, rect.getUpperLeft().getX());
+            minY = Math.min(minY, rect.getUpperLeft().getY());
+            maxX = Math.max(maxX, rect.getUpperLeft().getX() + rect.getWidth());
+            maxY = Math.max(maxY, rect.getUpperLeft().getY() + rect.getHeight());
+        }
+
+        // the largest cell that every block's position and size are multiples of
+        double width = 0, height = 0;
+        for (Block block : blocks) {
+            Rectangle rect = block.getCollisionRectangle();
+            width = gcd(gcd(width, rect.getUpperLeft().getX() - minX), rect.getWidth());
+            height = gcd(gcd(height, rect.getUpperLeft().getY() - minY), rect.getHeight());
+        }
+
+        if (width <= PRECISION || height <= PRECISION) {
+            return null;
+        }
+
+        long cols = Math.round((maxX - minX) / width);
+        long rowsNum = Math.round((maxY - minY) / height);
+        if (cols * rowsNum > (long) MAX_CELLS_PER_BLOCK * blocks.size()) {
+            return null;
+        }
+
+        return new TileMap(minX, minY, width, height, (int) cols, (int) rowsNum);
+    }
+
+    /**
+     * gcd: get the greatest common divisor of two non-negative values, up to the precision.
+     *
+     * @param a the first value
+     * @param b the second value
+     * @return the greatest value that both are multiples of (0 if both are 0)
+     */
+    private static double gcd(double a, double b) {
+        a = Math.abs(a);
+        b = Math.abs(b);
+
+        while (b > PRECISION) {
+            double remainder = a % b;
+            // a remainder that is almost b is a rounding error of 0
+            if (b - remainder <= PRECISION) {
+                remainder = 0;
+            }
+            a = b;
+            b = remainder;
+        }
+
+        return a;
+    }
+
+    @Override
+    public void insert(Collidable c) {
+        Rectangle rect = c.getCollisionRectangle();
+        double x = rect.getUpperLeft().getX();
+        double y = rect.getUpperLeft().getY();
+        int minCol = gridLine(x, this.originX, this.cellWidth);
+        int minRow = gridLine(y, this.originY, this.cellHeight);
+        int maxCol = gridLine(x + rect.getWidth(), this.originX, this.cellWidth);
+        int maxRow = gridLine(y + rect.getHeight(), this.originY, this.cellHeight);
+
+        // a collidable that isn't on the grid, or overlaps a tile, goes to the side list
+        if (minCol < 0 || minRow < 0 || maxCol > this.columns || maxRow > this.rows || minCol >= maxCol
+                || minRow >= maxRow || !this.isFree(minCol, minRow, maxCol, maxRow)) {
+            this.loose.add(c);
+            return;
+        }
+
+        int id = this.newId();
+        this.tiles[id] = c;
+        this.spans[id * 4] = minCol;
+        this.spans[id * 4 + 1] = minRow;
+        this.spans[id * 4 + 2] = maxCol;
+        this.spans[id * 4 + 3] = maxRow;
+        this.fill(id, id);
+    }
+
+    @Override
+    public void remove(Collidable c) {
+        if (this.loose.remove(c)) {
+            return;
+        }
+
+        int id = this.idOf(c);
+        // the collidable isn't in the map
+        if (id == NO_TILE) {
+            return;
+        }
+
+        this.fill(id, NO_TILE);
+        this.tiles[id] = null;
+        if (this.freeNum == this.freeIds.length) {
+            this.freeIds = Arrays.copyOf(this.freeIds, this.freeNum * 2);
+        }
+        this.freeIds[this.freeNum++] = id;
+    }
+
+    @Override
+    public void update(Collidable c) {
+        this.remove(c);
+        this.insert(c);
+    }
+
+    @Override
+    public void query(double x0, double y0, double x1, double y1, List<Collidable> out) {
+        this.collectLoose(Math.min(x0, x1), Math.min(y0, y1), Math.max(x0, x1), Math.max(y0, y1), out);
+
+        // in cells
+        double gx0 = (x0 - this.originX) / this.cellWidth;
+        double gy0 = (y0 - this.originY) / this.cellHeight;
+        double gx1 = (x1 - this.originX) / this.cellWidth;
+        double gy1 = (y1 - this.originY) / this.cellHeight;
+        double precisionX = PRECISION / this.cellWidth;
+        double precisionY = PRECISION / this.cellHeight;
+        QueryStamps stamps = QueryStamps.begin(this.tilesNum);
+
+        // a trajectory within a couple of columns or rows covers a thin strip of cells anyway
+        if (Math.abs(gx1 - gx0) <= 1 || Math.abs(gy1 - gy0) <= 1) {
+            this.collectRange(Math.min(gx0, gx1) - precisionX, Math.min(gy0, gy1) - precisionY,
+                    Math.max(gx0, gx1) + precisionX, Math.max(gy0, gy1) + precisionY, stamps, out);
+            return;
+        }
+
+        this.walk(gx0, gy0, gx1, gy1, precisionX, precisionY, stamps, out);
+    }
+
+    @Override
+    public void query(double x0, double y0, double x1, double y1, double radius, List<Collidable> out) {
+        // a point is just a trajectory
+        if (radius <= 0) {
+            this.query(x0, y0, x1, y1, out);
+            return;
+        }
+
+        // the circle moves only a step at a time, so all the cells under its bounding box are close enough
+        double minX = Math.min(x0, x1) - radius, minY = Math.min(y0, y1) - radius;
+        double maxX = Math.max(x0, x1) + radius, maxY = Math.max(y0, y1) + radius;
+        this.collectLoose(minX, minY, maxX, maxY, out);
+        this.collectRange((minX - PRECISION - this.originX) / this.cellWidth,
+                (minY - PRECISION - this.originY) / this.cellHeight,
+                (maxX + PRECISION - this.originX) / this.cellWidth,
+                (maxY + PRECISION - this.originY) / this.cellHeight, QueryStamps.begin(this.tilesNum), out);
+    }
+
+    /**
+     * walk: collect the tiles of the cells that a trajectory crosses, cell by cell (DDA-style).
+     * The coordinates are in cells.
+     *
+     * @param gx0        the X value of the trajectory's start point
+     * @param gy0        the Y value of the trajectory's start point
+     * @param gx1        the X value of the trajectory's end point
+     * @param gy1        the Y value of the trajectory's end point
+     * @param precisionX the precision of the X values
+     * @param precisionY the precision of the Y values
+     * @param stamps     the tile ids the query has already met
+     * @param out        the list to which the tiles are added
+     */
+    private void walk(double gx0, double gy0, double gx1, double gy1, double precisionX, double precisionY,
+                      QueryStamps stamps, List<Collidable> out) {
+        double dx = gx1 - gx0;
+        double dy = gy1 - gy0;
+
+        // clip the trajectory to the map, so the walk never leaves it
+        double tMin = 0, tMax = 1;
+        double ax = (-precisionX - gx0) / dx, bx = (this.columns + precisionX - gx0) / dx;
+        double ay = (-precisionY - gy0) / dy, by = (this.rows + precisionY - gy0) / dy;
+        tMin = Math.max(tMin, Math.max(Math.min(ax, bx), Math.min(ay, by)));
+        tMax = Math.min(tMax, Math.min(Math.max(ax, bx), Math.max(ay, by)));
+        if (tMin > tMax) {
+            return;
+        }
+
+        double startX = gx0 + dx * tMin, startY = gy0 + dy * tMin;
+        double endX = gx0 + dx * tMax, endY = gy0 + dy * tMax;
+        // the ends may lie on the borders of several cells
+        this.collectRange(startX - precisionX, startY - precisionY, startX + precisionX, startY + precisionY, stamps,
+                out);
+        this.collectRange(endX - precisionX, endY - precisionY, endX + precisionX, endY + precisionY, stamps, out);
+
+        int col = (int) Math.floor(startX);
+        int row = (int) Math.floor(startY);
+        int endCol = (int) Math.floor(endX);
+        int endRow = (int) Math.floor(endY);
+        int stepX = (dx > 0) ? 1 : -1;
+        int stepY = (dy > 0) ? 1 : -1;
+
+        // the trajectory's parameter at which it crosses the next vertical/horizontal cell border
+        double tDeltaX = 1 / Math.abs(dx);
+        double tDeltaY = 1 / Math.abs(dy);
+        double tMaxX = tMin + (col + (stepX > 0 ? 1 : 0) - startX) / dx;
+        double tMaxY = tMin + (row + (stepY > 0 ? 1 : 0) - startY) / dy;
+        // crossings closer than this pass through a corner
+        double tPrecision = Math.max(precisionX * tDeltaX, precisionY * tDeltaY);
+
+        // the walk never visits more cells than this, even if the floating point errors pile up
+        int cellsLeft = Math.abs(endCol - col) + Math.abs(endRow - row);
+        this.collect(col, row, stamps, out);
+
+        while (cellsLeft > 0 && (col != endCol || row != endRow)) {
+            if (Math.abs(tMaxX - tMaxY) <= tPrecision) {
+                // through a corner: touch the cells on both of its sides, and go on diagonally
+                this.collect(col + stepX, row, stamps, out);
+                this.collect(col, row + stepY, stamps, out);
+                col += stepX;
+                row += stepY;
+                tMaxX += tDeltaX;
+                tMaxY += tDeltaY;
+                cellsLeft -= 2;
+            } else if (tMaxX < tMaxY) {
+                col += stepX;
+                tMaxX += tDeltaX;
+                cellsLeft--;
+            } else {
+                row += stepY;
+                tMaxY += tDeltaY;
+                cellsLeft--;
+            }
+            this.collect(col, row, stamps, out);
+        }
+    }
+
+    /**
+     * collectRange: collect the tiles of all the cells in a range. The coordinates are in cells.
+     *
+     * @param minX   the lowest X value of the range
+     * @param minY   the lowest Y value of the range
+     * @param maxX   the highest X value of the range
+     * @param maxY   the highest Y value of the range
+     * @param stamps the tile ids the query has already met
+     * @param out    the list to which the tiles are added
+     */
+    private void collectRange(double minX, double minY, double maxX, double maxY, QueryStamps stamps,
+                              List<Collidable> out) {
+        int minCol = Math.max(0, (int) Math.floor(minX));
+        int minRow = Math.max(0, (int) Math.floor(minY));
+        int maxCol = Math.min(this.columns - 1, (int) Math.floor(maxX));
+        int maxRow = Math.min(this.rows - 1, (int) Math.floor(maxY));
+
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int col = minCol; col <= maxCol; col++) {
+                this.collect(col, row, stamps, out);
+            }
+        }
+    }
+
+    /**
+     * collect: add the tile of a cell to the output list, without duplicates.
+     *
+     * @param col    the cell's column (may be outside the map)
+     * @param row    the cell's row (may be outside the map)
+     * @param stamps the tile ids the query has already met
+     * @param out    the list to which the tile is added
+     */
+    private void collect(int col, int row, QueryStamps stamps, List<Collidable> out) {
+        if (col < 0 || row < 0 || col >= this.columns || row >= this.rows) {
+            return;
+        }
+
+        int id = this.cells[row * this.columns + col];
+        if (id != NO_TILE && stamps.mark(id)) {
+            out.add(this.tiles[id]);
+        }
+    }
+
+    /**
+     * collectLoose: add the collidables of the side list whose rectangles overlap a box to the output list.
+     * Every collidable is in the side list once, and the list is walked once per query, so there are no duplicates.
+     *
+     * @param minX the lowest X value of the box
+     * @param minY the lowest Y value of the box
+     * @param maxX the highest X value of the box
+     * @param maxY the highest Y value of the box
+     * @param out  the list to which the collidables are added
+     */
+    private void collectLoose(double minX, double minY, double maxX, double maxY, List<Collidable> out) {
+        for (int i = 0; i < this.loose.size(); i++) {
+            Collidable c = this.loose.get(i);
+            Rectangle rect = c.getCollisionRectangle();
+            double x = rect.getUpperLeft().getX();
+            double y = rect.getUpperLeft().getY();
+
+            if (x - PRECISION <= maxX && x + rect.getWidth() + PRECISION >= minX && y - PRECISION <= maxY
+                    && y + rect.getHeight() + PRECISION >= minY) {
+                out.add(c);
+            }
+        }
+    }
+
+    /**
+     * isFree: tell whether no tile covers a range of cells.
+     *
+     * @param minCol the range's first column
+     * @param minRow the range's first row
+     * @param maxCol the column after the range's last one
+     * @param maxRow the row after the range's last one
+     * @return true if all the cells are free; false otherwise
+     */
+    private boolean isFree(int minCol, int minRow, int maxCol, int maxRow) {
+        for (int row = minRow; row < maxRow; row++) {
+            for (int col = minCol; col < maxCol; col++) {
+                if (this.cells[row * this.columns + col] != NO_TILE) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * fill: set the cells of a tile's span.
+     *
+     * @param id    the tile's id
+     * @param value the value to set the cells to
+     */
+    private void fill(int id, int value) {
+        for (int row = this.spans[id * 4 + 1]; row < this.spans[id * 4 + 3]; row++) {
+            int first = row * this.columns;
+            Arrays.fill(this.cells, first + this.spans[id * 4], first + this.spans[id * 4 + 2], value);
+        }
+    }
+
+    /**
+     * idOf: find the id of a collidable's tile.
+     *
+     * @param c the collidable
+     * @return the tile's id, or NO_TILE if it isn't a tile
+     */
+    private int idOf(Collidable c) {
+        // look in the cell under the collidable's corner first, since tiles rarely move
+        Rectangle rect = c.getCollisionRectangle();
+        int col = (int) Math.floor((rect.getUpperLeft().getX() + PRECISION - this.originX) / this.cellWidth);
+        int row = (int) Math.floor((rect.getUpperLeft().getY() + PRECISION - this.originY) / this.cellHeight);
+        if (col >= 0 && row >= 0 && col < this.columns && row < this.rows) {
+            int id = this.cells[row * this.columns + col];
+            if (id != NO_TILE && this.tiles[id] == c) {
+                return id;
+            }
+        }
+
+        for (int id = 0; id < this.tilesNum; id++) {
+            if (this.tiles[id] == c) {
+                return id;
+            }
+        }
+        return NO_TILE;
+    }
+
+    /**
+     * newId: get an id for a new tile: a free one, or the next one.
+     *
+     * @return the id
+     */
+    private int newId() {
+        if (this.freeNum > 0) {
+            return this.freeIds[--this.freeNum];
+        }
+
+        if (this.tilesNum == this.tiles.length) {
+            this.tiles = Arrays.copyOf(this.tiles, this.tilesNum * 2);
+            this.spans = Arrays.copyOf(this.spans, this.tilesNum * 2 * 4);
+        }
+        return this.tilesNum++;
+    }
+
+    /**
+     * gridLine: get the grid line that a value lies on.
+     *
+     * @param value  the value
+     * @param origin the value of the grid's first line
+     * @param size   the distance between the grid's lines
+     * @return the index of the line, or OFF_GRID if the value isn't on a line
+     */
+    private static int gridLine(double value, double origin, double size) {
+        long line = Math.round((value - origin) / size);
+
+        if (Math.abs(origin + line * size - value) > PRECISION || line <= Integer.MIN_VALUE
+                || line > Integer.MAX_VALUE) {
+            return OFF_GRID;
+        }
+        return (int) line;
+    }
+}
@@ -0,0 +1,329 @@
+package arkanoid.game.collision;
+
+import arkanoid.geometry.Rectangle;
+import arkanoid.sprites.Block;
+import arkanoid.sprites.Collidable;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Class Name: UniformGrid.
+ * <p>
+ * This class is a broad-phase collision index that buckets collidables into a uniform grid of cells.
+ * A trajectory is walked cell by cell (DDA-style), so a query costs as much as the number of cells the ball crosses,
+ * and not as much as the number of collidables in the game.
+ * Everything outside the grid's area is bucketed in the nearest edge cell, so nothing is ever lost.
+ * The cells hold ids rather than the collidables themselves, so a query finds its duplicates by stamping ids.
+ *
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.2
+ * @since 18 October 2026
+ */
+public class UniformGrid implements CollisionIndex {
+    public static final double DEFAULT_CELL_WIDTH = 50;
+    public static final double DEFAULT_CELL_HEIGHT = 25;
+    public static final double SPAN_PRECISION = 0.0001;
+    public static final int DEFAULT_CAPACITY = 16;
+
+    private double cellWidth;
+    private double cellHeight;
+    private int columns;
+    private int rows;
+    // the ids bucketed in every cell, in the order they were bucketed
+    private int[][] cells;
+    private int[] cellSizes;
+    // the collidable of every id (null if the id is free)
+    private Collidable[] slots;
+    private int slotsNum;
+    // the ids of the removed collidables, which are given to the next collidables
+    private int[] freeIds;
+    private int freeNum;
+    // the id of each collidable and the range of cells it was bucketed in: {id, minColumn, minRow, maxColumn, maxRow}
+    private Map<Collidable, int[]> spans;
+
+    /**
+     * Constructor.
+     *
+     * @param width      the width of the area covered by the grid
+     * @param height     the height of the area covered by the grid
+     * @param cellWidth  the width of each cell
+     * @param cellHeight the height of each cell
+     */
+    public UniformGrid(double width, double height, double cellWidth, double cellHeight) {
+        this.cellWidth = cellWidth;
+        this.cellHeight = cellHeight;
+        this.columns = Math.max(1, (int) Math.ceil(width / cellWidth));
+        this.rows = Math.max(1, (int) Math.ceil(height / cellHeight));
+        this.cells = new int[this.columns * this.rows][];
+        this.cellSizes = new int[this.columns * this.rows];
+        this.slots = new Collidable[DEFAULT_CAPACITY];
+        this.slotsNum = 0;
+        this.freeIds = new int[DEFAULT_CAPACITY];
+        this.freeNum = 0;
+        this.spans = new IdentityHashMap<>();
+    }
+
+    /**
+     * bucketedByBlocks: create a grid whose cells are as big as the average block of a level.
+     *
+     * @param blocks the blocks of the level
+     * @param width  the width of the area covered by the grid
+     * @param height the height of the area covered by the grid
+     * @return a grid that fits the level's blocks
+     */
+    public static UniformGrid bucketedByBlocks(List<Block> blocks, double width, double height) {
+        double cellWidth = DEFAULT_CELL_WIDTH;
+        double cellHeight = DEFAULT_CELL_HEIGHT;
+
+        // use the average block size as the cell size
+        if (!blocks.isEmpty()) {
+            double totalWidth = 0, totalHeight = 0;
+            for (Block block : blocks) {
+                totalWidth += block.getCollisionRectangle().getWidth();
+                totalHeight += block.getCollisionRectangle().getHeight();
+            }
+            cellWidth = Math.max(1, totalWidth / blocks.size());
+            cellHeight = Math.max(1, totalHeight / blocks.size());
+        }
+
+        return new UniformGrid(width, height, cellWidth, cellHeight);
+    }
+
+    @Override
+    public void insert(Collidable c) {
+        Rectangle rect = c.getCollisionRectangle();
+        double x = rect.getUpperLeft().getX();
+        double y = rect.getUpperLeft().getY();
+
+        // stretch the span a bit, so that collidables which touch a cell's border are found from both of its sides
+        int[] span = new int[5];
+        span[0] = this.newId();
+        span[1] = this.clampColumn(this.column(x - SPAN_PRECISION));
+        span[2] = this.clampRow(this.row(y - SPAN_PRECISION));
+        span[3] = this.clampColumn(this.column(x + rect.getWidth() + SPAN_PRECISION));
+        span[4] = this.clampRow(this.row(y + rect.getHeight() + SPAN_PRECISION));
+
+        for (int row = span[2]; row <= span[4]; row++) {
+            for (int col = span[1]; col <= span[3]; col++) {
+                this.addToCell(row * this.columns + col, span[0]);
+            }
+        }
+
+        this.slots[span[0]] = c;
+        this.spans.put(c, span);
+    }
+
+    @Override
+    public void remove(Collidable c) {
+        int[] span = this.spans.remove(c);
+
+        // the collidable isn't in the grid
+        if (span == null) {
+            return;
+        }
+
+        for (int row = span[2]; row <= span[4]; row++) {
+            for (int col = span[1]; col <= span[3]; col++) {
+                this.removeFromCell(row * this.columns + col, span[0]);
+            }
+        }
+
+        this.slots[span[0]] = null;
+        if (this.freeNum == this.freeIds.length) {
+            this.freeIds = Arrays.copyOf(this.freeIds, this.freeNum * 2);
+        }
+        this.freeIds[this.freeNum++] = span[0];
+    }
+
+    @Override
+    public void update(Collidable c) {
+        this.remove(c);
+        this.insert(c);
+    }
+
+    @Override
+    public void query(double x0, double y0, double x1, double y1, List<Collidable> out) {
+        double dx = x1 - x0;
+        double dy = y1 - y0;
+
+        int col = this.column(x0);
+        int row = this.row(y0);
+        int endCol = this.column(x1);
+        int endRow = this.row(y1);
+
+        int stepX = (dx > 0) ? 1 : -1;
+        int stepY = (dy > 0) ? 1 : -1;
+
+        // the trajectory's parameter (0 to 1) at which it crosses the next vertical/horizontal cell border
+        double tMaxX = Double.POSITIVE_INFINITY, tMaxY = Double.POSITIVE_INFINITY;
+        double tDeltaX = Double.POSITIVE_INFINITY, tDeltaY = Double.POSITIVE_INFINITY;
+
+        if (dx != 0) {
+            double border = (col + (stepX > 0 ? 1 : 0)) * this.cellWidth;
+            tMaxX = (border - x0) / dx;
+            tDeltaX = this.cellWidth / Math.abs(dx);
+        }
+
+        if (dy != 0) {
+            double border = (row + (stepY > 0 ? 1 : 0)) * this.cellHeight;
+            tMaxY = (border - y0) / dy;
+            tDeltaY = this.cellHeight / Math.abs(dy);
+        }
+
+        // the walk never visits more cells than this, even if the floating point errors pile up
+        int cellsLeft = Math.abs(endCol - col) + Math.abs(endRow - row);
+        QueryStamps stamps = QueryStamps.begin(this.slotsNum);
+        this.collect(col, row, stamps, out);
+
+        while (cellsLeft > 0 && (col != endCol || row != endRow)) {
+            if (tMaxX < tMaxY) {
+                col += stepX;
+                tMaxX += tDeltaX;
+            } else {
+                row += stepY;
+                tMaxY += tDeltaY;
+            }
+            this.collect(col, row, stamps, out);
+            cellsLeft--;
+        }
+
+        // make sure the end cell is never skipped because of rounding
+        this.collect(endCol, endRow, stamps, out);
+    }
+
+    @Override
+    public void query(double x0, double y0, double x1, double y1, double radius, List<Collidable> out) {
+        // a point is just a trajectory
+        if (radius <= 0) {
+            this.query(x0, y0, x1, y1, out);
+            return;
+        }
+
+        // the circle moves only a step at a time, so all the cells under its bounding box are close enough
+        int minCol = this.clampColumn(this.column(Math.min(x0, x1) - radius));
+        int maxCol = this.clampColumn(this.column(Math.max(x0, x1) + radius));
+        int minRow = this.clampRow(this.row(Math.min(y0, y1) - radius));
+        int maxRow = this.clampRow(this.row(Math.max(y0, y1) + radius));
+
+        QueryStamps stamps = QueryStamps.begin(this.slotsNum);
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int col = minCol; col <= maxCol; col++) {
+                this.collect(col, row, stamps, out);
+            }
+        }
+    }
+
+    /**
+     * collect: add the collidables of a cell to the output list, without duplicates.
+     *
+     * @param col    the cell's column (may be outside the grid)
+     * @param row    the cell's row (may be outside the grid)
+     * @param stamps the ids the query has already met
+     * @param out    the list to which the collidables are added
+     */
+    private void collect(int col, int row, QueryStamps stamps, List<Collidable> out) {
+        int index = this.clampRow(row) * this.columns + this.clampColumn(col);
+        int[] cell = this.cells[index];
+
+        for (int i = 0; i < this.cellSizes[index]; i++) {
+            if (stamps.mark(cell[i])) {
+                out.add(this.slots[cell[i]]);
+            }
+        }
+    }
+
+    /**
+     * addToCell: bucket an id in a cell, after the ids already there.
+     *
+     * @param index the cell's index
+     * @param id    the id
+     */
+    private void addToCell(int index, int id) {
+        int[] cell = this.cells[index];
+
+        if (cell == null) {
+            cell = new int[4];
+        } else if (this.cellSizes[index] == cell.length) {
+            cell = Arrays.copyOf(cell, cell.length * 2);
+        }
+        cell[this.cellSizes[index]++] = id;
+        this.cells[index] = cell;
+    }
+
+    /**
+     * removeFromCell: remove an id from a cell, keeping the order of the other ids.
+     *
+     * @param index the cell's index
+     * @param id    the id
+     */
+    private void removeFromCell(int index, int id) {
+        int[] cell = this.cells[index];
+
+        for (int i = 0; i < this.cellSizes[index]; i++) {
+            if (cell[i] == id) {
+                System.arraycopy(cell, i + 1, cell, i, this.cellSizes[index] - i - 1);
+                this.cellSizes[index]--;
+                return;
+            }
+        }
+    }
+
+    /**
+     * newId: get an id for a new collidable: a free one, or the next one.
+     *
+     * @return the id
+     */
+    private int newId() {
+        if (this.freeNum > 0) {
+            return this.freeIds[--this.freeNum];
+        }
+
+        if (this.slotsNum == this.slots.length) {
+            this.slots = Arrays.copyOf(this.slots, this.slotsNum * 2);
+        }
+        return this.slotsNum++;
+    }
+
+    /**
+     * column: get the (unclamped) column of an X value.
+     *
+     * @param x the X value
+     * @return the column
+     */
+    private int column(double x) {
+        return (int) Math.floor(x / this.cellWidth);
+    }
+
+    /**
+     * row: get the (unclamped) row of a Y value.
+     *
+     * @param y the Y value
+     * @return the row
+     */
+    private int row(double y) {
+        return (int) Math.floor(y / this.cellHeight);
+    }
+
+    /**
+     * clampColumn: fit a column into the grid.
+     *
+     * @param col the column
+     * @return the nearest column inside the grid
+     */
+    private int clampColumn(int col) {
+        return Math.max(0, Math.min(this.columns - 1, col));
+    }
+
+    /**
+     * clampRow: fit a row into the grid.
+     *
+     * @param row the row
+     * @return the nearest row inside the grid
+     */
+    private int clampRow(int row) {
+        return Math.max(0, Math.min(this.rows - 1, row));
+    }
+}
@@ -0,0 +1,296 @@
+package arkanoid.game.levels;
+
+import arkanoid.geometry.Point;
+import arkanoid.sprites.Background;
+import arkanoid.sprites.Block;
+import arkanoid.sprites.Fill.Fill;
+import arkanoid.sprites.Sprite;
+import arkanoid.util.Velocity;
+
+import java.awt.Color;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Class Name: CompiledLevelReader
+ * <p>
+ * This class loads the levels of a levels file from its compiled file (see LevelCompiler).
+ * When the compiled file is a plain file it's memory-mapped, so it's read straight from the page cache without being
+ * copied or parsed; inside a jar it's read into memory first.
+ * If there's no compiled file, or the levels file or any of its blocks files changed since it was compiled (the
+ * compiled file records their last-modified times), or it can't be read, the levels file should be parsed as text
+ * instead - so a compiled file never has the last word.
+ *
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.1
+ * @since 18 October 2026
+ */
+public class CompiledLevelReader {
+
+    /**
+     * Constructor: it only has static methods, so it has no instances.
+     */
+    private CompiledLevelReader() {
+    }
+
+    /**
+     * getReader: load the levels of a levels file from its compiled file.
+     *
+     * @param filename the levels file
+     * @return list of levels to be run; null if they should be parsed from the levels file instead
+     */
+    public static List<LevelInformation> getReader(String filename) {
+        ClassLoader loader = ClassLoader.getSystemClassLoader();
+        URL compiled = loader.getResource(LevelCompiler.compiledName(filename));
+
+        // nothing was compiled
+        if (compiled == null) {
+            return null;
+        }
+
+        try {
+            if (!compiled.getProtocol().equals("file")) {
+                // e.g. inside a jar, where it can't be mapped
+                try (InputStream ins = compiled.openStream()) {
+                    return decode(ByteBuffer.wrap(readAll(ins)));
+                }
+            }
+
+            try (FileChannel channel = FileChannel.open(Paths.get(compiled.toURI()), StandardOpenOption.READ)) {
+                ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+                // a source was changed after it was compiled
+                if (isStale(readSources(buffer.duplicate()))) {
+                    return null;
+                }
+
+                return decode(buffer);
+            }
+
+        } catch (IOException | URISyntaxException | RuntimeException e) {
+            // a broken compiled file isn't fatal, since the levels file is still there
+            System.err.println("Can't load " + compiled + ", parsing " + filename + " instead: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * isStale: tell whether any of a compiled file's sources changed since it was compiled.
+     *
+     * @param sources the sources' resource paths and their last-modified times when they were compiled
+     * @return true if a source that is still a plain file has a different last-modified time; false otherwise
+     * @throws IOException        if a source's time can't be read
+     * @throws URISyntaxException if a source's location is malformed
+     */
+    private static boolean isStale(Map<String, Long> sources) throws IOException, URISyntaxException {
+        for (Map.Entry<String, Long> source : sources.entrySet()) {
+            long modified = LevelCompiler.lastModified(source.getKey());
+            if (modified >= 0 && modified != source.getValue()) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * readAll: read a stream to its end.
+     *
+     * @param ins the stream
+     * @return the stream's content
+     * @throws IOException if the stream can't be read
+     */
+    private static byte[] readAll(InputStream ins) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] chunk = new byte[8192];
+        int read;
+
+        while ((read = ins.read(chunk)) != -1) {
+            out.write(chunk, 0, read);
+        }
+
+        return out.toByteArray();
+    }
+
+    /**
+     * decode: build the levels from a compiled file's content.
+     *
+     * @param buffer the compiled file's content
+     * @return list of levels
+     */
+    public static List<LevelInformation> decode(ByteBuffer buffer) {
+        try {
+            readSources(buffer);
+
+            int levelsNum = buffer.getInt();
+            List<LevelInformation> levels = new ArrayList<>(levelsNum);
+
+            for (int i = 0; i < levelsNum; i++) {
+                levels.add(decodeLevel(buffer));
+            }
+
+            return levels;
+
+        } catch (BufferUnderflowException e) {
+            throw new RuntimeException("The compiled levels file is truncated.");
+        }
+    }
+
+    /**
+     * decodeLevel: build a single level.
+     *
+     * @param buffer the compiled file's content, positioned at the level
+     * @return the level
+     */
+    private static LevelInformation decodeLevel(ByteBuffer buffer) {
+        GenericLevel levelInfo = new GenericLevel();
+
+        levelInfo.setLevelName(readString(buffer));
+        levelInfo.setPaddleSpeed(buffer.getInt());
+        levelInfo.setPaddleWidth(buffer.getInt());
+        levelInfo.setNumberOfBlocksToRemove(buffer.getInt());
+
+        int velocitiesNum = buffer.getInt();
+        List<Velocity> velocities = new ArrayList<>(velocitiesNum);
+        for (int i = 0; i < velocitiesNum; i++) {
+            velocities.add(new Velocity(buffer.getDouble(), buffer.getDouble()));
+        }
+        levelInfo.addVelocities(velocities);
+
+        List<Sprite> bg = new ArrayList<>(decodeBlocks(buffer));
+        levelInfo.setBackground(new Background(bg));
+        levelInfo.addBlocks(decodeBlocks(buffer));
+
+        return levelInfo;
+    }
+
+    /**
+     * decodeBlocks: build a list of blocks from its templates table and its blocks.
+     *
+     * @param buffer the compiled file's content, positioned at the list
+     * @return the blocks
+     */
+    private static List<Block> decodeBlocks(ByteBuffer buffer) {
+        int templatesNum = buffer.getInt();
+        double[] widths = new double[templatesNum];
+        double[] heights = new double[templatesNum];
+        int[] hitPoints = new int[templatesNum];
+        boolean[] unremovables = new boolean[templatesNum];
+        Color[] strokes = new Color[templatesNum];
+        List<List<Fill>> fills = new ArrayList<>(templatesNum);
+
+        for (int i = 0; i < templatesNum; i++) {
+            widths[i] = buffer.getDouble();
+            heights[i] = buffer.getDouble();
+            hitPoints[i] = buffer.getInt();
+            unremovables[i] = buffer.get() != 0;
+            boolean hasStroke = buffer.get() != 0;
+            int strokeRGB = buffer.getInt();
+            strokes[i] = hasStroke ? new Color(strokeRGB, true) : null;
+            fills.add(decodeFills(buffer));
+        }
+
+        int blocksNum = buffer.getInt();
+        List<Block> blocks = new ArrayList<>(blocksNum);
+
+        for (int i = 0; i < blocksNum; i++) {
+            int t = buffer.getInt();
+            Point upperLeft = new Point(buffer.getDouble(), buffer.getDouble());
+
+            // every block gets its own list, since a block drops its fillings as it's hit
+            Block block = new Block(upperLeft, widths[t], heights[t], new ArrayList<>(fills.get(t)), hitPoints[t]);
+            block.setStroke(strokes[t]);
+            block.setUnremovable(unremovables[t]);
+            blocks.add(block);
+        }
+
+        return blocks;
+    }
+
+    /**
+     * decodeFills: build the fillings of a template.
+     *
+     * @param buffer the compiled file's content, positioned at the fillings
+     * @return the fillings, sorted by their index
+     */
+    private static List<Fill> decodeFills(ByteBuffer buffer) {
+        int fillsNum = buffer.getInt();
+        List<Fill> fills = new ArrayList<>(fillsNum);
+
+        for (int i = 0; i < fillsNum; i++) {
+            int index = buffer.getInt();
+            byte kind = buffer.get();
+            Fill filling;
+
+            if (kind == LevelCompiler.FILL_COLOR) {
+                filling = new arkanoid.sprites.Fill.Color(new Color(buffer.getInt(), true));
+            } else if (kind == LevelCompiler.FILL_IMAGE) {
+                filling = new arkanoid.sprites.Fill.Image(readString(buffer));
+            } else {
+                throw new RuntimeException("Unknown filling kind: " + kind);
+            }
+
+            filling.setIndex(index);
+            fills.add(filling);
+        }
+
+        return fills;
+    }
+
+    /**
+     * readSources: read a compiled file's header - the magic number, the version and the sources.
+     *
+     * @param buffer the compiled file's content, positioned at its start
+     * @return the sources' resource paths and their last-modified times when they were compiled
+     */
+    private static Map<String, Long> readSources(ByteBuffer buffer) {
+        try {
+            if (buffer.getInt() != LevelCompiler.MAGIC) {
+                throw new RuntimeException("Not a compiled levels file.");
+            }
+
+            int version = buffer.getInt();
+            if (version != LevelCompiler.VERSION) {
+                throw new RuntimeException("Unsupported compiled levels version: " + version);
+            }
+
+            int sourcesNum = buffer.getInt();
+            Map<String, Long> sources = new LinkedHashMap<>();
+
+            for (int i = 0; i < sourcesNum; i++) {
+                String path = readString(buffer);
+                sources.put(path, buffer.getLong());
+            }
+
+            return sources;
+
+        } catch (BufferUnderflowException e) {
+            throw new RuntimeException("The compiled levels file is truncated.");
+        }
+    }
+
+    /**
+     * readString: read a string that was written as its length and its UTF-8 bytes.
+     *
+     * @param buffer the compiled file's content, positioned at the string
+     * @return the string
+     */
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -4,7 +4,6 @@ import arkanoid.game.animation.GameLevel;
 import arkanoid.geometry.Point;
 import arkanoid.sprites.Background;
 import arkanoid.sprites.Block;
-import arkanoid.sprites.Fill.Image;
 import arkanoid.sprites.Sprite;
 import arkanoid.util.Velocity;
 
@@ -155,11 +154,16 @@ public class GenericLevel implements LevelInformation {
      * @param image the bg's image path
      */
     public void setBg(String image) {
-        List<Sprite> list = new ArrayList<>();
-        Block main = new Block(new Point(0, 0), WINDOW_WIDTH, WINDOW_HEIGHT, Color.MAGENTA);
-        main.addFill(new Image(image));
-        list.add(main);
-        this.bg = new Background(list);
+        this.bg = Background.fromImage(image);
+    }
+
+    /**
+     * setBackground: set the background sprite as is.
+     *
+     * @param background the background
+     */
+    public void setBackground(Sprite background) {
+        this.bg = background;
     }
 
     /**
@@ -0,0 +1,383 @@
+package arkanoid.game.levels;
+
+import arkanoid.Ass7Game;
+import arkanoid.sprites.Background;
+import arkanoid.sprites.Block;
+import arkanoid.sprites.Fill.Fill;
+import arkanoid.sprites.Sprite;
+import arkanoid.util.Velocity;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Class Name: LevelCompiler
+ * <p>
+ * This class compiles a levels file (together with its blocks files) into a compact binary file, which
+ * CompiledLevelReader loads without parsing any text.
+ * The compiled file is put next to the levels file, with the same name and the COMPILED_SUFFIX extension, e.g.
+ * definitions/easy_level_definitions.lvlc - so LevelSpecificationReader picks it up on its own.
+ * The compiled files are build output, so they're ignored by git and rebuilt by "make levels".
+ * <p>
+ * The format (big-endian): MAGIC, VERSION, the sources (the levels file and its blocks files, each as its resource
+ * path and its last-modified time in milliseconds, so CompiledLevelReader can tell when any of them changed) and the
+ * number of levels, then for every level: its name, paddle speed,
+ * paddle width, number of blocks to remove, the balls' velocities (dx and dy), the background's blocks and the
+ * level's blocks. A list of blocks is written as a table of templates (size, hit points, flags, stroke and fillings)
+ * followed by the blocks themselves - a template number and a position each.
+ *
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.1
+ * @since 18 October 2026
+ */
+public class LevelCompiler {
+    public static final int MAGIC = 0x41524B4C;
+    public static final int VERSION = 2;
+    public static final String SOURCE_SUFFIX = ".txt";
+    public static final String COMPILED_SUFFIX = ".lvlc";
+    public static final byte FILL_COLOR = 0;
+    public static final byte FILL_IMAGE = 1;
+    public static final String DEFAULT_OUTPUT_DIR = "resources";
+    public static final String PATH = Ass7Game.PATH;
+
+    /**
+     * Constructor: it only has static methods, so it has no instances.
+     */
+    private LevelCompiler() {
+    }
+
+    /**
+     * main: compile levels files.
+     * Usage: LevelCompiler [-d output dir] [-s level sets file] [levels files...]
+     * The files are resource paths (e.g. definitions/easy_level_definitions.txt), and a level sets file compiles all
+     * the levels files it lists. The output dir defaults to DEFAULT_OUTPUT_DIR.
+     *
+     * @param args the command line arguments
+     */
+    public static void main(String[] args) {
+        String outputDir = DEFAULT_OUTPUT_DIR;
+        List<String> files = new ArrayList<>();
+
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("-d") && i + 1 < args.length) {
+                outputDir = args[++i];
+            } else if (args[i].equals("-s") && i + 1 < args.length) {
+                for (LevelSet levelSet : LevelSetsReader.getReader(args[++i])) {
+                    files.add(levelSet.getPath());
+                }
+            } else {
+                files.add(args[i]);
+            }
+        }
+
+        if (files.isEmpty()) {
+            System.err.println("Usage: LevelCompiler [-d output dir] [-s level sets file] [levels files...]");
+            System.exit(-1);
+        }
+
+        try {
+            for (String file : files) {
+                Path output = Paths.get(outputDir, compiledName(file));
+                compile(LevelSpecificationReader.getTextReader(PATH + file), sources(PATH + file), output);
+                System.out.println(file + " -> " + output);
+            }
+        } catch (IOException | URISyntaxException e) {
+            // error while reading a source or writing a compiled file
+            System.err.println(e.getMessage());
+            System.exit(-1);
+        }
+    }
+
+    /**
+     * sources: get the files a levels file is compiled from - the levels file and the blocks files it refers to -
+     * with their last-modified times.
+     * Only plain files are listed, since the time of a file inside a jar can't be checked later anyway.
+     *
+     * @param levelsFile the levels file (a resource path)
+     * @return the sources' resource paths and last-modified times, the levels file first
+     * @throws IOException        if the levels file can't be read
+     * @throws URISyntaxException if a source's location is malformed
+     */
+    public static Map<String, Long> sources(String levelsFile) throws IOException, URISyntaxException {
+        List<String> paths = new ArrayList<>();
+        paths.add(levelsFile);
+
+        InputStream ins = ClassLoader.getSystemClassLoader().getResourceAsStream(levelsFile);
+        if (ins == null) {
+            throw new IOException("Can't find " + levelsFile);
+        }
+
+        try (BufferedReader br = new BufferedReader(new InputStreamReader(ins, StandardCharsets.UTF_8))) {
+            LevelSpecificationReader parser = new LevelSpecificationReader();
+            String row;
+
+            // the same blocks file is usually shared by several levels
+            while ((row = br.readLine()) != null) {
+                if (row.contains(LevelSpecificationReader.BLOCK_DEFINITIONS)) {
+                    String path = PATH + parser.removeFieldName(row, LevelSpecificationReader.BLOCK_DEFINITIONS);
+                    if (!paths.contains(path)) {
+                        paths.add(path);
+                    }
+                }
+            }
+        }
+
+        Map<String, Long> sources = new LinkedHashMap<>();
+        for (String path : paths) {
+            long modified = lastModified(path);
+            if (modified >= 0) {
+                sources.put(path, modified);
+            }
+        }
+
+        return sources;
+    }
+
+    /**
+     * lastModified: get the last-modified time of a resource.
+     *
+     * @param path the resource path
+     * @return the time in milliseconds; -1 if the resource isn't a plain file
+     * @throws IOException        if the file's time can't be read
+     * @throws URISyntaxException if the resource's location is malformed
+     */
+    public static long lastModified(String path) throws IOException, URISyntaxException {
+        URL url = ClassLoader.getSystemClassLoader().getResource(path);
+
+        if (url == null || !url.getProtocol().equals("file")) {
+            return -1;
+        }
+
+        return Files.getLastModifiedTime(Paths.get(url.toURI())).toMillis();
+    }
+
+    /**
+     * compiledName: get the name of the compiled file of a levels file.
+     *
+     * @param levelsFile the levels file
+     * @return the compiled file's name
+     */
+    public static String compiledName(String levelsFile) {
+        String base = levelsFile;
+
+        if (base.endsWith(SOURCE_SUFFIX)) {
+            base = base.substring(0, base.length() - SOURCE_SUFFIX.length());
+        }
+
+        return base + COMPILED_SUFFIX;
+    }
+
+    /**
+     * compile: write levels into a compiled file.
+     *
+     * @param levels  the levels
+     * @param sources the files the levels were read from, with their last-modified times (see sources)
+     * @param output  the compiled file
+     * @throws IOException if the file can't be written
+     */
+    public static void compile(List<LevelInformation> levels, Map<String, Long> sources, Path output)
+            throws IOException {
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(output)))) {
+            compile(levels, sources, out);
+        }
+    }
+
+    /**
+     * compile: write levels in the compiled format, with no sources - e.g. levels that are compiled into memory and
+     * never go stale.
+     *
+     * @param levels the levels
+     * @param out    the stream to write to
+     * @throws IOException if the stream can't be written
+     */
+    public static void compile(List<LevelInformation> levels, DataOutputStream out) throws IOException {
+        compile(levels, Collections.<String, Long>emptyMap(), out);
+    }
+
+    /**
+     * compile: write levels in the compiled format.
+     *
+     * @param levels  the levels
+     * @param sources the files the levels were read from, with their last-modified times (see sources)
+     * @param out     the stream to write to
+     * @throws IOException if the stream can't be written
+     */
+    public static void compile(List<LevelInformation> levels, Map<String, Long> sources, DataOutputStream out)
+            throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+
+        out.writeInt(sources.size());
+        for (Map.Entry<String, Long> source : sources.entrySet()) {
+            writeString(out, source.getKey());
+            out.writeLong(source.getValue());
+        }
+
+        out.writeInt(levels.size());
+
+        for (LevelInformation level : levels) {
+            writeString(out, level.levelName());
+            out.writeInt(level.paddleSpeed());
+            out.writeInt(level.paddleWidth());
+            out.writeInt(level.numberOfBlocksToRemove());
+
+            // the velocities are kept as they were calculated, so loading them needs no trigonometry
+            out.writeInt(level.initialBallVelocities().size());
+            for (Velocity velocity : level.initialBallVelocities()) {
+                out.writeDouble(velocity.getDX());
+                out.writeDouble(velocity.getDY());
+            }
+
+            writeBlocks(out, backgroundBlocks(level));
+            writeBlocks(out, level.blocks());
+        }
+    }
+
+    /**
+     * backgroundBlocks: get the blocks a level's background is made of.
+     *
+     * @param level the level
+     * @return the background's blocks
+     */
+    private static List<Block> backgroundBlocks(LevelInformation level) {
+        List<Block> blocks = new ArrayList<>();
+        Sprite bg = level.getBackground();
+
+        if (!(bg instanceof Background)) {
+            throw new RuntimeException("The background of " + level.levelName() + " can't be compiled.");
+        }
+
+        for (Sprite sp : ((Background) bg).getSprites()) {
+            if (!(sp instanceof Block)) {
+                throw new RuntimeException("The background of " + level.levelName() + " can't be compiled.");
+            }
+            blocks.add((Block) sp);
+        }
+
+        return blocks;
+    }
+
+    /**
+     * writeBlocks: write a list of blocks: first the table of their templates, then the blocks themselves.
+     *
+     * @param out    the stream to write to
+     * @param blocks the blocks
+     * @throws IOException if the stream can't be written
+     */
+    private static void writeBlocks(DataOutputStream out, List<Block> blocks) throws IOException {
+        Map<String, Integer> templateIds = new LinkedHashMap<>();
+        List<Block> templates = new ArrayList<>();
+        int[] ids = new int[blocks.size()];
+
+        // blocks that look the same share a template
+        for (int i = 0; i < blocks.size(); i++) {
+            String key = templateKey(blocks.get(i));
+            Integer id = templateIds.get(key);
+
+            if (id == null) {
+                id = templates.size();
+                templateIds.put(key, id);
+                templates.add(blocks.get(i));
+            }
+            ids[i] = id;
+        }
+
+        out.writeInt(templates.size());
+        for (Block template : templates) {
+            writeTemplate(out, template);
+        }
+
+        out.writeInt(blocks.size());
+        for (int i = 0; i < blocks.size(); i++) {
+            out.writeInt(ids[i]);
+            out.writeDouble(blocks.get(i).getCollisionRectangle().getUpperLeft().getX());
+            out.writeDouble(blocks.get(i).getCollisionRectangle().getUpperLeft().getY());
+        }
+    }
+
+    /**
+     * writeTemplate: write everything about a block but its position.
+     *
+     * @param out   the stream to write to
+     * @param block the block
+     * @throws IOException if the stream can't be written
+     */
+    private static void writeTemplate(DataOutputStream out, Block block) throws IOException {
+        out.writeDouble(block.getCollisionRectangle().getWidth());
+        out.writeDouble(block.getCollisionRectangle().getHeight());
+        out.writeInt(block.getHitPoints());
+        out.writeBoolean(block.isUnremovable());
+        out.writeBoolean(block.getStroke() != null);
+        out.writeInt(block.getStroke() != null ? block.getStroke().getRGB() : 0);
+
+        out.writeInt(block.getFills().size());
+        for (Fill filling : block.getFills()) {
+            out.writeInt(filling.getIndex());
+            if (filling.isColor()) {
+                out.writeByte(FILL_COLOR);
+                out.writeInt(((arkanoid.sprites.Fill.Color) filling).getColor().getRGB());
+            } else {
+                out.writeByte(FILL_IMAGE);
+                writeString(out, ((arkanoid.sprites.Fill.Image) filling).getImage());
+            }
+        }
+    }
+
+    /**
+     * templateKey: describe everything about a block but its position, so blocks that look the same get the same key.
+     *
+     * @param block the block
+     * @return the block's template key
+     */
+    private static String templateKey(Block block) {
+        StringBuilder key = new StringBuilder();
+        key.append(block.getCollisionRectangle().getWidth()).append(',')
+                .append(block.getCollisionRectangle().getHeight()).append(',')
+                .append(block.getHitPoints()).append(',')
+                .append(block.isUnremovable()).append(',')
+                .append(block.getStroke() != null ? Integer.toString(block.getStroke().getRGB()) : "-");
+
+        for (Fill filling : block.getFills()) {
+            key.append(',').append(filling.getIndex()).append(':');
+            if (filling.isColor()) {
+                key.append(((arkanoid.sprites.Fill.Color) filling).getColor().getRGB());
+            } else {
+                key.append(((arkanoid.sprites.Fill.Image) filling).getImage());
+            }
+        }
+
+        return key.toString();
+    }
+
+    /**
+     * writeString: write a string as its length and its UTF-8 bytes.
+     *
+     * @param out the stream to write to
+     * @param str the string
+     * @throws IOException if the stream can't be written
+     */
+    private static void writeString(DataOutputStream out, String str) throws IOException {
+        byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+}
@@ -19,9 +19,10 @@ import java.util.List;
  * Class Name: LevelSpecificationReader
  * <p>
  * This class reads and parses the levels from the levels file.
+ * If the levels file was compiled (see LevelCompiler), the levels are loaded from the compiled file instead.
  *
  * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
- * @version 1.0.0
+ * @version 1.0.1
  * @since 17 June 2019
  */
 public class LevelSpecificationReader {
@@ -45,12 +46,23 @@ public class LevelSpecificationReader {
     public static final String PATH = Ass7Game.PATH;
 
     /**
-     * getReader: create a reader to read the levels file.
+     * getReader: load the levels of a levels file - from its compiled file if there's one, or else from the text.
      *
      * @param filename the levels file
      * @return list of levels to be run.
      */
     public static List<LevelInformation> getReader(String filename) {
+        List<LevelInformation> levels = CompiledLevelReader.getReader(filename);
+        return (levels != null) ? levels : getTextReader(filename);
+    }
+
+    /**
+     * getTextReader: create a reader to read the levels file as text.
+     *
+     * @param filename the levels file
+     * @return list of levels to be run.
+     */
+    public static List<LevelInformation> getTextReader(String filename) {
         // raw byte-stream
         InputStream ins = null;
         // cooked reader
@@ -0,0 +1,287 @@
+package arkanoid.game.metrics;
+
+import biuoop.DrawSurface;
+
+import java.awt.Color;
+import java.util.Locale;
+
+/**
+ * Class Name: FrameStats.
+ * <p>
+ * FrameStats class sums up a window of frames (e.g. the last second): the latency histograms of the update and
+ * render phases and of the whole frame's work, how many frames blew the frame budget, and per frame - how many
+ * collision queries were made, how many narrow-phase tests they ran, how many of them hit something, and how many
+ * bytes the game thread allocated.
+ * A window belongs to a single screen (e.g. the GameLevel animation) and level, so the numbers of different levels
+ * are never mixed.
+ *
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.0
+ * @since 18 October 2026
+ */
+public class FrameStats {
+    public static final double NANOS_PER_MILLI = 1000000.0;
+    public static final double BYTES_PER_KB = 1024.0;
+    public static final double MEDIAN = 50;
+    public static final double TAIL = 99;
+    // the overlay's look
+    public static final int OVERLAY_X = 30;
+    public static final int OVERLAY_Y = 40;
+    public static final int OVERLAY_WIDTH = 430;
+    public static final int LINE_HEIGHT = 16;
+    public static final int FONT_SIZE = 13;
+    public static final int MARGIN = 6;
+    public static final Color OVERLAY_COLOR = new Color(0, 0, 0, 200);
+    public static final Color TEXT_COLOR = Color.GREEN;
+    public static final Color OVER_BUDGET_COLOR = Color.RED;
+
+    private String screen;
+    private String level;
+    private long startMillis;
+    private long endMillis;
+    private long frames;
+    private long overBudget;
+    private LatencyHistogram update;
+    private LatencyHistogram render;
+    private LatencyHistogram frame;
+    private LatencyHistogram timePassed;
+    private LatencyHistogram draw;
+    // the per-frame counters: their totals and their highest values in a single frame
+    private long queries;
+    private long maxQueries;
+    private long narrowTests;
+    private long maxNarrowTests;
+    private long hits;
+    private long maxHits;
+    private long allocatedBytes;
+
+    /**
+     * Constructor.
+     */
+    public FrameStats() {
+        this.update = new LatencyHistogram();
+        this.render = new LatencyHistogram();
+        this.frame = new LatencyHistogram();
+        this.timePassed = new LatencyHistogram();
+        this.draw = new LatencyHistogram();
+        this.reset("", "", System.currentTimeMillis());
+    }
+
+    /**
+     * reset: start a new window.
+     *
+     * @param screenName the screen of the window
+     * @param levelName  the level of the window
+     * @param nowMillis  the time the window starts (in milliseconds since the epoch)
+     */
+    public void reset(String screenName, String levelName, long nowMillis) {
+        this.screen = screenName;
+        this.level = levelName;
+        this.startMillis = nowMillis;
+        this.endMillis = nowMillis;
+        this.frames = 0;
+        this.overBudget = 0;
+        this.update.reset();
+        this.render.reset();
+        this.frame.reset();
+        this.timePassed.reset();
+        this.draw.reset();
+        this.queries = 0;
+        this.maxQueries = 0;
+        this.narrowTests = 0;
+        this.maxNarrowTests = 0;
+        this.hits = 0;
+        this.maxHits = 0;
+        this.allocatedBytes = 0;
+    }
+
+    /**
+     * addFrame: count a frame.
+     *
+     * @param updateNanos      the time the frame's update phase took
+     * @param renderNanos      the time the frame's render phase took
+     * @param budgetNanos      the frame budget
+     * @param frameQueries     the collision queries made in the frame
+     * @param frameNarrowTests the narrow-phase tests run in the frame
+     * @param frameHits        the queries that hit something in the frame
+     * @param frameBytes       the bytes the game thread allocated in the frame
+     */
+    public void addFrame(long updateNanos, long renderNanos, long budgetNanos, long frameQueries,
+                         long frameNarrowTests, long frameHits, long frameBytes) {
+        this.frames++;
+        this.update.record(updateNanos);
+        this.render.record(renderNanos);
+        this.frame.record(updateNanos + renderNanos);
+        if (updateNanos + renderNanos > budgetNanos) {
+            this.overBudget++;
+        }
+
+        this.queries += frameQueries;
+        this.maxQueries = Math.max(this.maxQueries, frameQueries);
+        this.narrowTests += frameNarrowTests;
+        this.maxNarrowTests = Math.max(this.maxNarrowTests, frameNarrowTests);
+        this.hits += frameHits;
+        this.maxHits = Math.max(this.maxHits, frameHits);
+        this.allocatedBytes += frameBytes;
+    }
+
+    /**
+     * addTimePassed: count a call to SpriteCollection.notifyAllTimePassed.
+     *
+     * @param nanos the time it took
+     */
+    public void addTimePassed(long nanos) {
+        this.timePassed.record(nanos);
+    }
+
+    /**
+     * addDraw: count a call to SpriteCollection.drawAllOn.
+     *
+     * @param nanos the time it took
+     */
+    public void addDraw(long nanos) {
+        this.draw.record(nanos);
+    }
+
+    /**
+     * end: mark the end of the window.
+     *
+     * @param nowMillis the time the window ends (in milliseconds since the epoch)
+     */
+    public void end(long nowMillis) {
+        this.endMillis = nowMillis;
+    }
+
+    /**
+     * getStartMillis: get the time the window started.
+     *
+     * @return the time the window started (in milliseconds since the epoch)
+     */
+    public long getStartMillis() {
+        return this.startMillis;
+    }
+
+    /**
+     * getFrames: get the number of frames in the window.
+     *
+     * @return the number of frames
+     */
+    public long getFrames() {
+        return this.frames;
+    }
+
+    /**
+     * toJson: describe the window as a single-line JSON object (the durations are in milliseconds).
+     *
+     * @return the JSON line
+     */
+    public String toJson() {
+        return "{\"start\":" + this.startMillis
+                + ",\"end\":" + this.endMillis
+                + ",\"screen\":" + quote(this.screen)
+                + ",\"level\":" + quote(this.level)
+                + ",\"frames\":" + this.frames
+                + ",\"overBudget\":" + this.overBudget
+                + ",\"update\":" + toJson(this.update)
+                + ",\"render\":" + toJson(this.render)
+                + ",\"frame\":" + toJson(this.frame)
+                + ",\"timePassed\":" + toJson(this.timePassed)
+                + ",\"draw\":" + toJson(this.draw)
+                + ",\"queries\":" + toJson(this.queries, this.maxQueries)
+                + ",\"narrowTests\":" + toJson(this.narrowTests, this.maxNarrowTests)
+                + ",\"hits\":" + toJson(this.hits, this.maxHits)
+                + ",\"allocatedBytesPerFrame\":" + format("%.0f", this.perFrame(this.allocatedBytes)) + "}";
+    }
+
+    /**
+     * drawOn: draw the window's numbers on top of the screen.
+     *
+     * @param surface the surface to draw on
+     */
+    public void drawOn(DrawSurface surface) {
+        String[] lines = {
+                this.screen + (this.level.isEmpty() ? "" : " - " + this.level),
+                format("frames %d, over budget %d", this.frames, this.overBudget),
+                "update " + toText(this.update),
+                "render " + toText(this.render),
+                "frame  " + toText(this.frame),
+                format("queries %.0f, narrow %.0f, hits %.1f per frame", this.perFrame(this.queries),
+                        this.perFrame(this.narrowTests), this.perFrame(this.hits)),
+                format("allocated %.1f KB per frame", this.perFrame(this.allocatedBytes) / BYTES_PER_KB)};
+
+        surface.setColor(OVERLAY_COLOR);
+        surface.fillRectangle(OVERLAY_X, OVERLAY_Y, OVERLAY_WIDTH, lines.length * LINE_HEIGHT + 2 * MARGIN);
+
+        for (int i = 0; i < lines.length; i++) {
+            // the frames line turns red when frames blow the budget
+            surface.setColor((i == 1 && this.overBudget > 0) ? OVER_BUDGET_COLOR : TEXT_COLOR);
+            surface.drawText(OVERLAY_X + MARGIN, OVERLAY_Y + MARGIN + (i + 1) * LINE_HEIGHT - 3, lines[i],
+                    FONT_SIZE);
+        }
+    }
+
+    /**
+     * perFrame: get the average of a counter per frame.
+     *
+     * @param total the counter's total
+     * @return the average per frame
+     */
+    private double perFrame(long total) {
+        return (this.frames == 0) ? 0 : (double) total / this.frames;
+    }
+
+    /**
+     * toJson: describe a histogram as a JSON object (in milliseconds).
+     *
+     * @param histogram the histogram
+     * @return the JSON object
+     */
+    private static String toJson(LatencyHistogram histogram) {
+        return format("{\"count\":%d,\"mean\":%.3f,\"p50\":%.3f,\"p99\":%.3f,\"max\":%.3f}", histogram.getCount(),
+                histogram.getMean() / NANOS_PER_MILLI, histogram.percentile(MEDIAN) / NANOS_PER_MILLI,
+                histogram.percentile(TAIL) / NANOS_PER_MILLI, histogram.getMax() / NANOS_PER_MILLI);
+    }
+
+    /**
+     * toJson: describe a per-frame counter as a JSON object.
+     *
+     * @param total the counter's total
+     * @param max   the counter's highest value in a single frame
+     * @return the JSON object
+     */
+    private String toJson(long total, long max) {
+        return format("{\"total\":%d,\"perFrame\":%.1f,\"max\":%d}", total, this.perFrame(total), max);
+    }
+
+    /**
+     * toText: describe a histogram as a line of text (in milliseconds).
+     *
+     * @param histogram the histogram
+     * @return the line of text
+     */
+    private static String toText(LatencyHistogram histogram) {
+        return format("p50 %.2f  p99 %.2f  max %.2f ms", histogram.percentile(MEDIAN) / NANOS_PER_MILLI,
+                histogram.percentile(TAIL) / NANOS_PER_MILLI, histogram.getMax() / NANOS_PER_MILLI);
+    }
+
+    /**
+     * format: format numbers the same way on every machine (e.g. with a decimal point, never a comma).
+     *
+     * @param pattern the format pattern
+     * @param args    the arguments
+     * @return the formatted string
+     */
+    private static String format(String pattern, Object... args) {
+        return String.format(Locale.ROOT, pattern, args);
+    }
+
+    /**
+     * quote: quote a string as a JSON string.
+     *
+     * @param s the string
+     * @return the quoted string
+     */
+    private static String quote(String s) {
+        return "\"" + s.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+}
@@ -0,0 +1,152 @@
+package arkanoid.game.metrics;
+
+import java.util.Arrays;
+
+/**
+ * Class Name: LatencyHistogram.
+ * <p>
+ * LatencyHistogram class counts durations (in nanoseconds) in log-linear buckets, like an HDR histogram: every power
+ * of two is split into SUB_BUCKETS equal buckets, so any duration - from a few nanoseconds to minutes - is kept with
+ * a relative error of about 1 / SUB_BUCKETS, in a fixed array and without allocating anything while recording.
+ * Percentiles are reported as the highest duration of their bucket, so they never look better than they are.
+ *
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.0
+ * @since 18 October 2026
+ */
+public class LatencyHistogram {
+    public static final int SUB_BUCKET_BITS = 5;
+    public static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    // the longest duration that is counted precisely (about 18 minutes); longer ones are counted as this one
+    public static final long MAX_VALUE = (1L << 40) - 1;
+    public static final double PERCENT = 100;
+
+    private long[] counts;
+    private long count;
+    private long sum;
+    private long min;
+    private long max;
+
+    /**
+     * Constructor.
+     */
+    public LatencyHistogram() {
+        this.counts = new long[indexOf(MAX_VALUE) + 1];
+        this.reset();
+    }
+
+    /**
+     * indexOf: get the bucket of a duration.
+     * The durations below 2 * SUB_BUCKETS have a bucket each; above them, every power of two has SUB_BUCKETS buckets.
+     *
+     * @param value the duration (0 to MAX_VALUE)
+     * @return the bucket's index
+     */
+    private static int indexOf(long value) {
+        int shift = Math.max(0, (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS);
+        return (int) ((shift << SUB_BUCKET_BITS) + (value >>> shift));
+    }
+
+    /**
+     * highestValueOf: get the highest duration that falls in a bucket.
+     *
+     * @param index the bucket's index
+     * @return the highest duration in the bucket
+     */
+    private static long highestValueOf(int index) {
+        if (index < 2 * SUB_BUCKETS) {
+            return index;
+        }
+
+        int shift = (index >>> SUB_BUCKET_BITS) - 1;
+        long lowest = (long) ((index & (SUB_BUCKETS - 1)) + SUB_BUCKETS) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+
+    /**
+     * record: count a duration.
+     *
+     * @param nanos the duration, in nanoseconds
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, Math.min(nanos, MAX_VALUE));
+
+        this.counts[indexOf(value)]++;
+        this.count++;
+        this.sum += value;
+        this.min = Math.min(this.min, value);
+        this.max = Math.max(this.max, value);
+    }
+
+    /**
+     * percentile: get the duration that a given percent of the counted durations don't exceed.
+     *
+     * @param percent the percent (0 to 100)
+     * @return the duration, in nanoseconds (0 if nothing was counted)
+     */
+    public long percentile(double percent) {
+        if (this.count == 0) {
+            return 0;
+        }
+
+        // the rank of the wanted duration, from 1 to count
+        long rank = Math.max(1, (long) Math.ceil(this.count * percent / PERCENT));
+        long seen = 0;
+
+        for (int i = 0; i < this.counts.length; i++) {
+            seen += this.counts[i];
+            if (seen >= rank) {
+                return Math.min(highestValueOf(i), this.max);
+            }
+        }
+
+        return this.max;
+    }
+
+    /**
+     * getCount: get the number of counted durations.
+     *
+     * @return the number of counted durations
+     */
+    public long getCount() {
+        return this.count;
+    }
+
+    /**
+     * getMean: get the mean of the counted durations.
+     *
+     * @return the mean, in nanoseconds (0 if nothing was counted)
+     */
+    public double getMean() {
+        return (this.count == 0) ? 0 : (double) this.sum / this.count;
+    }
+
+    /**
+     * getMin: get the shortest counted duration.
+     *
+     * @return the shortest duration, in nanoseconds (0 if nothing was counted)
+     */
+    public long getMin() {
+        return (this.count == 0) ? 0 : this.min;
+    }
+
+    /**
+     * getMax: get the longest counted duration.
+     *
+     * @return the longest duration, in nanoseconds (0 if nothing was counted)
+     */
+    public long getMax() {
+        return this.max;
+    }
+
+    /**
+     * reset: forget all the counted durations.
+     */
+    public void reset() {
+        Arrays.fill(this.counts, 0);
+        this.count = 0;
+        this.sum = 0;
+        this.min = Long.MAX_VALUE;
+        this.max = 0;
+    }
+}
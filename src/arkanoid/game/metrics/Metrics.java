@@ -0,0 +1,301 @@
+package arkanoid.game.metrics;
+
+import arkanoid.game.animation.AnimationRunner;
+import arkanoid.game.animation.GameLevel;
+import biuoop.DrawSurface;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Class Name: Metrics.
+ * <p>
+ * This class is the process-wide instrumentation of the hot paths. The animation runner times the update and render
+ * phases of every frame, the sprite collection times its updates and draws, and the game environment counts its
+ * collision queries, the narrow-phase tests they run and their hits (from any thread, e.g. the ball workers).
+ * The frames are summed up in windows of PERIOD_PROPERTY milliseconds (see FrameStats), which can be drawn on top of
+ * the screen and appended to a JSONL file, one line per window.
+ * <p>
+ * It's off unless OVERLAY_PROPERTY or FILE_PROPERTY is set, e.g. -Darkanoid.metrics.file=metrics.jsonl, and when it's
+ * off every call returns at once (ENABLED is a constant, so the JIT drops the calls altogether). Only the calls
+ * that find it on take the lock of the window.
+ * The allocated bytes are those of the game thread only, and only where the JVM can tell them.
+ *
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.1
+ * @since 18 October 2026
+ */
+public class Metrics {
+    public static final String OVERLAY_PROPERTY = "arkanoid.metrics.overlay";
+    public static final String FILE_PROPERTY = "arkanoid.metrics.file";
+    public static final String PERIOD_PROPERTY = "arkanoid.metrics.period";
+    public static final long DEFAULT_PERIOD_MILLIS = 1000;
+    // a frame should take no longer than a single time step
+    public static final long BUDGET_NANOS = AnimationRunner.NANOS_PER_SECOND / GameLevel.FRAMES_PER_SECOND;
+
+    public static final boolean OVERLAY = Boolean.getBoolean(OVERLAY_PROPERTY);
+    public static final String FILE = System.getProperty(FILE_PROPERTY);
+    public static final boolean ENABLED = OVERLAY || FILE != null;
+
+    // counted by any thread
+    private static final LongAdder QUERIES = new LongAdder();
+    private static final LongAdder NARROW_TESTS = new LongAdder();
+    private static final LongAdder HITS = new LongAdder();
+
+    // guards the windows and the current frame, which may be reported from more than one thread
+    private static final Object LOCK = new Object();
+
+    // the window that is being counted, and the last one that ended (which the overlay shows)
+    private static FrameStats window = new FrameStats();
+    private static FrameStats lastWindow = new FrameStats();
+    private static long periodMillis = Long.getLong(PERIOD_PROPERTY, DEFAULT_PERIOD_MILLIS);
+    private static String screen = "";
+    private static String level = "";
+    // the phases of the current frame
+    private static long frameUpdateNanos = 0;
+    private static long frameRenderNanos = 0;
+    private static long lastAllocatedBytes = -1;
+    private static PrintWriter writer = null;
+    private static boolean isWriterOpen = false;
+
+    /**
+     * Constructor: it's a static facility, so it has no instances.
+     */
+    private Metrics() {
+    }
+
+    /**
+     * start: get the start time of a timed part.
+     *
+     * @return the current time in nanoseconds, or 0 if the metrics are off
+     */
+    public static long start() {
+        return ENABLED ? System.nanoTime() : 0;
+    }
+
+    /**
+     * recordUpdate: add the time since a start time to the current frame's update phase.
+     *
+     * @param startNanos the start time (see start)
+     */
+    public static void recordUpdate(long startNanos) {
+        if (!ENABLED) {
+            return;
+        }
+
+        synchronized (LOCK) {
+            frameUpdateNanos += System.nanoTime() - startNanos;
+        }
+    }
+
+    /**
+     * recordRender: add the time since a start time to the current frame's render phase.
+     *
+     * @param startNanos the start time (see start)
+     */
+    public static void recordRender(long startNanos) {
+        if (!ENABLED) {
+            return;
+        }
+
+        synchronized (LOCK) {
+            frameRenderNanos += System.nanoTime() - startNanos;
+        }
+    }
+
+    /**
+     * recordTimePassed: count the time since a start time as a call to SpriteCollection.notifyAllTimePassed.
+     *
+     * @param startNanos the start time (see start)
+     */
+    public static void recordTimePassed(long startNanos) {
+        if (!ENABLED) {
+            return;
+        }
+
+        synchronized (LOCK) {
+            window.addTimePassed(System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * recordDraw: count the time since a start time as a call to SpriteCollection.drawAllOn.
+     *
+     * @param startNanos the start time (see start)
+     */
+    public static void recordDraw(long startNanos) {
+        if (!ENABLED) {
+            return;
+        }
+
+        synchronized (LOCK) {
+            window.addDraw(System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * countQuery: count a collision query. It can be called by any thread.
+     *
+     * @param narrowTests the narrow-phase tests the query ran (i.e. its candidates)
+     * @param isHit       whether the query hit something or not
+     */
+    public static void countQuery(int narrowTests, boolean isHit) {
+        if (!ENABLED) {
+            return;
+        }
+
+        QUERIES.increment();
+        NARROW_TESTS.add(narrowTests);
+        if (isHit) {
+            HITS.increment();
+        }
+    }
+
+    /**
+     * setScreen: set the screen that is shown (e.g. an animation's name); a new window starts if it changed.
+     *
+     * @param name the screen's name
+     * @return the previous screen's name
+     */
+    public static String setScreen(String name) {
+        if (!ENABLED) {
+            return screen;
+        }
+
+        synchronized (LOCK) {
+            String previous = screen;
+            if (!name.equals(screen)) {
+                endWindow();
+                screen = name;
+                window.reset(screen, level, System.currentTimeMillis());
+            }
+            return previous;
+        }
+    }
+
+    /**
+     * setLevel: set the level that is played; a new window starts if it changed.
+     *
+     * @param name the level's name
+     */
+    public static void setLevel(String name) {
+        if (!ENABLED) {
+            return;
+        }
+
+        synchronized (LOCK) {
+            if (!name.equals(level)) {
+                endWindow();
+                level = name;
+                window.reset(screen, level, System.currentTimeMillis());
+            }
+        }
+    }
+
+    /**
+     * endFrame: count the current frame, and end the window if its period is over.
+     */
+    public static void endFrame() {
+        if (!ENABLED) {
+            return;
+        }
+
+        synchronized (LOCK) {
+            long allocated = allocatedBytes();
+            long frameBytes = (lastAllocatedBytes < 0 || allocated < 0) ? 0 : allocated - lastAllocatedBytes;
+            lastAllocatedBytes = allocated;
+
+            window.addFrame(frameUpdateNanos, frameRenderNanos, BUDGET_NANOS, QUERIES.sumThenReset(),
+                    NARROW_TESTS.sumThenReset(), HITS.sumThenReset(), frameBytes);
+            frameUpdateNanos = 0;
+            frameRenderNanos = 0;
+
+            long now = System.currentTimeMillis();
+            if (now - window.getStartMillis() >= periodMillis) {
+                endWindow();
+                window.reset(screen, level, now);
+            }
+        }
+    }
+
+    /**
+     * drawOverlay: draw the last window's numbers on top of the screen, if the overlay is on.
+     *
+     * @param surface the surface to draw on
+     */
+    public static void drawOverlay(DrawSurface surface) {
+        if (!OVERLAY) {
+            return;
+        }
+
+        synchronized (LOCK) {
+            lastWindow.drawOn(surface);
+        }
+    }
+
+    /**
+     * endWindow: end the current window - write it to the file and keep it for the overlay - if it has frames.
+     * The caller holds the lock, and starts the next window.
+     */
+    private static void endWindow() {
+        if (window.getFrames() == 0) {
+            return;
+        }
+
+        window.end(System.currentTimeMillis());
+        PrintWriter out = getWriter();
+        if (out != null) {
+            out.println(window.toJson());
+            out.flush();
+        }
+
+        FrameStats ended = window;
+        window = lastWindow;
+        lastWindow = ended;
+    }
+
+    /**
+     * getWriter: get the writer of the JSONL file, and open it the first time.
+     *
+     * @return the writer, or null if there's no file or it can't be opened
+     */
+    private static PrintWriter getWriter() {
+        if (!isWriterOpen && FILE != null) {
+            isWriterOpen = true;
+            try {
+                writer = new PrintWriter(Files.newBufferedWriter(Paths.get(FILE), StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND));
+            } catch (IOException e) {
+                // metrics that can't be written shouldn't stop the game
+                System.err.println("Can't open the metrics file " + FILE + ": " + e.getMessage());
+            }
+        }
+
+        return writer;
+    }
+
+    /**
+     * allocatedBytes: get the number of bytes the current thread has allocated so far.
+     *
+     * @return the allocated bytes, or -1 if the JVM can't tell
+     */
+    private static long allocatedBytes() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+        if (threads instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean hotspot = (com.sun.management.ThreadMXBean) threads;
+            if (hotspot.isThreadAllocatedMemorySupported() && hotspot.isThreadAllocatedMemoryEnabled()) {
+                return hotspot.getThreadAllocatedBytes(Thread.currentThread().getId());
+            }
+        }
+
+        return -1;
+    }
+}
@@ -0,0 +1,156 @@
+package arkanoid.game.render;
+
+import arkanoid.game.SpriteCollection;
+import arkanoid.sprites.Damageable;
+import arkanoid.sprites.InterpolatedSprite;
+import arkanoid.sprites.Sprite;
+import biuoop.DrawSurface;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.util.List;
+
+/**
+ * Class Name: DamageRenderer.
+ * <p>
+ * DamageRenderer class draws a sprite collection on a back buffer that is kept from frame to frame, and repaints
+ * only the regions that changed since the last frame (the "damage"): the sprites report where they were drawn and
+ * where they're going to be drawn, and everything is redrawn clipped to those regions, one region at a time.
+ * The clips are always plain rectangles, since a shaped clip may rasterize the sprites a bit differently than
+ * drawing them on a clear screen does.
+ * The blocks, the borders and the background that nothing touched are not painted again, so a frame in which only
+ * the ball and the paddle moved costs a few small rectangles instead of the whole screen.
+ * The buffer is then shown as a whole, since the GUI's surface can't be updated in parts.
+ * <p>
+ * The static sprites at the bottom are not drawn one by one either: a damaged region starts as a copy of the static
+ * layer (see StaticLayer), and only the rest of the sprites are drawn on top of it.
+ *
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.1
+ * @since 18 October 2026
+ */
+public class DamageRenderer {
+    // the color of the parts of the screen that no sprite covers (the color of a new buffer)
+    public static final Color CLEAR_COLOR = Color.BLACK;
+
+    private SpriteCollection sprites;
+    private ImageSurface buffer;
+    private DamageTracker damage;
+    private StaticLayer staticLayer;
+    // the region that is being repainted
+    private final Rectangle region = new Rectangle();
+
+    /**
+     * Constructor.
+     *
+     * @param spriteCollection the sprites to draw
+     * @param width            the screen's width
+     * @param height           the screen's height
+     */
+    public DamageRenderer(SpriteCollection spriteCollection, int width, int height) {
+        this.sprites = spriteCollection;
+        this.buffer = new ImageSurface(width, height);
+        this.damage = new DamageTracker(width, height);
+        this.staticLayer = new StaticLayer(width, height);
+
+        // the collection tells where the sprites it removes were drawn
+        this.sprites.setDamageTracker(this.damage);
+    }
+
+    /**
+     * render: repaint the damaged regions of the back buffer, and show it on a surface.
+     *
+     * @param surface the surface to show the frame on
+     * @param alpha   where in between the last two ticks the sprites are drawn
+     */
+    public void render(DrawSurface surface, double alpha) {
+        List<Sprite> all = this.sprites.getSprites();
+
+        // whatever is under the rebuilt layer must be repainted
+        if (this.staticLayer.update(all)) {
+            this.damage.addAll();
+        }
+
+        for (int i = this.staticLayer.size(); i < all.size(); i++) {
+            Sprite sp = all.get(i);
+            if (sp instanceof Damageable) {
+                ((Damageable) sp).reportDamage(this.damage, alpha);
+            } else {
+                // there's no telling where it's drawn
+                this.damage.addAll();
+            }
+        }
+
+        if (!this.damage.isEmpty()) {
+            Graphics2D g = this.buffer.getGraphics();
+
+            for (int i = 0; i < this.damage.regionCount(); i++) {
+                this.damage.getRegion(i, this.region);
+
+                // start from the static layer, and draw the rest of the sprites in full - but only the damaged
+                // pixels are touched
+                g.setClip(this.region);
+                g.drawImage(this.staticLayer.getImage(), 0, 0, null);
+                this.drawDynamicOn(all, alpha);
+            }
+            g.setClip(null);
+
+            this.damage.clear();
+        }
+
+        surface.drawImage(0, 0, this.buffer.getImage());
+    }
+
+    /**
+     * drawDynamicOn: draw the sprites above the static layer on the back buffer.
+     *
+     * @param all   all the sprites, in their drawing order
+     * @param alpha where in between the last two ticks the sprites are drawn
+     */
+    private void drawDynamicOn(List<Sprite> all, double alpha) {
+        for (int i = this.staticLayer.size(); i < all.size(); i++) {
+            Sprite sp = all.get(i);
+            if (sp instanceof InterpolatedSprite) {
+                ((InterpolatedSprite) sp).drawOn(this.buffer, alpha);
+            } else {
+                sp.drawOn(this.buffer);
+            }
+        }
+    }
+
+    /**
+     * invalidate: rebuild the static layer and repaint the whole screen in the next frame.
+     */
+    public void invalidate() {
+        this.staticLayer.invalidate();
+        this.damage.addAll();
+    }
+
+    /**
+     * getStaticLayer: get the layer of the static sprites.
+     *
+     * @return the static layer
+     */
+    public StaticLayer getStaticLayer() {
+        return this.staticLayer;
+    }
+
+    /**
+     * getDamageTracker: get the tracker of the damaged regions.
+     *
+     * @return the tracker of the damaged regions
+     */
+    public DamageTracker getDamageTracker() {
+        return this.damage;
+    }
+
+    /**
+     * getBuffer: get the back buffer.
+     *
+     * @return the back buffer
+     */
+    public ImageSurface getBuffer() {
+        return this.buffer;
+    }
+}
@@ -0,0 +1,167 @@
+package arkanoid.game.render;
+
+import java.awt.Rectangle;
+
+/**
+ * Class Name: DamageTracker.
+ * <p>
+ * This class collects the regions of the screen that must be repainted in the next frame ("damage").
+ * Overlapping regions are merged as they're added. When there are more than MAX_REGIONS regions, tracking them costs
+ * more than it saves, so the whole screen is considered damaged.
+ *
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.0
+ * @since 18 October 2026
+ */
+public class DamageTracker {
+    public static final int MAX_REGIONS = 16;
+
+    private int width;
+    private int height;
+    // the regions, 4 values each: x, y, width, height
+    private int[] regions;
+    private int count;
+    private boolean full;
+
+    /**
+     * Constructor.
+     *
+     * @param screenWidth  the width of the screen
+     * @param screenHeight the height of the screen
+     */
+    public DamageTracker(int screenWidth, int screenHeight) {
+        this.width = screenWidth;
+        this.height = screenHeight;
+        this.regions = new int[MAX_REGIONS * 4];
+        this.count = 0;
+        // nothing was painted yet
+        this.full = true;
+    }
+
+    /**
+     * add: mark a region of the screen as damaged.
+     *
+     * @param x the X value of the region's upper-left point
+     * @param y the Y value of the region's upper-left point
+     * @param w the region's width
+     * @param h the region's height
+     */
+    public void add(int x, int y, int w, int h) {
+        if (this.full) {
+            return;
+        }
+
+        // keep only the part that is on the screen
+        int left = Math.max(0, x);
+        int top = Math.max(0, y);
+        int right = Math.min(this.width, x + w);
+        int bottom = Math.min(this.height, y + h);
+
+        if (left >= right || top >= bottom) {
+            return;
+        }
+
+        // merge it into a region it overlaps
+        for (int i = 0; i < this.count * 4; i += 4) {
+            int rx = this.regions[i], ry = this.regions[i + 1];
+            int rRight = rx + this.regions[i + 2], rBottom = ry + this.regions[i + 3];
+
+            if (left <= rRight && right >= rx && top <= rBottom && bottom >= ry) {
+                this.set(i, Math.min(left, rx), Math.min(top, ry), Math.max(right, rRight), Math.max(bottom, rBottom));
+                return;
+            }
+        }
+
+        if (this.count == MAX_REGIONS) {
+            this.addAll();
+            return;
+        }
+
+        this.set(this.count * 4, left, top, right, bottom);
+        this.count++;
+    }
+
+    /**
+     * addAll: mark the whole screen as damaged.
+     */
+    public void addAll() {
+        this.full = true;
+        this.count = 0;
+    }
+
+    /**
+     * isEmpty: tell whether nothing is damaged.
+     *
+     * @return true if nothing needs repainting; false otherwise
+     */
+    public boolean isEmpty() {
+        return !this.full && this.count == 0;
+    }
+
+    /**
+     * isFull: tell whether the whole screen is damaged.
+     *
+     * @return true if the whole screen needs repainting; false otherwise
+     */
+    public boolean isFull() {
+        return this.full;
+    }
+
+    /**
+     * size: get the number of damaged regions.
+     *
+     * @return the number of damaged regions (0 if the whole screen is damaged)
+     */
+    public int size() {
+        return this.count;
+    }
+
+    /**
+     * getRegion: get a damaged region, e.g. to clip the drawing to it.
+     *
+     * @param index the region's index (0 if the whole screen is damaged)
+     * @param out   the rectangle to which the region is written
+     */
+    public void getRegion(int index, Rectangle out) {
+        if (this.full) {
+            out.setBounds(0, 0, this.width, this.height);
+            return;
+        }
+
+        int i = index * 4;
+        out.setBounds(this.regions[i], this.regions[i + 1], this.regions[i + 2], this.regions[i + 3]);
+    }
+
+    /**
+     * regionCount: get the number of regions to repaint.
+     *
+     * @return the number of damaged regions (1 if the whole screen is damaged)
+     */
+    public int regionCount() {
+        return this.full ? 1 : this.count;
+    }
+
+    /**
+     * clear: mark the whole screen as painted.
+     */
+    public void clear() {
+        this.full = false;
+        this.count = 0;
+    }
+
+    /**
+     * set: update a region by its edges.
+     *
+     * @param i      the index of the region's first value
+     * @param left   the region's left edge
+     * @param top    the region's top edge
+     * @param right  the region's right edge
+     * @param bottom the region's bottom edge
+     */
+    private void set(int i, int left, int top, int right, int bottom) {
+        this.regions[i] = left;
+        this.regions[i + 1] = top;
+        this.regions[i + 2] = right - left;
+        this.regions[i + 3] = bottom - top;
+    }
+}
@@ -0,0 +1,67 @@
+package arkanoid.game.render;
+
+/**
+ * Class Name: DrawnRegion.
+ * <p>
+ * This class remembers where a sprite was drawn last time and what it looked like (as a single number that changes
+ * whenever its look changes), so the sprite can report damage only when it's really going to look different.
+ *
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.0
+ * @since 18 October 2026
+ */
+public class DrawnRegion {
+    private boolean isDrawn;
+    private int x;
+    private int y;
+    private int width;
+    private int height;
+    private int look;
+
+    /**
+     * Constructor.
+     */
+    public DrawnRegion() {
+        this.isDrawn = false;
+    }
+
+    /**
+     * update: tell where the sprite is going to be drawn and how it's going to look, and report the old and the new
+     * regions if anything changed.
+     *
+     * @param tracker the tracker of the damaged regions
+     * @param newX    the X value of the new region's upper-left point
+     * @param newY    the Y value of the new region's upper-left point
+     * @param newW    the new region's width
+     * @param newH    the new region's height
+     * @param newLook a number that changes whenever the sprite's look changes
+     */
+    public void update(DamageTracker tracker, int newX, int newY, int newW, int newH, int newLook) {
+        if (this.isDrawn && this.x == newX && this.y == newY && this.width == newW && this.height == newH
+                && this.look == newLook) {
+            return;
+        }
+
+        this.remove(tracker);
+        tracker.add(newX, newY, newW, newH);
+
+        this.isDrawn = true;
+        this.x = newX;
+        this.y = newY;
+        this.width = newW;
+        this.height = newH;
+        this.look = newLook;
+    }
+
+    /**
+     * remove: report the region where the sprite was drawn last time, and forget it.
+     *
+     * @param tracker the tracker of the damaged regions
+     */
+    public void remove(DamageTracker tracker) {
+        if (this.isDrawn) {
+            tracker.add(this.x, this.y, this.width, this.height);
+            this.isDrawn = false;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package arkanoid.game.render;
+
+import arkanoid.sprites.Damageable;
+import arkanoid.sprites.Sprite;
+
+import java.awt.Image;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Class Name: StaticLayer.
+ * <p>
+ * This class is a pre-rendered layer of the static sprites (the background, the borders and the menu): they're drawn
+ * once into an off-screen image, which is then copied under the rest of the sprites in every frame, instead of
+ * drawing them one by one.
+ * Only the static sprites at the bottom of the drawing order (before the first sprite that isn't static) are in the
+ * layer, so the frame looks exactly the same as if all the sprites were drawn in their order.
+ * The layer is rebuilt only when it's invalidated: when a sprite joins or leaves the static sprites (e.g. it's
+ * removed, or it starts dancing), or when a static sprite reports that it looks different.
+ *
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.0
+ * @since 18 October 2026
+ */
+public class StaticLayer {
+    public static final double STATIC_ALPHA = 1;
+
+    private ImageSurface image;
+    // the bottom static sprites that were drawn into the layer, in their drawing order
+    private List<Sprite> members;
+    // the changes the static sprites report since the layer was built
+    private DamageTracker changes;
+    private boolean isBuilt;
+
+    /**
+     * Constructor.
+     *
+     * @param width  the screen's width
+     * @param height the screen's height
+     */
+    public StaticLayer(int width, int height) {
+        this.image = new ImageSurface(width, height);
+        this.members = new ArrayList<>();
+        this.changes = new DamageTracker(width, height);
+        this.isBuilt = false;
+    }
+
+    /**
+     * isStatic: tell whether a sprite belongs in the static layer.
+     *
+     * @param sp the sprite
+     * @return true if the sprite is damageable and static; false otherwise
+     */
+    public static boolean isStatic(Sprite sp) {
+        return sp instanceof Damageable && ((Damageable) sp).isStatic();
+    }
+
+    /**
+     * update: rebuild the layer if it was invalidated since it was built.
+     *
+     * @param sprites all the sprites, in their drawing order
+     * @return true if the layer was rebuilt; false if it's still the same
+     */
+    public boolean update(List<Sprite> sprites) {
+        if (!this.isBuilt || !this.hasSameMembers(sprites)) {
+            this.rebuild(sprites);
+            return true;
+        }
+
+        for (int i = 0; i < this.members.size(); i++) {
+            ((Damageable) this.members.get(i)).reportDamage(this.changes, STATIC_ALPHA);
+        }
+
+        // nothing looks different
+        if (this.changes.isEmpty()) {
+            return false;
+        }
+
+        this.rebuild(sprites);
+        return true;
+    }
+
+    /**
+     * hasSameMembers: tell whether the bottom static sprites are the same ones the layer was built from.
+     *
+     * @param sprites all the sprites, in their drawing order
+     * @return true if the bottom static sprites are the layer's members, in the same order; false otherwise
+     */
+    private boolean hasSameMembers(List<Sprite> sprites) {
+        int size = this.members.size();
+
+        if (staticCount(sprites) != size) {
+            return false;
+        }
+
+        for (int i = 0; i < size; i++) {
+            if (sprites.get(i) != this.members.get(i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * staticCount: count the static sprites at the bottom of the drawing order.
+     *
+     * @param sprites all the sprites, in their drawing order
+     * @return the number of sprites before the first sprite that isn't static
+     */
+    private static int staticCount(List<Sprite> sprites) {
+        int count = 0;
+
+        while (count < sprites.size() && isStatic(sprites.get(count))) {
+            count++;
+        }
+
+        return count;
+    }
+
+    /**
+     * rebuild: draw the static sprites into the layer from scratch.
+     *
+     * @param sprites all the sprites, in their drawing order
+     */
+    private void rebuild(List<Sprite> sprites) {
+        this.members.clear();
+        this.members.addAll(sprites.subList(0, staticCount(sprites)));
+
+        this.image.setColor(DamageRenderer.CLEAR_COLOR);
+        this.image.fillRectangle(0, 0, this.image.getWidth(), this.image.getHeight());
+
+        for (Sprite sp : this.members) {
+            sp.drawOn(this.image);
+            // let the sprite remember how it was drawn, so it reports only the changes from now on
+            ((Damageable) sp).reportDamage(this.changes, STATIC_ALPHA);
+        }
+
+        this.changes.clear();
+        this.isBuilt = true;
+    }
+
+    /**
+     * invalidate: make the layer rebuild on its next update.
+     */
+    public void invalidate() {
+        this.isBuilt = false;
+    }
+
+    /**
+     * size: get the number of sprites in the layer. They're always the bottom sprites of the drawing order.
+     *
+     * @return the number of sprites in the layer
+     */
+    public int size() {
+        return this.members.size();
+    }
+
+    /**
+     * getImage: get the image of the layer.
+     *
+     * @return the image of the layer
+     */
+    public Image getImage() {
+        return this.image.getImage();
+    }
+}
@@ -0,0 +1,104 @@
+package arkanoid.game.replay;
+
+import arkanoid.game.animation.FixedStepAnimation;
+import arkanoid.game.render.DamageRenderer;
+import arkanoid.game.simulation.Simulation;
+import biuoop.DrawSurface;
+
+/**
+ * Class Name: ReplayAnimation.
+ * <p>
+ * ReplayAnimation class shows a replay in a GUI window at any speed: every time step of the animation plays as many
+ * ticks of the replay as the speed says (e.g. 0.5 plays a tick every other step, and 10 plays ten ticks per step).
+ * It stops when the replay ends.
+ *
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.0
+ * @since 18 October 2026
+ */
+public class ReplayAnimation implements FixedStepAnimation {
+
+    private ReplayPlayer player;
+    private double speed;
+    // the ticks the replay owes, including a fraction of a tick
+    private double ticksDue;
+    private DamageRenderer renderer;
+    // the simulation the renderer draws (the replay moves on to a new simulation on every level)
+    private Simulation rendered;
+    private boolean running;
+
+    /**
+     * Constructor.
+     *
+     * @param replayPlayer the player of the replay
+     * @param ticksPerStep the speed: the number of ticks to play in every time step
+     */
+    public ReplayAnimation(ReplayPlayer replayPlayer, double ticksPerStep) {
+        this.player = replayPlayer;
+        this.speed = ticksPerStep;
+        this.ticksDue = 0;
+        this.renderer = null;
+        this.rendered = null;
+        this.running = !replayPlayer.isDone();
+    }
+
+    /**
+     * doOneFrame: handle the logic of a single frame in the replay.
+     *
+     * @param surface the surface to draw on
+     */
+    public void doOneFrame(DrawSurface surface) {
+        this.render(surface, 1);
+        this.step();
+    }
+
+    /**
+     * step: play the ticks of the replay for one time step.
+     */
+    public void step() {
+        this.ticksDue += this.speed;
+
+        while (this.ticksDue >= 1) {
+            this.ticksDue--;
+            if (!this.player.advance()) {
+                this.running = false;
+                return;
+            }
+        }
+    }
+
+    /**
+     * render: draw the current level of the replay.
+     *
+     * @param surface the surface to draw on
+     * @param alpha   how far (from 0 to 1) the drawn state is from the previous tick to the current one
+     */
+    public void render(DrawSurface surface, double alpha) {
+        Simulation simulation = this.player.getSimulation();
+
+        if (simulation != this.rendered) {
+            this.renderer = new DamageRenderer(simulation.getSprites(), surface.getWidth(), surface.getHeight());
+            this.rendered = simulation;
+        }
+
+        this.renderer.render(surface, alpha);
+    }
+
+    /**
+     * shouldStop: tells if the animation should stop.
+     *
+     * @return whether the animation should stop or not
+     */
+    public boolean shouldStop() {
+        return !this.running;
+    }
+
+    /**
+     * shouldStop: tell the animation to stop.
+     *
+     * @param stop whether the animation should stop or not
+     */
+    public void shouldStop(boolean stop) {
+        this.running = !stop;
+    }
+}
@@ -0,0 +1,56 @@
+package arkanoid.game.replay;
+
+import arkanoid.game.simulation.InputSource;
+
+/**
+ * Class Name: ReplayInput.
+ * <p>
+ * ReplayInput class is an input source that plays the keys of a recorded session, tick by tick.
+ * After the last recorded tick, no key is pressed.
+ *
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.0
+ * @since 18 October 2026
+ */
+public class ReplayInput implements InputSource {
+
+    private ReplayLog log;
+    private long currentTick;
+
+    /**
+     * Constructor.
+     *
+     * @param replayLog the recorded session
+     */
+    public ReplayInput(ReplayLog replayLog) {
+        this.log = replayLog;
+        this.currentTick = 0;
+    }
+
+    /**
+     * isPressed: tell whether a key was pressed in the current tick of the recorded session.
+     *
+     * @param key the key's name
+     * @return whether the key was pressed or not
+     */
+    public boolean isPressed(String key) {
+        int index = this.log.findKey(key);
+        return index != -1 && (this.log.getMask(this.currentTick) & (1 << index)) != 0;
+    }
+
+    /**
+     * tick: move on to the next recorded tick.
+     */
+    public void tick() {
+        this.currentTick++;
+    }
+
+    /**
+     * getCurrentTick: get the number of the current tick (from the beginning of the session).
+     *
+     * @return the number of the current tick
+     */
+    public long getCurrentTick() {
+        return this.currentTick;
+    }
+}
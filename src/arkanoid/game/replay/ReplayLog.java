@@ -0,0 +1,397 @@
+package arkanoid.game.replay;
+
+import arkanoid.game.collision.CollisionMode;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Class Name: ReplayLog.
+ * <p>
+ * This class holds everything needed to play a game session again, exactly as it was played: the levels file, the
+ * random seed, the initial lives, the collision mode, whether the balls bounce off each other, the keys the player
+ * pressed in every tick, and the length of every turn (a turn may end early, e.g. when the player quits the level).
+ * Every turn also keeps the score and the number of blocks that were left at its end, so a replay can tell whether
+ * it went off the recorded track.
+ * <p>
+ * The format (big-endian): MAGIC, VERSION, the levels file, the seed, the lives, the collision mode, the ball
+ * collisions flag, the keys' names, the turns (ticks, score and blocks left each), and the keys that were pressed in
+ * every tick as a bit mask (bit i is the i-th key). The masks are run-length encoded - a mask and the number of
+ * ticks in a row it lasted - since the player holds the same keys for many ticks.
+ *
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.2
+ * @since 18 October 2026
+ */
+public class ReplayLog {
+    public static final int MAGIC = 0x41524B52;
+    // version 2: the world's randomness comes from a SplittableRandom (see RandomSource)
+    // version 3: the ball collisions flag (see BallSystem.COLLISIONS_PROPERTY)
+    public static final int VERSION = 3;
+    public static final String SUFFIX = ".arkr";
+    public static final int MAX_KEYS = Integer.SIZE;
+    public static final int DEFAULT_CAPACITY = 1024;
+    // spreads the seeds of consecutive levels
+    public static final long SEED_STEP = 0x9E3779B97F4A7C15L;
+
+    private String levelsFile;
+    private long seed;
+    private int lives;
+    private CollisionMode collisionMode;
+    private boolean hasBallCollisions;
+    private List<String> keys;
+    // every turn: its ticks, the score and the blocks left at its end
+    private List<int[]> turns;
+    // the keys that were pressed in every tick
+    private int[] masks;
+    private int ticks;
+
+    /**
+     * Constructor.
+     *
+     * @param levels         the levels file (a resource path)
+     * @param sessionSeed    the random seed of the session
+     * @param initialLives   the lives at the beginning of the session
+     * @param mode           the collision mode of the session
+     * @param ballCollisions whether the balls bounced off each other in the session
+     */
+    public ReplayLog(String levels, long sessionSeed, int initialLives, CollisionMode mode, boolean ballCollisions) {
+        this.levelsFile = levels;
+        this.seed = sessionSeed;
+        this.lives = initialLives;
+        this.collisionMode = mode;
+        this.hasBallCollisions = ballCollisions;
+        this.keys = new ArrayList<>();
+        this.turns = new ArrayList<>();
+        this.masks = new int[DEFAULT_CAPACITY];
+        this.ticks = 0;
+    }
+
+    /**
+     * getLevelsFile: get the levels file of the session.
+     *
+     * @return the levels file (a resource path)
+     */
+    public String getLevelsFile() {
+        return this.levelsFile;
+    }
+
+    /**
+     * getSeed: get the random seed of the session.
+     *
+     * @return the random seed
+     */
+    public long getSeed() {
+        return this.seed;
+    }
+
+    /**
+     * levelSeed: get the random seed of a level in the session.
+     *
+     * @param level the level's index
+     * @return the level's random seed
+     */
+    public long levelSeed(int level) {
+        return this.seed + level * SEED_STEP;
+    }
+
+    /**
+     * getLives: get the lives at the beginning of the session.
+     *
+     * @return the initial lives
+     */
+    public int getLives() {
+        return this.lives;
+    }
+
+    /**
+     * getCollisionMode: get the collision mode of the session.
+     *
+     * @return the collision mode
+     */
+    public CollisionMode getCollisionMode() {
+        return this.collisionMode;
+    }
+
+    /**
+     * hasBallCollisions: tell whether the balls bounced off each other in the session.
+     *
+     * @return true if the balls bounced off each other; false if they passed through each other
+     */
+    public boolean hasBallCollisions() {
+        return this.hasBallCollisions;
+    }
+
+    /**
+     * keyIndex: get the index of a key, and add it to the keys if it's new.
+     *
+     * @param key the key's name
+     * @return the key's index (its bit in the masks)
+     */
+    public int keyIndex(String key) {
+        int index = this.keys.indexOf(key);
+
+        if (index == -1) {
+            if (this.keys.size() == MAX_KEYS) {
+                throw new RuntimeException("Too many keys to record: " + key);
+            }
+            index = this.keys.size();
+            this.keys.add(key);
+        }
+
+        return index;
+    }
+
+    /**
+     * findKey: get the index of a key.
+     *
+     * @param key the key's name
+     * @return the key's index (its bit in the masks), or -1 if it was never pressed in the session
+     */
+    public int findKey(String key) {
+        return this.keys.indexOf(key);
+    }
+
+    /**
+     * addTick: add the keys that were pressed in the next tick.
+     *
+     * @param mask the keys that were pressed, as a bit mask
+     */
+    public void addTick(int mask) {
+        if (this.ticks == this.masks.length) {
+            this.masks = Arrays.copyOf(this.masks, this.masks.length * 2);
+        }
+        this.masks[this.ticks++] = mask;
+    }
+
+    /**
+     * getMask: get the keys that were pressed in a tick.
+     *
+     * @param tick the tick's number (from the beginning of the session)
+     * @return the keys that were pressed, as a bit mask (0 after the last recorded tick)
+     */
+    public int getMask(long tick) {
+        return (tick < this.ticks) ? this.masks[(int) tick] : 0;
+    }
+
+    /**
+     * getTicks: get the number of recorded ticks.
+     *
+     * @return the number of recorded ticks
+     */
+    public int getTicks() {
+        return this.ticks;
+    }
+
+    /**
+     * addTurn: add a turn that has ended.
+     *
+     * @param turnTicks  the number of ticks the turn lasted
+     * @param score      the score at the end of the turn
+     * @param blocksLeft the blocks left at the end of the turn
+     */
+    public void addTurn(int turnTicks, int score, int blocksLeft) {
+        this.turns.add(new int[]{turnTicks, score, blocksLeft});
+    }
+
+    /**
+     * turnsNum: get the number of turns.
+     *
+     * @return the number of turns
+     */
+    public int turnsNum() {
+        return this.turns.size();
+    }
+
+    /**
+     * getTurnTicks: get the number of ticks a turn lasted.
+     *
+     * @param turn the turn's index
+     * @return the number of ticks
+     */
+    public int getTurnTicks(int turn) {
+        return this.turns.get(turn)[0];
+    }
+
+    /**
+     * getTurnScore: get the score at the end of a turn.
+     *
+     * @param turn the turn's index
+     * @return the score
+     */
+    public int getTurnScore(int turn) {
+        return this.turns.get(turn)[1];
+    }
+
+    /**
+     * getTurnBlocks: get the blocks left at the end of a turn.
+     *
+     * @param turn the turn's index
+     * @return the blocks left
+     */
+    public int getTurnBlocks(int turn) {
+        return this.turns.get(turn)[2];
+    }
+
+    /**
+     * save: write the log to a file.
+     *
+     * @param path the file
+     * @throws IOException if the file can't be written
+     */
+    public void save(Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+            this.write(out);
+        }
+    }
+
+    /**
+     * write: write the log in the replay format.
+     *
+     * @param out the stream to write to
+     * @throws IOException if the stream can't be written
+     */
+    public void write(DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        writeString(out, this.levelsFile);
+        out.writeLong(this.seed);
+        out.writeInt(this.lives);
+        writeString(out, this.collisionMode.name());
+        out.writeBoolean(this.hasBallCollisions);
+
+        out.writeInt(this.keys.size());
+        for (String key : this.keys) {
+            writeString(out, key);
+        }
+
+        out.writeInt(this.turns.size());
+        for (int[] turn : this.turns) {
+            out.writeInt(turn[0]);
+            out.writeInt(turn[1]);
+            out.writeInt(turn[2]);
+        }
+
+        // count the runs first, so the reader knows how many there are
+        int runs = 0;
+        for (int i = 0; i < this.ticks; i++) {
+            if (i == 0 || this.masks[i] != this.masks[i - 1]) {
+                runs++;
+            }
+        }
+
+        out.writeInt(runs);
+        int start = 0;
+        for (int i = 1; i <= this.ticks; i++) {
+            if (i == this.ticks || this.masks[i] != this.masks[start]) {
+                out.writeInt(this.masks[start]);
+                out.writeInt(i - start);
+                start = i;
+            }
+        }
+    }
+
+    /**
+     * load: read a log from a file.
+     *
+     * @param path the file
+     * @return the log
+     * @throws IOException if the file can't be read, or it's not a replay file
+     */
+    public static ReplayLog load(Path path) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            return read(in);
+        }
+    }
+
+    /**
+     * read: read a log in the replay format.
+     *
+     * @param in the stream to read from
+     * @return the log
+     * @throws IOException if the stream can't be read, or it's not in the replay format
+     */
+    public static ReplayLog read(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a replay file.");
+        }
+
+        int version = in.readInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported replay version: " + version);
+        }
+
+        String levels = readString(in);
+        long seed = in.readLong();
+        int lives = in.readInt();
+        CollisionMode mode;
+        try {
+            mode = CollisionMode.valueOf(readString(in));
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Unknown collision mode: " + e.getMessage());
+        }
+        boolean ballCollisions = in.readBoolean();
+
+        ReplayLog log = new ReplayLog(levels, seed, lives, mode, ballCollisions);
+
+        int keysNum = in.readInt();
+        for (int i = 0; i < keysNum; i++) {
+            log.keyIndex(readString(in));
+        }
+
+        int turnsNum = in.readInt();
+        for (int i = 0; i < turnsNum; i++) {
+            log.addTurn(in.readInt(), in.readInt(), in.readInt());
+        }
+
+        int runs = in.readInt();
+        for (int i = 0; i < runs; i++) {
+            int mask = in.readInt();
+            int length = in.readInt();
+            for (int j = 0; j < length; j++) {
+                log.addTick(mask);
+            }
+        }
+
+        return log;
+    }
+
+    /**
+     * writeString: write a string as its length and its UTF-8 bytes.
+     *
+     * @param out the stream to write to
+     * @param str the string
+     * @throws IOException if the stream can't be written
+     */
+    private static void writeString(DataOutputStream out, String str) throws IOException {
+        byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * readString: read a string that was written as its length and its UTF-8 bytes.
+     *
+     * @param in the stream to read from
+     * @return the string
+     * @throws IOException if the stream can't be read
+     */
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
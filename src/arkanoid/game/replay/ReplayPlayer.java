@@ -0,0 +1,294 @@
+package arkanoid.game.replay;
+
+import arkanoid.game.GameFlow;
+import arkanoid.game.animation.AnimationRunner;
+import arkanoid.game.animation.GameLevel;
+import arkanoid.game.levels.LevelInformation;
+import arkanoid.game.levels.LevelSpecificationReader;
+import arkanoid.game.simulation.Simulation;
+import arkanoid.util.Counter;
+import biuoop.GUI;
+import biuoop.Sleeper;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * Class Name: ReplayPlayer.
+ * <p>
+ * This class plays a recorded session (see ReplayLog) again, tick by tick, the same way GameFlow played it: level
+ * after level, turn after turn, with the recorded keys and random seeds.
+ * At the end of every turn, the score and the blocks left are checked against the recording, so a replay that went
+ * off track (e.g. after a change to the physics) is reported.
+ * It can play without a GUI as fast as possible, or in a GUI window at any speed (see ReplayAnimation).
+ *
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.1
+ * @since 18 October 2026
+ */
+public class ReplayPlayer {
+    public static final double DEFAULT_GUI_SPEED = 1;
+
+    private ReplayLog log;
+    private List<LevelInformation> levels;
+    private ReplayInput input;
+    private Counter lives;
+    private Counter score;
+    private Counter blocks;
+    private Simulation simulation;
+    private int levelIndex;
+    private int turn;
+    private int ticksLeft;
+    private int mismatches;
+    private boolean isDone;
+    private boolean isVerbose;
+
+    /**
+     * Constructor.
+     *
+     * @param replayLog the recorded session
+     */
+    public ReplayPlayer(ReplayLog replayLog) {
+        this.log = replayLog;
+        this.levels = LevelSpecificationReader.getReader(replayLog.getLevelsFile());
+        this.input = new ReplayInput(replayLog);
+        this.lives = new Counter(replayLog.getLives());
+        this.score = new Counter();
+        this.levelIndex = 0;
+        this.turn = 0;
+        this.mismatches = 0;
+        this.isDone = false;
+        this.isVerbose = false;
+
+        if (this.levels.isEmpty()) {
+            this.isDone = true;
+        } else {
+            this.startLevel();
+            this.startTurn();
+        }
+    }
+
+    /**
+     * main: play a replay file.
+     * Usage: ReplayPlayer [-gui] [-speed ticks per frame] [-q] file
+     * Without -gui, the replay is played without a GUI, as fast as possible (fast-forward). In the GUI, the speed
+     * defaults to DEFAULT_GUI_SPEED (real time); e.g. 0.25 is slow motion and 20 is fast-forward.
+     *
+     * @param args the command line arguments
+     */
+    public static void main(String[] args) {
+        boolean gui = false;
+        boolean quiet = false;
+        double speed = DEFAULT_GUI_SPEED;
+        String file = null;
+
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("-gui")) {
+                gui = true;
+            } else if (args[i].equals("-speed") && i + 1 < args.length) {
+                speed = Double.parseDouble(args[++i]);
+            } else if (args[i].equals("-q")) {
+                quiet = true;
+            } else {
+                file = args[i];
+            }
+        }
+
+        if (file == null || speed <= 0) {
+            System.err.println("Usage: ReplayPlayer [-gui] [-speed ticks per frame] [-q] file");
+            System.exit(-1);
+        }
+
+        ReplayLog log = null;
+        try {
+            log = ReplayLog.load(Paths.get(file));
+        } catch (IOException e) {
+            // error while reading the replay file
+            System.err.println("Can't load " + file + ": " + e.getMessage());
+            System.exit(-1);
+        }
+
+        ReplayPlayer player = new ReplayPlayer(log);
+        player.setVerbose(!quiet);
+        long start = System.nanoTime();
+
+        if (gui) {
+            GUI window = new GUI(GameLevel.GAME_TITLE + " - Replay", GameLevel.WINDOW_WIDTH, GameLevel.WINDOW_HEIGHT);
+            new AnimationRunner(window, new Sleeper()).run(new ReplayAnimation(player, speed));
+            window.close();
+        } else {
+            player.playToEnd();
+        }
+
+        double seconds = (System.nanoTime() - start) / (double) AnimationRunner.NANOS_PER_SECOND;
+        long ticks = player.getInput().getCurrentTick();
+        double gameSeconds = (double) ticks / GameLevel.FRAMES_PER_SECOND;
+        System.out.printf("%d ticks (%.1f s of play) in %.3f s - %.0f ticks/s, %.0fx real time%n", ticks,
+                gameSeconds, seconds, ticks / seconds, gameSeconds / seconds);
+        System.out.println("Final score: " + player.getScore().getValue() + ", lives: "
+                + player.getLives().getValue());
+
+        if (player.getMismatches() > 0) {
+            System.err.println(player.getMismatches() + " turns went off the recorded track.");
+            System.exit(-1);
+        }
+    }
+
+    /**
+     * setVerbose: set whether the end of every turn is printed.
+     *
+     * @param verbose whether the end of every turn is printed or not
+     */
+    public void setVerbose(boolean verbose) {
+        this.isVerbose = verbose;
+    }
+
+    /**
+     * playToEnd: play the whole replay, as fast as possible.
+     */
+    public void playToEnd() {
+        while (this.advance()) {
+            continue;
+        }
+    }
+
+    /**
+     * advance: play the next tick of the replay, and move on to the next turn or level when one ends.
+     *
+     * @return true if the replay goes on; false if it has ended
+     */
+    public boolean advance() {
+        if (this.isDone) {
+            return false;
+        }
+
+        if (this.ticksLeft > 0) {
+            this.simulation.tick();
+            this.ticksLeft--;
+            return true;
+        }
+
+        this.endTurn();
+        return !this.isDone;
+    }
+
+    /**
+     * startLevel: build the world of the current level.
+     */
+    private void startLevel() {
+        this.blocks = new Counter();
+        this.simulation = new Simulation(this.levels.get(this.levelIndex), this.input, this.lives, this.score,
+                this.blocks);
+        this.simulation.setSeed(this.log.levelSeed(this.levelIndex));
+        this.simulation.getEnvironment().setCollisionMode(this.log.getCollisionMode());
+        this.simulation.getBalls().setBallCollisions(this.log.hasBallCollisions());
+        this.simulation.initialize();
+    }
+
+    /**
+     * startTurn: start the next recorded turn, or end the replay if there are no more turns.
+     */
+    private void startTurn() {
+        if (this.turn == this.log.turnsNum()) {
+            this.isDone = true;
+            return;
+        }
+
+        this.ticksLeft = this.log.getTurnTicks(this.turn);
+        this.simulation.createBallsOnTopOfPaddle();
+    }
+
+    /**
+     * endTurn: check the turn against the recording, and move on like GameFlow does: to the next level if no blocks
+     * are left, otherwise to the next turn with one life less.
+     */
+    private void endTurn() {
+        boolean matches = this.score.getValue() == this.log.getTurnScore(this.turn)
+                && this.blocks.getValue() == this.log.getTurnBlocks(this.turn);
+
+        if (!matches) {
+            this.mismatches++;
+            System.err.println("Turn " + (this.turn + 1) + " went off the recorded track: score "
+                    + this.score.getValue() + " (recorded " + this.log.getTurnScore(this.turn) + "), blocks left "
+                    + this.blocks.getValue() + " (recorded " + this.log.getTurnBlocks(this.turn) + ")");
+        } else if (this.isVerbose) {
+            System.out.println("Turn " + (this.turn + 1) + " (" + this.levels.get(this.levelIndex).levelName()
+                    + "): " + this.log.getTurnTicks(this.turn) + " ticks, score " + this.score.getValue()
+                    + ", blocks left " + this.blocks.getValue());
+        }
+        this.turn++;
+
+        if (this.blocks.getValue() == 0) {
+            this.score.increase(GameFlow.LEVEL_COMPLETE_SCORE);
+            this.levelIndex++;
+            if (this.levelIndex == this.levels.size()) {
+                this.isDone = true;
+                return;
+            }
+            this.startLevel();
+        } else {
+            this.lives.decrease(1);
+            if (this.lives.getValue() == 0) {
+                this.isDone = true;
+                return;
+            }
+        }
+
+        this.startTurn();
+    }
+
+    /**
+     * isDone: tell whether the replay has ended.
+     *
+     * @return true if the replay has ended; false otherwise
+     */
+    public boolean isDone() {
+        return this.isDone;
+    }
+
+    /**
+     * getSimulation: get the simulation of the current level.
+     *
+     * @return the simulation of the current level
+     */
+    public Simulation getSimulation() {
+        return this.simulation;
+    }
+
+    /**
+     * getInput: get the input that plays the recorded keys.
+     *
+     * @return the replay's input
+     */
+    public ReplayInput getInput() {
+        return this.input;
+    }
+
+    /**
+     * getScore: get the score counter.
+     *
+     * @return the score counter
+     */
+    public Counter getScore() {
+        return this.score;
+    }
+
+    /**
+     * getLives: get the lives counter.
+     *
+     * @return the lives counter
+     */
+    public Counter getLives() {
+        return this.lives;
+    }
+
+    /**
+     * getMismatches: get the number of turns that went off the recorded track.
+     *
+     * @return the number of turns that didn't match the recording
+     */
+    public int getMismatches() {
+        return this.mismatches;
+    }
+}
@@ -0,0 +1,169 @@
+package arkanoid.game.replay;
+
+import arkanoid.game.collision.CollisionMode;
+import arkanoid.game.simulation.InputSource;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Class Name: ReplayRecorder.
+ * <p>
+ * This class records game sessions into replay files (see ReplayLog), one file per session, in a directory.
+ * The player's input goes through the recorder: every key is read from the live input once per tick, and the same
+ * answer is given to everyone who asks about it in that tick - so the game sees exactly what the replay will see.
+ * The file is saved at the end of every turn, so a session that is cut off (e.g. the window is closed) is kept up to
+ * its last turn.
+ * <p>
+ * Recording is turned on by the PROPERTY system property, e.g. -Darkanoid.replay.dir=replays.
+ *
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.1
+ * @since 18 October 2026
+ */
+public class ReplayRecorder {
+    public static final String PROPERTY = "arkanoid.replay.dir";
+    public static final String PREFIX = "replay-";
+
+    private Path directory;
+    private ReplayLog log;
+    private Path file;
+
+    /**
+     * Constructor.
+     *
+     * @param dir the directory of the replay files
+     */
+    public ReplayRecorder(Path dir) {
+        this.directory = dir;
+        this.log = null;
+        this.file = null;
+    }
+
+    /**
+     * fromSystemProperty: create a recorder to the directory selected by the system property.
+     *
+     * @return the recorder, or null if recording wasn't turned on
+     */
+    public static ReplayRecorder fromSystemProperty() {
+        String dir = System.getProperty(PROPERTY);
+        return (dir == null) ? null : new ReplayRecorder(Paths.get(dir));
+    }
+
+    /**
+     * begin: start recording a new session.
+     *
+     * @param levelsFile     the levels file of the session (a resource path)
+     * @param lives          the lives at the beginning of the session
+     * @param mode           the collision mode of the session
+     * @param ballCollisions whether the balls bounce off each other in the session
+     */
+    public void begin(String levelsFile, int lives, CollisionMode mode, boolean ballCollisions) {
+        long now = System.currentTimeMillis();
+        this.log = new ReplayLog(levelsFile, now ^ System.nanoTime(), lives, mode, ballCollisions);
+        this.file = this.directory.resolve(PREFIX + now + ReplayLog.SUFFIX);
+    }
+
+    /**
+     * levelSeed: get the random seed of a level in the current session.
+     *
+     * @param level the level's index
+     * @return the level's random seed
+     */
+    public long levelSeed(int level) {
+        return this.log.levelSeed(level);
+    }
+
+    /**
+     * record: wrap the live input, so everything it tells the game is recorded.
+     *
+     * @param live the live input
+     * @return the recording input
+     */
+    public InputSource record(InputSource live) {
+        return new RecordingInput(live);
+    }
+
+    /**
+     * endTurn: record the end of a turn, and save the session so far.
+     *
+     * @param ticks      the number of ticks the turn lasted
+     * @param score      the score at the end of the turn
+     * @param blocksLeft the blocks left at the end of the turn
+     */
+    public void endTurn(long ticks, int score, int blocksLeft) {
+        this.log.addTurn((int) ticks, score, blocksLeft);
+
+        try {
+            this.log.save(this.file);
+        } catch (IOException e) {
+            // a replay that can't be saved shouldn't stop the game
+            System.err.println("Can't save the replay " + this.file + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * getLog: get the log of the current session.
+     *
+     * @return the log, or null if no session was started
+     */
+    public ReplayLog getLog() {
+        return this.log;
+    }
+
+    /**
+     * getFile: get the replay file of the current session.
+     *
+     * @return the replay file, or null if no session was started
+     */
+    public Path getFile() {
+        return this.file;
+    }
+
+    /**
+     * Class Name: RecordingInput.
+     * <p>
+     * An input source that reads every key from the live input once per tick, and records the keys that were
+     * pressed.
+     */
+    private final class RecordingInput implements InputSource {
+        private InputSource live;
+        // the keys that were read in the current tick, and the ones that were pressed
+        private int read;
+        private int pressed;
+
+        /**
+         * Constructor.
+         *
+         * @param liveInput the live input
+         */
+        RecordingInput(InputSource liveInput) {
+            this.live = liveInput;
+            this.read = 0;
+            this.pressed = 0;
+        }
+
+        @Override
+        public boolean isPressed(String key) {
+            int bit = 1 << ReplayRecorder.this.log.keyIndex(key);
+
+            if ((this.read & bit) == 0) {
+                this.read |= bit;
+                if (this.live.isPressed(key)) {
+                    this.pressed |= bit;
+                }
+            }
+
+            return (this.pressed & bit) != 0;
+        }
+
+        @Override
+        public void tick() {
+            ReplayRecorder.this.log.addTick(this.pressed);
+            this.read = 0;
+            this.pressed = 0;
+            this.live.tick();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package arkanoid.game.simulation;
+
+import arkanoid.sprites.Paddle;
+import biuoop.KeyboardSensor;
+
+/**
+ * Class Name: InputController.
+ * <p>
+ * InputController class drives the paddle by the player's keys, which come from an input source - a live keyboard
+ * (see KeyboardInput), a script of key presses (see ScriptedInput) or a recorded game.
+ * The paddle moves left and right with the arrow keys; the up and down keys move it too, once the "v" key has
+ * unlocked the vertical movement.
+ *
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.0
+ * @since 18 October 2026
+ */
+public class InputController implements PaddleController {
+    public static final String VERTICAL_KEY = "v";
+
+    private InputSource input;
+    private boolean verticalMovement = false;
+
+    /**
+     * Constructor.
+     *
+     * @param inputSource the source of the player's keys
+     */
+    public InputController(InputSource inputSource) {
+        this.input = inputSource;
+    }
+
+    /**
+     * nextMove: move the paddle according to the key that is pressed in the current tick.
+     *
+     * @param world  the world the paddle is in
+     * @param paddle the paddle
+     * @return the paddle's move
+     */
+    public PaddleMove nextMove(Simulation world, Paddle paddle) {
+        if (this.input.isPressed(KeyboardSensor.RIGHT_KEY)) {
+            return PaddleMove.RIGHT;
+        } else if (this.input.isPressed(KeyboardSensor.LEFT_KEY)) {
+            return PaddleMove.LEFT;
+        } else if (this.input.isPressed(KeyboardSensor.UP_KEY) && this.verticalMovement) {
+            return PaddleMove.UP;
+        } else if (this.input.isPressed(KeyboardSensor.DOWN_KEY) && this.verticalMovement) {
+            return PaddleMove.DOWN;
+        } else if (this.input.isPressed(VERTICAL_KEY)) {
+            // Easter egg: enable vertical movement of paddle!
+            this.verticalMovement = true;
+        }
+
+        return PaddleMove.STAY;
+    }
+}
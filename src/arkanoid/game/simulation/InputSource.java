@@ -0,0 +1,27 @@
+package arkanoid.game.simulation;
+
+/**
+ * Interface Name: InputSource.
+ * <p>
+ * InputSource interface represents the player's input to the simulation, tick by tick.
+ * It can be a live keyboard, a scripted sequence of key presses or a recorded game.
+ *
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.0
+ * @since 18 October 2026
+ */
+public interface InputSource {
+
+    /**
+     * isPressed: tell whether a key is pressed in the current tick.
+     *
+     * @param key the key's name (as in biuoop.KeyboardSensor)
+     * @return whether the key is pressed or not
+     */
+    boolean isPressed(String key);
+
+    /**
+     * tick: notify the input source that a tick of the simulation has ended, so it should move on to the next one.
+     */
+    void tick();
+}
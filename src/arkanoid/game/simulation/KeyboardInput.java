@@ -0,0 +1,43 @@
+package arkanoid.game.simulation;
+
+import biuoop.KeyboardSensor;
+
+/**
+ * Class Name: KeyboardInput.
+ * <p>
+ * KeyboardInput class is an input source that reads the live keyboard of the GUI.
+ *
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.0
+ * @since 18 October 2026
+ */
+public class KeyboardInput implements InputSource {
+
+    private KeyboardSensor keyboard;
+
+    /**
+     * Constructor.
+     *
+     * @param ks the keyboard sensor
+     */
+    public KeyboardInput(KeyboardSensor ks) {
+        this.keyboard = ks;
+    }
+
+    /**
+     * isPressed: tell whether a key is pressed right now.
+     *
+     * @param key the key's name
+     * @return whether the key is pressed or not
+     */
+    public boolean isPressed(String key) {
+        return this.keyboard.isPressed(key);
+    }
+
+    /**
+     * tick: do nothing, the keyboard is always live.
+     */
+    public void tick() {
+        // do nothing
+    }
+}
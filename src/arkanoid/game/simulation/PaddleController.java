@@ -0,0 +1,27 @@
+package arkanoid.game.simulation;
+
+import arkanoid.sprites.Paddle;
+
+/**
+ * Interface Name: PaddleController.
+ * <p>
+ * PaddleController interface represents whoever drives the paddle, tick by tick: a player's keys (see InputController,
+ * which reads a live keyboard, a script or a recording), or a bot that looks at the world and decides on its own.
+ * A controller may keep a state from one tick to another, so every paddle needs a controller of its own.
+ *
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.0
+ * @since 18 October 2026
+ */
+public interface PaddleController {
+
+    /**
+     * nextMove: decide how the paddle moves in the current tick.
+     * It's called once per tick, when the paddle's turn to move comes.
+     *
+     * @param world  the world the paddle is in (null if the paddle wasn't added to a world)
+     * @param paddle the paddle
+     * @return the paddle's move
+     */
+    PaddleMove nextMove(Simulation world, Paddle paddle);
+}
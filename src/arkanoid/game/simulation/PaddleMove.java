@@ -0,0 +1,18 @@
+package arkanoid.game.simulation;
+
+/**
+ * Enum Name: PaddleMove.
+ * <p>
+ * This enum represents the ways a paddle can move in a single tick (see PaddleController).
+ *
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.0
+ * @since 18 October 2026
+ */
+public enum PaddleMove {
+    STAY,
+    LEFT,
+    RIGHT,
+    UP,
+    DOWN
+}
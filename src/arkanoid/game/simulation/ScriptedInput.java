@@ -0,0 +1,76 @@
+package arkanoid.game.simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Class Name: ScriptedInput.
+ * <p>
+ * ScriptedInput class is an input source that plays a script of key presses, each one held for a range of ticks.
+ * With no script at all, it's a player that never touches the keyboard.
+ *
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.0
+ * @since 18 October 2026
+ */
+public class ScriptedInput implements InputSource {
+
+    private List<String> keys;
+    private List<long[]> ranges;
+    private long currentTick;
+
+    /**
+     * Constructor.
+     */
+    public ScriptedInput() {
+        this.keys = new ArrayList<>();
+        this.ranges = new ArrayList<>();
+        this.currentTick = 0;
+    }
+
+    /**
+     * hold: add a key press to the script.
+     *
+     * @param key       the key's name
+     * @param fromTick  the first tick in which the key is pressed
+     * @param ticks     for how many ticks the key is held
+     * @return this script, so that calls can be chained
+     */
+    public ScriptedInput hold(String key, long fromTick, long ticks) {
+        this.keys.add(key);
+        this.ranges.add(new long[]{fromTick, fromTick + ticks});
+        return this;
+    }
+
+    /**
+     * isPressed: tell whether a key is pressed in the current tick, according to the script.
+     *
+     * @param key the key's name
+     * @return whether the key is pressed or not
+     */
+    public boolean isPressed(String key) {
+        for (int i = 0; i < this.keys.size(); i++) {
+            long[] range = this.ranges.get(i);
+            if (this.currentTick >= range[0] && this.currentTick < range[1] && this.keys.get(i).equals(key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * tick: move on to the next tick of the script.
+     */
+    public void tick() {
+        this.currentTick++;
+    }
+
+    /**
+     * getCurrentTick: get the number of the current tick.
+     *
+     * @return the number of the current tick
+     */
+    public long getCurrentTick() {
+        return this.currentTick;
+    }
+}
@@ -0,0 +1,457 @@
+package arkanoid.game.simulation;
+
+import arkanoid.game.GameEnvironment;
+import arkanoid.game.SpriteCollection;
+import arkanoid.game.collision.CollisionBackend;
+import arkanoid.game.levels.LevelInformation;
+import arkanoid.geometry.Point;
+import arkanoid.geometry.Rectangle;
+import arkanoid.listeners.BallRemover;
+import arkanoid.listeners.BlockRemover;
+import arkanoid.listeners.HitEventBus;
+import arkanoid.listeners.HitListener;
+import arkanoid.listeners.ScoreTrackingListener;
+import arkanoid.sprites.Ball;
+import arkanoid.sprites.BallSystem;
+import arkanoid.sprites.Block;
+import arkanoid.sprites.Collidable;
+import arkanoid.sprites.LevelIndicator;
+import arkanoid.sprites.LivesIndicator;
+import arkanoid.sprites.Paddle;
+import arkanoid.sprites.ScoreIndicator;
+import arkanoid.sprites.Sprite;
+import arkanoid.util.Counter;
+import arkanoid.util.RandomSource;
+import arkanoid.util.Velocity;
+
+import java.awt.Color;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Class Name: Simulation.
+ * <p>
+ * Simulation class represents the world of a single level: its sprites, collidables and counters.
+ * It advances the world by fixed ticks and reads the player's input from an input source, so it can run without a
+ * GUI or a draw surface at all - e.g. on a server, or thousands of times in a row for balance testing.
+ * GameLevel is only a view on top of it.
+ * Like GameLevel, it takes over the level's blocks, so every simulation needs its own LevelInformation (e.g. read
+ * again by LevelSpecificationReader).
+ * All the randomness of the world (e.g. the dancing blocks) comes from a single random source, so with the same
+ * seed and the same input, a simulation plays exactly the same way every time (see the replay package).
+ * The blocks' hits are published to a hit event bus, which hands them to the score once per tick, after all the
+ * sprites moved (see HitEventBus); the removers still handle every hit on the spot.
+ * The paddle is driven by the player's keys, unless another controller (e.g. a bot) is set before the world is built.
+ *
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.11
+ * @since 18 October 2026
+ */
+public class Simulation {
+
+    public static final int WORLD_WIDTH = Ball.WINDOW_WIDTH;
+    public static final int WORLD_HEIGHT = Ball.WINDOW_HEIGHT;
+    public static final int BALL_SIZE = 5;
+    public static final Color BALL_COLOR = Color.WHITE;
+    public static final int PADDLE_HEIGHT = Paddle.PADDLE_DEFAULT_HEIGHT;
+    public static final Color PADDLE_COLOR = Color.ORANGE;
+    public static final Color BORDER_COLOR = Color.GRAY;
+    public static final int BORDER_THICKNESS = 24;
+    public static final int PADDLE_CENTER_POINT_X = WORLD_WIDTH / 2;
+    public static final int PADDLE_CENTER_POINT_Y = WORLD_HEIGHT - PADDLE_HEIGHT - BORDER_THICKNESS;
+    public static final int BALL_START_POINT_X = PADDLE_CENTER_POINT_X;
+    public static final int BALL_START_POINT_Y = PADDLE_CENTER_POINT_Y - BALL_SIZE / 2;
+    public static final String DANCE_KEY = "m";
+
+    private SpriteCollection sprites;
+    private GameEnvironment environment;
+    private InputSource input;
+    // whoever drives the paddle (null drives it by the input's keys)
+    private PaddleController controller;
+    private Counter blockCounter;
+    private Counter ballCounter;
+    private Counter score;
+    private Counter lives;
+    private LevelInformation levelInfo;
+    private Paddle paddle;
+    // all the balls of the world
+    private BallSystem balls;
+    // the source of all the randomness of the world
+    private RandomSource random;
+    // the bus that hands the hits of every tick to the score
+    private HitEventBus events;
+    private long ticks;
+    // the largest random turn of a served ball, in degrees (0 serves the level's velocities as they are)
+    private double serveJitter;
+
+    /**
+     * Constructor.
+     *
+     * @param levelInformation the level's information and settings
+     * @param inputSource      the source of the player's input
+     * @param lives            the lives counter
+     * @param score            the score counter
+     * @param blocks           the blocks counter
+     */
+    public Simulation(LevelInformation levelInformation, InputSource inputSource, Counter lives, Counter score,
+                      Counter blocks) {
+        this.sprites = new SpriteCollection();
+        // index the collidables by the level's layout (see CollisionBackend)
+        this.environment = new GameEnvironment(CollisionBackend.fromSystemProperty().create(levelInformation.blocks(),
+                WORLD_WIDTH, WORLD_HEIGHT));
+        this.blockCounter = blocks;
+        this.ballCounter = new Counter();
+        this.score = score;
+        this.lives = lives;
+        this.levelInfo = levelInformation;
+        this.input = inputSource;
+        this.controller = null;
+        this.balls = new BallSystem(this.environment, true);
+        // when there are many balls, they search for their contacts on all the cores
+        this.balls.setPool(ForkJoinPool.commonPool());
+        this.random = new RandomSource(System.nanoTime());
+        this.events = new HitEventBus();
+        this.ticks = 0;
+        this.serveJitter = 0;
+    }
+
+    /**
+     * addCollidable: add a collidable object to the world.
+     *
+     * @param c a collidable object
+     */
+    public void addCollidable(Collidable c) {
+        this.environment.addCollidable(c);
+    }
+
+    /**
+     * addSprite: add a sprite object to the world.
+     *
+     * @param s a sprite object
+     */
+    public void addSprite(Sprite s) {
+        this.sprites.addSprite(s);
+    }
+
+    /**
+     * removeCollidable: remove a collidable object from the world.
+     *
+     * @param c a collidable object
+     */
+    public void removeCollidable(Collidable c) {
+        this.environment.removeCollidable(c);
+    }
+
+    /**
+     * removeSprite: remove a sprite object from the world.
+     *
+     * @param s a sprite object
+     */
+    public void removeSprite(Sprite s) {
+        this.sprites.removeSprite(s);
+    }
+
+    /**
+     * addBorders: add the borders to the world.
+     *
+     * @param ballRemover a listener to hit events that will remove balls
+     */
+    public void addBorders(HitListener ballRemover) {
+        // top border
+        Block topBorder = new Block(new Point(0, BORDER_THICKNESS), WORLD_WIDTH, BORDER_THICKNESS, BORDER_COLOR);
+        // left border
+        Block leftBorder = new Block(new Point(0, BORDER_THICKNESS * 2), BORDER_THICKNESS,
+                WORLD_HEIGHT - 2 * BORDER_THICKNESS, BORDER_COLOR);
+        // right border
+        Block rightBorder = new Block(new Point(WORLD_WIDTH - BORDER_THICKNESS, BORDER_THICKNESS * 2),
+                BORDER_THICKNESS, WORLD_HEIGHT - 2 * BORDER_THICKNESS, BORDER_COLOR);
+        // bottom border
+        Block bottomBorder = new Block(new Point(0, WORLD_HEIGHT), WORLD_WIDTH, BORDER_THICKNESS, BORDER_COLOR);
+
+        // add them to the world
+        topBorder.addToGame(this);
+        leftBorder.addToGame(this);
+        rightBorder.addToGame(this);
+        bottomBorder.addToGame(this);
+
+        // make the bottom border a ball killer block
+        bottomBorder.setBallKiller(true);
+        bottomBorder.addHitListener(ballRemover);
+        bottomBorder.setEventBus(this.events);
+    }
+
+    /**
+     * addBalls: create the balls and add them to the world's ball system.
+     * With a serve jitter, every ball is turned by a random angle (drawn from the world's random source).
+     */
+    public void addBalls() {
+        for (Velocity velocity : this.levelInfo.initialBallVelocities()) {
+            if (this.serveJitter > 0) {
+                double angle = StrictMath.toRadians((2 * this.random.nextDouble() - 1) * this.serveJitter);
+                double cos = StrictMath.cos(angle), sin = StrictMath.sin(angle);
+                velocity = new Velocity(velocity.getDX() * cos - velocity.getDY() * sin,
+                        velocity.getDX() * sin + velocity.getDY() * cos);
+            }
+            this.balls.add(BALL_START_POINT_X, BALL_START_POINT_Y, BALL_SIZE, BALL_COLOR, velocity);
+        }
+    }
+
+    /**
+     * setServeJitter: turn every served ball by a random angle, so a seeded world plays another game for every seed
+     * even with a player that has no randomness of its own (e.g. a bot).
+     *
+     * @param degrees the largest turn, in degrees (0 serves the level's velocities as they are)
+     */
+    public void setServeJitter(double degrees) {
+        this.serveJitter = degrees;
+    }
+
+    /**
+     * addPaddle: create a paddle and add it to the world.
+     */
+    public void addPaddle() {
+        // the upper-left point of the paddle
+        Point upperLeft = new Point(PADDLE_CENTER_POINT_X - this.levelInfo.paddleWidth() / 2, PADDLE_CENTER_POINT_Y);
+        // the paddle's rectangle
+        Rectangle rect = new Rectangle(upperLeft, this.levelInfo.paddleWidth(), PADDLE_HEIGHT);
+        // create the paddle and add it to the world
+        PaddleController driver = (this.controller != null) ? this.controller : new InputController(this.input);
+        this.paddle = new Paddle(driver, rect, this.levelInfo.paddleSpeed(), PADDLE_COLOR);
+        this.paddle.addToGame(this);
+    }
+
+    /**
+     * addTheBlocks: add the level's blocks to the world.
+     *
+     * @param blockRemover a listener to hit event that removes block
+     */
+    public void addTheBlocks(HitListener blockRemover) {
+
+        for (Block block : this.levelInfo.blocks()) {
+            // add the block to the world
+            block.addToGame(this);
+            block.setRandom(this.random);
+            // add the listener to hit events, and publish the hits to the bus (for the score)
+            block.addHitListener(blockRemover);
+            block.setEventBus(this.events);
+        }
+
+    }
+
+    /**
+     * addMenuIndicators: create the level, life and score indicators and add them to the world.
+     */
+    public void addMenuIndicators() {
+        // top menu
+        Block menu = new Block(new Point(0, 0), WORLD_WIDTH, BORDER_THICKNESS, Color.WHITE);
+
+        ScoreIndicator scoreIndicator = new ScoreIndicator(this.score);
+        LivesIndicator livesIndicator = new LivesIndicator(this.lives);
+        LevelIndicator levelIndicator = new LevelIndicator(this.levelInfo.levelName());
+
+        // add them to the world
+        menu.addToGame(this);
+        scoreIndicator.addToGame(this);
+        livesIndicator.addToGame(this);
+        levelIndicator.addToGame(this);
+
+    }
+
+    /**
+     * createBallsOnTopOfPaddle: create the level's balls on top of the paddle and recenter the paddle.
+     */
+    public void createBallsOnTopOfPaddle() {
+        addBalls();
+        this.ballCounter.increase(this.levelInfo.numberOfBalls());
+        // recenter the paddle
+        Point upperLeft = new Point(PADDLE_CENTER_POINT_X - this.levelInfo.paddleWidth() / 2, PADDLE_CENTER_POINT_Y);
+        this.paddle.placeAt(upperLeft);
+    }
+
+    /**
+     * initialize: build the world: the background, the paddle, the borders, the blocks and the indicators.
+     */
+    public void initialize() {
+        // create new hit listeners
+        BlockRemover blockRemover = new BlockRemover(this, this.blockCounter);
+        BallRemover ballRemover = new BallRemover(this, this.ballCounter);
+        ScoreTrackingListener scoreTracker = new ScoreTrackingListener(this.score);
+        // the score adds up all the hits of a tick at once
+        this.events.addBatchListener(scoreTracker);
+
+        // add the background, the borders and the menu first, since they never change (see StaticLayer)
+        addSprite(this.levelInfo.getBackground());
+        addBorders(ballRemover);
+        addMenuIndicators();
+        // create the paddle and the blocks
+        addPaddle();
+        addTheBlocks(blockRemover);
+        // add the balls (they're created on every turn) on top of everything
+        this.balls.addToGame(this);
+
+        // update the block counter value to the number of unremovable collidables on the screen
+        this.blockCounter.increase(this.levelInfo.numberOfBlocksToRemove());
+    }
+
+    /**
+     * tick: advance the world by one tick.
+     */
+    public void tick() {
+        this.sprites.notifyAllTimePassed();
+        // hand the hits of the tick to the score
+        this.events.drain();
+
+        // make the blocks dance if m is pressed
+        if (this.input.isPressed(DANCE_KEY)) {
+            this.environment.letsDance();
+        }
+
+        this.ticks++;
+        this.input.tick();
+    }
+
+    /**
+     * isTurnOver: tell whether the current turn is over, i.e. no blocks or balls are left.
+     *
+     * @return whether the current turn is over or not
+     */
+    public boolean isTurnOver() {
+        return this.ballCounter.getValue() == 0 || this.blockCounter.getValue() == 0;
+    }
+
+    /**
+     * playOneTurn: play one turn without a GUI, i.e. until a life is lost, the level is cleared, or a maximum number
+     * of ticks has passed.
+     *
+     * @param maxTicks the maximum number of ticks to play
+     * @return the number of ticks played
+     */
+    public long playOneTurn(long maxTicks) {
+        createBallsOnTopOfPaddle();
+        long played = 0;
+
+        while (!this.isTurnOver() && played < maxTicks) {
+            this.tick();
+            played++;
+        }
+
+        return played;
+    }
+
+    /**
+     * getSprites: get the sprites of the world.
+     *
+     * @return the sprites of the world
+     */
+    public SpriteCollection getSprites() {
+        return this.sprites;
+    }
+
+    /**
+     * getEvents: get the bus that the hits of every tick are published to.
+     *
+     * @return the hit event bus
+     */
+    public HitEventBus getEvents() {
+        return this.events;
+    }
+
+    /**
+     * getEnvironment: get the game environment of the world.
+     *
+     * @return the game environment
+     */
+    public GameEnvironment getEnvironment() {
+        return this.environment;
+    }
+
+    /**
+     * getInput: get the source of the player's input.
+     *
+     * @return the source of the player's input
+     */
+    public InputSource getInput() {
+        return this.input;
+    }
+
+    /**
+     * setController: set whoever drives the paddle (e.g. a bot), instead of the input's keys.
+     * It must be set before the world is built (see initialize).
+     *
+     * @param paddleController the paddle's controller
+     */
+    public void setController(PaddleController paddleController) {
+        this.controller = paddleController;
+    }
+
+    /**
+     * getBalls: get the ball system that holds all the balls of the world.
+     *
+     * @return the ball system
+     */
+    public BallSystem getBalls() {
+        return this.balls;
+    }
+
+    /**
+     * getPaddle: get the paddle.
+     *
+     * @return the paddle
+     */
+    public Paddle getPaddle() {
+        return this.paddle;
+    }
+
+    /**
+     * getBlockCounter: get the counter of the blocks that are left.
+     *
+     * @return the counter of the blocks that are left
+     */
+    public Counter getBlockCounter() {
+        return this.blockCounter;
+    }
+
+    /**
+     * getBallCounter: get the counter of the balls that are left.
+     *
+     * @return the counter of the balls that are left
+     */
+    public Counter getBallCounter() {
+        return this.ballCounter;
+    }
+
+    /**
+     * getScore: get the score counter.
+     *
+     * @return the score counter
+     */
+    public Counter getScore() {
+        return this.score;
+    }
+
+    /**
+     * setSeed: seed the random source of the world, so it plays the same way every time.
+     *
+     * @param seed the seed
+     */
+    public void setSeed(long seed) {
+        this.random.setSeed(seed);
+    }
+
+    /**
+     * getRandom: get the random source of the world (e.g. to split streams for parallel workers off it).
+     *
+     * @return the random source
+     */
+    public RandomSource getRandom() {
+        return this.random;
+    }
+
+    /**
+     * getTicks: get the number of ticks that have passed since the simulation started.
+     *
+     * @return the number of ticks that have passed
+     */
+    public long getTicks() {
+        return this.ticks;
+    }
+}
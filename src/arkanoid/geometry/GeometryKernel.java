@@ -0,0 +1,448 @@
+package arkanoid.geometry;
+
+/**
+ * Class Name: GeometryKernel.
+ * <p>
+ * This class holds the geometry calculations that run on every frame, written over primitive doubles so that they
+ * don't allocate any objects (no Points, Lines or Lists).
+ * A segment goes from (x0, y0) to (x1, y1), and a rectangle is given by its upper-left point, width and height.
+ *
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.2
+ * @since 18 October 2026
+ */
+public class GeometryKernel {
+    public static final double NO_HIT = -1.0;
+    public static final double SIDE_PRECISION = 0.000001;
+    public static final int TOP = 1 << Rectangle.COMING_FROM_ABOVE;
+    public static final int BOTTOM = 1 << Rectangle.COMING_FROM_BELOW;
+    public static final int LEFT = 1 << Rectangle.COMING_FROM_LEFT;
+    public static final int RIGHT = 1 << Rectangle.COMING_FROM_RIGHT;
+
+    /**
+     * segmentRectHit: find where a segment first crosses the border of a rectangle (slab test).
+     * If the segment starts inside the rectangle, this is where it leaves it.
+     *
+     * @param x0 the X value of the segment's start point
+     * @param y0 the Y value of the segment's start point
+     * @param x1 the X value of the segment's end point
+     * @param y1 the Y value of the segment's end point
+     * @param rx the X value of the rectangle's upper-left point
+     * @param ry the Y value of the rectangle's upper-left point
+     * @param rw the rectangle's width
+     * @param rh the rectangle's height
+     * @return the segment's parameter (0 to 1) at which it crosses the border; NO_HIT if it doesn't
+     */
+    public static double segmentRectHit(double x0, double y0, double x1, double y1,
+                                        double rx, double ry, double rw, double rh) {
+        double dx = x1 - x0;
+        double dy = y1 - y0;
+        double tEnter = Double.NEGATIVE_INFINITY;
+        double tExit = Double.POSITIVE_INFINITY;
+
+        // the slab between the left and right sides
+        if (dx == 0) {
+            if (x0 < rx || x0 > rx + rw) {
+                return NO_HIT;
+            }
+        } else {
+            double t1 = (rx - x0) / dx;
+            double t2 = (rx + rw - x0) / dx;
+            tEnter = Math.min(t1, t2);
+            tExit = Math.max(t1, t2);
+        }
+
+        // the slab between the top and bottom sides
+        if (dy == 0) {
+            if (y0 < ry || y0 > ry + rh) {
+                return NO_HIT;
+            }
+        } else {
+            double t1 = (ry - y0) / dy;
+            double t2 = (ry + rh - y0) / dy;
+            tEnter = Math.max(tEnter, Math.min(t1, t2));
+            tExit = Math.min(tExit, Math.max(t1, t2));
+        }
+
+        // the segment's line misses the rectangle
+        if (tEnter > tExit) {
+            return NO_HIT;
+        }
+
+        // the segment enters the rectangle, or (if it starts inside) leaves it
+        double t = (tEnter >= 0) ? tEnter : tExit;
+        if (t < 0 || t > 1) {
+            return NO_HIT;
+        }
+
+        return t;
+    }
+
+    /**
+     * segmentRectHits: run the slab test of segmentRectHit on a whole batch of rectangles at once, and put the
+     * results in the batch (see RectBatch.getHit); they're exactly the same as those of segmentRectHit.
+     * The checks that depend only on the segment (whether it's parallel to an axis) are made once for the batch,
+     * and every pass over the lanes is a branch-free loop of the same arithmetic, so the JIT can vectorize it.
+     *
+     * @param x0    the X value of the segment's start point
+     * @param y0    the Y value of the segment's start point
+     * @param x1    the X value of the segment's end point
+     * @param y1    the Y value of the segment's end point
+     * @param batch the rectangles
+     */
+    public static void segmentRectHits(double x0, double y0, double x1, double y1, RectBatch batch) {
+        double dx = x1 - x0;
+        double dy = y1 - y0;
+        int n = batch.size();
+        double[] left = batch.getLeft();
+        double[] top = batch.getTop();
+        double[] right = batch.getRight();
+        double[] bottom = batch.getBottom();
+        double[] enter = batch.getEnter();
+        double[] exit = batch.getExit();
+        double[] hits = batch.getHits();
+
+        // the slab between the left and right sides (a rectangle the segment misses enters at +inf and exits at -inf)
+        if (dx == 0) {
+            for (int i = 0; i < n; i++) {
+                boolean isOutside = x0 < left[i] || x0 > right[i];
+                enter[i] = isOutside ? Double.POSITIVE_INFINITY : Double.NEGATIVE_INFINITY;
+                exit[i] = isOutside ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+            }
+        } else {
+            for (int i = 0; i < n; i++) {
+                double t1 = (left[i] - x0) / dx;
+                double t2 = (right[i] - x0) / dx;
+                enter[i] = Math.min(t1, t2);
+                exit[i] = Math.max(t1, t2);
+            }
+        }
+
+        // the slab between the top and bottom sides
+        if (dy == 0) {
+            for (int i = 0; i < n; i++) {
+                boolean isOutside = y0 < top[i] || y0 > bottom[i];
+                enter[i] = isOutside ? Double.POSITIVE_INFINITY : enter[i];
+                exit[i] = isOutside ? Double.NEGATIVE_INFINITY : exit[i];
+            }
+        } else {
+            for (int i = 0; i < n; i++) {
+                double t1 = (top[i] - y0) / dy;
+                double t2 = (bottom[i] - y0) / dy;
+                enter[i] = Math.max(enter[i], Math.min(t1, t2));
+                exit[i] = Math.min(exit[i], Math.max(t1, t2));
+            }
+        }
+
+        // the segment enters the rectangle, or (if it starts inside) leaves it - unless its line misses it
+        for (int i = 0; i < n; i++) {
+            double t = (enter[i] >= 0) ? enter[i] : exit[i];
+            hits[i] = (enter[i] > exit[i] || t < 0 || t > 1) ? NO_HIT : t;
+        }
+    }
+
+    /**
+     * segmentRectHit: find where a segment first crosses the border of a rectangle, and fill the result holder
+     * with the hit's information.
+     *
+     * @param x0  the X value of the segment's start point
+     * @param y0  the Y value of the segment's start point
+     * @param x1  the X value of the segment's end point
+     * @param y1  the Y value of the segment's end point
+     * @param rx  the X value of the rectangle's upper-left point
+     * @param ry  the Y value of the rectangle's upper-left point
+     * @param rw  the rectangle's width
+     * @param rh  the rectangle's height
+     * @param out the holder to fill (it's cleared if there's no hit)
+     * @return true if the segment crosses the border; false otherwise
+     */
+    public static boolean segmentRectHit(double x0, double y0, double x1, double y1,
+                                         double rx, double ry, double rw, double rh, SegmentHit out) {
+        double t = segmentRectHit(x0, y0, x1, y1, rx, ry, rw, rh);
+
+        if (t == NO_HIT) {
+            out.clear();
+            return false;
+        }
+
+        fillHit(x0, y0, x1, y1, t, rx, ry, rw, rh, out);
+        return true;
+    }
+
+    /**
+     * fillHit: fill the result holder with the hit point and sides of an already known hit.
+     *
+     * @param x0  the X value of the segment's start point
+     * @param y0  the Y value of the segment's start point
+     * @param x1  the X value of the segment's end point
+     * @param y1  the Y value of the segment's end point
+     * @param t   the segment's parameter at which the hit occurs
+     * @param rx  the X value of the rectangle's upper-left point
+     * @param ry  the Y value of the rectangle's upper-left point
+     * @param rw  the rectangle's width
+     * @param rh  the rectangle's height
+     * @param out the holder to fill
+     */
+    public static void fillHit(double x0, double y0, double x1, double y1, double t,
+                               double rx, double ry, double rw, double rh, SegmentHit out) {
+        double x = x0 + t * (x1 - x0);
+        double y = y0 + t * (y1 - y0);
+        out.set(t, x, y, sidesAt(x, y, rx, ry, rw, rh));
+    }
+
+    /**
+     * sweptCircleRectHit: find when a circle that moves along a segment first touches a rectangle.
+     * The circle touches the rectangle exactly when its center touches the rectangle grown by the radius, with
+     * rounded corners (their Minkowski sum). So the center's segment is tested against that shape: the rectangle
+     * stretched horizontally, the rectangle stretched vertically, and a circle around every corner.
+     * If the circle already overlaps the rectangle, it's a hit at 0 only if it moves deeper into it.
+     *
+     * @param x0     the X value of the circle's start point
+     * @param y0     the Y value of the circle's start point
+     * @param x1     the X value of the circle's end point
+     * @param y1     the Y value of the circle's end point
+     * @param radius the circle's radius
+     * @param rx     the X value of the rectangle's upper-left point
+     * @param ry     the Y value of the rectangle's upper-left point
+     * @param rw     the rectangle's width
+     * @param rh     the rectangle's height
+     * @return the segment's parameter (0 to 1) at which the circle touches the rectangle; NO_HIT if it doesn't
+     */
+    public static double sweptCircleRectHit(double x0, double y0, double x1, double y1, double radius,
+                                            double rx, double ry, double rw, double rh) {
+        double dx = x1 - x0;
+        double dy = y1 - y0;
+        double right = rx + rw;
+        double bottom = ry + rh;
+
+        // the vector from the closest point of the rectangle to the circle's center
+        double awayX = x0 - clamp(x0, rx, right);
+        double awayY = y0 - clamp(y0, ry, bottom);
+        double distanceSquared = awayX * awayX + awayY * awayY;
+
+        // the circle already overlaps the rectangle
+        if (distanceSquared < radius * radius - SIDE_PRECISION) {
+            if (distanceSquared == 0) {
+                // the center is inside the rectangle, so it's pushed out through the nearest side
+                double left = x0 - rx, rightGap = right - x0, top = y0 - ry, bottomGap = bottom - y0;
+                double nearest = Math.min(Math.min(left, rightGap), Math.min(top, bottomGap));
+                awayX = (nearest == left) ? -1 : (nearest == rightGap) ? 1 : 0;
+                awayY = (awayX != 0) ? 0 : (nearest == top) ? -1 : 1;
+            }
+            return (dx * awayX + dy * awayY < 0) ? 0 : NO_HIT;
+        }
+
+        // the segment misses the rectangle grown by the radius
+        if (boxEntry(x0, y0, dx, dy, rx - radius, ry - radius, right + radius, bottom + radius) == NO_HIT) {
+            return NO_HIT;
+        }
+
+        // the closest of the parts that make up the grown rectangle
+        double t = boxEntry(x0, y0, dx, dy, rx - radius, ry, right + radius, bottom);
+        t = closer(t, boxEntry(x0, y0, dx, dy, rx, ry - radius, right, bottom + radius));
+        t = closer(t, circleEntry(x0, y0, dx, dy, rx, ry, radius));
+        t = closer(t, circleEntry(x0, y0, dx, dy, right, ry, radius));
+        t = closer(t, circleEntry(x0, y0, dx, dy, rx, bottom, radius));
+        t = closer(t, circleEntry(x0, y0, dx, dy, right, bottom, radius));
+
+        return t;
+    }
+
+    /**
+     * fillSweptHit: fill the result holder with the contact of an already known swept-circle hit.
+     * The hit point is the closest point of the rectangle to the circle's center at the time of contact, and the
+     * normal points from it to the center.
+     *
+     * @param x0     the X value of the circle's start point
+     * @param y0     the Y value of the circle's start point
+     * @param x1     the X value of the circle's end point
+     * @param y1     the Y value of the circle's end point
+     * @param t      the segment's parameter at which the hit occurs
+     * @param rx     the X value of the rectangle's upper-left point
+     * @param ry     the Y value of the rectangle's upper-left point
+     * @param rw     the rectangle's width
+     * @param rh     the rectangle's height
+     * @param out    the holder to fill
+     */
+    public static void fillSweptHit(double x0, double y0, double x1, double y1, double t,
+                                    double rx, double ry, double rw, double rh, SegmentHit out) {
+        double centerX = x0 + t * (x1 - x0);
+        double centerY = y0 + t * (y1 - y0);
+        double right = rx + rw;
+        double bottom = ry + rh;
+
+        // the closest point of the rectangle to the center
+        double x = clamp(centerX, rx, right);
+        double y = clamp(centerY, ry, bottom);
+        double nx = centerX - x;
+        double ny = centerY - y;
+        double length = Math.sqrt(nx * nx + ny * ny);
+
+        if (length > 0) {
+            nx /= length;
+            ny /= length;
+        } else {
+            // the center is inside the rectangle, so the contact is on the nearest side
+            double left = centerX - rx, rightGap = right - centerX, top = centerY - ry, bottomGap = bottom - centerY;
+            double nearest = Math.min(Math.min(left, rightGap), Math.min(top, bottomGap));
+            if (nearest == left) {
+                x = rx;
+                nx = -1;
+            } else if (nearest == rightGap) {
+                x = right;
+                nx = 1;
+            } else if (nearest == top) {
+                y = ry;
+                ny = -1;
+            } else {
+                y = bottom;
+                ny = 1;
+            }
+        }
+
+        out.set(t, x, y, sidesAt(x, y, rx, ry, rw, rh));
+        out.setNormal(nx, ny);
+    }
+
+    /**
+     * boxEntry: find where a segment, which starts outside a box, enters it.
+     *
+     * @param x0   the X value of the segment's start point
+     * @param y0   the Y value of the segment's start point
+     * @param dx   the segment's length along the X axis
+     * @param dy   the segment's length along the Y axis
+     * @param minX the box's left side
+     * @param minY the box's top side
+     * @param maxX the box's right side
+     * @param maxY the box's bottom side
+     * @return the segment's parameter (0 to 1) at which it enters the box; NO_HIT if it doesn't
+     */
+    private static double boxEntry(double x0, double y0, double dx, double dy,
+                                   double minX, double minY, double maxX, double maxY) {
+        double tEnter = 0;
+        double tExit = 1;
+
+        if (dx == 0) {
+            if (x0 < minX || x0 > maxX) {
+                return NO_HIT;
+            }
+        } else {
+            double t1 = (minX - x0) / dx;
+            double t2 = (maxX - x0) / dx;
+            tEnter = Math.max(tEnter, Math.min(t1, t2));
+            tExit = Math.min(tExit, Math.max(t1, t2));
+        }
+
+        if (dy == 0) {
+            if (y0 < minY || y0 > maxY) {
+                return NO_HIT;
+            }
+        } else {
+            double t1 = (minY - y0) / dy;
+            double t2 = (maxY - y0) / dy;
+            tEnter = Math.max(tEnter, Math.min(t1, t2));
+            tExit = Math.min(tExit, Math.max(t1, t2));
+        }
+
+        return (tEnter <= tExit) ? tEnter : NO_HIT;
+    }
+
+    /**
+     * circleEntry: find where a segment enters a circle.
+     *
+     * @param x0 the X value of the segment's start point
+     * @param y0 the Y value of the segment's start point
+     * @param dx the segment's length along the X axis
+     * @param dy the segment's length along the Y axis
+     * @param cx the X value of the circle's center
+     * @param cy the Y value of the circle's center
+     * @param r  the circle's radius
+     * @return the segment's parameter (0 to 1) at which it enters the circle; NO_HIT if it doesn't
+     */
+    private static double circleEntry(double x0, double y0, double dx, double dy, double cx, double cy, double r) {
+        double fx = x0 - cx;
+        double fy = y0 - cy;
+        double a = dx * dx + dy * dy;
+        double halfB = fx * dx + fy * dy;
+        double c = fx * fx + fy * fy - r * r;
+
+        // the segment starts inside the circle
+        if (c <= 0) {
+            return 0;
+        }
+
+        // the segment doesn't move, or moves away from the circle
+        if (a == 0 || halfB >= 0) {
+            return NO_HIT;
+        }
+
+        double discriminant = halfB * halfB - a * c;
+        if (discriminant < 0) {
+            return NO_HIT;
+        }
+
+        double t = (-halfB - Math.sqrt(discriminant)) / a;
+        return (t <= 1) ? t : NO_HIT;
+    }
+
+    /**
+     * closer: get the closer of two hits.
+     *
+     * @param t1 the first hit's parameter (or NO_HIT)
+     * @param t2 the second hit's parameter (or NO_HIT)
+     * @return the smaller parameter of the two; NO_HIT if there's no hit at all
+     */
+    private static double closer(double t1, double t2) {
+        if (t1 == NO_HIT) {
+            return t2;
+        }
+        if (t2 == NO_HIT) {
+            return t1;
+        }
+        return Math.min(t1, t2);
+    }
+
+    /**
+     * clamp: fit a value into a range.
+     *
+     * @param value the value
+     * @param min   the range's minimum
+     * @param max   the range's maximum
+     * @return the closest value to the given one inside the range
+     */
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    /**
+     * sidesAt: tell on which sides of a rectangle a point is located.
+     *
+     * @param x  the X value of the point
+     * @param y  the Y value of the point
+     * @param rx the X value of the rectangle's upper-left point
+     * @param ry the Y value of the rectangle's upper-left point
+     * @param rw the rectangle's width
+     * @param rh the rectangle's height
+     * @return a bit mask of the sides (TOP, BOTTOM, LEFT, RIGHT); 0 if the point isn't on the border
+     */
+    public static int sidesAt(double x, double y, double rx, double ry, double rw, double rh) {
+        int sides = 0;
+        boolean withinX = x >= rx - SIDE_PRECISION && x <= rx + rw + SIDE_PRECISION;
+        boolean withinY = y >= ry - SIDE_PRECISION && y <= ry + rh + SIDE_PRECISION;
+
+        if (withinX && Math.abs(y - ry) <= SIDE_PRECISION) {
+            sides |= TOP;
+        }
+        if (withinX && Math.abs(y - (ry + rh)) <= SIDE_PRECISION) {
+            sides |= BOTTOM;
+        }
+        if (withinY && Math.abs(x - rx) <= SIDE_PRECISION) {
+            sides |= LEFT;
+        }
+        if (withinY && Math.abs(x - (rx + rw)) <= SIDE_PRECISION) {
+            sides |= RIGHT;
+        }
+
+        return sides;
+    }
+}
@@ -11,7 +11,7 @@ import java.util.List;
  * located on a line; it can tell the start&end points, length, slope, intercept of a line, etc.
  *
  * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
- * @version 1.0.3
+ * @version 1.0.4
  * @since 27 May 2019
  */
 public class Line {
@@ -335,6 +335,17 @@ public class Line {
      * @return the point on the line
      */
     public Point getPointByX(double x) {
+        return this.getPointByX(x, new Point(0, 0));
+    }
+
+    /**
+     * getPointByX: retrieve the point on the line by X value, into a holder.
+     *
+     * @param x   the X value
+     * @param out the point to move to the point on the line
+     * @return the holder
+     */
+    public Point getPointByX(double x, Point out) {
         double y;
         double n = this.getIntercept();
         double m = this.getSlope();
@@ -346,7 +357,7 @@ public class Line {
             y = m * x + n;
         }
 
-        return new Point(x, y);
+        return out.set(x, y);
     }
 
     /**
@@ -356,6 +367,17 @@ public class Line {
      * @return the point on the line
      */
     public Point getPointByY(double y) {
+        return this.getPointByY(y, new Point(0, 0));
+    }
+
+    /**
+     * getPointByY: retrieve the point on the line by Y value, into a holder.
+     *
+     * @param y   the Y value
+     * @param out the point to move to the point on the line
+     * @return the holder
+     */
+    public Point getPointByY(double y, Point out) {
         double x;
         double n;
         double m = this.getSlope();
@@ -372,7 +394,7 @@ public class Line {
             x = (y - n) / m;
         }
 
-        return new Point(x, y);
+        return out.set(x, y);
     }
 
     /**
@@ -11,9 +11,10 @@ import java.util.List;
  * Point class represents a point in 2D space - it has X and Y coordinates.
  * This class can help measure distance between two points, calculate the slope of a line using two points, tell if two
  * points are identical, etc.
+ * A point is mutable (see set), so a hot path can keep reusing the same point instead of creating a new one.
  *
  * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
- * @version 1.0.3
+ * @version 1.0.4
  * @since 12 June 2019
  */
 public class Point {
@@ -180,6 +181,29 @@ public class Point {
         surface.fillCircle((int) this.getX(), (int) this.getY(), POINT_SIZE);
     }
 
+    /**
+     * set: move the point to new coordinates.
+     *
+     * @param xVal the new X value of the point
+     * @param yVal the new Y value of the point
+     * @return the point itself
+     */
+    public Point set(double xVal, double yVal) {
+        this.x = xVal;
+        this.y = yVal;
+        return this;
+    }
+
+    /**
+     * copyFrom: move the point to the coordinates of another point.
+     *
+     * @param other the point to copy
+     * @return the point itself
+     */
+    public Point copyFrom(Point other) {
+        return this.set(other.getX(), other.getY());
+    }
+
     /**
      * setX: set the X value of the point.
      *
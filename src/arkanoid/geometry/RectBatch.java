@@ -0,0 +1,169 @@
+package arkanoid.geometry;
+
+import java.util.Arrays;
+
+/**
+ * Class Name: RectBatch.
+ * <p>
+ * This class is a reusable batch of rectangles for the narrow phase, packed as lanes - one array per side (left, top,
+ * right, bottom) - instead of one object per rectangle, so a kernel can test a segment against all of them in tight
+ * loops over primitive arrays (see GeometryKernel.segmentRectHits), which the JIT can unroll and vectorize.
+ * The results of the last test are kept in lanes of their own, one per rectangle.
+ * Like SegmentHit, it's filled again and again without creating any garbage, and it belongs to a single thread.
+ *
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.0
+ * @since 18 October 2026
+ */
+public class RectBatch {
+    public static final int DEFAULT_CAPACITY = 64;
+
+    private double[] left;
+    private double[] top;
+    private double[] right;
+    private double[] bottom;
+    // the lanes of the last test: where the segment enters and leaves every rectangle, and where it hits it
+    private double[] enter;
+    private double[] exit;
+    private double[] hits;
+    private int size;
+
+    /**
+     * Constructor.
+     */
+    public RectBatch() {
+        this.left = new double[DEFAULT_CAPACITY];
+        this.top = new double[DEFAULT_CAPACITY];
+        this.right = new double[DEFAULT_CAPACITY];
+        this.bottom = new double[DEFAULT_CAPACITY];
+        this.enter = new double[DEFAULT_CAPACITY];
+        this.exit = new double[DEFAULT_CAPACITY];
+        this.hits = new double[DEFAULT_CAPACITY];
+        this.size = 0;
+    }
+
+    /**
+     * clear: empty the batch (its lanes are kept for the next rectangles).
+     */
+    public void clear() {
+        this.size = 0;
+    }
+
+    /**
+     * add: add a rectangle to the end of the batch.
+     *
+     * @param rx the X value of the rectangle's upper-left point
+     * @param ry the Y value of the rectangle's upper-left point
+     * @param rw the rectangle's width
+     * @param rh the rectangle's height
+     */
+    public void add(double rx, double ry, double rw, double rh) {
+        if (this.size == this.left.length) {
+            this.grow(this.size * 2);
+        }
+
+        // the far sides are summed up just like the scalar test sums them up, so both get the same values
+        this.left[this.size] = rx;
+        this.top[this.size] = ry;
+        this.right[this.size] = rx + rw;
+        this.bottom[this.size] = ry + rh;
+        this.size++;
+    }
+
+    /**
+     * size: get the number of rectangles in the batch.
+     *
+     * @return the number of rectangles
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * getHit: get the result of the last test for a rectangle.
+     *
+     * @param i the rectangle's place in the batch
+     * @return the segment's parameter (0 to 1) at which it crosses the rectangle's border; NO_HIT if it doesn't
+     */
+    public double getHit(int i) {
+        return this.hits[i];
+    }
+
+    /**
+     * getLeft: get the lane of the rectangles' left sides.
+     *
+     * @return the lane (only its first size values belong to the batch)
+     */
+    double[] getLeft() {
+        return this.left;
+    }
+
+    /**
+     * getTop: get the lane of the rectangles' top sides.
+     *
+     * @return the lane (only its first size values belong to the batch)
+     */
+    double[] getTop() {
+        return this.top;
+    }
+
+    /**
+     * getRight: get the lane of the rectangles' right sides.
+     *
+     * @return the lane (only its first size values belong to the batch)
+     */
+    double[] getRight() {
+        return this.right;
+    }
+
+    /**
+     * getBottom: get the lane of the rectangles' bottom sides.
+     *
+     * @return the lane (only its first size values belong to the batch)
+     */
+    double[] getBottom() {
+        return this.bottom;
+    }
+
+    /**
+     * getEnter: get the scratch lane of where the segment enters every rectangle.
+     *
+     * @return the lane
+     */
+    double[] getEnter() {
+        return this.enter;
+    }
+
+    /**
+     * getExit: get the scratch lane of where the segment leaves every rectangle.
+     *
+     * @return the lane
+     */
+    double[] getExit() {
+        return this.exit;
+    }
+
+    /**
+     * getHits: get the lane of the results.
+     *
+     * @return the lane
+     */
+    double[] getHits() {
+        return this.hits;
+    }
+
+    /**
+     * grow: make room for more rectangles.
+     *
+     * @param capacity the new number of rectangles
+     */
+    private void grow(int capacity) {
+        this.left = Arrays.copyOf(this.left, capacity);
+        this.top = Arrays.copyOf(this.top, capacity);
+        this.right = Arrays.copyOf(this.right, capacity);
+        this.bottom = Arrays.copyOf(this.bottom, capacity);
+        this.enter = Arrays.copyOf(this.enter, capacity);
+        this.exit = Arrays.copyOf(this.exit, capacity);
+        this.hits = Arrays.copyOf(this.hits, capacity);
+    }
+}
@@ -11,7 +11,7 @@ import java.util.ArrayList;
  * which side of a rectangle a point is located.
  *
  * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
- * @version 1.0.3
+ * @version 1.0.5
  * @since 16 June 2019
  */
 public class Rectangle {
@@ -20,6 +20,7 @@ public class Rectangle {
     public static final int COMING_FROM_BELOW = 1;
     public static final int COMING_FROM_LEFT = 2;
     public static final int COMING_FROM_RIGHT = 3;
+    public static final int NO_SIDE = -1;
 
     private Point upperLeft;
     private double width;
@@ -128,18 +129,56 @@ public class Rectangle {
      */
     public List<Integer> pointOnSide(Point p) {
 
-        Line[] rectSides = this.getRectSides();
+        int sides = this.sidesOf(p);
         List<Integer> pointOnSide = new ArrayList<>();
 
         // check for each side if the point is located on it
-        for (int i = 0; i < rectSides.length; i++) {
-            if (rectSides[i].isPointOnLine(p)) {
+        for (int i = 0; i < RECT_SIDES_NUM; i++) {
+            if ((sides & (1 << i)) != 0) {
                 pointOnSide.add(i);
             }
         }
         return pointOnSide;
     }
 
+    /**
+     * sidesOf: determine on which sides of the rectangle a point is located, without creating any objects.
+     *
+     * @param p the point
+     * @return a bit mask of the sides (bit i is side number i, as in COMING_FROM_*)
+     */
+    public int sidesOf(Point p) {
+        return GeometryKernel.sidesAt(p.getX(), p.getY(), this.upperLeft.getX(), this.upperLeft.getY(), this.width,
+                this.height);
+    }
+
+    /**
+     * firstSide: get the first side in a bit mask of sides (in the order of COMING_FROM_*).
+     *
+     * @param sides the bit mask of the sides
+     * @return the first side; NO_SIDE if there's none
+     */
+    public static int firstSide(int sides) {
+        if (sides == 0) {
+            return NO_SIDE;
+        }
+        return Integer.numberOfTrailingZeros(sides);
+    }
+
+    /**
+     * secondSide: get the second side in a bit mask of sides, or the first one if there's only one.
+     *
+     * @param sides the bit mask of the sides
+     * @return the second side; NO_SIDE if there's none
+     */
+    public static int secondSide(int sides) {
+        int rest = sides & (sides - 1);
+        if (rest == 0) {
+            return firstSide(sides);
+        }
+        return Integer.numberOfTrailingZeros(rest);
+    }
+
     /**
      * getSideName: get a side's name of the rectangle.
      *
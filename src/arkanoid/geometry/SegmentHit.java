@@ -0,0 +1,164 @@
+package arkanoid.geometry;
+
+/**
+ * Class Name: SegmentHit.
+ * <p>
+ * This class is a reusable holder for the result of a segment-vs-rectangle test: where along the segment the hit
+ * occurs, the hit point and the sides of the rectangle the hit point is located on.
+ * It holds primitives only, so it can be filled again and again without creating any garbage.
+ *
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.2
+ * @since 18 October 2026
+ */
+public class SegmentHit {
+    public static final int NO_SIDE = Rectangle.NO_SIDE;
+
+    private double t;
+    private double x;
+    private double y;
+    private int sides;
+    private double normalX;
+    private double normalY;
+
+    /**
+     * Constructor.
+     */
+    public SegmentHit() {
+        this.clear();
+    }
+
+    /**
+     * set: update the hit's information.
+     *
+     * @param tVal  the segment's parameter (0 is the start point, 1 is the end point) at which the hit occurs
+     * @param xVal  the X value of the hit point
+     * @param yVal  the Y value of the hit point
+     * @param sideMask a bit mask of the rectangle's sides the hit point is located on (bit i is side number i)
+     */
+    public void set(double tVal, double xVal, double yVal, int sideMask) {
+        this.t = tVal;
+        this.x = xVal;
+        this.y = yVal;
+        this.sides = sideMask;
+    }
+
+    /**
+     * copyFrom: copy the information of another hit.
+     *
+     * @param other the hit to copy
+     */
+    public void copyFrom(SegmentHit other) {
+        this.set(other.t, other.x, other.y, other.sides);
+        this.setNormal(other.normalX, other.normalY);
+    }
+
+    /**
+     * clear: reset the hit, as if no hit occurred.
+     */
+    public void clear() {
+        this.set(GeometryKernel.NO_HIT, 0, 0, 0);
+        this.setNormal(0, 0);
+    }
+
+    /**
+     * setNormal: update the hit's normal, i.e. the unit vector that points from the hit surface to the hitting object.
+     *
+     * @param nx the X value of the normal
+     * @param ny the Y value of the normal
+     */
+    public void setNormal(double nx, double ny) {
+        this.normalX = nx;
+        this.normalY = ny;
+    }
+
+    /**
+     * isHit: tell whether a hit occurred.
+     *
+     * @return whether a hit occurred or not
+     */
+    public boolean isHit() {
+        return this.t != GeometryKernel.NO_HIT;
+    }
+
+    /**
+     * getT: get the segment's parameter at which the hit occurs (0 is the start point, 1 is the end point).
+     *
+     * @return the segment's parameter at which the hit occurs
+     */
+    public double getT() {
+        return this.t;
+    }
+
+    /**
+     * getX: get the X value of the hit point.
+     *
+     * @return the X value of the hit point
+     */
+    public double getX() {
+        return this.x;
+    }
+
+    /**
+     * getY: get the Y value of the hit point.
+     *
+     * @return the Y value of the hit point
+     */
+    public double getY() {
+        return this.y;
+    }
+
+    /**
+     * getNormalX: get the X value of the hit's normal (0 if it's unknown).
+     *
+     * @return the X value of the hit's normal
+     */
+    public double getNormalX() {
+        return this.normalX;
+    }
+
+    /**
+     * getNormalY: get the Y value of the hit's normal (0 if it's unknown).
+     *
+     * @return the Y value of the hit's normal
+     */
+    public double getNormalY() {
+        return this.normalY;
+    }
+
+    /**
+     * getSides: get the bit mask of the rectangle's sides the hit point is located on.
+     *
+     * @return the bit mask of the sides (bit i is side number i, as in Rectangle.COMING_FROM_*)
+     */
+    public int getSides() {
+        return this.sides;
+    }
+
+    /**
+     * isEdgeHit: tell whether the hit point is located on an edge (i.e. on two sides at once).
+     *
+     * @return whether the hit point is located on an edge or not
+     */
+    public boolean isEdgeHit() {
+        return Integer.bitCount(this.sides) > 1;
+    }
+
+    /**
+     * firstSide: get the first side the hit point is located on (in the order of Rectangle.COMING_FROM_*).
+     *
+     * @return the first side; NO_SIDE if there's none
+     */
+    public int firstSide() {
+        return Rectangle.firstSide(this.sides);
+    }
+
+    /**
+     * secondSide: get the second side the hit point is located on, or the first one if it's on one side only.
+     *
+     * @return the second side; NO_SIDE if there's none
+     */
+    public int secondSide() {
+        return Rectangle.secondSide(this.sides);
+    }
+}
@@ -1,6 +1,6 @@
 package arkanoid.listeners;
 
-import arkanoid.game.animation.GameLevel;
+import arkanoid.game.simulation.Simulation;
 import arkanoid.sprites.Ball;
 import arkanoid.sprites.Block;
 import arkanoid.util.Counter;
@@ -8,7 +8,7 @@ import arkanoid.util.Counter;
 /**
  * Class Name: BallRemover.
  * <p>
- * This class is in charge of removing balls from the gameLevel, as well as keeping count of the number of balls that
+ * This class is in charge of removing balls from the simulation, as well as keeping count of the number of balls that
  * remain.
  *
  * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
@@ -17,22 +17,22 @@ import arkanoid.util.Counter;
  */
 public class BallRemover implements HitListener {
 
-    private GameLevel gameLevel;
+    private Simulation simulation;
     private Counter remainingBalls;
 
     /**
      * Constructor.
      *
-     * @param gameLevel        the gameLevel to remove balls from
+     * @param simulation  the simulation to remove balls from
      * @param ballsRemain the counter of remaining balls
      */
-    public BallRemover(GameLevel gameLevel, Counter ballsRemain) {
-        this.gameLevel = gameLevel;
+    public BallRemover(Simulation simulation, Counter ballsRemain) {
+        this.simulation = simulation;
         this.remainingBalls = ballsRemain;
     }
 
     /**
-     * hitEvent: remove ball from the gameLevel.
+     * hitEvent: remove ball from the simulation.
      *
      * @param beingHit the block that was hit
      * @param hitter   the ball that hit it
@@ -40,8 +40,8 @@ public class BallRemover implements HitListener {
     public void hitEvent(Block beingHit, Ball hitter) {
         // if the block is going to die now
         if (beingHit.isBallKiller()) {
-            // removes the ball from the gameLevel
-            hitter.removeFromGame(this.gameLevel);
+            // removes the ball from the simulation
+            hitter.removeFromGame(this.simulation);
             // add 1 to the counter of removed blocks
             this.remainingBalls.decrease(1);
         }
@@ -0,0 +1,20 @@
+package arkanoid.listeners;
+
+/**
+ * Interface Name: BatchHitListener.
+ * <p>
+ * This interface represents all objects that receive the hit events of a whole tick at once (see HitEventBus), e.g.
+ * to sum them up instead of handling them one by one.
+ *
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.0
+ * @since 18 October 2026
+ */
+public interface BatchHitListener {
+    /**
+     * hitEvents: This method is called once per tick with the tick's hit events, in the order they happened.
+     *
+     * @param events the bus, whose batch holds the tick's hit events (valid only during the call)
+     */
+    void hitEvents(HitEventBus events);
+}
@@ -1,6 +1,6 @@
 package arkanoid.listeners;
 
-import arkanoid.game.animation.GameLevel;
+import arkanoid.game.simulation.Simulation;
 import arkanoid.sprites.Ball;
 import arkanoid.sprites.Block;
 import arkanoid.util.Counter;
@@ -8,7 +8,7 @@ import arkanoid.util.Counter;
 /**
  * Class Name: BlockRemover.
  * <p>
- * This class is in charge of removing blocks from the gameLevel, as well as keeping count of the number of blocks that
+ * This class is in charge of removing blocks from the simulation, as well as keeping count of the number of blocks that
  * remain.
  *
  * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
@@ -17,22 +17,22 @@ import arkanoid.util.Counter;
  */
 public class BlockRemover implements HitListener {
 
-    private GameLevel gameLevel;
+    private Simulation simulation;
     private Counter remainingBlocks;
 
     /**
      * Constructor.
      *
-     * @param gameLevel         the gameLevel to remove blocks from
+     * @param simulation   the simulation to remove blocks from
      * @param blocksRemain the counter of remaining blocks
      */
-    public BlockRemover(GameLevel gameLevel, Counter blocksRemain) {
-        this.gameLevel = gameLevel;
+    public BlockRemover(Simulation simulation, Counter blocksRemain) {
+        this.simulation = simulation;
         this.remainingBlocks = blocksRemain;
     }
 
     /**
-     * hitEvent: remove blocks that are hit and reach 0 hit-points from the gameLevel.
+     * hitEvent: remove blocks that are hit and reach 0 hit-points from the simulation.
      *
      * @param beingHit the block that was hit
      * @param hitter   the ball that hit it
@@ -40,10 +40,10 @@ public class BlockRemover implements HitListener {
     public void hitEvent(Block beingHit, Ball hitter) {
         // if the block is going to die now
         if (beingHit.getHitPoints() == 1) {
-            // remove the listener from the block that is being removed from the gameLevel
+            // remove the listener from the block that is being removed from the simulation
             beingHit.removeHitListener(this);
-            // removes the block from the gameLevel
-            beingHit.removeFromGame(this.gameLevel);
+            // removes the block from the simulation
+            beingHit.removeFromGame(this.simulation);
             // add 1 to the counter of removed blocks
             this.remainingBlocks.decrease(1);
         } else {
@@ -0,0 +1,220 @@
+package arkanoid.listeners;
+
+import arkanoid.sprites.Ball;
+import arkanoid.sprites.Block;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Class Name: HitEventBus.
+ * <p>
+ * This class takes the bookkeeping listeners (e.g. the score) off the collision loop: during the physics, a hit only
+ * appends a typed event (its type, the block, the ball and the block's hit points just before the hit) to a
+ * preallocated ring buffer, and once per tick the bus drains the buffer and hands all of the tick's events, in the
+ * order they happened, to its batch listeners at once.
+ * The listeners that change the world (e.g. the removers) are still notified on the spot by the blocks, so a removed
+ * block or ball is gone before the next collision, the same as without the bus.
+ *
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.0
+ * @since 18 October 2026
+ */
+public class HitEventBus {
+    // a power of two, so the ring's index wraps around with a mask
+    public static final int DEFAULT_CAPACITY = 256;
+
+    // the ring buffer of the events: the type, the block, the ball and the block's hit points of every event
+    private HitType[] types;
+    private Block[] blocks;
+    private Ball[] hitters;
+    private int[] hitPoints;
+    // the first event that wasn't drained, and the number of events that were published in total (both grow forever)
+    private long head;
+    private long tail;
+    private List<BatchHitListener> batchListeners;
+    // the number of events in the batch that is being drained (from head on)
+    private int batchSize;
+
+    /**
+     * Constructor.
+     */
+    public HitEventBus() {
+        this.types = new HitType[DEFAULT_CAPACITY];
+        this.blocks = new Block[DEFAULT_CAPACITY];
+        this.hitters = new Ball[DEFAULT_CAPACITY];
+        this.hitPoints = new int[DEFAULT_CAPACITY];
+        this.head = 0;
+        this.tail = 0;
+        this.batchListeners = new ArrayList<>();
+        this.batchSize = 0;
+    }
+
+    /**
+     * addBatchListener: add a listener that gets all the hit events of a tick at once.
+     *
+     * @param listener the listener
+     */
+    public void addBatchListener(BatchHitListener listener) {
+        this.batchListeners.add(listener);
+    }
+
+    /**
+     * removeBatchListener: remove a listener that gets all the hit events of a tick at once.
+     *
+     * @param listener the listener
+     */
+    public void removeBatchListener(BatchHitListener listener) {
+        this.batchListeners.remove(listener);
+    }
+
+    /**
+     * publish: append a hit event to the buffer.
+     *
+     * @param type      the event's type
+     * @param block     the block that was hit
+     * @param hitter    the ball that hit it (it must stand for the same ball until the bus is drained)
+     * @param hitPoints the block's hit points just before the hit
+     */
+    public void publish(HitType type, Block block, Ball hitter, int hitPoints) {
+        if (this.tail - this.head == this.blocks.length) {
+            this.grow();
+        }
+
+        int i = this.slot(this.tail++);
+        this.types[i] = type;
+        this.blocks[i] = block;
+        this.hitters[i] = hitter;
+        this.hitPoints[i] = hitPoints;
+    }
+
+    /**
+     * drain: hand all the events in the buffer to the batch listeners as a single batch, and empty the buffer.
+     * Events that are published while the batch is handed over wait for the next drain.
+     */
+    public void drain() {
+        if (this.batchSize != 0 || this.head == this.tail) {
+            return;
+        }
+
+        this.batchSize = (int) (this.tail - this.head);
+        for (int i = 0; i < this.batchListeners.size(); i++) {
+            this.batchListeners.get(i).hitEvents(this);
+        }
+
+        // don't keep references to the blocks and balls after they were delivered
+        for (int e = 0; e < this.batchSize; e++) {
+            int i = this.slot(this.head + e);
+            this.blocks[i] = null;
+            this.hitters[i] = null;
+        }
+        this.head += this.batchSize;
+        this.batchSize = 0;
+    }
+
+    /**
+     * batchSize: get the number of events in the current batch.
+     *
+     * @return the number of events
+     */
+    public int batchSize() {
+        return this.batchSize;
+    }
+
+    /**
+     * getType: get the type of an event in the current batch.
+     *
+     * @param event the event's index in the batch
+     * @return the event's type
+     */
+    public HitType getType(int event) {
+        return this.types[this.batchSlot(event)];
+    }
+
+    /**
+     * getBlock: get the block of an event in the current batch.
+     *
+     * @param event the event's index in the batch
+     * @return the block that was hit
+     */
+    public Block getBlock(int event) {
+        return this.blocks[this.batchSlot(event)];
+    }
+
+    /**
+     * getHitter: get the ball of an event in the current batch.
+     *
+     * @param event the event's index in the batch
+     * @return the ball that hit the block
+     */
+    public Ball getHitter(int event) {
+        return this.hitters[this.batchSlot(event)];
+    }
+
+    /**
+     * getHitPoints: get the hit points the block of an event had just before the hit.
+     *
+     * @param event the event's index in the batch
+     * @return the block's hit points
+     */
+    public int getHitPoints(int event) {
+        return this.hitPoints[this.batchSlot(event)];
+    }
+
+    /**
+     * pending: get the number of events that weren't drained yet.
+     *
+     * @return the number of pending events
+     */
+    public int pending() {
+        return (int) (this.tail - this.head) - this.batchSize;
+    }
+
+    /**
+     * batchSlot: get the slot of an event in the current batch.
+     *
+     * @param event the event's index in the batch
+     * @return the event's slot in the ring
+     */
+    private int batchSlot(int event) {
+        if (event < 0 || event >= this.batchSize) {
+            throw new IndexOutOfBoundsException("No hit event " + event + " in a batch of " + this.batchSize);
+        }
+        return this.slot(this.head + event);
+    }
+
+    /**
+     * slot: get the slot of an event in the ring.
+     *
+     * @param event the event's number (from the first event ever published)
+     * @return the event's slot
+     */
+    private int slot(long event) {
+        return (int) (event & (this.blocks.length - 1));
+    }
+
+    /**
+     * grow: double the ring, and keep the events in order.
+     */
+    private void grow() {
+        int capacity = this.blocks.length * 2;
+        HitType[] newTypes = new HitType[capacity];
+        Block[] newBlocks = new Block[capacity];
+        Ball[] newHitters = new Ball[capacity];
+        int[] newHitPoints = new int[capacity];
+
+        for (long e = this.head; e != this.tail; e++) {
+            int from = this.slot(e);
+            int to = (int) (e & (capacity - 1));
+            newTypes[to] = this.types[from];
+            newBlocks[to] = this.blocks[from];
+            newHitters[to] = this.hitters[from];
+            newHitPoints[to] = this.hitPoints[from];
+        }
+
+        this.types = newTypes;
+        this.blocks = newBlocks;
+        this.hitters = newHitters;
+        this.hitPoints = newHitPoints;
+    }
+}
@@ -0,0 +1,16 @@
+package arkanoid.listeners;
+
+/**
+ * Enum Name: HitType.
+ * <p>
+ * This enum represents the kinds of hit events (see HitEventBus).
+ * BLOCK_HIT is a ball hitting a block, and BALL_LOST is a ball hitting a ball killer (e.g. the bottom border).
+ *
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.0
+ * @since 18 October 2026
+ */
+public enum HitType {
+    BLOCK_HIT,
+    BALL_LOST
+}
@@ -8,12 +8,14 @@ import arkanoid.util.Counter;
  * Class Name: ScoreTrackingListener.
  * <p>
  * This class is in charge of keeping the score.
+ * It can listen to every block on its own, or to a whole tick's block hits at once (see HitEventBus) and add them up
+ * into a single change of the score.
  *
  * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
- * @version 1.0.0
+ * @version 1.0.1
  * @since 11 May 2019
  */
-public class ScoreTrackingListener implements HitListener {
+public class ScoreTrackingListener implements HitListener, BatchHitListener {
     private Counter currentScore;
 
     public static final int HITTING_BLOCK_POINTS = 5;
@@ -35,15 +37,43 @@ public class ScoreTrackingListener implements HitListener {
      * @param hitter   the ball that hit it
      */
     public void hitEvent(Block beingHit, Ball hitter) {
-        int addToScore = HITTING_BLOCK_POINTS;
+        // update the score
+        this.currentScore.increase(pointsFor(beingHit.getHitPoints()));
+    }
 
-        // if the block dies, give the user 10 points
-        if (beingHit.getHitPoints() == 1) {
-            addToScore = KILLING_BLOCK_POINTS;
+    /**
+     * hitEvents: update the score upon all the block hits of a tick.
+     *
+     * @param events the bus, whose batch holds the tick's hit events
+     */
+    public void hitEvents(HitEventBus events) {
+        int addToScore = 0;
+
+        for (int i = 0; i < events.batchSize(); i++) {
+            // only the hits of blocks are worth points
+            if (events.getType(i) == HitType.BLOCK_HIT) {
+                addToScore += pointsFor(events.getHitPoints(i));
+            }
         }
 
-        // update the score
-        this.currentScore.increase(addToScore);
+        // update the score once
+        if (addToScore != 0) {
+            this.currentScore.increase(addToScore);
+        }
+    }
+
+    /**
+     * pointsFor: get the points for hitting a block.
+     *
+     * @param hitPoints the block's hit points before the hit
+     * @return the points
+     */
+    private static int pointsFor(int hitPoints) {
+        // if the block dies, give the user 10 points
+        if (hitPoints == 1) {
+            return KILLING_BLOCK_POINTS;
+        }
+        return HITTING_BLOCK_POINTS;
     }
 
     /**
@@ -1,8 +1,12 @@
 package arkanoid.sprites;
 
-import arkanoid.game.animation.GameLevel;
+import arkanoid.game.render.DamageTracker;
+import arkanoid.game.simulation.Simulation;
+import arkanoid.geometry.Point;
 import biuoop.DrawSurface;
 
+import java.awt.Color;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -11,10 +15,10 @@ import java.util.List;
  * Background class represents a background image/complex of the game level.
  *
  * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
- * @version 1.0.0
+ * @version 1.0.3
  * @since 25 May 2019
  */
-public class Background implements Sprite {
+public class Background implements Damageable {
     private List<Sprite> background;
 
     /**
@@ -26,6 +30,20 @@ public class Background implements Sprite {
         this.background = bg;
     }
 
+    /**
+     * fromImage: create a background of a single image that covers the whole screen.
+     *
+     * @param image the image's resource path
+     * @return the background
+     */
+    public static Background fromImage(String image) {
+        List<Sprite> list = new ArrayList<>();
+        Block main = new Block(new Point(0, 0), Ball.WINDOW_WIDTH, Ball.WINDOW_HEIGHT, Color.MAGENTA);
+        main.addFill(new arkanoid.sprites.Fill.Image(image));
+        list.add(main);
+        return new Background(list);
+    }
+
     /**
      * drawOn: draw the sprite on a given surface.
      *
@@ -37,6 +55,62 @@ public class Background implements Sprite {
         }
     }
 
+    /**
+     * getSprites: get the sprites that make up the background.
+     *
+     * @return the sprites that make up the background
+     */
+    public List<Sprite> getSprites() {
+        return this.background;
+    }
+
+    /**
+     * reportDamage: report the damage of the sprites the background is made of.
+     *
+     * @param tracker the tracker of the damaged regions
+     * @param alpha   where in between the last two ticks the background is going to be drawn
+     */
+    public void reportDamage(DamageTracker tracker, double alpha) {
+        for (Sprite sp : this.background) {
+            if (sp instanceof Damageable) {
+                ((Damageable) sp).reportDamage(tracker, alpha);
+            } else {
+                // there's no telling where it's drawn
+                tracker.addAll();
+            }
+        }
+    }
+
+    /**
+     * reportRemoval: report where the sprites the background is made of were drawn last time.
+     *
+     * @param tracker the tracker of the damaged regions
+     */
+    public void reportRemoval(DamageTracker tracker) {
+        for (Sprite sp : this.background) {
+            if (sp instanceof Damageable) {
+                ((Damageable) sp).reportRemoval(tracker);
+            } else {
+                tracker.addAll();
+            }
+        }
+    }
+
+    /**
+     * isStatic: tell whether the background is expected to look the same in every frame.
+     *
+     * @return true if all the sprites the background is made of are static; false otherwise
+     */
+    public boolean isStatic() {
+        for (Sprite sp : this.background) {
+            if (!(sp instanceof Damageable) || !((Damageable) sp).isStatic()) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
     /**
      * timePassed: notify the sprite that time has passed.
      */
@@ -47,9 +121,9 @@ public class Background implements Sprite {
     /**
      * addToGame: add a sprite to the game.
      *
-     * @param gameLevel the game to add the sprite to
+     * @param simulation the game to add the sprite to
      */
-    public void addToGame(GameLevel gameLevel) {
-        gameLevel.addSprite(this);
+    public void addToGame(Simulation simulation) {
+        simulation.addSprite(this);
     }
 }
@@ -1,17 +1,22 @@
 package arkanoid.sprites;
 
-import arkanoid.game.CollisionInfo;
-import arkanoid.game.animation.GameLevel;
+import arkanoid.game.simulation.Simulation;
 import arkanoid.game.GameEnvironment;
+import arkanoid.game.collision.CollisionMode;
+import arkanoid.game.render.DamageTracker;
+import arkanoid.game.render.DrawnRegion;
+import arkanoid.geometry.Fixed;
+import arkanoid.geometry.FixedHit;
+import arkanoid.geometry.GeometryKernel;
 import arkanoid.geometry.Line;
 import arkanoid.geometry.Point;
 import arkanoid.geometry.Rectangle;
+import arkanoid.geometry.SegmentHit;
 import arkanoid.util.ColorEffects;
+import arkanoid.util.RandomSource;
 import arkanoid.util.Velocity;
 import biuoop.DrawSurface;
 
-import java.util.concurrent.ThreadLocalRandom;
-import java.util.List;
 import java.awt.Color;
 
 /**
@@ -22,10 +27,10 @@ import java.awt.Color;
  * time), create random balls, etc.
  *
  * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
- * @version 1.0.2
+ * @version 1.0.15
  * @since 11 May 2019
  */
-public class Ball implements Sprite {
+public class Ball implements InterpolatedSprite, Damageable {
 
     public static final int WINDOW_WIDTH = 800;
     public static final int WINDOW_HEIGHT = 600;
@@ -35,14 +40,29 @@ public class Ball implements Sprite {
     public static final int SLOWEST_BALL_MIN_SIZE = 50;
     public static final int DEFAULT_ANGLE = 45;
     public static final Color BALL_OUTLINE = Color.BLACK;
+    public static final int MAX_CONTACTS_PER_STEP = 4;
+    public static final double CONTACT_SKIN = 0.001;
 
     private Point center;
+    // the center point before the last time that passed (for drawing in between ticks)
+    private double previousX;
+    private double previousY;
     private int radius;
     private Color color;
     private Velocity speed;
     private Line frame;
     private GameEnvironment environment;
     private boolean hasOutline = false;
+    // whether the ball was removed from the game (e.g. by a hit listener in the middle of its step)
+    private boolean isRemoved = false;
+    // the holder of the collision information, reused on every step
+    private final SegmentHit hit = new SegmentHit();
+    private final FixedHit fixedHit = new FixedHit();
+    // the collision point and the velocity after a hit, reused on every hit (the velocity becomes the ball's own)
+    private final Point contact = new Point(0, 0);
+    private final Velocity bounce = new Velocity(0, 0);
+    // where the ball was drawn last time
+    private final DrawnRegion drawn = new DrawnRegion();
 
     /**
      * Ball: constructor #1.
@@ -55,6 +75,8 @@ public class Ball implements Sprite {
      */
     public Ball(Point center, int radius, Color color, GameEnvironment environment, boolean hasOutline) {
         this.center = center;
+        this.previousX = center.getX();
+        this.previousY = center.getY();
         this.radius = radius;
         this.color = color;
         this.speed = Velocity.fromAngleAndSpeed(0, 0);
@@ -102,6 +124,8 @@ public class Ball implements Sprite {
      */
     public Ball(Point center, int radius, Color color) {
         this.center = center;
+        this.previousX = center.getX();
+        this.previousY = center.getY();
         this.radius = radius;
         this.color = color;
         this.frame = new Line(new Point(0, 0), new Point(WINDOW_WIDTH, WINDOW_HEIGHT));
@@ -143,6 +167,15 @@ public class Ball implements Sprite {
         return this.radius;
     }
 
+    /**
+     * setSize: update the radius of self ball (used by BallSystem, whose single ball stands for all of its balls).
+     *
+     * @param newRadius the new radius
+     */
+    void setSize(int newRadius) {
+        this.radius = newRadius;
+    }
+
     /**
      * getColor: get the color of self ball.
      *
@@ -158,17 +191,72 @@ public class Ball implements Sprite {
      * @param surface the surface to draw the ball on
      */
     public void drawOn(DrawSurface surface) {
+        this.drawOn(surface, 1);
+    }
+
+    /**
+     * drawOn: draw the ball on a given surface, in between its previous and current center points.
+     *
+     * @param surface the surface to draw the ball on
+     * @param alpha   0 draws the ball at its previous center point, 1 at its current center point
+     */
+    public void drawOn(DrawSurface surface, double alpha) {
+        int x = (int) (this.previousX + (this.getX() - this.previousX) * alpha);
+        int y = (int) (this.previousY + (this.getY() - this.previousY) * alpha);
+
         // fill the ball with its color
         surface.setColor(this.color);
-        surface.fillCircle((int) this.getX(), (int) this.getY(), this.getSize());
+        surface.fillCircle(x, y, this.getSize());
 
         // draw a circle around the ball?
         if (this.hasOutline) {
             surface.setColor(BALL_OUTLINE);
-            surface.drawCircle((int) this.getX(), (int) this.getY(), this.getSize());
+            surface.drawCircle(x, y, this.getSize());
         }
     }
 
+    /**
+     * reportDamage: report where the ball was drawn last time and where it's going to be drawn now, if it moved.
+     *
+     * @param tracker the tracker of the damaged regions
+     * @param alpha   0 draws the ball at its previous center point, 1 at its current center point
+     */
+    public void reportDamage(DamageTracker tracker, double alpha) {
+        int x = (int) (this.previousX + (this.getX() - this.previousX) * alpha);
+        int y = (int) (this.previousY + (this.getY() - this.previousY) * alpha);
+        int r = this.getSize();
+
+        // the circle and its outline, with a pixel to spare
+        this.drawn.update(tracker, x - r - 1, y - r - 1, 2 * r + 3, 2 * r + 3, this.color.getRGB());
+    }
+
+    /**
+     * reportRemoval: report where the ball was drawn last time.
+     *
+     * @param tracker the tracker of the damaged regions
+     */
+    public void reportRemoval(DamageTracker tracker) {
+        this.drawn.remove(tracker);
+    }
+
+    /**
+     * isStatic: tell whether the ball is expected to look the same in every frame.
+     *
+     * @return false, since it moves all the time
+     */
+    public boolean isStatic() {
+        return false;
+    }
+
+    /**
+     * isRemoved: tell whether the ball was removed from the game.
+     *
+     * @return true if the ball was removed; false otherwise
+     */
+    public boolean isRemoved() {
+        return this.isRemoved;
+    }
+
     /**
      * setVelocity: Set new velocity for the ball.
      *
@@ -191,6 +279,7 @@ public class Ball implements Sprite {
 
     /**
      * getVelocity: Get new velocity of the ball.
+     * After the ball bounces, this is the ball's own holder, which the next bounce updates in place.
      *
      * @return the ball's speed
      */
@@ -200,8 +289,21 @@ public class Ball implements Sprite {
 
     /**
      * moveOneStep: Make the ball move one step forward.
+     * This runs on every frame, so it works on primitives, and a collision reuses the ball's own point and velocity
+     * holders, so a step creates no objects at all.
      */
     public void moveOneStep() {
+        // sweep the whole circle instead of its center
+        if (this.environment.getCollisionMode() == CollisionMode.SWEPT) {
+            this.moveSwept();
+            return;
+        }
+
+        // move on fixed-point numbers
+        if (this.environment.getCollisionMode() == CollisionMode.FIXED) {
+            this.moveFixed();
+            return;
+        }
 
         // set default values to the X and Y coords (as if no collision is going to occur)
         double posX = this.getX();
@@ -210,57 +312,52 @@ public class Ball implements Sprite {
         double speedX = this.speed.getDX();
         double speedY = this.speed.getDY();
 
-        // the potential destination point of the ball in the next move
-        Point destination = new Point(posX + speedX, posY + speedY);
-        // build the trajectory from the ball to the potential destination point
-        Line trajectory = new Line(this.center, destination);
-        // get the collision info
-        CollisionInfo colInfo = this.environment.getClosestCollision(trajectory);
-        // the collision point
-        Point collisionPoint = colInfo.collisionPoint();
+        // get the closest collision on the trajectory from the ball to its potential destination point
+        Collidable target = this.environment.getClosestCollision(posX, posY, posX + speedX, posY + speedY,
+                this.hit);
         // the new speed
         Velocity newSpeed = this.speed;
+        // whether the ball is attached to the point right before it collides (instead of moving a full step)
+        boolean isAttached = false;
 
         // if there's a collision going to happen
-        if (collisionPoint != null) {
-
-            // get the rectangle shape
-            Rectangle rect = colInfo.collisionObject().getCollisionRectangle();
+        if (target != null) {
 
-            // determine from which direction the ball is going to hit the shape (i.e. on which side of the rectangle
-            // the collision will take place)
-            List<Integer> collidesOn = rect.pointOnSide(collisionPoint);
+            // the collision point
+            double collisionX = this.hit.getX();
+            double collisionY = this.hit.getY();
 
             // if it's a collision with a block's edge then inverse the speed in X&Y axes
-            if (colInfo.isEdgeHit() && colInfo.collisionObject() instanceof Block) {
-                newSpeed = newSpeed.inverseSpeedX();
-                newSpeed = newSpeed.inverseSpeedY();
+            if (this.hit.isEdgeHit() && target instanceof Block) {
+                newSpeed = newSpeed.inverseSpeedX(this.bounce);
+                newSpeed = newSpeed.inverseSpeedY(this.bounce);
             } else {
                 // otherwise, fetch the new velocity via "hit" method
-                newSpeed = colInfo.collisionObject().hit(this, collisionPoint, this.speed);
+                newSpeed = target.hit(this, this.contact.set(collisionX, collisionY), this.speed, this.bounce);
             }
 
-            // avoid IndexOutOfBoundsException error
-            if (collidesOn.isEmpty()) {
+            // find the sides of the rectangle where the collision takes place (i.e. from which direction the ball
+            // is going to hit the shape)
+            int collidesOn1 = this.hit.firstSide();
+            int collidesOn2 = this.hit.secondSide();
+
+            // avoid hitting nothing
+            if (collidesOn1 == SegmentHit.NO_SIDE) {
                 this.setVelocity(newSpeed);
                 return;
             }
 
-            // find the sides of the rectangle where the collision takes place
-            int collidesOn1 = collidesOn.get(0), collidesOn2;
-            collidesOn2 = (collidesOn.size() > 1) ? collidesOn.get(1) : collidesOn.get(0);
-
-            // we will attach the ball to the point right before it collides
-            Point attachedCenter;
+            // is the trajectory vertical (as far as the geometry classes are concerned)?
+            boolean isVertical = Math.abs(speedX) < Point.POINT_PRECISION;
 
             // if the ball is going to collide from the right or left
             if (collidesOn2 == Rectangle.COMING_FROM_RIGHT && speedX <= 0
                     || collidesOn2 == Rectangle.COMING_FROM_LEFT && speedX >= 0) {
-                // calculate the new point to move to ball to
-                posX = collisionPoint.getX() - this.getSize() * Math.signum(speedX);
-                attachedCenter = trajectory.getPointByX(posX);
-                posY = attachedCenter.getY() - speedY;
-                posX = attachedCenter.getX() - speedX;
+                // we will attach the ball to the point on the trajectory right before it collides
+                double attachedX = collisionX - this.getSize() * Math.signum(speedX);
+                posY = isVertical ? posY : posY + (attachedX - posX) * speedY / speedX;
+                posX = attachedX;
+                isAttached = true;
 
                 /**
                  * Special case:
@@ -278,20 +375,153 @@ public class Ball implements Sprite {
             // if the ball is going to collide from below or above
             if (collidesOn1 == Rectangle.COMING_FROM_BELOW && speedY < 0
                     || collidesOn1 == Rectangle.COMING_FROM_ABOVE && speedY > 0) {
-                // calculate the new point to move to ball to
-                posY = collisionPoint.getY() - this.getSize() * Math.signum(speedY);
-                attachedCenter = trajectory.getPointByY(posY);
-                posX = attachedCenter.getX() - speedX;
-                posY = attachedCenter.getY() - speedY;
+                // we will attach the ball to the point on the trajectory right before it collides
+                double attachedY = collisionY - this.getSize() * Math.signum(speedY);
+                posX = isVertical ? posX : posX + (attachedY - posY) * speedX / speedY;
+                posY = attachedY;
+                isAttached = true;
             }
+        }
+
+        // move the ball one step (or right to the attached point)
+        this.center.setX(isAttached ? posX : posX + speedX);
+        this.center.setY(isAttached ? posY : posY + speedY);
+
+        // set the new speed
+        this.setVelocity(newSpeed);
+    }
+
+    /**
+     * moveFixed: Make the ball move one step forward like moveOneStep does, but on 16.16 fixed-point numbers (see
+     * Fixed): the center and the velocity are rounded to fixed-point numbers, and the whole step - the collision, the
+     * attachment to the collision point and the move - is calculated with integer arithmetic only. So the ball ends
+     * up on a fixed-point number, which its double center holds exactly, and the next step starts from it as is.
+     * The velocity a collidable returns from a hit is rounded to fixed-point numbers too.
+     */
+    private void moveFixed() {
+        int posX = Fixed.fromDouble(this.getX());
+        int posY = Fixed.fromDouble(this.getY());
+        int speedX = Fixed.fromDouble(this.speed.getDX());
+        int speedY = Fixed.fromDouble(this.speed.getDY());
+
+        // get the closest collision on the trajectory from the ball to its potential destination point
+        Collidable target = this.environment.getClosestCollisionFixed(posX, posY, posX + speedX, posY + speedY,
+                this.fixedHit);
+
+        // nothing on the way, so move a full step
+        if (target == null) {
+            this.center.setX(Fixed.toDouble(posX + speedX));
+            this.center.setY(Fixed.toDouble(posY + speedY));
+            this.setVelocity(this.bounce.set(Fixed.toDouble(speedX), Fixed.toDouble(speedY)));
+            return;
+        }
 
+        int collisionX = this.fixedHit.getX();
+        int collisionY = this.fixedHit.getY();
+        int sides = this.fixedHit.getSides();
+        int size = Fixed.fromInt(this.getSize());
+
+        // if it's a collision with a block's edge then inverse the speed in X&Y axes
+        int newSpeedX = -speedX;
+        int newSpeedY = -speedY;
+        if (!this.fixedHit.isEdgeHit() || !(target instanceof Block)) {
+            // otherwise, fetch the new velocity via "hit" method
+            this.bounce.set(Fixed.toDouble(speedX), Fixed.toDouble(speedY));
+            Velocity newSpeed = target.hit(this, this.contact.set(Fixed.toDouble(collisionX),
+                    Fixed.toDouble(collisionY)), this.bounce, this.bounce);
+            newSpeedX = Fixed.fromDouble(newSpeed.getDX());
+            newSpeedY = Fixed.fromDouble(newSpeed.getDY());
+        }
+
+        // attach the ball to the point on the trajectory right before it collides, on every side it runs into
+        boolean isAttached = false;
+        if ((sides & GeometryKernel.LEFT) != 0 && speedX > 0 || (sides & GeometryKernel.RIGHT) != 0 && speedX < 0) {
+            int attachedX = collisionX - size * Integer.signum(speedX);
+            posY += Fixed.mulDiv(attachedX - posX, speedY, speedX);
+            posX = attachedX;
+            isAttached = true;
+        }
+        if ((sides & GeometryKernel.TOP) != 0 && speedY > 0 || (sides & GeometryKernel.BOTTOM) != 0 && speedY < 0) {
+            int attachedY = collisionY - size * Integer.signum(speedY);
+            posX += Fixed.mulDiv(attachedY - posY, speedX, speedY);
+            posY = attachedY;
+            isAttached = true;
         }
 
-        // the point from which the ball will move one step
-        Point normalizedCenter = new Point(posX, posY);
+        // move the ball one step (or right to the attached point)
+        this.center.setX(Fixed.toDouble(isAttached ? posX : posX + speedX));
+        this.center.setY(Fixed.toDouble(isAttached ? posY : posY + speedY));
+
+        // set the new speed
+        this.setVelocity(this.bounce.set(Fixed.toDouble(newSpeedX), Fixed.toDouble(newSpeedY)));
+    }
+
+    /**
+     * moveSwept: Make the ball move one step forward, sweeping its whole circle.
+     * Every contact on the way is resolved: the ball stops right at the contact, bounces, and moves on with the rest
+     * of the step, up to MAX_CONTACTS_PER_STEP contacts per step. So a fast ball can't pass through a thin block or
+     * stay stuck inside a corner. A ball that a contact removes from the game (e.g. the death region) stops there.
+     */
+    private void moveSwept() {
+        double posX = this.getX();
+        double posY = this.getY();
+
+        double speedX = this.speed.getDX();
+        double speedY = this.speed.getDY();
+
+        // the new speed
+        Velocity newSpeed = this.speed;
+        // the part of the step that is left to move
+        double remaining = 1;
+
+        for (int contacts = 0; contacts < MAX_CONTACTS_PER_STEP && remaining > 0; contacts++) {
+            double endX = posX + speedX * remaining;
+            double endY = posY + speedY * remaining;
+
+            // get the first collidable the circle touches on its way
+            Collidable target = this.environment.getClosestCollision(posX, posY, endX, endY, this.getSize(),
+                    this.hit);
+
+            // nothing on the way, so move the rest of the step
+            if (target == null) {
+                posX = endX;
+                posY = endY;
+                remaining = 0;
+                break;
+            }
+
+            double t = this.hit.getT();
+            double normalX = this.hit.getNormalX();
+            double normalY = this.hit.getNormalY();
+
+            // move to the contact, and keep a tiny gap from the surface so the next sweep doesn't start inside it
+            posX += (endX - posX) * t + normalX * CONTACT_SKIN;
+            posY += (endY - posY) * t + normalY * CONTACT_SKIN;
+            remaining *= 1 - t;
 
-        // move the ball one step
-        this.center = this.speed.applyToPoint(normalizedCenter);
+            // fetch the new velocity via "hit" method (this also notifies the collidable's listeners)
+            newSpeed = target.hit(this, this.contact.set(this.hit.getX(), this.hit.getY()), newSpeed, this.bounce);
+            speedX = newSpeed.getDX();
+            speedY = newSpeed.getDY();
+
+            // the hit removed the ball, so there's nothing left to resolve
+            if (this.isRemoved()) {
+                remaining = 0;
+                break;
+            }
+
+            // if the ball still moves into the surface (e.g. it hit a rounded corner), reflect it off the normal
+            double into = speedX * normalX + speedY * normalY;
+            if (into < 0) {
+                speedX -= 2 * into * normalX;
+                speedY -= 2 * into * normalY;
+                newSpeed = this.bounce.set(speedX, speedY);
+            }
+        }
+
+        // move the ball to where the contacts left it
+        this.center.setX(posX);
+        this.center.setY(posY);
 
         // set the new speed
         this.setVelocity(newSpeed);
@@ -320,8 +550,22 @@ public class Ball implements Sprite {
      */
     public static Ball createRandomBallWithSpeed(Point topLeftCorner, Point rightBottomCorner, int ballSize,
                                                  GameEnvironment environment) {
-        // create a random-number generator
-        ThreadLocalRandom rand = ThreadLocalRandom.current();
+        return createRandomBallWithSpeed(topLeftCorner, rightBottomCorner, ballSize, environment,
+                RandomSource.current());
+    }
+
+    /**
+     * createRandomBallWithSpeed: create a random moving ball inside a frame.
+     *
+     * @param topLeftCorner     the frame's top left corner
+     * @param rightBottomCorner the frame's right bottom corner
+     * @param ballSize          the ball's radius
+     * @param environment       the game environment
+     * @param rand              the source of randomness
+     * @return a random moving ball inside the given frame
+     */
+    public static Ball createRandomBallWithSpeed(Point topLeftCorner, Point rightBottomCorner, int ballSize,
+                                                 GameEnvironment environment, RandomSource rand) {
 
         // get random coordinates for the ball's starting point
         int randomPosX = rand.nextInt((int) Math.round(topLeftCorner.getX()) + ballSize,
@@ -330,7 +574,7 @@ public class Ball implements Sprite {
                 (int) Math.round(rightBottomCorner.getY()) - ballSize);
 
         // get random color for the ball
-        Color randomColor = ColorEffects.getRandomColor();
+        Color randomColor = ColorEffects.getRandomColor(rand);
         // create the ball
         Ball newBall = new Ball(randomPosX, randomPosY, ballSize, randomColor, environment);
 
@@ -382,16 +626,22 @@ public class Ball implements Sprite {
      * timePassed: tell the ball that it should move now.
      */
     public void timePassed() {
+        // remember where the ball was before it moves
+        this.previousX = this.getX();
+        this.previousY = this.getY();
+        // the paddle and the dancing blocks have already moved in this tick (the first ball refits them for all)
+        this.environment.refitIfMoved();
         this.moveOneStep();
     }
 
     /**
-     * addToGame: add the ball to a gameLevel's sprites collection.
+     * addToGame: add the ball to a simulation's sprites collection.
      *
-     * @param gameLevel the gameLevel to add the ball to
+     * @param simulation the simulation to add the ball to
      */
-    public void addToGame(GameLevel gameLevel) {
-        gameLevel.addSprite(this);
+    public void addToGame(Simulation simulation) {
+        this.isRemoved = false;
+        simulation.addSprite(this);
     }
 
     /**
@@ -404,11 +654,22 @@ public class Ball implements Sprite {
     }
 
     /**
-     * removeFromGame: remove the ball from a gameLevel's sprites collection.
+     * getHandle: get a ball that stands for this ball until the end of the tick, e.g. for a hit event that is
+     * delivered later (see HitEventBus).
+     *
+     * @return this ball
+     */
+    public Ball getHandle() {
+        return this;
+    }
+
+    /**
+     * removeFromGame: remove the ball from a simulation's sprites collection.
      *
-     * @param gameLevel the gameLevel to remove the ball from
+     * @param simulation the simulation to remove the ball from
      */
-    public void removeFromGame(GameLevel gameLevel) {
-        gameLevel.removeSprite(this);
+    public void removeFromGame(Simulation simulation) {
+        this.isRemoved = true;
+        simulation.removeSprite(this);
     }
 }
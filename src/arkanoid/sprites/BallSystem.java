@@ -0,0 +1,726 @@
+package arkanoid.sprites;
+
+import arkanoid.game.GameEnvironment;
+import arkanoid.game.collision.BallCollider;
+import arkanoid.game.collision.CollisionMode;
+import arkanoid.game.render.DamageTracker;
+import arkanoid.game.simulation.Simulation;
+import arkanoid.geometry.Fixed;
+import arkanoid.geometry.FixedHit;
+import arkanoid.geometry.Point;
+import arkanoid.geometry.SegmentHit;
+import arkanoid.util.Velocity;
+import biuoop.DrawSurface;
+
+import java.awt.Color;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Class Name: BallSystem.
+ * <p>
+ * BallSystem class holds many balls in parallel primitive arrays (positions, velocities, radii and colors) instead of
+ * a Ball object per ball, so it can move tens of thousands of balls in one tight loop and draw them in one pass.
+ * It's a single sprite, so the sprite collection calls it once per tick and not once per ball.
+ * Collidables and hit listeners still receive a Ball: a single flyweight ball stands for the ball that is currently
+ * moving, so e.g. BallRemover removes the right ball from the system. A hit event that is delivered later (see
+ * HitEventBus) gets a handle instead: a ball that stands for the same slot all along.
+ * Balls removed during a tick are swept out at the beginning of the next one, and the rest keep their order - so the
+ * slots, and with them the handles, stay the same until the tick's hit events are drained.
+ * <p>
+ * A tick runs in two stages. First, every ball looks for its first contact on the way; the environment doesn't change
+ * during this stage, so with a pool the balls are split into chunks that search at the same time, each writing only
+ * to its own balls' slots. Then, at the barrier, the balls are applied one by one in their order: a ball with nothing
+ * on the way just moves, and a ball with a contact makes its whole step (hits, listeners and all) as usual.
+ * Hits only ever remove collidables, so a ball that found nothing on the way would have found nothing after the hits
+ * of the balls before it either - the result is exactly the same as moving the balls one after the other.
+ * <p>
+ * Optionally (see COLLISIONS_PROPERTY), the balls also bounce off each other: once every ball has made its step and
+ * resolved its hits with the environment, the touching balls are bounced off each other in the order of their slots
+ * (see BallCollider).
+ * <p>
+ * For dirty-region rendering, the system remembers where every ball was drawn last time, and reports only the balls
+ * that moved (or changed their color), plus the balls that vanished since the last frame.
+ *
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.12
+ * @since 18 October 2026
+ */
+public class BallSystem implements InterpolatedSprite, Damageable {
+    public static final int DEFAULT_CAPACITY = 16;
+    public static final int NO_BALL = -1;
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 2048;
+    public static final int CHUNK_SIZE = 512;
+    // the system property that makes the balls bounce off each other, e.g. -Darkanoid.balls.collide=true
+    public static final String COLLISIONS_PROPERTY = "arkanoid.balls.collide";
+
+    private double[] x;
+    private double[] y;
+    private double[] previousX;
+    private double[] previousY;
+    private double[] dx;
+    private double[] dy;
+    private int[] radii;
+    private int[] colors;
+    private boolean[] removed;
+    // the first collidable each ball is going to touch in the current tick (null if there's none)
+    private Collidable[] contacts;
+    // where each ball was drawn last time: the upper-left point of its bounding box, and its color
+    private int[] drawnX;
+    private int[] drawnY;
+    private int[] drawnColors;
+    private boolean[] isDrawn;
+    // the bounding boxes of the removed balls that are still on the screen, 3 values each: x, y and size
+    private int[] vanished;
+    private int vanishedCount;
+    private int count;
+    private int removedCount;
+    private boolean hasOutline;
+    private GameEnvironment environment;
+    // the pool that searches for the contacts (null searches on the calling thread)
+    private ForkJoinPool pool;
+    // the minimal number of balls for which the search is split across the pool
+    private int parallelThreshold;
+    // the holder of the contacts' information when searching on the calling thread
+    private final SegmentHit hit;
+    private final FixedHit fixedHit;
+    // the ball that stands for the ball that is currently moving
+    private final SystemBall current;
+    // bounces the balls off each other (null if they pass through each other)
+    private BallCollider collider;
+    // the handles of the slots (created on demand)
+    private SystemBall[] handles;
+    // the velocity handed to the current ball, reused for all the balls
+    private final Velocity scratchVelocity;
+
+    /**
+     * Constructor.
+     *
+     * @param environment the game environment
+     * @param outline     whether the balls have outlines or not
+     */
+    public BallSystem(GameEnvironment environment, boolean outline) {
+        this.x = new double[DEFAULT_CAPACITY];
+        this.y = new double[DEFAULT_CAPACITY];
+        this.previousX = new double[DEFAULT_CAPACITY];
+        this.previousY = new double[DEFAULT_CAPACITY];
+        this.dx = new double[DEFAULT_CAPACITY];
+        this.dy = new double[DEFAULT_CAPACITY];
+        this.radii = new int[DEFAULT_CAPACITY];
+        this.colors = new int[DEFAULT_CAPACITY];
+        this.removed = new boolean[DEFAULT_CAPACITY];
+        this.contacts = new Collidable[DEFAULT_CAPACITY];
+        this.drawnX = new int[DEFAULT_CAPACITY];
+        this.drawnY = new int[DEFAULT_CAPACITY];
+        this.drawnColors = new int[DEFAULT_CAPACITY];
+        this.isDrawn = new boolean[DEFAULT_CAPACITY];
+        this.vanished = new int[DEFAULT_CAPACITY * 3];
+        this.vanishedCount = 0;
+        this.count = 0;
+        this.removedCount = 0;
+        this.hasOutline = outline;
+        this.environment = environment;
+        this.pool = null;
+        this.parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+        this.hit = new SegmentHit();
+        this.fixedHit = new FixedHit();
+        this.current = new SystemBall(environment, outline);
+        this.handles = new SystemBall[DEFAULT_CAPACITY];
+        this.scratchVelocity = new Velocity(0, 0);
+        this.setBallCollisions(Boolean.getBoolean(COLLISIONS_PROPERTY));
+    }
+
+    /**
+     * setBallCollisions: set whether the balls bounce off each other or pass through each other.
+     *
+     * @param isOn true to bounce the balls off each other; false otherwise
+     */
+    public void setBallCollisions(boolean isOn) {
+        this.collider = isOn ? new BallCollider() : null;
+    }
+
+    /**
+     * setPool: set the pool that searches for the balls' contacts in parallel.
+     *
+     * @param forkJoinPool the pool, or null to search on the calling thread
+     */
+    public void setPool(ForkJoinPool forkJoinPool) {
+        this.pool = forkJoinPool;
+    }
+
+    /**
+     * setParallelThreshold: set the minimal number of balls for which the search is split across the pool (with
+     * fewer balls, splitting costs more than it saves).
+     *
+     * @param balls the minimal number of balls
+     */
+    public void setParallelThreshold(int balls) {
+        this.parallelThreshold = balls;
+    }
+
+    /**
+     * add: add a ball to the system.
+     *
+     * @param centerX  the X value of the ball's center point
+     * @param centerY  the Y value of the ball's center point
+     * @param radius   the ball's radius
+     * @param color    the ball's color
+     * @param velocity the ball's velocity
+     */
+    public void add(double centerX, double centerY, int radius, Color color, Velocity velocity) {
+        if (this.count == this.x.length) {
+            this.grow();
+        }
+
+        int i = this.count++;
+        this.x[i] = centerX;
+        this.y[i] = centerY;
+        this.previousX[i] = centerX;
+        this.previousY[i] = centerY;
+        this.dx[i] = velocity.getDX();
+        this.dy[i] = velocity.getDY();
+        this.radii[i] = radius;
+        this.colors[i] = color.getRGB();
+        this.removed[i] = false;
+        this.isDrawn[i] = false;
+    }
+
+    /**
+     * remove: remove a ball from the system. It stops moving and being drawn at once, and is swept out at the end of
+     * the tick.
+     *
+     * @param index the ball's index
+     */
+    public void remove(int index) {
+        if (!this.removed[index]) {
+            this.removed[index] = true;
+            this.removedCount++;
+
+            // it's still on the screen until the next frame
+            if (this.isDrawn[index]) {
+                this.addVanished(this.drawnX[index], this.drawnY[index], this.boxSize(index));
+                this.isDrawn[index] = false;
+            }
+        }
+    }
+
+    /**
+     * size: get the number of balls in the system.
+     *
+     * @return the number of balls that weren't removed
+     */
+    public int size() {
+        return this.count - this.removedCount;
+    }
+
+    /**
+     * slotsNum: get the number of slots, including the balls that were removed during the last tick (they're swept out
+     * at the beginning of the next one).
+     *
+     * @return the number of slots
+     */
+    public int slotsNum() {
+        return this.count;
+    }
+
+    /**
+     * isRemoved: tell whether the ball in a slot was removed.
+     *
+     * @param index the ball's index
+     * @return true if the ball was removed; false otherwise
+     */
+    public boolean isRemoved(int index) {
+        return this.removed[index];
+    }
+
+    /**
+     * getX: get the X value of a ball's center point.
+     *
+     * @param index the ball's index
+     * @return the X value of the ball's center point
+     */
+    public double getX(int index) {
+        return this.x[index];
+    }
+
+    /**
+     * getY: get the Y value of a ball's center point.
+     *
+     * @param index the ball's index
+     * @return the Y value of the ball's center point
+     */
+    public double getY(int index) {
+        return this.y[index];
+    }
+
+    /**
+     * getDX: get the change in a ball's X value in a single tick.
+     *
+     * @param index the ball's index
+     * @return the ball's delta x
+     */
+    public double getDX(int index) {
+        return this.dx[index];
+    }
+
+    /**
+     * getDY: get the change in a ball's Y value in a single tick.
+     *
+     * @param index the ball's index
+     * @return the ball's delta y
+     */
+    public double getDY(int index) {
+        return this.dy[index];
+    }
+
+    /**
+     * getRadius: get a ball's radius.
+     *
+     * @param index the ball's index
+     * @return the ball's radius
+     */
+    public int getRadius(int index) {
+        return this.radii[index];
+    }
+
+    /**
+     * slotOf: get the slot a handle stands for (see HitEventBus).
+     *
+     * @param handle the handle
+     * @return the handle's slot, or NO_BALL if it isn't a handle of this system
+     */
+    public int slotOf(Ball handle) {
+        if (!(handle instanceof SystemBall)) {
+            return NO_BALL;
+        }
+
+        int index = ((SystemBall) handle).index;
+        // the flyweight ball isn't a handle, and neither are the balls of another system
+        boolean isHandle = index >= 0 && index < this.handles.length && this.handles[index] == handle;
+        return isHandle ? index : NO_BALL;
+    }
+
+    /**
+     * timePassed: move all the balls one step.
+     */
+    public void timePassed() {
+        // sweep out the balls that were removed during the last tick
+        this.compact();
+        // the paddle and the dancing blocks have already moved in this tick
+        this.environment.refitMoving();
+
+        int searched = this.count;
+        this.findContacts(searched);
+        boolean isFixed = this.environment.getCollisionMode() == CollisionMode.FIXED;
+
+        // the count is read on every iteration, in case a hit listener adds balls
+        for (int i = 0; i < this.count; i++) {
+            if (this.removed[i]) {
+                continue;
+            }
+
+            // remember where the ball was before it moves
+            this.previousX[i] = this.x[i];
+            this.previousY[i] = this.y[i];
+
+            // nothing on the way, so just move a full step (on fixed-point numbers in the fixed-point mode)
+            if (i < searched && this.contacts[i] == null) {
+                if (isFixed) {
+                    this.x[i] = Fixed.toDouble(Fixed.fromDouble(this.x[i]) + Fixed.fromDouble(this.dx[i]));
+                    this.y[i] = Fixed.toDouble(Fixed.fromDouble(this.y[i]) + Fixed.fromDouble(this.dy[i]));
+                    this.dx[i] = Fixed.quantize(this.dx[i]);
+                    this.dy[i] = Fixed.quantize(this.dy[i]);
+                } else {
+                    this.x[i] += this.dx[i];
+                    this.y[i] += this.dy[i];
+                }
+                continue;
+            }
+            this.contacts[i] = null;
+
+            // let the flyweight ball stand for this ball, and move it with the regular ball physics
+            this.current.index = i;
+            this.current.getCenter().setX(this.x[i]);
+            this.current.getCenter().setY(this.y[i]);
+            this.current.setSize(this.radii[i]);
+            this.scratchVelocity.setDX(this.dx[i]);
+            this.scratchVelocity.setDY(this.dy[i]);
+            this.current.setVelocity(this.scratchVelocity);
+
+            this.current.moveOneStep();
+
+            this.x[i] = this.current.getX();
+            this.y[i] = this.current.getY();
+            this.dx[i] = this.current.getVelocity().getDX();
+            this.dy[i] = this.current.getVelocity().getDY();
+        }
+
+        this.current.index = NO_BALL;
+
+        // once all the balls are where their steps took them, bounce them off each other
+        if (this.collider != null) {
+            this.collider.resolve(this.x, this.y, this.dx, this.dy, this.radii, this.removed, this.count);
+        }
+    }
+
+    /**
+     * handleOf: get the handle of a slot, i.e. a ball that stands for the ball in the slot.
+     *
+     * @param index the slot
+     * @return the slot's handle
+     */
+    private SystemBall handleOf(int index) {
+        if (this.handles[index] == null) {
+            this.handles[index] = new SystemBall(this.environment, this.hasOutline);
+            this.handles[index].index = index;
+        }
+        return this.handles[index];
+    }
+
+    /**
+     * findContacts: find the first contact of every ball, in parallel if there are enough balls and a pool to split
+     * them across.
+     *
+     * @param balls the number of balls to search for
+     */
+    private void findContacts(int balls) {
+        if (this.pool == null || balls < this.parallelThreshold) {
+            this.findContacts(0, balls, this.hit, this.fixedHit);
+        } else {
+            this.pool.invoke(new ContactSearch(0, balls));
+        }
+    }
+
+    /**
+     * findContacts: find the first contact of a range of balls.
+     * This doesn't change anything but the range's contacts, so ranges can be searched at the same time.
+     *
+     * @param from the index of the range's first ball
+     * @param to   the index after the range's last ball
+     * @param out      the holder of the contacts' information
+     * @param fixedOut the holder of the contacts' information in the fixed-point mode
+     */
+    private void findContacts(int from, int to, SegmentHit out, FixedHit fixedOut) {
+        CollisionMode mode = this.environment.getCollisionMode();
+
+        for (int i = from; i < to; i++) {
+            if (this.removed[i]) {
+                this.contacts[i] = null;
+                continue;
+            }
+
+            // in the fixed-point mode, look exactly where the ball's fixed-point step goes (see Ball.moveFixed)
+            if (mode == CollisionMode.FIXED) {
+                int fixedX = Fixed.fromDouble(this.x[i]);
+                int fixedY = Fixed.fromDouble(this.y[i]);
+                this.contacts[i] = this.environment.getClosestCollisionFixed(fixedX, fixedY,
+                        fixedX + Fixed.fromDouble(this.dx[i]), fixedY + Fixed.fromDouble(this.dy[i]), fixedOut);
+                continue;
+            }
+
+            double endX = this.x[i] + this.dx[i];
+            double endY = this.y[i] + this.dy[i];
+            this.contacts[i] = (mode == CollisionMode.SWEPT)
+                    ? this.environment.getClosestCollision(this.x[i], this.y[i], endX, endY, this.radii[i], out)
+                    : this.environment.getClosestCollision(this.x[i], this.y[i], endX, endY, out);
+        }
+    }
+
+    /**
+     * drawOn: draw all the balls on a given surface.
+     *
+     * @param surface the surface to draw the balls on
+     */
+    public void drawOn(DrawSurface surface) {
+        this.drawOn(surface, 1);
+    }
+
+    /**
+     * drawOn: draw all the balls on a given surface, in between their previous and current center points.
+     * The surface's color is changed only when it isn't the color to draw with already (an outline changes it).
+     *
+     * @param surface the surface to draw the balls on
+     * @param alpha   0 draws the balls at their previous center points, 1 at their current center points
+     */
+    public void drawOn(DrawSurface surface, double alpha) {
+        Color color = null;
+        // the color the surface was last set to
+        Color surfaceColor = null;
+
+        for (int i = 0; i < this.count; i++) {
+            if (this.removed[i]) {
+                continue;
+            }
+
+            int ballX = (int) (this.previousX[i] + (this.x[i] - this.previousX[i]) * alpha);
+            int ballY = (int) (this.previousY[i] + (this.y[i] - this.previousY[i]) * alpha);
+
+            // fill the ball with its color
+            if (color == null || color.getRGB() != this.colors[i]) {
+                color = new Color(this.colors[i], true);
+            }
+            if (surfaceColor != color) {
+                surface.setColor(color);
+                surfaceColor = color;
+            }
+            surface.fillCircle(ballX, ballY, this.radii[i]);
+
+            // draw a circle around the ball?
+            if (this.hasOutline) {
+                surface.setColor(Ball.BALL_OUTLINE);
+                surfaceColor = Ball.BALL_OUTLINE;
+                surface.drawCircle(ballX, ballY, this.radii[i]);
+            }
+        }
+    }
+
+    /**
+     * reportDamage: report the balls that vanished since the last frame, and the balls that are going to be drawn
+     * somewhere else (or in another color) than last time - both where they were and where they're going to be.
+     *
+     * @param tracker the tracker of the damaged regions
+     * @param alpha   0 draws the balls at their previous center points, 1 at their current center points
+     */
+    public void reportDamage(DamageTracker tracker, double alpha) {
+        this.reportVanished(tracker);
+
+        for (int i = 0; i < this.count; i++) {
+            if (this.removed[i]) {
+                continue;
+            }
+
+            int r = this.radii[i];
+            int boxX = (int) (this.previousX[i] + (this.x[i] - this.previousX[i]) * alpha) - r - 1;
+            int boxY = (int) (this.previousY[i] + (this.y[i] - this.previousY[i]) * alpha) - r - 1;
+            int size = this.boxSize(i);
+
+            if (this.isDrawn[i] && this.drawnX[i] == boxX && this.drawnY[i] == boxY
+                    && this.drawnColors[i] == this.colors[i]) {
+                continue;
+            }
+
+            if (this.isDrawn[i]) {
+                tracker.add(this.drawnX[i], this.drawnY[i], size, size);
+            }
+            tracker.add(boxX, boxY, size, size);
+
+            this.drawnX[i] = boxX;
+            this.drawnY[i] = boxY;
+            this.drawnColors[i] = this.colors[i];
+            this.isDrawn[i] = true;
+        }
+    }
+
+    /**
+     * reportRemoval: report where all the balls were drawn last time.
+     *
+     * @param tracker the tracker of the damaged regions
+     */
+    public void reportRemoval(DamageTracker tracker) {
+        this.reportVanished(tracker);
+
+        for (int i = 0; i < this.count; i++) {
+            if (this.isDrawn[i]) {
+                int size = this.boxSize(i);
+                tracker.add(this.drawnX[i], this.drawnY[i], size, size);
+                this.isDrawn[i] = false;
+            }
+        }
+    }
+
+    /**
+     * isStatic: tell whether the ball system is expected to look the same in every frame.
+     *
+     * @return false, since its balls move all the time
+     */
+    public boolean isStatic() {
+        return false;
+    }
+
+    /**
+     * reportVanished: report where the removed balls were drawn last time, and forget them.
+     *
+     * @param tracker the tracker of the damaged regions
+     */
+    private void reportVanished(DamageTracker tracker) {
+        for (int i = 0; i < this.vanishedCount * 3; i += 3) {
+            tracker.add(this.vanished[i], this.vanished[i + 1], this.vanished[i + 2], this.vanished[i + 2]);
+        }
+        this.vanishedCount = 0;
+    }
+
+    /**
+     * addVanished: remember the bounding box of a removed ball that is still on the screen.
+     *
+     * @param boxX the X value of the box's upper-left point
+     * @param boxY the Y value of the box's upper-left point
+     * @param size the box's size
+     */
+    private void addVanished(int boxX, int boxY, int size) {
+        if (this.vanishedCount * 3 == this.vanished.length) {
+            this.vanished = Arrays.copyOf(this.vanished, this.vanished.length * 2);
+        }
+
+        int i = this.vanishedCount++ * 3;
+        this.vanished[i] = boxX;
+        this.vanished[i + 1] = boxY;
+        this.vanished[i + 2] = size;
+    }
+
+    /**
+     * boxSize: get the size of a ball's bounding box.
+     *
+     * @param index the ball's index
+     * @return the size of the ball's bounding box: the circle and its outline, with a pixel to spare
+     */
+    private int boxSize(int index) {
+        return 2 * this.radii[index] + 3;
+    }
+
+    /**
+     * addToGame: add the ball system to a simulation's sprites collection.
+     *
+     * @param simulation the simulation to add the ball system to
+     */
+    public void addToGame(Simulation simulation) {
+        simulation.addSprite(this);
+    }
+
+    /**
+     * compact: sweep out the removed balls, and keep the order of the rest.
+     */
+    private void compact() {
+        if (this.removedCount == 0) {
+            return;
+        }
+
+        int kept = 0;
+        for (int i = 0; i < this.count; i++) {
+            if (this.removed[i]) {
+                continue;
+            }
+            this.x[kept] = this.x[i];
+            this.y[kept] = this.y[i];
+            this.previousX[kept] = this.previousX[i];
+            this.previousY[kept] = this.previousY[i];
+            this.dx[kept] = this.dx[i];
+            this.dy[kept] = this.dy[i];
+            this.radii[kept] = this.radii[i];
+            this.colors[kept] = this.colors[i];
+            this.removed[kept] = false;
+            this.contacts[kept] = null;
+            this.drawnX[kept] = this.drawnX[i];
+            this.drawnY[kept] = this.drawnY[i];
+            this.drawnColors[kept] = this.drawnColors[i];
+            this.isDrawn[kept] = this.isDrawn[i];
+            kept++;
+        }
+
+        this.count = kept;
+        this.removedCount = 0;
+    }
+
+    /**
+     * grow: double the capacity of the arrays.
+     */
+    private void grow() {
+        int capacity = this.x.length * 2;
+        this.x = Arrays.copyOf(this.x, capacity);
+        this.y = Arrays.copyOf(this.y, capacity);
+        this.previousX = Arrays.copyOf(this.previousX, capacity);
+        this.previousY = Arrays.copyOf(this.previousY, capacity);
+        this.dx = Arrays.copyOf(this.dx, capacity);
+        this.dy = Arrays.copyOf(this.dy, capacity);
+        this.radii = Arrays.copyOf(this.radii, capacity);
+        this.colors = Arrays.copyOf(this.colors, capacity);
+        this.removed = Arrays.copyOf(this.removed, capacity);
+        this.contacts = Arrays.copyOf(this.contacts, capacity);
+        this.drawnX = Arrays.copyOf(this.drawnX, capacity);
+        this.drawnY = Arrays.copyOf(this.drawnY, capacity);
+        this.drawnColors = Arrays.copyOf(this.drawnColors, capacity);
+        this.isDrawn = Arrays.copyOf(this.isDrawn, capacity);
+        this.handles = Arrays.copyOf(this.handles, capacity);
+    }
+
+    /**
+     * Class Name: ContactSearch.
+     * <p>
+     * A task that searches for the first contacts of a range of balls, and splits the range in halves until it's
+     * small enough.
+     */
+    private final class ContactSearch extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private int from;
+        private int to;
+
+        /**
+         * Constructor.
+         *
+         * @param start the index of the range's first ball
+         * @param end   the index after the range's last ball
+         */
+        ContactSearch(int start, int end) {
+            this.from = start;
+            this.to = end;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from <= CHUNK_SIZE) {
+                // every chunk has its own holder, so the chunks don't share anything they write to
+                BallSystem.this.findContacts(this.from, this.to, new SegmentHit(), new FixedHit());
+                return;
+            }
+
+            int middle = (this.from + this.to) >>> 1;
+            invokeAll(new ContactSearch(this.from, middle), new ContactSearch(middle, this.to));
+        }
+    }
+
+    /**
+     * Class Name: SystemBall.
+     * <p>
+     * The flyweight ball that stands for the system's ball that is currently moving. Removing it from the game, or
+     * changing its color, affects that ball in the system.
+     */
+    private final class SystemBall extends Ball {
+        private int index = NO_BALL;
+
+        /**
+         * Constructor.
+         *
+         * @param environment the game environment
+         * @param outline     whether the ball has outline or not
+         */
+        SystemBall(GameEnvironment environment, boolean outline) {
+            super(new Point(0, 0), 0, Color.WHITE, environment, outline);
+        }
+
+        @Override
+        public Color getColor() {
+            return new Color(BallSystem.this.colors[this.index], true);
+        }
+
+        @Override
+        public void setColor(Color newColor) {
+            BallSystem.this.colors[this.index] = newColor.getRGB();
+        }
+
+        @Override
+        public void removeFromGame(Simulation simulation) {
+            BallSystem.this.remove(this.index);
+        }
+
+        @Override
+        public boolean isRemoved() {
+            return BallSystem.this.isRemoved(this.index);
+        }
+
+        @Override
+        public Ball getHandle() {
+            return BallSystem.this.handleOf(this.index);
+        }
+    }
+}
@@ -2,21 +2,26 @@ package arkanoid.sprites;
 
 import arkanoid.Ass7Game;
 import arkanoid.game.animation.GameLevel;
+import arkanoid.game.render.DamageTracker;
+import arkanoid.game.render.DrawnRegion;
+import arkanoid.game.simulation.Simulation;
 import arkanoid.geometry.Point;
 import arkanoid.geometry.Rectangle;
+import arkanoid.listeners.HitEventBus;
 import arkanoid.listeners.HitListener;
+import arkanoid.listeners.HitType;
 import arkanoid.listeners.HitNotifier;
 import arkanoid.sprites.Fill.Fill;
 import arkanoid.util.ColorEffects;
+import arkanoid.util.Counter;
+import arkanoid.util.ImageCache;
+import arkanoid.util.RandomSource;
 import arkanoid.util.Velocity;
 import biuoop.DrawSurface;
 
-import javax.imageio.ImageIO;
 import java.awt.Color;
 import java.awt.Image;
-import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Random;
 import java.util.List;
 
 /**
@@ -26,10 +31,10 @@ import java.util.List;
  * This class can generate random blocks, calculate an object's new velocity after it has collided with it, etc.
  *
  * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
- * @version 1.0.3
+ * @version 1.0.13
  * @since 11 June 2019
  */
-public class Block implements Collidable, Sprite, HitNotifier {
+public class Block implements Collidable, Damageable, HitNotifier {
 
     public static final int WINDOW_WIDTH = Ball.WINDOW_WIDTH;
     public static final int WINDOW_HEIGHT = Ball.WINDOW_HEIGHT;
@@ -51,11 +56,19 @@ public class Block implements Collidable, Sprite, HitNotifier {
     private boolean isDancer = false;
     private int lives;
     private List<HitListener> hitListeners = new ArrayList<>();
+    // a reusable copy of the listeners, so a listener can remove itself while they're notified
+    private HitListener[] notified = new HitListener[0];
+    // the bus that the hits are published to, for its batch listeners (null publishes nothing)
+    private HitEventBus eventBus = null;
     private boolean isBallKiller = false;
     private Color stroke;
     private List<Fill> fill = new ArrayList<>();
-    private Image loadedImage;
-    private int loadedImageIndex;
+    // the random generator of the dance (null for the generator of the thread that makes the block dance)
+    private RandomSource random;
+    // counts the block's dance steps for the index of the moving collidables (null counts nothing)
+    private Counter moves = null;
+    // where the block was drawn last time
+    private final DrawnRegion drawn = new DrawnRegion();
 
     /**
      * Constructor 1.
@@ -67,8 +80,10 @@ public class Block implements Collidable, Sprite, HitNotifier {
      * @param lives     life counter (how many times it can still be hit)
      */
     public Block(Point upperLeft, double width, double height, Color color, int lives) {
-        this.rect = new Rectangle(upperLeft, width, height);
+        // a dancing block moves its upper-left point in place, so it gets a point of its own
+        this.rect = new Rectangle(new Point(upperLeft.getX(), upperLeft.getY()), width, height);
         this.lives = lives;
+        this.random = null;
     }
 
     /**
@@ -78,8 +93,11 @@ public class Block implements Collidable, Sprite, HitNotifier {
      * @param lives life counter (how many times it can still be hit)
      */
     public Block(Rectangle rect, int lives) {
-        this.rect = rect;
+        // a dancing block moves its upper-left point in place, so it gets a point of its own
+        this.rect = new Rectangle(new Point(rect.getUpperLeft().getX(), rect.getUpperLeft().getY()), rect.getWidth(),
+                rect.getHeight());
         this.lives = lives;
+        this.random = null;
     }
 
     /**
@@ -94,6 +112,7 @@ public class Block implements Collidable, Sprite, HitNotifier {
         this.rect = new Rectangle(upperLeft, width, height);
         this.unremovable = true;
         this.fill.add(new arkanoid.sprites.Fill.Color(color));
+        this.random = null;
     }
 
     /**
@@ -106,9 +125,11 @@ public class Block implements Collidable, Sprite, HitNotifier {
      * @param lives     life counter (how many times it can still be hit)
      */
     public Block(Point upperLeft, double width, double height, List<Fill> fills, int lives) {
-        this.rect = new Rectangle(upperLeft, width, height);
+        // a dancing block moves its upper-left point in place, so it gets a point of its own
+        this.rect = new Rectangle(new Point(upperLeft.getX(), upperLeft.getY()), width, height);
         this.fill = fills;
         this.lives = lives;
+        this.random = null;
     }
 
     /**
@@ -131,20 +152,38 @@ public class Block implements Collidable, Sprite, HitNotifier {
      * @return the new velocity expected after the hit (inversion of the X or the Y axis' velocity)
      */
     public Velocity hit(Ball hitter, Point collisionPoint, Velocity currentVelocity) {
-        Velocity newVelocity = currentVelocity;
+        return this.hit(hitter, collisionPoint, currentVelocity, new Velocity(0, 0));
+    }
+
+    /**
+     * hit: Notify the object that we collided with it with a given velocity at some point on it.
+     * Check which side of the object was hit, and write the new velocity expected after the hit into a holder.
+     *
+     * @param hitter          the ball
+     * @param collisionPoint  the collision point
+     * @param currentVelocity the current velocity of the ball
+     * @param out             the velocity to write into (it may be currentVelocity itself)
+     * @return the holder
+     */
+    public Velocity hit(Ball hitter, Point collisionPoint, Velocity currentVelocity, Velocity out) {
         double speedX = currentVelocity.getDX();
         double speedY = currentVelocity.getDY();
+        out.set(speedX, speedY);
 
-        // notify the listener about the hit
+        // publish the hit to the bus (with the hit points before the hit), then notify the listeners about it
+        if (this.eventBus != null) {
+            HitType type = this.isBallKiller ? HitType.BALL_LOST : HitType.BLOCK_HIT;
+            this.eventBus.publish(type, this, hitter.getHandle(), this.lives);
+        }
         this.notifyHit(hitter);
 
-        List<Integer> collisionSide = this.rect.pointOnSide(collisionPoint);
-        int collidesOn1 = collisionSide.get(0), collidesOn2;
-        collidesOn2 = (collisionSide.size() > 1) ? collisionSide.get(1) : collisionSide.get(0);
+        int collisionSides = this.rect.sidesOf(collisionPoint);
+        int collidesOn1 = Rectangle.firstSide(collisionSides);
+        int collidesOn2 = Rectangle.secondSide(collisionSides);
 
         // if the ball is going to collide from below or above
         if ((collidesOn2 == COMING_FROM_RIGHT && speedX <= 0) || (collidesOn2 == COMING_FROM_LEFT && speedX >= 0)) {
-            newVelocity = currentVelocity.inverseSpeedX();
+            out.set(-speedX, speedY);
 
             /**
              * Special case:
@@ -154,17 +193,18 @@ public class Block implements Collidable, Sprite, HitNotifier {
              * This will let us in the next if statement, that checks if the ball is going to collide from the left
              * or right.
              */
-            if (currentVelocity.getDX() == 0) {
+            if (speedX == 0) {
                 collidesOn1 = collidesOn2 - 2;
             }
         }
 
         // if the ball is going to collide from the left or right
         if ((collidesOn1 == COMING_FROM_BELOW && speedY <= 0) || (collidesOn1 == COMING_FROM_ABOVE && speedY >= 0)) {
-            newVelocity = currentVelocity.inverseSpeedY();
+            // both inversions start from the current velocity, so the latter one wins
+            out.set(speedX, -speedY);
         }
 
-        return newVelocity;
+        return out;
     }
 
     /**
@@ -188,25 +228,9 @@ public class Block implements Collidable, Sprite, HitNotifier {
             surface.fillRectangle(upperLeftX, upperLeftY, width, height);
 
         } else {
-            // otherwise, it's an image
-            Image img = null;
-
-            // if the image hasn't been loaded yet
-            if (this.loadedImage == null || this.loadedImageIndex != this.lives) {
-                try {
-                    String filename = ((arkanoid.sprites.Fill.Image) filling).getImage();
-                    img = ImageIO.read(ClassLoader.getSystemClassLoader().getResourceAsStream(PATH + filename));
-                    this.loadedImage = img;
-                    this.loadedImageIndex = this.lives;
-                } catch (IOException e) {
-                    // error while loading image
-                    System.err.println(e.getMessage());
-                    System.exit(-1);
-                }
-            } else {
-                // use the already loaded image
-                img = this.loadedImage;
-            }
+            // otherwise, it's an image (decoded only once, by the image cache)
+            String filename = ((arkanoid.sprites.Fill.Image) filling).getImage();
+            Image img = ImageCache.get(filename);
 
             // draw the image on a DrawSurface
             surface.drawImage(upperLeftX, upperLeftY, img);
@@ -232,19 +256,71 @@ public class Block implements Collidable, Sprite, HitNotifier {
         }
     }
 
+    /**
+     * reportDamage: report where the block was drawn last time and where it's going to be drawn now, if it moved or
+     * its look changed (e.g. it lost a filling).
+     *
+     * @param tracker the tracker of the damaged regions
+     * @param alpha   ignored, since blocks are drawn where they are
+     */
+    public void reportDamage(DamageTracker tracker, double alpha) {
+        int width = (int) this.rect.getWidth();
+        int height = (int) this.rect.getHeight();
+
+        // an image is drawn in its own size, which may be larger than the block
+        Fill filling = this.fill.get(this.fill.size() - 1);
+        if (!filling.isColor()) {
+            Image img = ImageCache.get(((arkanoid.sprites.Fill.Image) filling).getImage());
+            width = Math.max(width, img.getWidth(null));
+            height = Math.max(height, img.getHeight(null));
+        }
+
+        // the outline is drawn one pixel beyond the rectangle
+        this.drawn.update(tracker, (int) this.rect.getUpperLeft().getX(), (int) this.rect.getUpperLeft().getY(),
+                width + 1, height + 1, this.fill.size() * 31 + this.lives);
+    }
+
+    /**
+     * reportRemoval: report where the block was drawn last time.
+     *
+     * @param tracker the tracker of the damaged regions
+     */
+    public void reportRemoval(DamageTracker tracker) {
+        this.drawn.remove(tracker);
+    }
+
+    /**
+     * isStatic: tell whether the block is expected to look the same in every frame.
+     * Only unremovable blocks (like the borders and the menu) are, as long as they don't dance.
+     *
+     * @return true if the block is unremovable and doesn't move; false otherwise
+     */
+    public boolean isStatic() {
+        return this.unremovable && !this.isMoving();
+    }
+
     /**
      * generateRandomBlock: generate a random block.
      *
      * @return a random block
      */
     public static Block generateRandomBlock() {
-        Random rand = new Random();
+        return generateRandomBlock(RandomSource.current());
+    }
+
+    /**
+     * generateRandomBlock: generate a random block.
+     *
+     * @param rand the source of randomness
+     * @return a random block
+     */
+    public static Block generateRandomBlock(RandomSource rand) {
 
         int upperLeftX = rand.nextInt(WINDOW_WIDTH);
         int upperLeftY = rand.nextInt(WINDOW_HEIGHT);
         int width = rand.nextInt(WINDOW_WIDTH - upperLeftX);
         int height = rand.nextInt(WINDOW_HEIGHT - upperLeftY);
-        Color randColor = ColorEffects.getRandomColor();
+        Color randColor = ColorEffects.getRandomColor(rand);
 
         Block block = new Block(new Point(upperLeftX, upperLeftY), width, height, randColor, BLOCK_LIVES);
         return block;
@@ -261,8 +337,9 @@ public class Block implements Collidable, Sprite, HitNotifier {
             double width = this.rect.getWidth();
             double height = this.rect.getHeight();
 
-            Random rand = new Random();
-            double change = rand.nextInt(3) - rand.nextInt(3);
+            // a shared block never keeps a thread's generator, since the generators aren't synchronized
+            RandomSource dance = this.random != null ? this.random : RandomSource.current();
+            double change = dance.nextInt(3) - dance.nextInt(3);
             double newX = x + change;
             double newY = y + change;
 
@@ -274,28 +351,41 @@ public class Block implements Collidable, Sprite, HitNotifier {
                 newY = y - change;
             }
 
-            this.rect.setUpperLeft(new Point(newX, newY));
+            this.rect.getUpperLeft().setX(newX);
+            this.rect.getUpperLeft().setY(newY);
+            if (this.moves != null) {
+                this.moves.increase(1);
+            }
         }
     }
 
     /**
-     * addToGame: add the block to a gameLevel's sprites collection and to the collidables.
+     * addToGame: add the block to a simulation's sprites collection and to the collidables.
      *
-     * @param gameLevel the gameLevel to add the block to
+     * @param simulation the simulation to add the block to
      */
-    public void addToGame(GameLevel gameLevel) {
-        gameLevel.addSprite(this);
-        gameLevel.addCollidable(this);
+    public void addToGame(Simulation simulation) {
+        simulation.addSprite(this);
+        simulation.addCollidable(this);
     }
 
     /**
-     * removeFromGame: remove the block from a gameLevel's sprites collection and collidables lists.
+     * removeFromGame: remove the block from a simulation's sprites collection and collidables lists.
      *
-     * @param gameLevel the gameLevel to remove the block from
+     * @param simulation the simulation to remove the block from
      */
-    public void removeFromGame(GameLevel gameLevel) {
-        gameLevel.removeSprite(this);
-        gameLevel.removeCollidable(this);
+    public void removeFromGame(Simulation simulation) {
+        simulation.removeSprite(this);
+        simulation.removeCollidable(this);
+    }
+
+    /**
+     * setEventBus: set the bus that the block's hits are published to.
+     *
+     * @param bus the bus, or null to publish nothing
+     */
+    public void setEventBus(HitEventBus bus) {
+        this.eventBus = bus;
     }
 
     /**
@@ -322,11 +412,14 @@ public class Block implements Collidable, Sprite, HitNotifier {
      * @param hitter the ball that hit
      */
     private void notifyHit(Ball hitter) {
-        // make a copy of the hitListeners before iterating over them
-        List<HitListener> listeners = new ArrayList<>(this.hitListeners);
+        // copy the hitListeners before iterating over them (into the same array every time, unless it's too short)
+        int listenersNum = this.hitListeners.size();
+        HitListener[] listeners = this.hitListeners.toArray(this.notified);
+        this.notified = listeners;
+
         // notify all listeners about a hit event:
-        for (HitListener hl : listeners) {
-            hl.hitEvent(this, hitter);
+        for (int i = 0; i < listenersNum; i++) {
+            listeners[i].hitEvent(this, hitter);
         }
     }
 
@@ -393,6 +486,15 @@ public class Block implements Collidable, Sprite, HitNotifier {
         this.stroke = color;
     }
 
+    /**
+     * getStroke: gets the block's stroke color.
+     *
+     * @return the stroke's color (null if there's no stroke)
+     */
+    public Color getStroke() {
+        return this.stroke;
+    }
+
     /**
      * addFill: adds a filling to the fill array.
      *
@@ -409,9 +511,39 @@ public class Block implements Collidable, Sprite, HitNotifier {
         this.fill.remove(this.fill.size() - 1);
     }
 
+    /**
+     * getFills: get the block's fillings (the last one is the one that is drawn).
+     *
+     * @return the block's fillings
+     */
+    public List<Fill> getFills() {
+        return this.fill;
+    }
+
+    /**
+     * setRandom: set the source of randomness of the block's dance, e.g. a seeded one that makes the dance the same
+     * every time.
+     *
+     * @param rand the source of randomness (null for the unseeded source of the thread that makes the block dance)
+     */
+    public void setRandom(RandomSource rand) {
+        this.random = rand;
+    }
+
     @Override
     public void letsDance() {
         this.isDancer = !this.isDancer;
     }
 
+    @Override
+    public boolean isMoving() {
+        // only removable blocks actually dance
+        return this.isDancer && !this.unremovable;
+    }
+
+    @Override
+    public void setMoveCounter(Counter counter) {
+        this.moves = counter;
+    }
+
 }
@@ -2,6 +2,7 @@ package arkanoid.sprites;
 
 import arkanoid.geometry.Point;
 import arkanoid.geometry.Rectangle;
+import arkanoid.util.Counter;
 import arkanoid.util.Velocity;
 import biuoop.DrawSurface;
 
@@ -11,7 +12,7 @@ import biuoop.DrawSurface;
  * Collidable interface represents all objects that can be collided with.
  *
  * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
- * @version 1.0.2
+ * @version 1.0.4
  * @since 11 May 2019
  */
 public interface Collidable {
@@ -34,6 +35,22 @@ public interface Collidable {
      */
     Velocity hit(Ball hitter, Point collisionPoint, Velocity currentVelocity);
 
+    /**
+     * Notifies the collidable object that we collided with it with a given velocity at some point on it, and write the
+     * new velocity expected after the hit into a holder instead of returning a new one.
+     * The holder may be the current velocity itself. The collidable doesn't keep the point or the velocities after the
+     * call, so the ball can reuse them on every hit.
+     *
+     * @param hitter          the ball that hits
+     * @param collisionPoint  the collision point
+     * @param currentVelocity the current velocity of the ball
+     * @param out             the velocity to write the new velocity into
+     * @return the holder
+     */
+    default Velocity hit(Ball hitter, Point collisionPoint, Velocity currentVelocity, Velocity out) {
+        return out.copyFrom(this.hit(hitter, collisionPoint, currentVelocity));
+    }
+
     /**
      * drawOn: draw the collidable on a given surface.
      *
@@ -59,4 +76,20 @@ public interface Collidable {
      * makes it dance.
      */
     void letsDance();
+
+    /**
+     * isMoving: tell whether the collidable may change its position from one frame to another.
+     *
+     * @return whether the collidable may move or not
+     */
+    boolean isMoving();
+
+    /**
+     * setMoveCounter: set the counter that the collidable increases whenever it moves, so whoever indexes it (see
+     * GameEnvironment.refitIfMoved) knows when it must be re-indexed. A collidable that never moves ignores it.
+     *
+     * @param moves the counter of the moves (null counts nothing)
+     */
+    default void setMoveCounter(Counter moves) {
+    }
 }
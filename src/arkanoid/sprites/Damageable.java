@@ -0,0 +1,42 @@
+package arkanoid.sprites;
+
+import arkanoid.game.render.DamageTracker;
+
+/**
+ * Interface Name: Damageable.
+ * <p>
+ * Damageable interface is a sprite that knows which regions of the screen its drawing covers, so only the regions
+ * that changed are repainted. Sprites that are not damageable are repainted with the whole screen.
+ * A static sprite is drawn once into the static layer, and is drawn again only when it reports that it changed.
+ *
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.1
+ * @since 18 October 2026
+ */
+public interface Damageable extends Sprite {
+
+    /**
+     * reportDamage: report the regions that must be repainted before the sprite is drawn again: where it was drawn
+     * last time and where it's going to be drawn now - but only if they're different (or it was never drawn).
+     * The sprite assumes it's going to be drawn where it reported.
+     *
+     * @param tracker the tracker of the damaged regions
+     * @param alpha   where in between the last two ticks the sprite is going to be drawn (see InterpolatedSprite)
+     */
+    void reportDamage(DamageTracker tracker, double alpha);
+
+    /**
+     * reportRemoval: report the region where the sprite was drawn last time, since it's not going to be drawn anymore.
+     *
+     * @param tracker the tracker of the damaged regions
+     */
+    void reportRemoval(DamageTracker tracker);
+
+    /**
+     * isStatic: tell whether the sprite is expected to look the same in every frame (it may still change once in a
+     * while, e.g. when the blocks start dancing - but then it has to report its damage).
+     *
+     * @return true if the sprite can be drawn in the static layer; false otherwise
+     */
+    boolean isStatic();
+}
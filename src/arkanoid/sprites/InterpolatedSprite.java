@@ -0,0 +1,24 @@
+package arkanoid.sprites;
+
+import biuoop.DrawSurface;
+
+/**
+ * Interface Name: InterpolatedSprite.
+ * <p>
+ * InterpolatedSprite interface represents sprites that move, and can be drawn in between their position before the
+ * last time that passed and their current position.
+ *
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.0
+ * @since 18 October 2026
+ */
+public interface InterpolatedSprite extends Sprite {
+
+    /**
+     * drawOn: draw the sprite on a given surface, in between its previous and current positions.
+     *
+     * @param surface the surface to draw the sprite on
+     * @param alpha   0 draws the sprite at its previous position, 1 at its current position
+     */
+    void drawOn(DrawSurface surface, double alpha);
+}
@@ -1,6 +1,9 @@
 package arkanoid.sprites;
 
 import arkanoid.game.animation.GameLevel;
+import arkanoid.game.render.DamageTracker;
+import arkanoid.game.render.DrawnRegion;
+import arkanoid.game.simulation.Simulation;
 import biuoop.DrawSurface;
 
 import java.awt.Color;
@@ -11,15 +14,18 @@ import java.awt.Color;
  * This class indicates the level name and shows it on the screen.
  *
  * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
- * @version 1.0.0
+ * @version 1.0.2
  * @since 25 May 2019
  */
-public class LevelIndicator implements Sprite {
+public class LevelIndicator implements Damageable {
     public static final Color BG_COLOR = Color.WHITE;
     public static final Color TEXT_COLOR = Color.BLACK;
     public static final int THICKNESS = GameLevel.BORDER_THICKNESS;
+    public static final double TEXT_X = GameLevel.WINDOW_WIDTH * 0.65;
 
     private String levelName;
+    // where the text was drawn last time
+    private final DrawnRegion drawn = new DrawnRegion();
 
     /**
      * Constructor.
@@ -38,8 +44,37 @@ public class LevelIndicator implements Sprite {
     public void drawOn(DrawSurface d) {
         double fontSize = THICKNESS * 0.6;
         d.setColor(TEXT_COLOR);
-        double textX = GameLevel.WINDOW_WIDTH * 0.65;
-        d.drawText((int) textX, THICKNESS / 2 + 5, "Level: " + this.levelName, (int) fontSize);
+        d.drawText((int) TEXT_X, THICKNESS / 2 + 5, "Level: " + this.levelName, (int) fontSize);
+    }
+
+    /**
+     * reportDamage: report where the text is going to be drawn, if it wasn't drawn yet (the level name never
+     * changes).
+     *
+     * @param tracker the tracker of the damaged regions
+     * @param alpha   ignored, since the text doesn't move
+     */
+    public void reportDamage(DamageTracker tracker, double alpha) {
+        // the text may take the rest of the menu bar
+        this.drawn.update(tracker, (int) TEXT_X, 0, GameLevel.WINDOW_WIDTH - (int) TEXT_X, THICKNESS, 0);
+    }
+
+    /**
+     * reportRemoval: report where the text was drawn last time.
+     *
+     * @param tracker the tracker of the damaged regions
+     */
+    public void reportRemoval(DamageTracker tracker) {
+        this.drawn.remove(tracker);
+    }
+
+    /**
+     * isStatic: tell whether the indicator is expected to look the same in every frame.
+     *
+     * @return true, since the level name never changes
+     */
+    public boolean isStatic() {
+        return true;
     }
 
     /**
@@ -54,7 +89,7 @@ public class LevelIndicator implements Sprite {
      *
      * @param g the game to add the sprite to
      */
-    public void addToGame(GameLevel g) {
+    public void addToGame(Simulation g) {
         g.addSprite(this);
     }
 }
@@ -1,6 +1,6 @@
 package arkanoid.sprites;
 
-import arkanoid.game.animation.GameLevel;
+import arkanoid.game.simulation.Simulation;
 import arkanoid.geometry.Line;
 import biuoop.DrawSurface;
 
@@ -51,9 +51,9 @@ public class LineSprite implements Sprite {
     /**
      * addToGame: add a sprite to the game.
      *
-     * @param gameLevel the game to add the sprite to
+     * @param simulation the game to add the sprite to
      */
-    public void addToGame(GameLevel gameLevel) {
-        gameLevel.addSprite(this);
+    public void addToGame(Simulation simulation) {
+        simulation.addSprite(this);
     }
 }
@@ -1,6 +1,9 @@
 package arkanoid.sprites;
 
 import arkanoid.game.animation.GameLevel;
+import arkanoid.game.render.DamageTracker;
+import arkanoid.game.render.DrawnRegion;
+import arkanoid.game.simulation.Simulation;
 import biuoop.DrawSurface;
 import arkanoid.util.Counter;
 
@@ -12,15 +15,18 @@ import java.awt.Color;
  * This class can indicate the lives left and show it on the screen.
  *
  * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
- * @version 1.0.0
+ * @version 1.0.2
  * @since 12 May 2019
  */
-public class LivesIndicator implements Sprite {
+public class LivesIndicator implements Damageable {
     public static final Color BG_COLOR = Color.WHITE;
     public static final Color TEXT_COLOR = Color.BLACK;
     public static final int THICKNESS = GameLevel.BORDER_THICKNESS;
+    public static final double TEXT_X = GameLevel.WINDOW_WIDTH * 0.12;
 
     private Counter lives;
+    // where the text was drawn last time
+    private final DrawnRegion drawn = new DrawnRegion();
 
     /**
      * Constructor.
@@ -39,8 +45,36 @@ public class LivesIndicator implements Sprite {
     public void drawOn(DrawSurface d) {
         double fontSize = THICKNESS * 0.6;
         d.setColor(TEXT_COLOR);
-        double textX = GameLevel.WINDOW_WIDTH * 0.12;
-        d.drawText((int) textX, THICKNESS / 2 + 5, "Lives: " + lives.getValue(), (int) fontSize);
+        d.drawText((int) TEXT_X, THICKNESS / 2 + 5, "Lives: " + lives.getValue(), (int) fontSize);
+    }
+
+    /**
+     * reportDamage: report where the text is drawn, if the lives has changed since it was drawn last time.
+     *
+     * @param tracker the tracker of the damaged regions
+     * @param alpha   ignored, since the text doesn't move
+     */
+    public void reportDamage(DamageTracker tracker, double alpha) {
+        // the text may take the rest of the menu bar
+        this.drawn.update(tracker, (int) TEXT_X, 0, GameLevel.WINDOW_WIDTH - (int) TEXT_X, THICKNESS, this.lives.getValue());
+    }
+
+    /**
+     * reportRemoval: report where the text was drawn last time.
+     *
+     * @param tracker the tracker of the damaged regions
+     */
+    public void reportRemoval(DamageTracker tracker) {
+        this.drawn.remove(tracker);
+    }
+
+    /**
+     * isStatic: tell whether the indicator is expected to look the same in every frame.
+     *
+     * @return false, since the lives change during the game
+     */
+    public boolean isStatic() {
+        return false;
     }
 
     /**
@@ -55,7 +89,7 @@ public class LivesIndicator implements Sprite {
      *
      * @param g the game to add the sprite to
      */
-    public void addToGame(GameLevel g) {
+    public void addToGame(Simulation g) {
         g.addSprite(this);
     }
 }
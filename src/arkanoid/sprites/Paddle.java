@@ -1,26 +1,33 @@
 package arkanoid.sprites;
 
 import arkanoid.game.animation.GameLevel;
+import arkanoid.game.render.DamageTracker;
+import arkanoid.game.render.DrawnRegion;
+import arkanoid.game.simulation.InputController;
+import arkanoid.game.simulation.InputSource;
+import arkanoid.game.simulation.PaddleController;
+import arkanoid.game.simulation.Simulation;
 import arkanoid.geometry.Point;
 import arkanoid.geometry.Rectangle;
+import arkanoid.util.Counter;
 import arkanoid.util.Velocity;
-import biuoop.KeyboardSensor;
 import biuoop.DrawSurface;
 
 import java.awt.Color;
-import java.util.List;
 
 /**
  * Class Name: Paddle.
  * <p>
  * Paddle class represents a paddle in the game. It implements the collidable interface.
  * This class can be hit by other objects, be moved right and left on the screen, etc.
+ * It moves by updating its upper-left point in place, so moving it every tick creates no garbage.
+ * It's driven by a controller, which decides every tick where it moves - the player's keys or a bot.
  *
  * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
- * @version 1.0.2
+ * @version 1.0.10
  * @since 11 May 2019
  */
-public class Paddle implements Sprite, Collidable {
+public class Paddle implements InterpolatedSprite, Damageable, Collidable {
     public static final int WINDOW_WIDTH = Ball.WINDOW_WIDTH;
     public static final int WINDOW_HEIGHT = Ball.WINDOW_HEIGHT;
     public static final int COMING_FROM_ABOVE = Rectangle.COMING_FROM_ABOVE;
@@ -35,24 +42,49 @@ public class Paddle implements Sprite, Collidable {
     public static final int PADDLE_DEFAULT_WIDTH = 80;
     public static final int PADDLE_DEFAULT_HEIGHT = 20;
 
-    private biuoop.KeyboardSensor keyboard;
+    private PaddleController controller;
+    // the world the paddle was added to
+    private Simulation world;
     private Rectangle rect;
     private Velocity hitterVelocity;
     private int paddleSpeed;
     private Color color;
-    private boolean verticalMovement = false;
+    // the upper-left point before the last time that passed (for drawing in between ticks)
+    private double previousX;
+    private double previousY;
+    // counts the paddle's moves for the index of the moving collidables (null counts nothing)
+    private Counter moves = null;
+    // where the paddle was drawn last time
+    private final DrawnRegion drawn = new DrawnRegion();
 
     /**
-     * Constructor.
+     * Constructor #1: a paddle that is driven by the player's keys.
      *
-     * @param keyboard the keyboard sensor object
+     * @param input    the source of the player's input
      * @param rect     the rectangle shape of the paddle
      * @param speed    the paddle's speed
      * @param color    the paddle's color
      */
-    public Paddle(KeyboardSensor keyboard, Rectangle rect, int speed, Color color) {
-        this.keyboard = keyboard;
-        this.rect = rect;
+    public Paddle(InputSource input, Rectangle rect, int speed, Color color) {
+        this(new InputController(input), rect, speed, color);
+    }
+
+    /**
+     * Constructor #2.
+     *
+     * @param paddleController whoever drives the paddle
+     * @param rect             the rectangle shape of the paddle
+     * @param speed            the paddle's speed
+     * @param color            the paddle's color
+     */
+    public Paddle(PaddleController paddleController, Rectangle rect, int speed, Color color) {
+        this.controller = paddleController;
+        this.world = null;
+        // the paddle moves its upper-left point in place, so it gets a point of its own
+        this.rect = new Rectangle(new Point(rect.getUpperLeft().getX(), rect.getUpperLeft().getY()), rect.getWidth(),
+                rect.getHeight());
+        this.previousX = rect.getUpperLeft().getX();
+        this.previousY = rect.getUpperLeft().getY();
         this.paddleSpeed = speed;
         this.color = color;
     }
@@ -65,12 +97,11 @@ public class Paddle implements Sprite, Collidable {
 
         // check if the paddle goes beyond the right border
         if (upperLeft.getX() - this.paddleSpeed < BORDER_THICKNESS) {
-            upperLeft = new Point(BORDER_THICKNESS, upperLeft.getY());
+            upperLeft.setX(BORDER_THICKNESS);
         } else {
-            upperLeft = new Point(upperLeft.getX() - this.paddleSpeed, upperLeft.getY());
+            upperLeft.setX(upperLeft.getX() - this.paddleSpeed);
         }
-
-        this.rect.setUpperLeft(upperLeft);
+        this.countMove();
     }
 
     /**
@@ -82,12 +113,11 @@ public class Paddle implements Sprite, Collidable {
 
         // if the paddle goes beyond the right border, attach it to the border
         if (upperLeft.getX() + width + this.paddleSpeed > WINDOW_WIDTH - BORDER_THICKNESS) {
-            upperLeft = new Point(WINDOW_WIDTH - BORDER_THICKNESS - width, upperLeft.getY());
+            upperLeft.setX(WINDOW_WIDTH - BORDER_THICKNESS - width);
         } else {
-            upperLeft = new Point(upperLeft.getX() + this.paddleSpeed, upperLeft.getY());
+            upperLeft.setX(upperLeft.getX() + this.paddleSpeed);
         }
-
-        this.rect.setUpperLeft(upperLeft);
+        this.countMove();
     }
 
     /**
@@ -99,12 +129,11 @@ public class Paddle implements Sprite, Collidable {
 
         // check if the paddle goes beyond the bottom border
         if (upperLeft.getY() + height + this.paddleSpeed > WINDOW_HEIGHT - BORDER_THICKNESS) {
-            upperLeft = new Point(upperLeft.getX(), WINDOW_HEIGHT - BORDER_THICKNESS - height);
+            upperLeft.setY(WINDOW_HEIGHT - BORDER_THICKNESS - height);
         } else {
-            upperLeft = new Point(upperLeft.getX(), upperLeft.getY() + this.paddleSpeed);
+            upperLeft.setY(upperLeft.getY() + this.paddleSpeed);
         }
-
-        this.rect.setUpperLeft(upperLeft);
+        this.countMove();
     }
 
     /**
@@ -115,41 +144,98 @@ public class Paddle implements Sprite, Collidable {
 
         // check if the paddle goes beyond the upper border
         if (upperLeft.getY() - this.paddleSpeed < 2 * BORDER_THICKNESS) {
-            upperLeft = new Point(upperLeft.getX(), 2 * BORDER_THICKNESS);
+            upperLeft.setY(2 * BORDER_THICKNESS);
         } else {
-            upperLeft = new Point(upperLeft.getX(), upperLeft.getY() - this.paddleSpeed);
+            upperLeft.setY(upperLeft.getY() - this.paddleSpeed);
         }
+        this.countMove();
+    }
 
-        this.rect.setUpperLeft(upperLeft);
+    /**
+     * placeAt: put the paddle at a new position right away (e.g. when it's recentered), rather than moving it there.
+     *
+     * @param upperLeft the paddle's new upper-left point
+     */
+    public void placeAt(Point upperLeft) {
+        this.rect.getUpperLeft().copyFrom(upperLeft);
+        this.previousX = upperLeft.getX();
+        this.previousY = upperLeft.getY();
+        this.countMove();
     }
 
     /**
-     * timePassed: check if the paddle should move to the left/right, according to the key that has been pressed.
+     * countMove: tell the move counter (if any) that the paddle moved.
+     */
+    private void countMove() {
+        if (this.moves != null) {
+            this.moves.increase(1);
+        }
+    }
+
+    /**
+     * timePassed: ask the controller where the paddle should move, and move it.
      */
     public void timePassed() {
-        if (keyboard.isPressed(KeyboardSensor.RIGHT_KEY)) {
-            moveRight();
-        } else if (keyboard.isPressed(KeyboardSensor.LEFT_KEY)) {
-            moveLeft();
-        } else if (keyboard.isPressed(KeyboardSensor.UP_KEY) && this.verticalMovement) {
-            moveUp();
-        } else if (keyboard.isPressed(KeyboardSensor.DOWN_KEY) && this.verticalMovement) {
-            moveDown();
-        } else if (keyboard.isPressed("v")) {
-            // Easter egg: enable vertical movement of paddle!
-            this.verticalMovement = true;
+        // remember where the paddle was before it moves
+        this.previousX = this.rect.getUpperLeft().getX();
+        this.previousY = this.rect.getUpperLeft().getY();
+
+        switch (this.controller.nextMove(this.world, this)) {
+            case RIGHT:
+                moveRight();
+                break;
+            case LEFT:
+                moveLeft();
+                break;
+            case UP:
+                moveUp();
+                break;
+            case DOWN:
+                moveDown();
+                break;
+            default:
+                // stay in place
+                break;
         }
     }
 
+    /**
+     * getController: get whoever drives the paddle.
+     *
+     * @return the paddle's controller
+     */
+    public PaddleController getController() {
+        return this.controller;
+    }
+
+    /**
+     * getSpeed: get the distance the paddle moves in a single tick.
+     *
+     * @return the paddle's speed
+     */
+    public int getSpeed() {
+        return this.paddleSpeed;
+    }
+
     /**
      * drawOn: draw the paddle on the screen.
      *
      * @param surface the surface to draw on
      */
     public void drawOn(DrawSurface surface) {
+        this.drawOn(surface, 1);
+    }
+
+    /**
+     * drawOn: draw the paddle on the screen, in between its previous and current positions.
+     *
+     * @param surface the surface to draw on
+     * @param alpha   0 draws the paddle at its previous position, 1 at its current position
+     */
+    public void drawOn(DrawSurface surface, double alpha) {
 
-        int upperLeftX = (int) this.rect.getUpperLeft().getX();
-        int upperLeftY = (int) this.rect.getUpperLeft().getY();
+        int upperLeftX = (int) (this.previousX + (this.rect.getUpperLeft().getX() - this.previousX) * alpha);
+        int upperLeftY = (int) (this.previousY + (this.rect.getUpperLeft().getY() - this.previousY) * alpha);
         int width = (int) this.rect.getWidth();
         int height = (int) this.rect.getHeight();
 
@@ -161,6 +247,39 @@ public class Paddle implements Sprite, Collidable {
         surface.drawRectangle(upperLeftX, upperLeftY, width, height);
     }
 
+    /**
+     * reportDamage: report where the paddle was drawn last time and where it's going to be drawn now, if it moved.
+     *
+     * @param tracker the tracker of the damaged regions
+     * @param alpha   0 draws the paddle at its previous position, 1 at its current position
+     */
+    public void reportDamage(DamageTracker tracker, double alpha) {
+        int upperLeftX = (int) (this.previousX + (this.rect.getUpperLeft().getX() - this.previousX) * alpha);
+        int upperLeftY = (int) (this.previousY + (this.rect.getUpperLeft().getY() - this.previousY) * alpha);
+
+        // the outline is drawn one pixel beyond the rectangle
+        this.drawn.update(tracker, upperLeftX, upperLeftY, (int) this.rect.getWidth() + 1,
+                (int) this.rect.getHeight() + 1, this.color.getRGB());
+    }
+
+    /**
+     * reportRemoval: report where the paddle was drawn last time.
+     *
+     * @param tracker the tracker of the damaged regions
+     */
+    public void reportRemoval(DamageTracker tracker) {
+        this.drawn.remove(tracker);
+    }
+
+    /**
+     * isStatic: tell whether the paddle is expected to look the same in every frame.
+     *
+     * @return false, since it moves whenever the player moves it
+     */
+    public boolean isStatic() {
+        return false;
+    }
+
     /**
      * getCollisionRectangle: return the rectangle shape of the paddle.
      *
@@ -180,24 +299,40 @@ public class Paddle implements Sprite, Collidable {
      * @return the new velocity expected after the hit
      */
     public Velocity hit(Ball hitter, Point collisionPoint, Velocity currentVelocity) {
-        Velocity newVelocity = currentVelocity;
+        return this.hit(hitter, collisionPoint, currentVelocity, new Velocity(0, 0));
+    }
+
+    /**
+     * hit: Notify the object that we collided with it with a given velocity at some point on it.
+     * check which region of the paddle was hit, and write a velocity accordingly into a holder.
+     *
+     * @param hitter          the ball
+     * @param collisionPoint  the collision point
+     * @param currentVelocity the current velocity of the ball
+     * @param out             the velocity to write into (it may be currentVelocity itself)
+     * @return the holder
+     */
+    public Velocity hit(Ball hitter, Point collisionPoint, Velocity currentVelocity, Velocity out) {
         double speedX = currentVelocity.getDX();
         double speedY = currentVelocity.getDY();
 
         // if velocity of ball has already been assigned
         if (this.hitterVelocity != null) {
-            newVelocity = hitterVelocity;
+            out.copyFrom(this.hitterVelocity);
             this.hitterVelocity = null;
-            return newVelocity;
+            return out;
         }
 
-        List<Integer> collisionSide = this.rect.pointOnSide(collisionPoint);
-        int collidesOn1 = collisionSide.get(0), collidesOn2;
-        collidesOn2 = (collisionSide.size() > 1) ? collisionSide.get(1) : collisionSide.get(0);
+        double absSpeed = currentVelocity.getAbsSpeed();
+        out.set(speedX, speedY);
+
+        int collisionSides = this.rect.sidesOf(collisionPoint);
+        int collidesOn1 = Rectangle.firstSide(collisionSides);
+        int collidesOn2 = Rectangle.secondSide(collisionSides);
 
         // if the ball is going to collide from below or above
         if ((collidesOn2 == COMING_FROM_RIGHT && speedX <= 0) || (collidesOn2 == COMING_FROM_LEFT && speedX >= 0)) {
-            newVelocity = currentVelocity.inverseSpeedX();
+            out.set(-speedX, speedY);
 
             /**
              * Special case:
@@ -207,7 +342,7 @@ public class Paddle implements Sprite, Collidable {
              * This will let us in the next if statement, that checks if the ball is going to collide from the left
              * or right.
              */
-            if (currentVelocity.getDX() == 0) {
+            if (speedX == 0) {
                 collidesOn1 = collidesOn2 - 2;
             }
         }
@@ -216,10 +351,10 @@ public class Paddle implements Sprite, Collidable {
         if ((collidesOn1 == COMING_FROM_BELOW && speedY <= 0) || (collidesOn1 == COMING_FROM_ABOVE && speedY >= 0)) {
             double changeInAngle = this.getAngleByPointOnPaddle(collisionPoint);
             double newAngle = changeInAngle;
-            newVelocity = Velocity.fromAngleAndSpeed(newAngle, currentVelocity.getAbsSpeed());
+            Velocity.fromAngleAndSpeed(newAngle, absSpeed, out);
         }
 
-        return newVelocity;
+        return out;
     }
 
     /**
@@ -227,7 +362,8 @@ public class Paddle implements Sprite, Collidable {
      *
      * @param g the game to add the paddle to
      */
-    public void addToGame(GameLevel g) {
+    public void addToGame(Simulation g) {
+        this.world = g;
         g.addCollidable(this);
         g.addSprite(this);
     }
@@ -282,4 +418,15 @@ public class Paddle implements Sprite, Collidable {
         // nothing
     }
 
+    @Override
+    public boolean isMoving() {
+        // the paddle moves whenever the player wants it to
+        return true;
+    }
+
+    @Override
+    public void setMoveCounter(Counter counter) {
+        this.moves = counter;
+    }
+
 }
\ No newline at end of file
@@ -1,6 +1,6 @@
 package arkanoid.sprites;
 
-import arkanoid.game.animation.GameLevel;
+import arkanoid.game.simulation.Simulation;
 import biuoop.DrawSurface;
 
 /**
@@ -26,9 +26,9 @@ public interface Sprite {
     void timePassed();
 
     /**
-     * addToGame: add a sprite to the gameLevel.
+     * addToGame: add a sprite to the simulation.
      *
-     * @param gameLevel the gameLevel to add the sprite to
+     * @param simulation the simulation to add the sprite to
      */
-    void addToGame(GameLevel gameLevel);
+    void addToGame(Simulation simulation);
 }
@@ -1,6 +1,5 @@
 package arkanoid.util;
 
-import java.util.Random;
 import java.awt.Color;
 
 /**
@@ -10,7 +9,7 @@ import java.awt.Color;
  * For example, it can generate a random color from a list.
  *
  * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
- * @version 1.0.2
+ * @version 1.0.3
  * @since 11 May 2019
  */
 public class ColorEffects {
@@ -34,7 +33,16 @@ public class ColorEffects {
      * @return a random color
      */
     public static Color getRandomColor() {
-        Random rand = new Random();
+        return getRandomColor(RandomSource.current());
+    }
+
+    /**
+     * getRandomColor: get a random color from the list.
+     *
+     * @param rand the source of randomness
+     * @return a random color
+     */
+    public static Color getRandomColor(RandomSource rand) {
         return COLORS[rand.nextInt(COLORS.length)];
     }
 
@@ -45,12 +53,22 @@ public class ColorEffects {
      * @return a random color
      */
     public static Color getRandomColor(Color exclude) {
-        Random rand = new Random();
+        return getRandomColor(exclude, RandomSource.current());
+    }
+
+    /**
+     * getRandomColor: get a random color from the list, but with an exception.
+     *
+     * @param exclude a color to be excluded
+     * @param rand    the source of randomness
+     * @return a random color
+     */
+    public static Color getRandomColor(Color exclude, RandomSource rand) {
         Color randColor = COLORS[rand.nextInt(COLORS.length)];
 
         // if this color is excluded, fetch another one
         if (randColor == exclude) {
-            return getRandomColor(exclude);
+            return getRandomColor(exclude, rand);
         } else {
             return randColor;
         }
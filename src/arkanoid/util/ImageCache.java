@@ -0,0 +1,202 @@
+package arkanoid.util;
+
+import arkanoid.Ass7Game;
+import arkanoid.game.levels.LevelInformation;
+import arkanoid.sprites.Background;
+import arkanoid.sprites.Block;
+import arkanoid.sprites.Fill.Fill;
+import arkanoid.sprites.Sprite;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Class Name: ImageCache.
+ * <p>
+ * This class is a process-wide store of decoded images, keyed by their resource path.
+ * Every image is decoded once and converted to the screen's format (unless there's no screen), no matter how many
+ * blocks, backgrounds or menus draw it. When the images take more memory than the capacity, the least recently used
+ * ones are evicted.
+ *
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.0
+ * @since 18 October 2026
+ */
+public class ImageCache {
+    public static final String PATH = Ass7Game.PATH;
+    public static final long DEFAULT_CAPACITY_BYTES = 64L * 1024 * 1024;
+    public static final int BYTES_PER_PIXEL = 4;
+
+    // the images, from the least recently used to the most recently used
+    private static final Map<String, BufferedImage> IMAGES = new LinkedHashMap<>(16, 0.75f, true);
+    private static long capacity = DEFAULT_CAPACITY_BYTES;
+    private static long usedBytes = 0;
+
+    /**
+     * Constructor: it's a static store, so it has no instances.
+     */
+    private ImageCache() {
+    }
+
+    /**
+     * get: get a decoded image, and decode it if it's not in the cache.
+     *
+     * @param path the image's resource path
+     * @return the decoded image
+     */
+    public static synchronized Image get(String path) {
+        BufferedImage img = IMAGES.get(path);
+
+        if (img == null) {
+            img = toCompatible(load(path));
+            IMAGES.put(path, img);
+            usedBytes += sizeOf(img);
+            evict();
+        }
+
+        return img;
+    }
+
+    /**
+     * preload: decode all the images of a level (its blocks' fillings and its background) ahead of time.
+     *
+     * @param level the level
+     */
+    public static void preload(LevelInformation level) {
+        for (Block block : level.blocks()) {
+            preload(block);
+        }
+
+        Sprite bg = level.getBackground();
+        if (bg instanceof Background) {
+            for (Sprite sp : ((Background) bg).getSprites()) {
+                if (sp instanceof Block) {
+                    preload((Block) sp);
+                }
+            }
+        }
+    }
+
+    /**
+     * preload: decode all the images of a block's fillings ahead of time.
+     *
+     * @param block the block
+     */
+    private static void preload(Block block) {
+        for (Fill filling : block.getFills()) {
+            if (!filling.isColor()) {
+                get(((arkanoid.sprites.Fill.Image) filling).getImage());
+            }
+        }
+    }
+
+    /**
+     * setCapacity: set the maximum memory the images may take, and evict images if needed.
+     *
+     * @param bytes the capacity in bytes
+     */
+    public static synchronized void setCapacity(long bytes) {
+        capacity = bytes;
+        evict();
+    }
+
+    /**
+     * clear: remove all the images from the cache.
+     */
+    public static synchronized void clear() {
+        IMAGES.clear();
+        usedBytes = 0;
+    }
+
+    /**
+     * size: get the number of images in the cache.
+     *
+     * @return the number of images in the cache
+     */
+    public static synchronized int size() {
+        return IMAGES.size();
+    }
+
+    /**
+     * evict: remove the least recently used images until they fit the capacity.
+     * The most recently used image is never removed, even if it's larger than the whole capacity.
+     */
+    private static void evict() {
+        Iterator<BufferedImage> it = IMAGES.values().iterator();
+
+        while (usedBytes > capacity && IMAGES.size() > 1) {
+            usedBytes -= sizeOf(it.next());
+            it.remove();
+        }
+    }
+
+    /**
+     * load: decode an image from the resources.
+     *
+     * @param path the image's resource path
+     * @return the decoded image
+     */
+    private static BufferedImage load(String path) {
+        BufferedImage img = null;
+
+        try (InputStream ins = ClassLoader.getSystemClassLoader().getResourceAsStream(PATH + path)) {
+            if (ins == null) {
+                throw new IOException("Image not found: " + path);
+            }
+            img = ImageIO.read(ins);
+        } catch (IOException e) {
+            // error while loading image
+            System.err.println(e.getMessage());
+            System.exit(-1);
+        }
+
+        return img;
+    }
+
+    /**
+     * toCompatible: convert an image to the format of the screen, so drawing it doesn't need a conversion every time.
+     *
+     * @param img the decoded image
+     * @return the converted image (or the same image if there's no screen)
+     */
+    private static BufferedImage toCompatible(BufferedImage img) {
+        if (GraphicsEnvironment.isHeadless()) {
+            return img;
+        }
+
+        GraphicsConfiguration config = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice()
+                .getDefaultConfiguration();
+
+        // it's already in the screen's format
+        if (img.getColorModel().equals(config.getColorModel())) {
+            return img;
+        }
+
+        BufferedImage compatible = config.createCompatibleImage(img.getWidth(), img.getHeight(),
+                img.getTransparency());
+        Graphics2D g = compatible.createGraphics();
+        g.drawImage(img, 0, 0, null);
+        g.dispose();
+
+        return compatible;
+    }
+
+    /**
+     * sizeOf: estimate the memory an image takes.
+     *
+     * @param img the image
+     * @return the memory the image takes, in bytes
+     */
+    private static long sizeOf(BufferedImage img) {
+        return (long) img.getWidth() * img.getHeight() * BYTES_PER_PIXEL;
+    }
+}
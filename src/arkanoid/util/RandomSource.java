@@ -0,0 +1,104 @@
+package arkanoid.util;
+
+import java.util.SplittableRandom;
+
+/**
+ * Class Name: RandomSource
+ * <p>
+ * RandomSource is the source of the randomness of a world (e.g. the dancing blocks).
+ * It's built on a SplittableRandom, which is fast and isn't synchronized, so it's meant to be used by one thread.
+ * Parallel workers don't share a source: each of them gets its own stream by splitting the source (see split).
+ * With the same seed, a source gives the same numbers every time, so a seeded world plays the same way every time.
+ *
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.0
+ * @since 18 October 2026
+ */
+public class RandomSource {
+
+    // an unseeded source for every thread, for whoever wasn't given a source of its own
+    private static final ThreadLocal<RandomSource> CURRENT = new ThreadLocal<RandomSource>() {
+        @Override
+        protected RandomSource initialValue() {
+            return new RandomSource(new SplittableRandom());
+        }
+    };
+
+    private SplittableRandom random;
+
+    /**
+     * Constructor #1.
+     *
+     * @param seed the seed
+     */
+    public RandomSource(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    /**
+     * Constructor #2.
+     *
+     * @param generator the generator of the numbers
+     */
+    private RandomSource(SplittableRandom generator) {
+        this.random = generator;
+    }
+
+    /**
+     * current: get the unseeded source of the current thread.
+     *
+     * @return the source of the current thread
+     */
+    public static RandomSource current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * setSeed: seed the source again, so whoever holds it gets the numbers of the new seed from now on.
+     *
+     * @param seed the seed
+     */
+    public void setSeed(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * split: create a new source with a stream of its own, for a parallel worker.
+     * The new source is seeded by this source, so splitting a seeded source gives the same streams every time.
+     *
+     * @return the new source
+     */
+    public RandomSource split() {
+        return new RandomSource(this.random.split());
+    }
+
+    /**
+     * nextInt: get a random number from 0 (inclusive) to a bound (exclusive).
+     *
+     * @param bound the bound
+     * @return the random number
+     */
+    public int nextInt(int bound) {
+        return this.random.nextInt(bound);
+    }
+
+    /**
+     * nextInt: get a random number from an origin (inclusive) to a bound (exclusive).
+     *
+     * @param origin the origin
+     * @param bound  the bound
+     * @return the random number
+     */
+    public int nextInt(int origin, int bound) {
+        return this.random.nextInt(origin, bound);
+    }
+
+    /**
+     * nextDouble: get a random number from 0 (inclusive) to 1 (exclusive).
+     *
+     * @return the random number
+     */
+    public double nextDouble() {
+        return this.random.nextDouble();
+    }
+}
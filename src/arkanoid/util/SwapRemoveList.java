@@ -0,0 +1,133 @@
+package arkanoid.util;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Class Name: SwapRemoveList.
+ * <p>
+ * SwapRemoveList is a list of distinct entities (compared by identity) in which every entity knows its slot, so
+ * finding or removing an entity takes O(1): a removed entity's slot is taken by the last entity of the list.
+ * That's why the list keeps no order - removing an entity moves another one - so it's only for entities whose order
+ * doesn't matter (e.g. collidables, which break their ties by another order).
+ * Adding an entity that's already in the list does nothing.
+ *
+ * @param <T> the type of the entities
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.0
+ * @since 18 October 2026
+ */
+public class SwapRemoveList<T> extends AbstractList<T> {
+
+    private List<T> items;
+    // the slot of every entity in the items list
+    private Map<T, Integer> slots;
+
+    /**
+     * Constructor.
+     */
+    public SwapRemoveList() {
+        this.items = new ArrayList<>();
+        this.slots = new IdentityHashMap<>();
+    }
+
+    /**
+     * add: add an entity to the end of the list, unless it's already in the list.
+     *
+     * @param entity the entity
+     * @return true if it was added; false if it's already in the list
+     */
+    @Override
+    public boolean add(T entity) {
+        if (this.slots.containsKey(entity)) {
+            return false;
+        }
+
+        this.slots.put(entity, this.items.size());
+        this.items.add(entity);
+        this.modCount++;
+        return true;
+    }
+
+    /**
+     * remove: remove an entity, and move the last entity to its slot.
+     *
+     * @param o the entity
+     * @return true if it was removed; false if it isn't in the list
+     */
+    @Override
+    public boolean remove(Object o) {
+        Integer slot = this.slots.remove(o);
+
+        if (slot == null) {
+            return false;
+        }
+
+        // fill the hole with the last entity
+        T last = this.items.remove(this.items.size() - 1);
+        if (slot < this.items.size()) {
+            this.items.set(slot, last);
+            this.slots.put(last, slot);
+        }
+
+        this.modCount++;
+        return true;
+    }
+
+    /**
+     * contains: tell whether an entity is in the list.
+     *
+     * @param o the entity
+     * @return true if it's in the list; false otherwise
+     */
+    @Override
+    public boolean contains(Object o) {
+        return this.slots.containsKey(o);
+    }
+
+    /**
+     * indexOf: get the slot of an entity.
+     *
+     * @param o the entity
+     * @return the entity's slot, or -1 if it isn't in the list
+     */
+    @Override
+    public int indexOf(Object o) {
+        Integer slot = this.slots.get(o);
+        return (slot == null) ? -1 : slot;
+    }
+
+    /**
+     * get: get the entity in a slot.
+     *
+     * @param index the slot
+     * @return the entity
+     */
+    @Override
+    public T get(int index) {
+        return this.items.get(index);
+    }
+
+    /**
+     * size: get the number of entities.
+     *
+     * @return the number of entities
+     */
+    @Override
+    public int size() {
+        return this.items.size();
+    }
+
+    /**
+     * clear: remove all the entities.
+     */
+    @Override
+    public void clear() {
+        this.items.clear();
+        this.slots.clear();
+        this.modCount++;
+    }
+}
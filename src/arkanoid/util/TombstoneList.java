@@ -0,0 +1,150 @@
+package arkanoid.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Class Name: TombstoneList.
+ * <p>
+ * TombstoneList is an ordered list of distinct entities (compared by identity) in which every entity knows its slot,
+ * so removing an entity takes O(1): its slot is only marked as empty (a tombstone, i.e. null), and the empty slots
+ * are squeezed out all at once by compact - e.g. once per frame - which keeps the order of the rest.
+ * Since removing an entity never moves another one, the list can be walked over by slot while entities are removed
+ * (and added at its end), as long as compact isn't called in the middle of the walk.
+ * Adding an entity that's already in the list does nothing.
+ *
+ * @param <T> the type of the entities
+ * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
+ * @version 1.0.0
+ * @since 18 October 2026
+ */
+public class TombstoneList<T> {
+
+    private List<T> items;
+    // the slot of every entity in the items list
+    private Map<T, Integer> slots;
+    private int tombstones;
+    // a read-only view of the items
+    private List<T> view;
+
+    /**
+     * Constructor.
+     */
+    public TombstoneList() {
+        this.items = new ArrayList<>();
+        this.slots = new IdentityHashMap<>();
+        this.tombstones = 0;
+        this.view = Collections.unmodifiableList(this.items);
+    }
+
+    /**
+     * add: add an entity to the end of the list, unless it's already in the list.
+     *
+     * @param entity the entity
+     * @return true if it was added; false if it's already in the list
+     */
+    public boolean add(T entity) {
+        if (this.slots.containsKey(entity)) {
+            return false;
+        }
+
+        this.slots.put(entity, this.items.size());
+        this.items.add(entity);
+        return true;
+    }
+
+    /**
+     * remove: remove an entity, and leave a tombstone in its slot.
+     *
+     * @param entity the entity
+     * @return true if it was removed; false if it isn't in the list
+     */
+    public boolean remove(T entity) {
+        Integer slot = this.slots.remove(entity);
+
+        if (slot == null) {
+            return false;
+        }
+
+        this.items.set(slot, null);
+        this.tombstones++;
+        return true;
+    }
+
+    /**
+     * contains: tell whether an entity is in the list.
+     *
+     * @param entity the entity
+     * @return true if it's in the list; false otherwise
+     */
+    public boolean contains(T entity) {
+        return this.slots.containsKey(entity);
+    }
+
+    /**
+     * slotsNum: get the number of slots, including the tombstones.
+     *
+     * @return the number of slots
+     */
+    public int slotsNum() {
+        return this.items.size();
+    }
+
+    /**
+     * get: get the entity in a slot.
+     *
+     * @param slot the slot
+     * @return the entity, or null if the slot holds a tombstone
+     */
+    public T get(int slot) {
+        return this.items.get(slot);
+    }
+
+    /**
+     * size: get the number of entities (without the tombstones).
+     *
+     * @return the number of entities
+     */
+    public int size() {
+        return this.items.size() - this.tombstones;
+    }
+
+    /**
+     * compact: squeeze out the tombstones, and keep the order of the entities. It takes O(n), so it should be called
+     * once in a while (e.g. once per frame) and not on every removal.
+     */
+    public void compact() {
+        if (this.tombstones == 0) {
+            return;
+        }
+
+        int next = 0;
+        for (int i = 0; i < this.items.size(); i++) {
+            T entity = this.items.get(i);
+            if (entity != null) {
+                if (next != i) {
+                    this.items.set(next, entity);
+                    this.slots.put(entity, next);
+                }
+                next++;
+            }
+        }
+
+        this.items.subList(next, this.items.size()).clear();
+        this.tombstones = 0;
+    }
+
+    /**
+     * asList: compact the list, and get a read-only view of its entities, in their order.
+     * The view shows tombstones if entities are removed while it's used, until the next compact.
+     *
+     * @return the view of the entities
+     */
+    public List<T> asList() {
+        this.compact();
+        return this.view;
+    }
+}
@@ -9,9 +9,11 @@ import arkanoid.sprites.Ball;
  * <p>
  * Velocity class represent velocity of object in 2D space.
  * Its attributes specify the change in position on the `x` and the `y` axes.
+ * Every method that creates a new object has a twin that writes its result into a given holder instead (which may be
+ * the velocity itself), so the simulation can run without creating any garbage.
  *
  * @author Rony Utevsky - ronyut@gmail.com - 319384657 - utevskr
- * @version 1.0.2
+ * @version 1.0.4
  * @since 11 May 2019
  */
 public class Velocity {
@@ -41,7 +43,18 @@ public class Velocity {
      * @return a new point with position (x+dx, y+dy)
      */
     public Point applyToPoint(Point p) {
-        return new Point(this.dx + p.getX(), this.dy + p.getY());
+        return this.applyToPoint(p, new Point(0, 0));
+    }
+
+    /**
+     * applyToPoint: Take a point with position (x,y) and move a holder to position (x+dx, y+dy).
+     *
+     * @param p   the coords of the center of the ball
+     * @param out the point to move (it may be p itself)
+     * @return the holder
+     */
+    public Point applyToPoint(Point p, Point out) {
+        return out.set(this.dx + p.getX(), this.dy + p.getY());
     }
 
     /**
@@ -54,9 +67,22 @@ public class Velocity {
      * @return the ball's speed
      */
     public static Velocity fromAngleAndSpeed(double angle, double speed) {
-        // calculate the change in position on x&y axes
-        double dx = speed * Math.sin(Math.toRadians(angle));
-        double dy = speed * Math.cos(Math.toRadians(angle));
+        return fromAngleAndSpeed(angle, speed, new Velocity(0, 0));
+    }
+
+    /**
+     * fromAngleAndSpeed: Convert speed & angle (i.e. vector) to x&y components, and write them into a holder.
+     *
+     * @param angle the angle of movement
+     * @param speed the ball's speed size
+     * @param out   the velocity to write into
+     * @return the holder
+     */
+    public static Velocity fromAngleAndSpeed(double angle, double speed, Velocity out) {
+        // calculate the change in position on x&y axes (StrictMath gives the same bits on every JVM, unlike Math,
+        // whose intrinsics may differ - so a recorded game bounces off the paddle the same way everywhere)
+        double dx = speed * StrictMath.sin(StrictMath.toRadians(angle));
+        double dy = speed * StrictMath.cos(StrictMath.toRadians(angle));
 
         if (angle % MAX_ANGLE > 0 && angle % MAX_ANGLE < 90) {
             dx = Math.abs(dx);
@@ -72,7 +98,30 @@ public class Velocity {
             dy = -Math.abs(dy);
         }
 
-        return new Velocity(dx, dy);
+        return out.set(dx, dy);
+    }
+
+    /**
+     * set: set both deltas.
+     *
+     * @param deltaX the new delta x
+     * @param deltaY the new delta y
+     * @return the velocity itself
+     */
+    public Velocity set(double deltaX, double deltaY) {
+        this.dx = deltaX;
+        this.dy = deltaY;
+        return this;
+    }
+
+    /**
+     * copyFrom: set both deltas to those of another velocity.
+     *
+     * @param other the velocity to copy
+     * @return the velocity itself
+     */
+    public Velocity copyFrom(Velocity other) {
+        return this.set(other.getDX(), other.getDY());
     }
 
     /**
@@ -150,7 +199,17 @@ public class Velocity {
      * @return the velocity with inversion in the X axis
      */
     public Velocity inverseSpeedX() {
-        return new Velocity(this.getDX() * -1, this.getDY());
+        return this.inverseSpeedX(new Velocity(0, 0));
+    }
+
+    /**
+     * inverseSpeedX: write the velocity, inverted on X axis, into a holder.
+     *
+     * @param out the velocity to write into (it may be this velocity itself)
+     * @return the holder
+     */
+    public Velocity inverseSpeedX(Velocity out) {
+        return out.set(this.getDX() * -1, this.getDY());
     }
 
     /**
@@ -159,7 +218,17 @@ public class Velocity {
      * @return the velocity with inversion in the Y axis
      */
     public Velocity inverseSpeedY() {
-        return new Velocity(this.getDX(), this.getDY() * -1);
+        return this.inverseSpeedY(new Velocity(0, 0));
+    }
+
+    /**
+     * inverseSpeedY: write the velocity, inverted on Y axis, into a holder.
+     *
+     * @param out the velocity to write into (it may be this velocity itself)
+     * @return the holder
+     */
+    public Velocity inverseSpeedY(Velocity out) {
+        return out.set(this.getDX(), this.getDY() * -1);
     }
 
     /**